@@ -1,10 +1,11 @@
 package com.butterfly.social;
 
 import com.butterfly.social.controller.Controller;
-import com.butterfly.social.controller.instagram.InstagramPostController;
-import com.butterfly.social.controller.reddit.RedditPostController;
+import com.butterfly.social.controller.FeedScheduler;
 import com.butterfly.social.controller.twitter.TwitterPostController;
+import com.butterfly.social.controller.twitter.TwitterStreamController;
 import com.butterfly.social.model.Model;
+import com.butterfly.social.model.Network;
 import com.butterfly.social.model.instagram.InstagramModel;
 import com.butterfly.social.model.reddit.RedditModel;
 import com.butterfly.social.model.twitter.TwitterModel;
@@ -19,10 +20,7 @@ import twitter4j.TwitterException;
 import java.awt.*;
 import java.io.*;
 import java.net.URI;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * A runner for the Social Butterfly application.
@@ -251,8 +249,8 @@ public final class SocialButterflyApplication extends Application {
     public void start(Stage primaryStage) {
         Model model;
         View view;
-        Lock allBoxLock;
         Controller controller;
+        FeedScheduler feedScheduler;
         TwitterModel twitterModel;
         Scene scene;
         String title = "Social Butterfly";
@@ -263,31 +261,28 @@ public final class SocialButterflyApplication extends Application {
 
         view = View.createView(primaryStage);
 
-        allBoxLock = new ReentrantLock();
+        controller = new Controller(model, view);
 
-        controller = new Controller(model, view, allBoxLock);
+        feedScheduler = controller.getFeedScheduler();
 
         twitterModel = model.getTwitterModel();
 
         if (twitterModel != null) {
             TwitterPostController twitterPostController;
-            ScheduledExecutorService executorService;
-            int delay = 0;
-            int period = 1;
 
             twitterPostController = controller.getTwitterPostController();
 
-            executorService = twitterPostController.getExecutorService();
+            feedScheduler.schedule(Network.TWITTER, twitterPostController::updatePosts);
 
-            executorService.scheduleAtFixedRate(twitterPostController::updatePosts, delay, period, TimeUnit.MINUTES);
+            if (TwitterStreamController.isEnabled()) {
+                controller.getTwitterStreamController()
+                          .start();
+            } //end if
         } //end if
 
         primaryStage.setOnCloseRequest((windowEvent) -> {
             TwitterModel currentTwitterModel;
-            RedditPostController redditPostController;
-            TwitterPostController twitterPostController;
-            ScheduledExecutorService executorService;
-            InstagramPostController instagramPostController;
+            long timeout = 5L;
 
             currentTwitterModel = model.getTwitterModel();
 
@@ -299,23 +294,13 @@ public final class SocialButterflyApplication extends Application {
                 } //end try catch
             } //end if
 
-            redditPostController = controller.getRedditPostController();
-
-            executorService = redditPostController.getExecutorService();
-
-            executorService.shutdownNow();
-
-            twitterPostController = controller.getTwitterPostController();
-
-            executorService = twitterPostController.getExecutorService();
-
-            executorService.shutdownNow();
-
-            instagramPostController = controller.getInstagramPostController();
+            controller.getTwitterStreamController()
+                      .stop();
 
-            executorService = instagramPostController.getExecutorService();
+            feedScheduler.shutdown(timeout, TimeUnit.SECONDS);
 
-            executorService.shutdownNow();
+            controller.getOutbox()
+                      .shutdown(timeout, TimeUnit.SECONDS);
 
             System.exit(0);
         });
@@ -1,16 +1,22 @@
 package com.butterfly.social.controller;
 
+import com.butterfly.social.controller.instagram.InstagramPost;
 import com.butterfly.social.controller.instagram.InstagramPostController;
 import com.butterfly.social.controller.menu.MenuController;
+import com.butterfly.social.controller.reddit.RedditPost;
 import com.butterfly.social.controller.reddit.RedditPostController;
+import com.butterfly.social.controller.twitter.TwitterPost;
 import com.butterfly.social.controller.twitter.TwitterPostController;
+import com.butterfly.social.controller.twitter.TwitterStreamController;
 import com.butterfly.social.model.Model;
+import com.butterfly.social.model.Network;
+import com.butterfly.social.model.Outbox;
+import com.butterfly.social.view.PostView;
 import com.butterfly.social.view.View;
-import javafx.scene.layout.VBox;
-import java.util.Map;
+import javafx.scene.Node;
+import javafx.scene.control.ListView;
+import java.io.File;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.Lock;
 
 /**
  * A controller of the Social Butterfly application.
@@ -20,9 +26,19 @@ import java.util.concurrent.locks.Lock;
  */
 public final class Controller {
     /**
-     * The map from boxes to posts of this controller.
+     * The post store of this controller.
      */
-    private final Map<VBox, Post> boxesToPosts;
+    private final PostStore postStore;
+
+    /**
+     * The feed scheduler of this controller.
+     */
+    private final FeedScheduler feedScheduler;
+
+    /**
+     * The outbox of this controller.
+     */
+    private final Outbox outbox;
 
     /**
      * The Reddit post controller of this controller.
@@ -34,6 +50,11 @@ public final class Controller {
      */
     private final TwitterPostController twitterPostController;
 
+    /**
+     * The Twitter stream controller of this controller.
+     */
+    private final TwitterStreamController twitterStreamController;
+
     /**
      * The Instagram post controller of this controller.
      */
@@ -45,45 +66,146 @@ public final class Controller {
     private final MenuController menuController;
 
     /**
-     * Constructs a newly allocated {@code Controller} object with the specified model, view, and all box lock.
+     * Constructs a newly allocated {@code Controller} object with the specified model and view.
      *
      * @param model the model to be used in construction
      * @param view the view to be used in construction
-     * @param allBoxLock the all box lock to be used in construction
-     * @throws NullPointerException if the specified model, view, or all box lock is {@code null}
+     * @throws NullPointerException if the specified model or view is {@code null}
      */
-    public Controller(Model model, View view, Lock allBoxLock) {
+    public Controller(Model model, View view) {
+        PostView postView;
+        ListView<Post> redditList;
+        ListView<Post> instagramList;
+        ListView<Post> twitterList;
+
         Objects.requireNonNull(model, "the specified model is null");
 
         Objects.requireNonNull(view, "the specified view is null");
 
-        Objects.requireNonNull(allBoxLock, "the specified all box lock is null");
+        this.postStore = PostStore.createPostStore();
 
-        this.boxesToPosts = new ConcurrentHashMap<>();
+        this.feedScheduler = FeedScheduler.createFeedScheduler(PollPolicy.createDefaultPollPolicy());
 
-        this.redditPostController = RedditPostController.createRedditPostController(model, view, this.boxesToPosts,
-                                                                                    allBoxLock);
+        this.outbox = Outbox.createOutbox(model, new File("outbox-journal.txt"));
 
-        this.twitterPostController = TwitterPostController.createTwitterPostController(model, view, this.boxesToPosts,
-                                                                                       allBoxLock);
+        this.redditPostController = RedditPostController.createRedditPostController(model, view, this.outbox,
+                                                                                    this.postStore);
+
+        this.twitterPostController = TwitterPostController.createTwitterPostController(model, view, this.postStore);
+
+        this.twitterStreamController = TwitterStreamController.createTwitterStreamController(model,
+                                                                                             this.twitterPostController,
+                                                                                             this.feedScheduler);
 
         this.instagramPostController = InstagramPostController.createInstagramPostController(model, view,
-                                                                                             this.boxesToPosts,
-                                                                                             allBoxLock);
+                                                                                             this.postStore);
 
-        this.menuController = MenuController.createMenuController(model, view, this.redditPostController,
+        this.menuController = MenuController.createMenuController(model, view, this.feedScheduler, this.outbox,
+                                                                  this.redditPostController,
                                                                   this.twitterPostController,
+                                                                  this.twitterStreamController,
                                                                   this.instagramPostController);
+
+        postView = view.getPostView();
+
+        postView.setRenderer(this::createNode);
+
+        redditList = postView.getRedditList();
+
+        postView.setOnScrolledToBottom(redditList, () -> this.feedScheduler.execute(Network.REDDIT,
+            this.redditPostController::loadOlderPosts));
+
+        instagramList = postView.getInstagramList();
+
+        postView.setOnScrolledToBottom(instagramList, () -> this.feedScheduler.execute(Network.INSTAGRAM,
+            this.instagramPostController::loadOlderPosts));
+
+        twitterList = postView.getTwitterList();
+
+        postView.setOnScrolledToBottom(twitterList, () -> this.feedScheduler.execute(Network.TWITTER,
+            this.twitterPostController::loadOlderPosts));
+
+        postView.setOnVisibilityChanged(() -> this.updateVisibility(view));
+
+        view.getPrimaryStage()
+            .iconifiedProperty()
+            .addListener((observable) -> this.updateVisibility(view));
+
+        this.updateVisibility(view);
+
+        this.outbox.start();
     } //Controller
 
     /**
-     * Returns the map from boxes to posts of this controller.
+     * Updates the feed scheduler of this controller with the visibility of the feeds of the specified view. A network
+     * is visible while its list or the all list is shown, and the feed scheduler is in the background while the
+     * primary stage is minimized.
+     *
+     * @param view the view to be used in the operation
+     */
+    private void updateVisibility(View view) {
+        PostView postView;
+        boolean allShown;
+
+        postView = view.getPostView();
+
+        allShown = postView.isShown(postView.getAllList());
+
+        this.feedScheduler.setVisible(Network.REDDIT, allShown || postView.isShown(postView.getRedditList()));
+
+        this.feedScheduler.setVisible(Network.TWITTER, allShown || postView.isShown(postView.getTwitterList()));
+
+        this.feedScheduler.setVisible(Network.INSTAGRAM, allShown || postView.isShown(postView.getInstagramList()));
+
+        this.feedScheduler.setBackground(view.getPrimaryStage()
+                                             .isIconified());
+    } //updateVisibility
+
+    /**
+     * Returns a node for the specified post, using the post controller of its network.
+     *
+     * @param post the post to be used in the operation
+     * @param displayNetwork whether or not to display the network of the specified post in the node
+     * @return a node for the specified post, or {@code null} if the specified post is of an unknown type
+     */
+    private Node createNode(Post post, boolean displayNetwork) {
+        if (post instanceof RedditPost) {
+            return this.redditPostController.createBox((RedditPost) post, displayNetwork);
+        } else if (post instanceof TwitterPost) {
+            return this.twitterPostController.createBox((TwitterPost) post, displayNetwork);
+        } else if (post instanceof InstagramPost) {
+            return this.instagramPostController.createBox((InstagramPost) post, displayNetwork);
+        } //end if
+
+        return null;
+    } //createNode
+
+    /**
+     * Returns the post store of this controller.
      *
-     * @return the map from boxes to posts of this controller
+     * @return the post store of this controller
      */
-    public Map<VBox, Post> getBoxesToPosts() {
-        return this.boxesToPosts;
-    } //getBoxesToPosts
+    public PostStore getPostStore() {
+        return this.postStore;
+    } //getPostStore
+
+    /**
+     * Returns the feed scheduler of this controller
+     *
+     * @return the feed scheduler of this controller
+     */
+    public FeedScheduler getFeedScheduler() {
+        return this.feedScheduler;
+    } //getFeedScheduler
+
+    /**
+     * Returns the outbox of this controller
+     *
+     * @return the outbox of this controller
+     */
+    public Outbox getOutbox() {
+        return this.outbox;
+    } //getOutbox
 
     /**
      * Returns the Reddit post controller of this controller
@@ -103,6 +225,15 @@ public final class Controller {
         return this.twitterPostController;
     } //getTwitterPostController
 
+    /**
+     * Returns the Twitter stream controller of this controller
+     *
+     * @return the Twitter stream controller of this controller
+     */
+    public TwitterStreamController getTwitterStreamController() {
+        return this.twitterStreamController;
+    } //getTwitterStreamController
+
     /**
      * Returns the Instagram post controller of this controller
      *
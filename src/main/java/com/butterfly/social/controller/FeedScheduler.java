@@ -0,0 +1,647 @@
+package com.butterfly.social.controller;
+
+import com.butterfly.social.model.Network;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+/**
+ * A scheduler for the feed updates of the Social Butterfly application. A single timer thread decides when each
+ * network is due, and the updates themselves run on a small lane of worker threads per network, so a network whose
+ * requests are held back by a rate limit never delays the updates of the others. The period of each network adapts
+ * to the number of new posts its updates yield, according to its poll policy. Networks whose feeds are hidden are
+ * polled less often, and every network is polled much less often while the application is in the background.
+ *
+ * @author Logan Kulinski, lbk@purdue.edu
+ * @version April 25, 2021
+ */
+public final class FeedScheduler {
+    /**
+     * The timer of this feed scheduler.
+     */
+    private final ScheduledExecutorService timer;
+
+    /**
+     * The map from networks to lanes of workers of this feed scheduler.
+     */
+    private final Map<Network, ExecutorService> lanes;
+
+    /**
+     * The map from networks to schedules of this feed scheduler.
+     */
+    private final Map<Network, Schedule> schedules;
+
+    /**
+     * The default poll policy of this feed scheduler.
+     */
+    private final PollPolicy defaultPolicy;
+
+    /**
+     * The paused flag of this feed scheduler.
+     */
+    private volatile boolean paused;
+
+    /**
+     * The networks of this feed scheduler whose feeds are hidden.
+     */
+    private final Set<Network> hiddenNetworks;
+
+    /**
+     * The background flag of this feed scheduler.
+     */
+    private volatile boolean background;
+
+    /**
+     * The factor by which the periods of the hidden networks of this feed scheduler are stretched.
+     */
+    private final int hiddenFactor;
+
+    /**
+     * The factor by which the periods of every network of this feed scheduler are stretched in the background.
+     */
+    private final int backgroundFactor;
+
+    /**
+     * Constructs a newly allocated {@code FeedScheduler} object with the specified default poll policy.
+     *
+     * @param defaultPolicy the default poll policy to be used in construction
+     */
+    private FeedScheduler(PollPolicy defaultPolicy) {
+        int laneSize = 2;
+
+        this.timer = Executors.newSingleThreadScheduledExecutor((runnable) -> {
+            Thread thread;
+
+            thread = new Thread(runnable, "feed-timer");
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        this.lanes = new EnumMap<>(Network.class);
+
+        for (Network network : Network.values()) {
+            this.lanes.put(network, FeedScheduler.createLane(network, laneSize));
+        } //end for
+
+        this.schedules = new ConcurrentHashMap<>();
+
+        this.defaultPolicy = defaultPolicy;
+
+        this.paused = false;
+
+        this.hiddenNetworks = ConcurrentHashMap.newKeySet();
+
+        this.background = false;
+
+        this.hiddenFactor = Math.max(1, Integer.getInteger("social.butterfly.feed.hiddenFactor", 4));
+
+        this.backgroundFactor = Math.max(1, Integer.getInteger("social.butterfly.feed.backgroundFactor", 10));
+    } //FeedScheduler
+
+    /**
+     * Creates, and returns, a lane of workers for the specified network with the specified number of threads, which
+     * are stopped once they have been idle for a while.
+     *
+     * @param network the network to be used in the operation
+     * @param laneSize the number of threads to be used in the operation
+     * @return a lane of workers for the specified network with the specified number of threads
+     */
+    private static ExecutorService createLane(Network network, int laneSize) {
+        AtomicInteger threadCount;
+        String prefix;
+        ThreadPoolExecutor lane;
+        long keepAliveTime = 30L;
+
+        threadCount = new AtomicInteger();
+
+        prefix = "feed-worker-" + network.name()
+                                         .toLowerCase() + "-";
+
+        lane = new ThreadPoolExecutor(laneSize, laneSize, keepAliveTime, TimeUnit.SECONDS,
+                                      new LinkedBlockingQueue<>(), (runnable) -> {
+            Thread thread;
+
+            thread = new Thread(runnable, prefix + threadCount.incrementAndGet());
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        lane.allowCoreThreadTimeOut(true);
+
+        return lane;
+    } //createLane
+
+    /**
+     * Schedules the specified update for the specified network using the specified poll policy. The update, which
+     * returns the number of new posts it produced, is run immediately, and then again after each period has elapsed
+     * since the previous run completed. Any existing schedule of the network is cancelled.
+     *
+     * @param network the network to be used in the operation
+     * @param update the update to be used in the operation
+     * @param policy the poll policy to be used in the operation
+     * @throws NullPointerException if the specified network, update, or poll policy is {@code null}
+     * @throws IllegalStateException if this feed scheduler has been shut down
+     */
+    public void schedule(Network network, IntSupplier update, PollPolicy policy) {
+        Schedule schedule;
+        Schedule oldSchedule;
+        long delay = 0L;
+
+        Objects.requireNonNull(network, "the specified network is null");
+
+        Objects.requireNonNull(update, "the specified update is null");
+
+        Objects.requireNonNull(policy, "the specified poll policy is null");
+
+        if (this.timer.isShutdown()) {
+            throw new IllegalStateException("the feed scheduler has been shut down");
+        } //end if
+
+        schedule = new Schedule(network, update, policy);
+
+        oldSchedule = this.schedules.put(network, schedule);
+
+        if (oldSchedule != null) {
+            oldSchedule.cancel();
+        } //end if
+
+        schedule.arm(delay);
+    } //schedule
+
+    /**
+     * Schedules the specified update for the specified network using the default poll policy of this feed scheduler.
+     *
+     * @param network the network to be used in the operation
+     * @param update the update to be used in the operation
+     * @throws NullPointerException if the specified network or update is {@code null}
+     * @throws IllegalStateException if this feed scheduler has been shut down
+     */
+    public void schedule(Network network, IntSupplier update) {
+        this.schedule(network, update, this.defaultPolicy);
+    } //schedule
+
+    /**
+     * Cancels the schedule of the specified network, interrupting its update if one is running. The update is not
+     * waited for, so a post controller that is reset afterwards discards the results of an update that completes late.
+     *
+     * @param network the network to be used in the operation
+     * @throws NullPointerException if the specified network is {@code null}
+     */
+    public void cancel(Network network) {
+        Schedule schedule;
+
+        Objects.requireNonNull(network, "the specified network is null");
+
+        schedule = this.schedules.remove(network);
+
+        if (schedule != null) {
+            schedule.cancel();
+        } //end if
+    } //cancel
+
+    /**
+     * Runs the update of the specified network as soon as possible, if the network is scheduled. If the update is
+     * already running, its next run is left as scheduled.
+     *
+     * @param network the network to be used in the operation
+     * @throws NullPointerException if the specified network is {@code null}
+     */
+    public void runNow(Network network) {
+        Schedule schedule;
+        long delay = 0L;
+
+        Objects.requireNonNull(network, "the specified network is null");
+
+        schedule = this.schedules.get(network);
+
+        if (schedule != null) {
+            schedule.arm(delay);
+        } //end if
+    } //runNow
+
+    /**
+     * Runs the specified task once on the lane of workers of the specified network, such as a page of older posts or
+     * the start of a stream, so that it shares the lane with the updates of its own network only.
+     *
+     * @param network the network to be used in the operation
+     * @param task the task to be used in the operation
+     * @throws NullPointerException if the specified network or task is {@code null}
+     */
+    public void execute(Network network, Runnable task) {
+        ExecutorService lane;
+
+        Objects.requireNonNull(network, "the specified network is null");
+
+        Objects.requireNonNull(task, "the specified task is null");
+
+        lane = this.lanes.get(network);
+
+        try {
+            lane.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    e.printStackTrace();
+                } //end try catch
+            });
+        } catch (RejectedExecutionException e) {
+            e.printStackTrace();
+        } //end try catch
+    } //execute
+
+    /**
+     * Determines whether or not the specified network is scheduled by this feed scheduler.
+     *
+     * @param network the network to be used in the operation
+     * @return {@code true}, if the specified network is scheduled by this feed scheduler and {@code false} otherwise
+     * @throws NullPointerException if the specified network is {@code null}
+     */
+    public boolean isScheduled(Network network) {
+        Objects.requireNonNull(network, "the specified network is null");
+
+        return this.schedules.containsKey(network);
+    } //isScheduled
+
+    /**
+     * Returns the current period, in milliseconds, of the specified network, or {@code -1} if the network is not
+     * scheduled.
+     *
+     * @param network the network to be used in the operation
+     * @return the current period, in milliseconds, of the specified network, or {@code -1} if the network is not
+     * scheduled
+     * @throws NullPointerException if the specified network is {@code null}
+     */
+    public long getPeriod(Network network) {
+        Schedule schedule;
+
+        Objects.requireNonNull(network, "the specified network is null");
+
+        schedule = this.schedules.get(network);
+
+        return (schedule == null) ? -1L : schedule.getPeriod();
+    } //getPeriod
+
+    /**
+     * Returns the factor by which the period of the specified network is stretched, which depends on whether or not
+     * its feed is hidden and whether or not this feed scheduler is in the background.
+     *
+     * @param network the network to be used in the operation
+     * @return the factor by which the period of the specified network is stretched
+     */
+    private int getFactor(Network network) {
+        int factor = 1;
+
+        if (this.hiddenNetworks.contains(network)) {
+            factor = this.hiddenFactor;
+        } //end if
+
+        if (this.background) {
+            factor = Math.max(factor, this.backgroundFactor);
+        } //end if
+
+        return factor;
+    } //getFactor
+
+    /**
+     * Re-arms every schedule of this feed scheduler that is waiting for its next run, so that the delay before the
+     * run reflects the current factor of its network.
+     */
+    private void rearm() {
+        for (Schedule schedule : this.schedules.values()) {
+            schedule.rearm();
+        } //end for
+    } //rearm
+
+    /**
+     * Sets whether or not the feed of the specified network is visible. The network of a hidden feed is polled less
+     * often, and the network of a feed that is shown again is polled as soon as its normal period has elapsed since
+     * its last poll.
+     *
+     * @param network the network to be used in the operation
+     * @param visible whether or not the feed of the specified network is visible
+     * @throws NullPointerException if the specified network is {@code null}
+     */
+    public void setVisible(Network network, boolean visible) {
+        boolean changed;
+
+        Objects.requireNonNull(network, "the specified network is null");
+
+        if (visible) {
+            changed = this.hiddenNetworks.remove(network);
+        } else {
+            changed = this.hiddenNetworks.add(network);
+        } //end if
+
+        if (changed) {
+            this.rearm();
+        } //end if
+    } //setVisible
+
+    /**
+     * Sets whether or not this feed scheduler is in the background, such as while the application is minimized. In
+     * the background, every network is polled much less often.
+     *
+     * @param background whether or not this feed scheduler is in the background
+     */
+    public void setBackground(boolean background) {
+        if (this.background == background) {
+            return;
+        } //end if
+
+        this.background = background;
+
+        this.rearm();
+    } //setBackground
+
+    /**
+     * Pauses this feed scheduler. Updates that are already running are allowed to finish, but no new updates are
+     * started until this feed scheduler is resumed.
+     */
+    public void pause() {
+        this.paused = true;
+
+        for (Schedule schedule : this.schedules.values()) {
+            schedule.disarm();
+        } //end for
+    } //pause
+
+    /**
+     * Resumes this feed scheduler, running every scheduled update immediately.
+     */
+    public void resume() {
+        long delay = 0L;
+
+        this.paused = false;
+
+        for (Schedule schedule : this.schedules.values()) {
+            schedule.arm(delay);
+        } //end for
+    } //resume
+
+    /**
+     * Shuts down this feed scheduler. Pending updates are discarded, and updates that are already running are given
+     * the specified timeout to finish before they are interrupted.
+     *
+     * @param timeout the timeout to be used in the operation
+     * @param unit the unit of the timeout to be used in the operation
+     * @throws NullPointerException if the specified unit is {@code null}
+     */
+    public void shutdown(long timeout, TimeUnit unit) {
+        long deadline;
+        long remaining;
+
+        Objects.requireNonNull(unit, "the specified unit is null");
+
+        this.timer.shutdownNow();
+
+        this.schedules.clear();
+
+        for (ExecutorService lane : this.lanes.values()) {
+            lane.shutdown();
+        } //end for
+
+        deadline = System.nanoTime() + unit.toNanos(timeout);
+
+        try {
+            for (ExecutorService lane : this.lanes.values()) {
+                remaining = deadline - System.nanoTime();
+
+                if (!lane.awaitTermination(remaining, TimeUnit.NANOSECONDS)) {
+                    lane.shutdownNow();
+                } //end if
+            } //end for
+        } catch (InterruptedException e) {
+            for (ExecutorService lane : this.lanes.values()) {
+                lane.shutdownNow();
+            } //end for
+
+            Thread.currentThread()
+                  .interrupt();
+        } //end try catch
+    } //shutdown
+
+    /**
+     * Creates, and returns, a {@code FeedScheduler} object using the specified default poll policy.
+     *
+     * @param defaultPolicy the default poll policy to be used in the operation
+     * @return a {@code FeedScheduler} object using the specified default poll policy
+     * @throws NullPointerException if the specified default poll policy is {@code null}
+     */
+    public static FeedScheduler createFeedScheduler(PollPolicy defaultPolicy) {
+        Objects.requireNonNull(defaultPolicy, "the specified default poll policy is null");
+
+        return new FeedScheduler(defaultPolicy);
+    } //createFeedScheduler
+
+    /**
+     * A schedule of a feed scheduler. A schedule arms the timer for its next run only once its previous run has
+     * completed, so the runs of a network never overlap, and the delay before that run is derived from the number of
+     * new posts the previous run yielded.
+     */
+    private final class Schedule {
+        /**
+         * The network of this schedule.
+         */
+        private final Network network;
+
+        /**
+         * The update of this schedule.
+         */
+        private final IntSupplier update;
+
+        /**
+         * The poll policy of this schedule.
+         */
+        private final PollPolicy policy;
+
+        /**
+         * The period, in milliseconds, of this schedule.
+         */
+        private volatile long period;
+
+        /**
+         * The pending tick of this schedule.
+         */
+        private ScheduledFuture<?> tick;
+
+        /**
+         * The running update of this schedule.
+         */
+        private Future<?> run;
+
+        /**
+         * The cancelled flag of this schedule.
+         */
+        private boolean cancelled;
+
+        /**
+         * Whether or not an update of this schedule has completed.
+         */
+        private boolean completed;
+
+        /**
+         * The time, in nanoseconds, at which the last update of this schedule completed.
+         */
+        private long completedTime;
+
+        /**
+         * Constructs a newly allocated {@code Schedule} object with the specified network, update, and poll policy.
+         *
+         * @param network the network to be used in construction
+         * @param update the update to be used in construction
+         * @param policy the poll policy to be used in construction
+         */
+        private Schedule(Network network, IntSupplier update, PollPolicy policy) {
+            this.network = network;
+
+            this.update = update;
+
+            this.policy = policy;
+
+            this.period = policy.getInitialPeriod();
+
+            this.tick = null;
+
+            this.run = null;
+
+            this.cancelled = false;
+
+            this.completed = false;
+
+            this.completedTime = 0L;
+        } //Schedule
+
+        /**
+         * Returns the period, in milliseconds, of this schedule.
+         *
+         * @return the period, in milliseconds, of this schedule
+         */
+        private long getPeriod() {
+            return this.period;
+        } //getPeriod
+
+        /**
+         * Arms the timer for the next run of this schedule after the specified delay, unless this schedule is
+         * cancelled, paused, or already running.
+         *
+         * @param delay the delay, in milliseconds, to be used in the operation
+         */
+        private synchronized void arm(long delay) {
+            if (this.cancelled || FeedScheduler.this.paused || (this.run != null)) {
+                return;
+            } //end if
+
+            if (this.tick != null) {
+                this.tick.cancel(false);
+            } //end if
+
+            try {
+                this.tick = FeedScheduler.this.timer.schedule(this::dispatch, delay, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                this.tick = null;
+            } //end try catch
+        } //arm
+
+        /**
+         * Re-arms the timer for the next run of this schedule, if it is waiting for that run after a completed update,
+         * so that the run is due once the stretched period of its network has elapsed since that update completed.
+         */
+        private synchronized void rearm() {
+            long elapsed;
+            long delay;
+
+            if ((this.tick == null) || !this.completed) {
+                return;
+            } //end if
+
+            elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.completedTime);
+
+            delay = (this.period * FeedScheduler.this.getFactor(this.network)) - elapsed;
+
+            this.arm(Math.max(0L, delay));
+        } //rearm
+
+        /**
+         * Disarms the timer for the next run of this schedule.
+         */
+        private synchronized void disarm() {
+            if (this.tick != null) {
+                this.tick.cancel(false);
+
+                this.tick = null;
+            } //end if
+        } //disarm
+
+        /**
+         * Hands the update of this schedule to the lane of workers of its network.
+         */
+        private synchronized void dispatch() {
+            this.tick = null;
+
+            if (this.cancelled || FeedScheduler.this.paused) {
+                return;
+            } //end if
+
+            try {
+                this.run = FeedScheduler.this.lanes.get(this.network)
+                                                   .submit(this::execute);
+            } catch (RejectedExecutionException e) {
+                this.run = null;
+            } //end try catch
+        } //dispatch
+
+        /**
+         * Runs the update of this schedule, adapts the period of this schedule to the number of new posts the update
+         * yielded, and then arms the timer for its next run.
+         */
+        private void execute() {
+            int newPosts = -1;
+            long delay;
+
+            try {
+                newPosts = this.update.getAsInt();
+            } catch (RuntimeException e) {
+                System.err.printf("The %s feed update failed%n", this.network);
+
+                e.printStackTrace();
+            } finally {
+                synchronized (this) {
+                    this.run = null;
+
+                    this.completed = true;
+
+                    this.completedTime = System.nanoTime();
+
+                    this.period = this.policy.nextPeriod(this.period, newPosts);
+
+                    delay = this.policy.applyJitter(this.period * FeedScheduler.this.getFactor(this.network));
+
+                    this.arm(delay);
+                } //end synchronized
+            } //end try catch finally
+        } //execute
+
+        /**
+         * Cancels this schedule, interrupting its update if one is running.
+         */
+        private synchronized void cancel() {
+            this.cancelled = true;
+
+            this.disarm();
+
+            if (this.run != null) {
+                this.run.cancel(true);
+
+                this.run = null;
+            } //end if
+        } //cancel
+    }
+}
@@ -0,0 +1,467 @@
+package com.butterfly.social.controller;
+
+import com.butterfly.social.model.Network;
+import com.butterfly.social.view.Timeline;
+import javafx.collections.ObservableList;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * A retention window of a feed of the Social Butterfly application. A feed keeps at most a maximum number of posts,
+ * and posts beyond a minimum number that are older than a maximum age. Posts that fall out of the window are evicted
+ * from the bottom of the feed, and their IDs are spilled to a file of fixed-size records, which is used as a stack, so
+ * that the most recently evicted posts are the first to be restored when the user scrolls back down. The spill file is
+ * written on a background thread, so that evicting posts on the JavaFX application thread never waits for the disk.
+ *
+ * @author Logan Kulinski, lbk@purdue.edu
+ * @version April 25, 2021
+ */
+public final class FeedWindow {
+    /**
+     * The size, in bytes, of a record of a spill file.
+     */
+    private static final int recordSize = 64;
+
+    /**
+     * The maximum number of IDs that are held by a set or cache that is created by the {@code FeedWindow} class.
+     */
+    private static final int maxIds;
+
+    /**
+     * The spill executor of the {@code FeedWindow} class, on which the IDs of evicted posts are written in order.
+     */
+    private static final ExecutorService spillExecutor;
+
+    static {
+        maxIds = Math.max(1, Integer.getInteger("social.butterfly.feed.maxIds", 5_000));
+
+        spillExecutor = Executors.newSingleThreadExecutor((runnable) -> {
+            Thread thread;
+
+            thread = new Thread(runnable, "feed-spill");
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+    } //static
+
+    /**
+     * The spill file of this feed window.
+     */
+    private final File spillFile;
+
+    /**
+     * The maximum number of posts of this feed window.
+     */
+    private final int maxPosts;
+
+    /**
+     * The number of posts of this feed window that are kept regardless of their age.
+     */
+    private final int minPosts;
+
+    /**
+     * The maximum age of the posts of this feed window beyond its minimum number of posts.
+     */
+    private final Duration maxAge;
+
+    /**
+     * The maximum number of posts of this feed window that are restored at once.
+     */
+    private final int pageSize;
+
+    /**
+     * The executor on which the spill file of this feed window is written.
+     */
+    private final Executor executor;
+
+    /**
+     * The number of records in the spill file of this feed window.
+     */
+    private long spilledCount;
+
+    /**
+     * The epoch of this feed window, which is advanced each time it is cleared, so that IDs that were evicted before
+     * it was cleared are not spilled after it.
+     */
+    private volatile long epoch;
+
+    /**
+     * Constructs a newly allocated {@code FeedWindow} object with the specified spill file, maximum number of posts,
+     * minimum number of posts, maximum age, page size, and executor.
+     *
+     * @param spillFile the spill file to be used in construction
+     * @param maxPosts the maximum number of posts to be used in construction
+     * @param minPosts the number of posts that are kept regardless of their age
+     * @param maxAge the maximum age to be used in construction
+     * @param pageSize the page size to be used in construction
+     * @param executor the executor on which the spill file is written, which must run tasks in order
+     */
+    FeedWindow(File spillFile, int maxPosts, int minPosts, Duration maxAge, int pageSize, Executor executor) {
+        this.spillFile = spillFile;
+
+        this.maxPosts = Math.max(1, maxPosts);
+
+        this.minPosts = Math.min(this.maxPosts, Math.max(0, minPosts));
+
+        this.maxAge = maxAge;
+
+        this.pageSize = Math.max(1, pageSize);
+
+        this.executor = executor;
+
+        this.spilledCount = 0L;
+
+        this.epoch = 0L;
+    } //FeedWindow
+
+    /**
+     * Evicts the posts at the bottom of the specified feed that fall out of this feed window, removes them from the
+     * specified all timeline, and hands their IDs to the spill executor. This must be called on the JavaFX application
+     * thread.
+     *
+     * @param posts the posts of the feed to be used in the operation
+     * @param allTimeline the all timeline to be used in the operation
+     * @return the posts that were evicted, newest first
+     * @throws NullPointerException if the specified list of posts or all timeline is {@code null}
+     */
+    public List<Post> trim(ObservableList<Post> posts, Timeline allTimeline) {
+        long currentEpoch;
+        Instant cutoff;
+        int size;
+        int from;
+        Post post;
+        boolean expired;
+        List<Post> evictedPosts;
+        Set<Post> evictedSet;
+
+        Objects.requireNonNull(posts, "the specified list of posts is null");
+
+        Objects.requireNonNull(allTimeline, "the specified all timeline is null");
+
+        cutoff = Instant.now()
+                        .minus(this.maxAge);
+
+        size = posts.size();
+
+        from = size;
+
+        while (from > 0) {
+            post = posts.get(from - 1);
+
+            expired = (from > this.minPosts) && post.getCreated()
+                                                    .isBefore(cutoff);
+
+            if ((from > this.maxPosts) || expired) {
+                from--;
+            } else {
+                break;
+            } //end if
+        } //end while
+
+        if (from == size) {
+            return List.of();
+        } //end if
+
+        evictedPosts = new ArrayList<>(posts.subList(from, size));
+
+        posts.remove(from, size);
+
+        evictedSet = new HashSet<>(evictedPosts);
+
+        allTimeline.removeIf(evictedSet::contains);
+
+        currentEpoch = this.epoch;
+
+        this.executor.execute(() -> this.spill(evictedPosts, currentEpoch));
+
+        return evictedPosts;
+    } //trim
+
+    /**
+     * Pushes the IDs of the specified posts, which are ordered newest first, onto the spill file of this feed window,
+     * so that the newest is on top, unless this feed window was cleared since the specified epoch. IDs that do not fit
+     * in a record are dropped.
+     *
+     * @param posts the posts to be used in the operation
+     * @param epoch the epoch in which the specified posts were evicted
+     */
+    private void spill(List<Post> posts, long epoch) {
+        List<String> ids;
+
+        ids = new ArrayList<>(posts.size());
+
+        for (Post post : posts) {
+            ids.add(post.getId());
+        } //end for
+
+        this.push(ids, epoch);
+    } //spill
+
+    /**
+     * Pushes the specified IDs, which are ordered newest first, onto the spill file of this feed window, so that the
+     * newest is on top, unless this feed window was cleared since the specified epoch. IDs that do not fit in a record
+     * are dropped.
+     *
+     * @param ids the IDs to be used in the operation
+     * @param epoch the epoch of the specified IDs
+     */
+    private synchronized void push(List<String> ids, long epoch) {
+        byte[] record;
+        byte[] idBytes;
+        long count;
+
+        if (epoch != this.epoch) {
+            return;
+        } //end if
+
+        record = new byte[recordSize];
+
+        count = this.spilledCount;
+
+        try (RandomAccessFile file = new RandomAccessFile(this.spillFile, "rw")) {
+            file.seek(count * recordSize);
+
+            for (int i = ids.size() - 1; i >= 0; i--) {
+                idBytes = ids.get(i)
+                             .getBytes(StandardCharsets.UTF_8);
+
+                if (idBytes.length > recordSize) {
+                    continue;
+                } //end if
+
+                Arrays.fill(record, (byte) 0);
+
+                System.arraycopy(idBytes, 0, record, 0, idBytes.length);
+
+                file.write(record);
+
+                count++;
+            } //end for
+
+            this.spilledCount = count;
+        } catch (IOException e) {
+            e.printStackTrace();
+        } //end try catch
+    } //push
+
+    /**
+     * Determines whether or not this feed window has spilled IDs that can be restored.
+     *
+     * @return {@code true}, if this feed window has spilled IDs, and {@code false} otherwise
+     */
+    public synchronized boolean hasSpilled() {
+        return this.spilledCount > 0L;
+    } //hasSpilled
+
+    /**
+     * Pops up to a page of the most recently spilled IDs off the spill file of this feed window, newest first. The
+     * posts with the returned IDs are expected to be appended to the bottom of the feed.
+     *
+     * @return up to a page of the most recently spilled IDs of this feed window, newest first
+     */
+    public synchronized List<String> restore() {
+        int count;
+        long position;
+        byte[] records;
+        List<String> ids;
+        int length;
+
+        count = (int) Math.min(this.pageSize, this.spilledCount);
+
+        if (count == 0) {
+            return List.of();
+        } //end if
+
+        position = (this.spilledCount - count) * recordSize;
+
+        records = new byte[count * recordSize];
+
+        ids = new ArrayList<>(count);
+
+        try (RandomAccessFile file = new RandomAccessFile(this.spillFile, "rw")) {
+            file.seek(position);
+
+            file.readFully(records);
+
+            file.setLength(position);
+        } catch (IOException e) {
+            e.printStackTrace();
+
+            this.clear();
+
+            return List.of();
+        } //end try catch
+
+        this.spilledCount -= count;
+
+        for (int i = count - 1; i >= 0; i--) {
+            length = 0;
+
+            while ((length < recordSize) && (records[(i * recordSize) + length] != 0)) {
+                length++;
+            } //end while
+
+            ids.add(new String(records, i * recordSize, length, StandardCharsets.UTF_8));
+        } //end for
+
+        return ids;
+    } //restore
+
+    /**
+     * Pushes the specified IDs, which were returned by {@link #restore()}, back onto the spill file of this feed
+     * window, such as when their posts could not be looked up, so that they are the first to be restored again.
+     *
+     * @param ids the IDs to be used in the operation
+     * @throws NullPointerException if the specified list of IDs is {@code null}
+     */
+    public void putBack(List<String> ids) {
+        Objects.requireNonNull(ids, "the specified list of IDs is null");
+
+        this.push(ids, this.epoch);
+    } //putBack
+
+    /**
+     * Discards the spilled IDs of this feed window, such as when its feed is reset.
+     */
+    public synchronized void clear() {
+        this.epoch++;
+
+        this.spilledCount = 0L;
+
+        if (this.spillFile.exists() && !this.spillFile.delete()) {
+            System.err.printf("The spill file %s could not be deleted%n", this.spillFile);
+        } //end if
+    } //clear
+
+    /**
+     * Creates, and returns, a synchronized set that remembers at most a fixed number of IDs, and forgets the least
+     * recently used ID when it is full, so that recent repeats are still rejected while the set stays bounded. Adding
+     * an ID that the set already holds marks it as used, so callers should test for new IDs with {@code add} rather
+     * than {@code contains}.
+     *
+     * @param <E> the type of the IDs
+     * @return a synchronized set that remembers at most a fixed number of IDs
+     */
+    public static <E> Set<E> createIdSet() {
+        Map<E, Boolean> map;
+
+        map = new LruMap<>(maxIds);
+
+        return Collections.synchronizedSet(Collections.newSetFromMap(map));
+    } //createIdSet
+
+    /**
+     * Creates, and returns, a synchronized map that caches values for at most a fixed number of IDs, and evicts the
+     * least recently used ID when it is full.
+     *
+     * @param <K> the type of the IDs
+     * @param <V> the type of the values
+     * @return a synchronized map that caches values for at most a fixed number of IDs
+     */
+    public static <K, V> Map<K, V> createIdCache() {
+        Map<K, V> map;
+
+        map = new LruMap<>(maxIds);
+
+        return Collections.synchronizedMap(map);
+    } //createIdCache
+
+    /**
+     * Creates, and returns, a {@code FeedWindow} object for the feed of the specified network. Its bounds may be
+     * configured with the {@code social.butterfly.feed.maxPosts}, {@code social.butterfly.feed.minPosts},
+     * {@code social.butterfly.feed.maxAgeHours}, and {@code social.butterfly.feed.restorePage} system properties.
+     * Spilled IDs that were left by a previous run are discarded, since every feed starts empty.
+     *
+     * @param network the network to be used in the operation
+     * @return a {@code FeedWindow} object for the feed of the specified network
+     * @throws NullPointerException if the specified network is {@code null}
+     */
+    public static FeedWindow createFeedWindow(Network network) {
+        File directory;
+        String fileName;
+        int maxPosts;
+        int minPosts;
+        Duration maxAge;
+        int pageSize;
+        FeedWindow window;
+
+        Objects.requireNonNull(network, "the specified network is null");
+
+        directory = new File("feed-spill");
+
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            System.err.printf("The spill directory %s could not be created%n", directory);
+        } //end if
+
+        fileName = network.name()
+                          .toLowerCase() + ".dat";
+
+        maxPosts = Integer.getInteger("social.butterfly.feed.maxPosts", 500);
+
+        minPosts = Integer.getInteger("social.butterfly.feed.minPosts", 50);
+
+        maxAge = Duration.ofHours(Long.getLong("social.butterfly.feed.maxAgeHours", 48L));
+
+        pageSize = Integer.getInteger("social.butterfly.feed.restorePage", 25);
+
+        window = new FeedWindow(new File(directory, fileName), maxPosts, minPosts, maxAge, pageSize, spillExecutor);
+
+        window.clear();
+
+        return window;
+    } //createFeedWindow
+
+    /**
+     * An unsynchronized map that holds at most a fixed number of entries, and evicts the least recently used entry
+     * when it is full.
+     *
+     * @param <K> the type of the keys
+     * @param <V> the type of the values
+     */
+    public static final class LruMap<K, V> extends LinkedHashMap<K, V> {
+        /**
+         * The serial version UID of the {@code LruMap} class.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The capacity of this LRU map.
+         */
+        private final int capacity;
+
+        /**
+         * Constructs a newly allocated {@code LruMap} object with the specified capacity.
+         *
+         * @param capacity the capacity to be used in construction
+         */
+        public LruMap(int capacity) {
+            super(16, 0.75F, true);
+
+            this.capacity = capacity;
+        } //LruMap
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return this.size() > this.capacity;
+        } //removeEldestEntry
+    }
+}
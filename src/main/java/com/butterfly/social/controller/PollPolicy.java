@@ -0,0 +1,178 @@
+package com.butterfly.social.controller;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A policy for the poll interval of a feed of the Social Butterfly application. The interval is shortened when a poll
+ * yields many new posts, lengthened when a poll yields none, and kept within the bounds of the policy.
+ *
+ * @author Logan Kulinski, lbk@purdue.edu
+ * @version April 25, 2021
+ */
+public final class PollPolicy {
+    /**
+     * The minimum period, in milliseconds, of this poll policy.
+     */
+    private final long minPeriod;
+
+    /**
+     * The maximum period, in milliseconds, of this poll policy.
+     */
+    private final long maxPeriod;
+
+    /**
+     * The initial period, in milliseconds, of this poll policy.
+     */
+    private final long initialPeriod;
+
+    /**
+     * The number of new posts at which a poll of this poll policy is considered busy.
+     */
+    private final int busyThreshold;
+
+    /**
+     * The factor by which the period of this poll policy grows after an idle poll.
+     */
+    private final double growthFactor;
+
+    /**
+     * The factor by which the period of this poll policy shrinks after a busy poll.
+     */
+    private final double shrinkFactor;
+
+    /**
+     * The jitter, as a fraction of the period, of this poll policy.
+     */
+    private final double jitter;
+
+    /**
+     * Constructs a newly allocated {@code PollPolicy} object with the specified minimum period, maximum period,
+     * initial period, and busy threshold.
+     *
+     * @param minPeriod the minimum period, in milliseconds, to be used in construction
+     * @param maxPeriod the maximum period, in milliseconds, to be used in construction
+     * @param initialPeriod the initial period, in milliseconds, to be used in construction
+     * @param busyThreshold the busy threshold to be used in construction
+     */
+    private PollPolicy(long minPeriod, long maxPeriod, long initialPeriod, int busyThreshold) {
+        this.minPeriod = minPeriod;
+
+        this.maxPeriod = maxPeriod;
+
+        this.initialPeriod = initialPeriod;
+
+        this.busyThreshold = busyThreshold;
+
+        this.growthFactor = 1.5;
+
+        this.shrinkFactor = 0.5;
+
+        this.jitter = 0.1;
+    } //PollPolicy
+
+    /**
+     * Returns the initial period, in milliseconds, of this poll policy.
+     *
+     * @return the initial period, in milliseconds, of this poll policy
+     */
+    public long getInitialPeriod() {
+        return this.initialPeriod;
+    } //getInitialPeriod
+
+    /**
+     * Returns the next period, in milliseconds, of this poll policy using the specified current period and number of
+     * new posts. A negative number of new posts denotes a failed poll, which is treated like an idle one.
+     *
+     * @param period the current period, in milliseconds, to be used in the operation
+     * @param newPosts the number of new posts to be used in the operation
+     * @return the next period, in milliseconds, of this poll policy using the specified current period and number of
+     * new posts
+     */
+    public long nextPeriod(long period, int newPosts) {
+        double nextPeriod;
+
+        if (newPosts <= 0) {
+            nextPeriod = period * this.growthFactor;
+        } else if (newPosts >= this.busyThreshold) {
+            nextPeriod = period * this.shrinkFactor;
+        } else {
+            nextPeriod = period;
+        } //end if
+
+        return Math.max(this.minPeriod, Math.min(this.maxPeriod, Math.round(nextPeriod)));
+    } //nextPeriod
+
+    /**
+     * Returns the specified period, in milliseconds, with a random jitter of this poll policy applied, so that the
+     * polls of different networks drift apart instead of firing together.
+     *
+     * @param period the period, in milliseconds, to be used in the operation
+     * @return the specified period, in milliseconds, with a random jitter of this poll policy applied
+     */
+    public long applyJitter(long period) {
+        double offset;
+
+        offset = ThreadLocalRandom.current()
+                                  .nextDouble(-this.jitter, this.jitter);
+
+        return Math.max(0L, Math.round(period * (1.0 + offset)));
+    } //applyJitter
+
+    /**
+     * Creates, and returns, a {@code PollPolicy} object using the specified minimum period, maximum period, initial
+     * period, busy threshold, and unit.
+     *
+     * @param minPeriod the minimum period to be used in the operation
+     * @param maxPeriod the maximum period to be used in the operation
+     * @param initialPeriod the initial period to be used in the operation
+     * @param busyThreshold the busy threshold to be used in the operation
+     * @param unit the unit of the periods to be used in the operation
+     * @return a {@code PollPolicy} object using the specified minimum period, maximum period, initial period, busy
+     * threshold, and unit
+     * @throws NullPointerException if the specified unit is {@code null}
+     * @throws IllegalArgumentException if the specified minimum period is not positive, the specified periods are not
+     * in order, or the specified busy threshold is not positive
+     */
+    public static PollPolicy createPollPolicy(long minPeriod, long maxPeriod, long initialPeriod, int busyThreshold,
+                                              TimeUnit unit) {
+        Objects.requireNonNull(unit, "the specified unit is null");
+
+        if (minPeriod <= 0) {
+            throw new IllegalArgumentException("the specified minimum period is not positive");
+        } else if ((initialPeriod < minPeriod) || (maxPeriod < initialPeriod)) {
+            throw new IllegalArgumentException("the specified periods are not in order");
+        } else if (busyThreshold <= 0) {
+            throw new IllegalArgumentException("the specified busy threshold is not positive");
+        } //end if
+
+        return new PollPolicy(unit.toMillis(minPeriod), unit.toMillis(maxPeriod), unit.toMillis(initialPeriod),
+                              busyThreshold);
+    } //createPollPolicy
+
+    /**
+     * Creates, and returns, the default {@code PollPolicy} object. Its bounds, in seconds, may be configured with the
+     * {@code social.butterfly.poll.min}, {@code social.butterfly.poll.max}, and {@code social.butterfly.poll.initial}
+     * system properties, and its busy threshold with the {@code social.butterfly.poll.busy} system property.
+     *
+     * @return the default {@code PollPolicy} object
+     * @throws IllegalArgumentException if the configured bounds or busy threshold are invalid
+     */
+    public static PollPolicy createDefaultPollPolicy() {
+        long minPeriod;
+        long maxPeriod;
+        long initialPeriod;
+        int busyThreshold;
+
+        minPeriod = Long.getLong("social.butterfly.poll.min", 30L);
+
+        maxPeriod = Long.getLong("social.butterfly.poll.max", 600L);
+
+        initialPeriod = Long.getLong("social.butterfly.poll.initial", 60L);
+
+        busyThreshold = Integer.getInteger("social.butterfly.poll.busy", 10);
+
+        return PollPolicy.createPollPolicy(minPeriod, maxPeriod, initialPeriod, busyThreshold, TimeUnit.SECONDS);
+    } //createDefaultPollPolicy
+}
@@ -1,5 +1,10 @@
 package com.butterfly.social.controller;
 
+import com.butterfly.social.model.Network;
+import com.butterfly.social.view.PostViewModel;
+
+import java.time.Instant;
+
 /**
  * A post of the Social Butterfly application.
  *
@@ -7,4 +12,38 @@ package com.butterfly.social.controller;
  * @version March 21, 2021
  */
 public interface Post {
+    /**
+     * Returns the network of this post.
+     *
+     * @return the network of this post
+     */
+    Network getNetwork();
+
+    /**
+     * Returns the ID of this post, which is unique among the posts of its network.
+     *
+     * @return the ID of this post
+     */
+    String getId();
+
+    /**
+     * Returns the view-model of this post, from which every box of this post is rendered.
+     *
+     * @return the view-model of this post
+     */
+    PostViewModel getViewModel();
+
+    /**
+     * Returns the instant at which this post was created.
+     *
+     * @return the instant at which this post was created
+     */
+    Instant getCreated();
+
+    /**
+     * Returns the popularity score of this post, such as its number of upvotes, favorites, or likes.
+     *
+     * @return the popularity score of this post
+     */
+    long getScore();
 }
\ No newline at end of file
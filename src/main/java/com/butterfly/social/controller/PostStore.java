@@ -0,0 +1,248 @@
+package com.butterfly.social.controller;
+
+import com.butterfly.social.model.Network;
+import javafx.scene.Node;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A store of the posts of the Social Butterfly application, which holds one canonical post per network and ID. A
+ * node that displays a post is tagged with the key of the post rather than mapped to it, so the post of a node is
+ * looked up through its key, and a post that is updated in place is found by every node that displays it. A post that
+ * is displayed outside of its feed, such as in the saved posts or a thread, is retained, so that it is not removed
+ * when it is evicted from its feed.
+ *
+ * @author Logan Kulinski, lbk@purdue.edu
+ * @version April 25, 2021
+ */
+public final class PostStore {
+    /**
+     * The key of the node property in which the key of a post is stored.
+     */
+    private static final String keyProperty = "social.butterfly.postKey";
+
+    /**
+     * A key of a post, which is its network and ID.
+     */
+    private static final class Key {
+        /**
+         * The network of this key.
+         */
+        private final Network network;
+
+        /**
+         * The ID of this key.
+         */
+        private final String id;
+
+        /**
+         * Constructs a newly allocated {@code Key} object with the specified network and ID.
+         *
+         * @param network the network to be used in construction
+         * @param id the ID to be used in construction
+         */
+        private Key(Network network, String id) {
+            this.network = network;
+
+            this.id = id;
+        } //Key
+    }
+
+    /**
+     * The map from networks to maps from IDs to posts of this post store.
+     */
+    private final Map<Network, Map<String, Post>> networksToPosts;
+
+    /**
+     * The map from networks to IDs of retained posts of this post store.
+     */
+    private final Map<Network, Set<String>> networksToRetainedIds;
+
+    /**
+     * Constructs a newly allocated {@code PostStore} object.
+     */
+    private PostStore() {
+        this.networksToPosts = new EnumMap<>(Network.class);
+
+        this.networksToRetainedIds = new EnumMap<>(Network.class);
+    } //PostStore
+
+    /**
+     * Stores the specified post in this post store, and returns the canonical post with its network and ID. If a post
+     * with the same network and ID is already stored, it is kept and returned.
+     *
+     * @param post the post to be used in the operation
+     * @return the canonical post with the network and ID of the specified post
+     * @throws NullPointerException if the specified post is {@code null}
+     */
+    public synchronized Post intern(Post post) {
+        Objects.requireNonNull(post, "the specified post is null");
+
+        return this.networksToPosts.computeIfAbsent(post.getNetwork(), (network) -> new HashMap<>())
+                                   .merge(post.getId(), post, (oldPost, newPost) -> oldPost);
+    } //intern
+
+    /**
+     * Stores the specified post in this post store, as {@link #intern(Post)} does, and retains it, because it is
+     * displayed outside of its feed. A retained post is not removed when it is evicted from its feed, only when its
+     * network is removed.
+     *
+     * @param post the post to be used in the operation
+     * @return the canonical post with the network and ID of the specified post
+     * @throws NullPointerException if the specified post is {@code null}
+     */
+    public synchronized Post retain(Post post) {
+        Post canonicalPost;
+
+        canonicalPost = this.intern(post);
+
+        this.networksToRetainedIds.computeIfAbsent(canonicalPost.getNetwork(), (network) -> new HashSet<>())
+                                  .add(canonicalPost.getId());
+
+        return canonicalPost;
+    } //retain
+
+    /**
+     * Tags the specified node with the key of the specified post, so that the node displays the canonical post with
+     * the network and ID of the specified post, and returns that canonical post. Posts are interned when they are
+     * created, so the specified post is normally already canonical; it is stored again if its network was cleared
+     * while it was still waiting to be displayed.
+     *
+     * @param node the node to be used in the operation
+     * @param post the post to be used in the operation
+     * @return the canonical post with the network and ID of the specified post
+     * @throws NullPointerException if the specified node or post is {@code null}
+     */
+    public Post register(Node node, Post post) {
+        Post canonicalPost;
+
+        Objects.requireNonNull(node, "the specified node is null");
+
+        Objects.requireNonNull(post, "the specified post is null");
+
+        canonicalPost = this.intern(post);
+
+        node.getProperties()
+            .put(keyProperty, new Key(canonicalPost.getNetwork(), canonicalPost.getId()));
+
+        return canonicalPost;
+    } //register
+
+    /**
+     * Returns the canonical post with the specified network and ID in this post store.
+     *
+     * @param network the network to be used in the operation
+     * @param id the ID to be used in the operation
+     * @return the canonical post with the specified network and ID, or {@code null} if it is not stored
+     */
+    public synchronized Post getPost(Network network, String id) {
+        Map<String, Post> idsToPosts;
+
+        idsToPosts = this.networksToPosts.get(network);
+
+        if (idsToPosts == null) {
+            return null;
+        } //end if
+
+        return idsToPosts.get(id);
+    } //getPost
+
+    /**
+     * Returns the canonical post that is displayed by the specified node in this post store.
+     *
+     * @param node the node to be used in the operation
+     * @return the canonical post that is displayed by the specified node, or {@code null} if the node is not tagged
+     * or its post is not stored
+     * @throws NullPointerException if the specified node is {@code null}
+     */
+    public Post getPost(Node node) {
+        Object key;
+
+        Objects.requireNonNull(node, "the specified node is null");
+
+        key = node.getProperties()
+                  .get(keyProperty);
+
+        if (!(key instanceof Key)) {
+            return null;
+        } //end if
+
+        return this.getPost(((Key) key).network, ((Key) key).id);
+    } //getPost
+
+    /**
+     * Removes the canonical post with the network and ID of the specified post from this post store, such as when
+     * the post is evicted from its feed, unless the post is retained by a view outside of its feed.
+     *
+     * @param post the post to be used in the operation
+     * @throws NullPointerException if the specified post is {@code null}
+     */
+    public synchronized void remove(Post post) {
+        Map<String, Post> idsToPosts;
+        Set<String> retainedIds;
+
+        Objects.requireNonNull(post, "the specified post is null");
+
+        idsToPosts = this.networksToPosts.get(post.getNetwork());
+
+        retainedIds = this.networksToRetainedIds.get(post.getNetwork());
+
+        if ((idsToPosts != null) && ((retainedIds == null) || !retainedIds.contains(post.getId()))) {
+            idsToPosts.remove(post.getId());
+        } //end if
+    } //remove
+
+    /**
+     * Removes every post of the specified network from this post store that is not retained, such as when the feed of
+     * the network is refreshed. The posts of other networks are not visited.
+     *
+     * @param network the network to be used in the operation
+     * @throws NullPointerException if the specified network is {@code null}
+     */
+    public synchronized void removeFeed(Network network) {
+        Map<String, Post> idsToPosts;
+        Set<String> retainedIds;
+
+        Objects.requireNonNull(network, "the specified network is null");
+
+        idsToPosts = this.networksToPosts.get(network);
+
+        if (idsToPosts == null) {
+            return;
+        } //end if
+
+        retainedIds = this.networksToRetainedIds.getOrDefault(network, Set.of());
+
+        idsToPosts.keySet()
+                  .retainAll(retainedIds);
+    } //removeFeed
+
+    /**
+     * Removes every post of the specified network from this post store, including the retained ones. The posts of
+     * other networks are not visited.
+     *
+     * @param network the network to be used in the operation
+     * @throws NullPointerException if the specified network is {@code null}
+     */
+    public synchronized void removeNetwork(Network network) {
+        Objects.requireNonNull(network, "the specified network is null");
+
+        this.networksToPosts.remove(network);
+
+        this.networksToRetainedIds.remove(network);
+    } //removeNetwork
+
+    /**
+     * Creates, and returns, an empty {@code PostStore} object.
+     *
+     * @return an empty {@code PostStore} object
+     */
+    public static PostStore createPostStore() {
+        return new PostStore();
+    } //createPostStore
+}
@@ -1,7 +1,17 @@
 package com.butterfly.social.controller.instagram;
 
 import com.butterfly.social.controller.Post;
-import com.github.instagram4j.instagram4j.models.media.timeline.TimelineMedia;
+import com.butterfly.social.model.Network;
+import com.butterfly.social.view.MediaVariant;
+import com.butterfly.social.view.PostAttachment;
+import com.butterfly.social.view.PostViewModel;
+import com.github.instagram4j.instagram4j.models.media.ImageVersions;
+import com.github.instagram4j.instagram4j.models.media.ImageVersionsMeta;
+import com.github.instagram4j.instagram4j.models.media.VideoVersionsMeta;
+import com.github.instagram4j.instagram4j.models.media.timeline.*;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -16,6 +26,11 @@ public final class InstagramPost implements Post {
      */
     private final TimelineMedia media;
 
+    /**
+     * The view-model of this Instagram post, or {@code null} if it has not been created.
+     */
+    private volatile PostViewModel viewModel;
+
     /**
      * Constructs a newly allocated {@code InstagramPost} object with the specified media.
      *
@@ -26,8 +41,133 @@ public final class InstagramPost implements Post {
         Objects.requireNonNull(media, "the specified media is null");
 
         this.media = media;
+
+        this.viewModel = null;
     } //InstagramPost
 
+    /**
+     * Returns a photo attachment of the last of the specified image versions, or {@code null} if there are none.
+     *
+     * @param metaList the image versions to be used in the operation
+     * @return a photo attachment of the last of the specified image versions, or {@code null} if there are none
+     */
+    private static PostAttachment createPhotoAttachment(List<ImageVersionsMeta> metaList) {
+        ImageVersionsMeta meta;
+
+        if ((metaList == null) || metaList.isEmpty()) {
+            return null;
+        } //end if
+
+        meta = metaList.get(metaList.size() - 1);
+
+        return PostAttachment.createPostAttachment(PostAttachment.Kind.PHOTO, meta.getUrl());
+    } //createPhotoAttachment
+
+    /**
+     * Returns a video attachment of the specified video versions, with a poster of the first of the specified image
+     * versions, or {@code null} if there are no video versions. Every version is attached as a variant, so that the
+     * variant can be selected when it is played.
+     *
+     * @param metaList the video versions to be used in the operation
+     * @param imageVersions the image versions to be used in the operation, or {@code null} if there are none
+     * @return a video attachment of the specified video versions, or {@code null} if there are none
+     */
+    private static PostAttachment createVideoAttachment(List<VideoVersionsMeta> metaList,
+                                                        ImageVersions imageVersions) {
+        List<MediaVariant> variants;
+        List<ImageVersionsMeta> candidates;
+        String posterUrl = null;
+
+        if ((metaList == null) || metaList.isEmpty()) {
+            return null;
+        } //end if
+
+        variants = new ArrayList<>();
+
+        for (VideoVersionsMeta meta : metaList) {
+            variants.add(MediaVariant.createMediaVariant(meta.getUrl(), 0, meta.getWidth()));
+        } //end for
+
+        candidates = (imageVersions == null) ? null : imageVersions.getCandidates();
+
+        if ((candidates != null) && !candidates.isEmpty()) {
+            posterUrl = candidates.get(0)
+                                  .getUrl();
+        } //end if
+
+        return PostAttachment.createPostAttachment(PostAttachment.Kind.VIDEO, variants, posterUrl);
+    } //createVideoAttachment
+
+    /**
+     * Returns the attachments of the specified media. The items of a carousel are attached in order.
+     *
+     * @param media the media to be used in the operation
+     * @return the attachments of the specified media
+     */
+    private static List<PostAttachment> createAttachments(TimelineMedia media) {
+        List<PostAttachment> attachments;
+        PostAttachment attachment;
+
+        attachments = new ArrayList<>();
+
+        if (media instanceof TimelineImageMedia) {
+            attachments.add(InstagramPost.createPhotoAttachment(((TimelineImageMedia) media).getImage_versions2()
+                                                                                            .getCandidates()));
+        } else if (media instanceof TimelineVideoMedia) {
+            attachments.add(InstagramPost.createVideoAttachment(((TimelineVideoMedia) media).getVideo_versions(),
+                                                                ((TimelineVideoMedia) media).getImage_versions2()));
+        } else if (media instanceof TimelineCarouselMedia) {
+            for (CaraouselItem carouselItem : ((TimelineCarouselMedia) media).getCarousel_media()) {
+                if (carouselItem instanceof ImageCaraouselItem) {
+                    attachment = InstagramPost.createPhotoAttachment(((ImageCaraouselItem) carouselItem)
+                                                                         .getImage_versions2()
+                                                                         .getCandidates());
+                } else if (carouselItem instanceof VideoCaraouselItem) {
+                    attachment = InstagramPost.createVideoAttachment(((VideoCaraouselItem) carouselItem)
+                                                                         .getVideo_versions(),
+                                                                     ((VideoCaraouselItem) carouselItem)
+                                                                         .getImage_versions2());
+                } else {
+                    attachment = null;
+                } //end if
+
+                attachments.add(attachment);
+            } //end for
+        } //end if
+
+        attachments.removeIf(Objects::isNull);
+
+        return attachments;
+    } //createAttachments
+
+    /**
+     * Returns the view-model of the specified media.
+     *
+     * @param media the media to be used in the operation
+     * @return the view-model of the specified media
+     */
+    private static PostViewModel createViewModel(TimelineMedia media) {
+        String location;
+        Comment.Caption caption;
+        String dateTime;
+        List<String> statistics;
+
+        location = (media.getLocation() == null) ? null : media.getLocation()
+                                                               .getName();
+
+        caption = media.getCaption();
+
+        dateTime = PostViewModel.formatDateTime(Instant.ofEpochSecond(caption.getCreated_at_utc()));
+
+        statistics = List.of(String.format("%d Likes", media.getLike_count()),
+                             String.format("%d Comments", media.getComment_count()));
+
+        return PostViewModel.createPostViewModel(Network.INSTAGRAM, null, media.getUser()
+                                                                               .getUsername(), location,
+                                                 Objects.requireNonNullElse(caption.getText(), ""),
+                                                 InstagramPost.createAttachments(media), dateTime, statistics);
+    } //createViewModel
+
     /**
      * Returns the media of this Instagram post.
      *
@@ -37,6 +177,68 @@ public final class InstagramPost implements Post {
         return this.media;
     } //getMedia
 
+    /**
+     * Returns the view-model of this Instagram post. The view-model is created when it is first requested, so a post
+     * that is never displayed holds only its media.
+     *
+     * @return the view-model of this Instagram post
+     */
+    @Override
+    public PostViewModel getViewModel() {
+        PostViewModel viewModel;
+
+        viewModel = this.viewModel;
+
+        if (viewModel == null) {
+            viewModel = InstagramPost.createViewModel(this.media);
+
+            this.viewModel = viewModel;
+        } //end if
+
+        return viewModel;
+    } //getViewModel
+
+    /**
+     * Returns the network of this Instagram post.
+     *
+     * @return the network of this Instagram post
+     */
+    @Override
+    public Network getNetwork() {
+        return Network.INSTAGRAM;
+    } //getNetwork
+
+    /**
+     * Returns the ID of this Instagram post.
+     *
+     * @return the ID of this Instagram post
+     */
+    @Override
+    public String getId() {
+        return this.media.getId();
+    } //getId
+
+    /**
+     * Returns the instant at which this Instagram post was created.
+     *
+     * @return the instant at which this Instagram post was created
+     */
+    @Override
+    public Instant getCreated() {
+        return Instant.ofEpochSecond(this.media.getCaption()
+                                               .getCreated_at_utc());
+    } //getCreated
+
+    /**
+     * Returns the popularity score of this Instagram post, which is its number of likes.
+     *
+     * @return the popularity score of this Instagram post
+     */
+    @Override
+    public long getScore() {
+        return this.media.getLike_count();
+    } //getScore
+
     /**
      * Returns the hash code of this Instagram post.
      *
@@ -1,45 +1,40 @@
 package com.butterfly.social.controller.instagram;
 
+import com.butterfly.social.controller.FeedWindow;
 import com.butterfly.social.controller.Post;
+import com.butterfly.social.controller.PostStore;
 import com.butterfly.social.model.Model;
+import com.butterfly.social.model.Network;
+import com.butterfly.social.model.instagram.InstagramFeedSession;
 import com.butterfly.social.model.instagram.InstagramModel;
-import com.butterfly.social.view.MenuView;
+import com.butterfly.social.view.FeedDispatcher;
 import com.butterfly.social.view.PostView;
+import com.butterfly.social.view.PostViewModel;
+import com.butterfly.social.view.Timeline;
 import com.butterfly.social.view.View;
 import com.github.instagram4j.instagram4j.IGClient;
-import com.github.instagram4j.instagram4j.models.media.ImageVersionsMeta;
 import com.github.instagram4j.instagram4j.models.media.UserTags;
-import com.github.instagram4j.instagram4j.models.media.VideoVersionsMeta;
 import com.github.instagram4j.instagram4j.models.media.timeline.*;
-import com.github.instagram4j.instagram4j.responses.feed.FeedTimelineResponse;
 import com.github.instagram4j.instagram4j.responses.users.UsersSearchResponse;
 import javafx.application.Platform;
 import javafx.event.ActionEvent;
-import javafx.scene.CacheHint;
 import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
 import javafx.scene.layout.VBox;
-import javafx.scene.media.Media;
-import javafx.scene.media.MediaPlayer;
-import javafx.scene.media.MediaView;
-import javafx.scene.text.Font;
-import javafx.scene.text.FontWeight;
-import javafx.scene.text.Text;
-import java.net.URI;
-import java.net.URISyntaxException;
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.SQLOutput;
-import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.time.temporal.ChronoField;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * A controller for Instagram posts of the Social Butterfly application.
@@ -66,19 +61,36 @@ public final class InstagramPostController {
     private final Set<String> savedIds;
 
     /**
-     * The map from boxes to posts of this Instagram post controller.
+     * The post store of this Instagram post controller.
      */
-    private final Map<VBox, Post> boxesToPosts;
+    private final PostStore postStore;
 
     /**
-     * The all box lock of this Instagram post controller.
+     * The feed window of this Instagram post controller.
      */
-    private final Lock allBoxLock;
+    private final FeedWindow window;
 
     /**
-     * The executor service of this Instagram post controller.
+     * The feed lock of this Instagram post controller.
      */
-    private ScheduledExecutorService executorService;
+    private final Lock feedLock;
+
+    /**
+     * The page loading flag of this Instagram post controller, which is set while a page of older posts is loaded.
+     * The page is composed asynchronously, so a flag is used in place of a lock owned by one thread.
+     */
+    private final AtomicBoolean pageLoading;
+
+    /**
+     * The generation of this Instagram post controller, which is advanced each time it is reset, so that the results
+     * of an update that started before a reset are discarded.
+     */
+    private long generation;
+
+    /**
+     * The feed session of this Instagram post controller, or {@code null} if it has not been loaded.
+     */
+    private volatile InstagramFeedSession feedSession;
 
     private VBox allSavedBox;
 
@@ -87,50 +99,43 @@ public final class InstagramPostController {
     public boolean updateAll = false;
 
     /**
-     * Constructs a newly allocated {@code InstagramPostController} object with the specified model, view, map from
-     * boxes to posts, and all box lock.
+     * Constructs a newly allocated {@code InstagramPostController} object with the specified model, view, and post
+     * store.
      *
      * @param model the model to be used in construction
      * @param view the view to be used in construction
-     * @param boxesToPosts the map from boxes to posts to be used in construction
-     * @param allBoxLock the all box lock to be used in construction
-     * @throws NullPointerException if the specified model, view, map from boxes to posts, or all box lock is
-     * {@code null}
+     * @param postStore the post store to be used in construction
+     * @throws NullPointerException if the specified model, view, or post store is {@code null}
      */
-    private InstagramPostController(Model model, View view, Map<VBox, Post> boxesToPosts, Lock allBoxLock) {
+    private InstagramPostController(Model model, View view, PostStore postStore) {
         Objects.requireNonNull(model, "the specified model is null");
 
         Objects.requireNonNull(view, "the specified view is null");
 
-        Objects.requireNonNull(boxesToPosts, "the specified map from boxes to posts is null");
-
-        Objects.requireNonNull(allBoxLock, "the specified all box lock is null");
+        Objects.requireNonNull(postStore, "the specified post store is null");
 
         this.model = model;
 
         this.view = view;
 
-        this.ids = new HashSet<>();
+        this.ids = FeedWindow.createIdSet();
+
+        this.savedIds = FeedWindow.createIdSet();
 
-        this.savedIds = new HashSet<>();
+        this.postStore = postStore;
 
-        this.boxesToPosts = boxesToPosts;
+        this.window = FeedWindow.createFeedWindow(Network.INSTAGRAM);
 
         this.allSavedBox = new VBox();
 
-        this.allBoxLock = allBoxLock;
+        this.feedLock = new ReentrantLock();
 
-        this.executorService = Executors.newSingleThreadScheduledExecutor();
-    } //InstagramPostController
+        this.pageLoading = new AtomicBoolean();
 
-    /**
-     * Returns the executor service of this Instagram post controller.
-     *
-     * @return the executor service of this Instagram post controller
-     */
-    public ScheduledExecutorService getExecutorService() {
-        return this.executorService;
-    } //getExecutorService
+        this.generation = 0L;
+
+        this.feedSession = null;
+    } //InstagramPostController
 
     public VBox getAllSavedBox() {
         //updateSavedPosts();
@@ -169,321 +174,6 @@ public final class InstagramPostController {
         return ad;
     } //isAd
 
-    /**
-     * Returns the photo node for the specified image media.
-     *
-     * @param imageMedia the image media to be used in the operation
-     * @return the photo node for the specified image media
-     * @throws NullPointerException if the specified image media is {@code null}
-     */
-    private Node getPhotoNode(TimelineImageMedia imageMedia) {
-        List<ImageVersionsMeta> metaList;
-        int lastIndex;
-        ImageVersionsMeta meta;
-        String urlString;
-        URI uri;
-        String uriString;
-        Image image;
-        ImageView imageView;
-
-        Objects.requireNonNull(imageMedia, "the specified image media is null");
-
-        metaList = imageMedia.getImage_versions2()
-                             .getCandidates();
-
-        lastIndex = metaList.size() - 1;
-
-        meta = metaList.get(lastIndex);
-
-        urlString = meta.getUrl();
-
-        try {
-            uri = new URI(urlString);
-
-            uriString = uri.toString();
-        } catch (URISyntaxException e) {
-            e.printStackTrace();
-
-            return null;
-        } //end try catch
-
-        image = new Image(uriString, true);
-
-        imageView = new ImageView(image);
-
-        imageView.setCache(true);
-
-        imageView.setCacheHint(CacheHint.SPEED);
-
-        return imageView;
-    } //getPhotoNode
-
-    /**
-     * Returns the photo node for the specified image carousel item.
-     *
-     * @param imageCarouselItem the image carousel item to be used in the operation
-     * @return the photo node for the specified image carousel item
-     * @throws NullPointerException if the specified image carousel item is {@code null}
-     */
-    private Node getPhotoNode(ImageCaraouselItem imageCarouselItem) {
-        List<ImageVersionsMeta> metaList;
-        int lastIndex;
-        ImageVersionsMeta meta;
-        String urlString;
-        URI uri;
-        String uriString;
-        Image image;
-        ImageView imageView;
-
-        Objects.requireNonNull(imageCarouselItem, "the specified image carousel item is null");
-
-        metaList = imageCarouselItem.getImage_versions2()
-                                    .getCandidates();
-
-        lastIndex = metaList.size() - 1;
-
-        meta = metaList.get(lastIndex);
-
-        urlString = meta.getUrl();
-
-        try {
-            uri = new URI(urlString);
-
-            uriString = uri.toString();
-        } catch (URISyntaxException e) {
-            e.printStackTrace();
-
-            return null;
-        } //end try catch
-
-        image = new Image(uriString, true);
-
-        imageView = new ImageView(image);
-
-        imageView.setCache(true);
-
-        imageView.setCacheHint(CacheHint.SPEED);
-
-        return imageView;
-    } //getPhotoNode
-
-    /**
-     * Returns the video node for the specified video media.
-     *
-     * @param videoMedia the video media to be used in the operation
-     * @return the video node for the specified video media
-     * @throws NullPointerException if the specified video media is {@code null}
-     */
-    private Node getVideoNode(TimelineVideoMedia videoMedia) {
-        List<VideoVersionsMeta> metaList;
-        int lastIndex;
-        VideoVersionsMeta meta;
-        String urlString;
-        URI uri;
-        String uriString;
-        Media media;
-        MediaPlayer mediaPlayer;
-        MediaView mediaView;
-
-        Objects.requireNonNull(videoMedia, "the specified video media is null");
-
-        metaList = videoMedia.getVideo_versions();
-
-        lastIndex = metaList.size() - 1;
-
-        meta = metaList.get(lastIndex);
-
-        urlString = meta.getUrl();
-
-        try {
-            uri = new URI(urlString);
-
-            uriString = uri.toString();
-        } catch (URISyntaxException e) {
-            e.printStackTrace();
-
-            return null;
-        } //end try catch
-
-        media = new Media(uriString);
-
-        mediaPlayer = new MediaPlayer(media);
-
-        mediaView = new MediaView(mediaPlayer);
-
-        mediaPlayer.setOnEndOfMedia(mediaPlayer::stop);
-
-        mediaView.setOnMouseClicked((mouseEvent) -> {
-            MediaPlayer.Status status;
-
-            status = mediaPlayer.getStatus();
-
-            switch (status) {
-                case PLAYING -> mediaPlayer.pause();
-                case READY, PAUSED, STOPPED -> mediaPlayer.play();
-            } //end switch
-        });
-
-        mediaView.setCache(true);
-
-        mediaView.setCacheHint(CacheHint.SPEED);
-
-        return mediaView;
-    } //getVideoNode
-
-    /**
-     * Returns the photo node for the specified video carousel item.
-     *
-     * @param videoCarouselItem the video carousel item to be used in the operation
-     * @return the photo node for the specified video carousel item
-     * @throws NullPointerException if the specified video carousel item is {@code null}
-     */
-    private Node getVideoNode(VideoCaraouselItem videoCarouselItem) {
-        List<VideoVersionsMeta> metaList;
-        int lastIndex;
-        VideoVersionsMeta meta;
-        String urlString;
-        URI uri;
-        String uriString;
-        Media media;
-        MediaPlayer mediaPlayer;
-        MediaView mediaView;
-
-        Objects.requireNonNull(videoCarouselItem, "the specified video carousel item is null");
-
-        metaList = videoCarouselItem.getVideo_versions();
-
-        lastIndex = metaList.size() - 1;
-
-        meta = metaList.get(lastIndex);
-
-        urlString = meta.getUrl();
-
-        try {
-            uri = new URI(urlString);
-
-            uriString = uri.toString();
-        } catch (URISyntaxException e) {
-            e.printStackTrace();
-
-            return null;
-        } //end try catch
-
-        media = new Media(uriString);
-
-        mediaPlayer = new MediaPlayer(media);
-
-        mediaView = new MediaView(mediaPlayer);
-
-        mediaPlayer.setOnEndOfMedia(mediaPlayer::stop);
-
-        mediaView.setOnMouseClicked((mouseEvent) -> {
-            MediaPlayer.Status status;
-
-            status = mediaPlayer.getStatus();
-
-            switch (status) {
-                case PLAYING -> mediaPlayer.pause();
-                case READY, PAUSED, STOPPED -> mediaPlayer.play();
-            } //end switch
-        });
-
-        mediaView.setCache(true);
-
-        mediaView.setCacheHint(CacheHint.SPEED);
-
-        return mediaView;
-    } //getVideoNode
-
-    /**
-     * Returns an accordion of the specified media.
-     *
-     * @param media the media to be used in the operation
-     * @return an accordion of the specified media
-     * @throws NullPointerException if the specified media is {@code null}
-     */
-    private Accordion getMediaAccordion(TimelineMedia media) {
-        List<TitledPane> titledPanes;
-        List<Node> nodes;
-        Node node;
-        MenuView menuView;
-        Spinner<Integer> fontSizeSpinner;
-        int size;
-        String mediaName;
-        int mediaCount = 1;
-        ScrollPane scrollPane;
-        TitledPane titledPane;
-        String family = "Tahoma";
-        TitledPane[] array;
-        Accordion accordion;
-
-        Objects.requireNonNull(media, "the specified media is null");
-
-        titledPanes = new ArrayList<>();
-
-        nodes = new ArrayList<>();
-
-        if (media instanceof TimelineImageMedia) {
-            node = this.getPhotoNode((TimelineImageMedia) media);
-
-            nodes.add(node);
-        } else if (media instanceof TimelineVideoMedia) {
-            node = this.getVideoNode((TimelineVideoMedia) media);
-
-            nodes.add(node);
-        } else if (media instanceof TimelineCarouselMedia) {
-            List<CaraouselItem> carouselItems;
-
-            carouselItems = ((TimelineCarouselMedia) media).getCarousel_media();
-
-            for (CaraouselItem carouselItem : carouselItems) {
-                if (carouselItem instanceof ImageCaraouselItem) {
-                    node = this.getPhotoNode((ImageCaraouselItem) carouselItem);
-                } else if (carouselItem instanceof VideoCaraouselItem) {
-                    node = this.getVideoNode((VideoCaraouselItem) carouselItem);
-                } else {
-                    String message;
-
-                    message = String.format("Invalid carousel type: %s", media.getClass().getName());
-
-                    throw new IllegalStateException(message);
-                } //end if
-
-                nodes.add(node);
-            } //end for
-        } else {
-            return null;
-        } //end if
-
-        menuView = this.view.getMenuView();
-
-        fontSizeSpinner = menuView.getFontSizeSpinner();
-
-        size = fontSizeSpinner.getValue();
-
-        for (Node currentNode : nodes) {
-            mediaName = String.format("Attachment %d", mediaCount);
-
-            mediaCount++;
-
-            scrollPane = new ScrollPane(currentNode);
-
-            titledPane = new TitledPane(mediaName, scrollPane);
-
-            titledPane.setFont(Font.font(family, size));
-
-            titledPanes.add(titledPane);
-        } //end for
-
-        array = new TitledPane[titledPanes.size()];
-
-        titledPanes.toArray(array);
-
-        accordion = new Accordion(array);
-
-        return accordion;
-    } //getMediaAccordion
-
     private void displayTaggedUsers(List<UserTags.UserTag> userTags) {
         InstagramModel instagramModel;
         Alert alert;
@@ -539,7 +229,7 @@ public final class InstagramPostController {
 
         Objects.requireNonNull(box, "the specified box is null");
 
-        post = this.boxesToPosts.get(box);
+        post = this.postStore.getPost(box);
 
         if (post == null) {
             return;
@@ -559,7 +249,12 @@ public final class InstagramPostController {
 
         save.addEventHandler(ActionEvent.ACTION, (actionEvent) -> {
             //save tweet
-            instagramModel.savePost(id);
+            instagramModel.savePost(id)
+                          .whenComplete((saved, throwable) -> {
+                              if (throwable != null) {
+                                  throwable.printStackTrace();
+                              } //end if
+                          });
         });
 
         contextMenu = new ContextMenu(save);
@@ -578,140 +273,28 @@ public final class InstagramPostController {
     } //displayContextMenu
 
     /**
-     * Returns a box for the specified media.
+     * Returns a box for the specified Instagram post, which is rendered from the view-model of the post and is
+     * mapped to the post until the box is discarded.
      *
-     * @param media the media to be used in the operation
+     * @param post the Instagram post to be used in the operation
      * @param displayInstagram whether or not to display "on Instagram" in the box
-     * @return a box for the specified media
-     * @throws NullPointerException if the specified media is {@code null}
+     * @return a box for the specified Instagram post
+     * @throws NullPointerException if the specified Instagram post is {@code null}
      */
-    private VBox createBox(TimelineMedia media, boolean displayInstagram) {
-        String username;
-        String location;
-        String textString;
-        long creationTime;
-        LocalDateTime dateTime;
-        MenuView menuView;
-        Spinner<Integer> fontSizeSpinner;
-        int size;
-        Label nameLabel;
-        Label locationLabel;
-        String family = "Tahoma";
+    public VBox createBox(InstagramPost post, boolean displayInstagram) {
         Scene scene;
-        Text text;
-        Accordion accordion;
-        String month;
-        int day;
-        int year;
-        int hour;
-        int minute;
-        String amPm;
-        String format;
-        String dateTimeString;
-        Label dateTimeLabel;
-        VBox vBox;
-
-        Objects.requireNonNull(media, "the specified status is null");
-
-        username = media.getUser()
-                        .getUsername();
-
-        if (media.getLocation() != null) {
-            location = media.getLocation().getName();
-        }
-        else {
-            location = "";
-        }
-
-        textString = media.getCaption()
-                          .getText();
-
-        if (media.getUsertags() != null) {
-            //System.out.println(media.getUsertags().getIn().get(0).getUser().getUsername() + "    " + media.getUsertags().getIn().get(0).getUser().getFull_name() + "\n"+ "\n"+ "\n");
-        }
-
-        creationTime = media.getCaption()
-                            .getCreated_at_utc();
+        PostViewModel viewModel;
+        VBox box;
 
-        dateTime = LocalDateTime.ofInstant(Instant.ofEpochSecond(creationTime), ZoneId.systemDefault());
-
-        menuView = this.view.getMenuView();
-
-        fontSizeSpinner = menuView.getFontSizeSpinner();
-
-        size = fontSizeSpinner.getValue();
-
-        nameLabel = new Label(username);
-
-        nameLabel.setFont(Font.font(family, FontWeight.BOLD, size));
-
-        locationLabel = new Label(location);
+        Objects.requireNonNull(post, "the specified Instagram post is null");
 
         scene = this.view.getScene();
 
-        text = new Text(textString);
-
-        text.setFont(Font.font(family, size));
-
-        text.wrappingWidthProperty()
-            .bind(scene.widthProperty());
-
-        accordion = getMediaAccordion(media);
-
-        month = dateTime.getMonth()
-                        .name();
-
-        month = month.charAt(0) + month.substring(1)
-                                       .toLowerCase();
-
-        day = dateTime.getDayOfMonth();
-
-        year = dateTime.getYear();
-
-        hour = dateTime.get(ChronoField.CLOCK_HOUR_OF_AMPM);
-
-        minute = dateTime.getMinute();
-
-        amPm = (dateTime.get(ChronoField.AMPM_OF_DAY) == 0) ? "AM" : "PM";
-
-        if (displayInstagram) {
-            format = "%s %d, %d at %02d:%02d %s on Instagram";
-        } else {
-            format = "%s %d, %d at %02d:%02d %s";
-        } //end if
-
-        dateTimeString = String.format(format, month, day, year, hour, minute, amPm);
-
-        dateTimeLabel = new Label(dateTimeString);
-
-        dateTimeLabel.setFont(Font.font(family, FontWeight.BOLD, size));
-
-        format = "%d Likes";
-
-        String likesString = String.format(format, media.getLike_count());
+        viewModel = post.getViewModel();
 
-        Label likesLabel = new Label(likesString);
+        box = viewModel.createBox(scene, displayInstagram);
 
-        likesLabel.setFont(Font.font(family, FontWeight.BOLD, size));
-
-        format = "%d Comments";
-
-        String commentsString = String.format(format, media.getComment_count());
-
-        Label commentsLabel = new Label(commentsString);
-
-        commentsLabel.setFont(Font.font(family, FontWeight.BOLD, size));
-
-        if (accordion == null) {
-            vBox = new VBox(nameLabel, locationLabel, text, dateTimeLabel, likesLabel, commentsLabel);
-        } else {
-            accordion.prefWidthProperty()
-                     .bind(scene.widthProperty());
-
-            vBox = new VBox(nameLabel, locationLabel, text, accordion, dateTimeLabel, likesLabel, commentsLabel);
-        } //end if
-
-        vBox.setOnContextMenuRequested((contextMenuEvent) -> {
+        box.setOnContextMenuRequested((contextMenuEvent) -> {
             double screenX;
             double screenY;
 
@@ -719,22 +302,25 @@ public final class InstagramPostController {
 
             screenY = contextMenuEvent.getScreenY();
 
-            this.displayContextMenu(vBox, screenX, screenY);
+            this.displayContextMenu(box, screenX, screenY);
         });
 
-        return vBox;
-    } //createPostBox
+        this.postStore.register(box, post);
+
+        return box;
+    } //createBox
     
+    /**
+     * Returns a scene of the saved posts of this Instagram post controller. The scene is returned at once, and the
+     * saved posts are added to it, and to the all saved box, on the JavaFX application thread once they have been
+     * fetched.
+     *
+     * @return a scene of the saved posts of this Instagram post controller
+     */
     public Scene updateSavedPosts() {
         InstagramModel instagramModel;
-        List<TimelineMedia> feedItems;
-        List<Node> nodes;
-        List<Node> nodeCopies;
-        String id;
-        VBox vBox;
-        VBox vBoxCopy;
-        InstagramPost post;
         VBox instagramBox;
+        Scene scene;
 
         instagramModel = this.model.getInstagramModel();
 
@@ -742,7 +328,39 @@ public final class InstagramPostController {
             return null;
         } //end if
 
-        feedItems = instagramModel.getSavedPosts();
+        instagramBox = new VBox();
+
+        this.view.getPostView()
+                 .applyStyle(instagramBox);
+
+        scene = new Scene(instagramBox, 500, 300);
+
+        instagramModel.getSavedPosts()
+                      .whenCompleteAsync((feedItems, throwable) -> {
+                          if (throwable != null) {
+                              throwable.printStackTrace();
+                          } else {
+                              this.addSavedPosts(feedItems, instagramBox);
+                          } //end if
+                      }, Platform::runLater);
+
+        return scene;
+    } //updateSavedPosts
+
+    /**
+     * Adds boxes of the specified saved media to the specified saved box, and replaces the contents of the all saved
+     * box of this Instagram post controller with copies of them. This must be called on the JavaFX application thread.
+     *
+     * @param feedItems the media to be used in the operation
+     * @param instagramBox the saved box to be used in the operation
+     */
+    private void addSavedPosts(List<TimelineMedia> feedItems, VBox instagramBox) {
+        List<Node> nodes;
+        List<Node> nodeCopies;
+        String id;
+        VBox vBox;
+        VBox vBoxCopy;
+        InstagramPost post;
 
         nodes = new ArrayList<>();
 
@@ -750,10 +368,12 @@ public final class InstagramPostController {
 
         for (TimelineMedia media : feedItems) {
             id = media.getId();
-            
-            vBox = this.createBox(media, false);
 
-            vBoxCopy = this.createBox(media, true);
+            post = (InstagramPost) this.postStore.retain(new InstagramPost(media));
+
+            vBox = this.createBox(post, false);
+
+            vBoxCopy = this.createBox(post, true);
 
             nodes.add(vBox);
 
@@ -763,31 +383,18 @@ public final class InstagramPostController {
 
             nodeCopies.add(new Separator());
 
-            if (!this.savedIds.contains(id)) {
-                this.savedIds.add(id);
+            if (this.savedIds.add(id)) {
                 this.ids.add(id);
-
-                post = new InstagramPost(media);
-
-                this.boxesToPosts.put(vBox, post);
-
-                this.boxesToPosts.put(vBoxCopy, post);
             } //end if
         } //end for
 
-        instagramBox = new VBox();
-        if(this.allSavedBox == null) {
-            this.allSavedBox = new VBox();
-        }
-
-        instagramBox.getChildren().addAll(0, nodes);
-
-        allSavedBox.getChildren().addAll(0, nodeCopies);
+        instagramBox.getChildren()
+                    .addAll(0, nodes);
 
-        Scene scene = new Scene(instagramBox, 500, 300);
+        this.allSavedBox.getChildren()
+                        .setAll(nodeCopies);
+    } //addSavedPosts
 
-        return scene;
-    }
     public Scene getLikedPosts() {
         InstagramModel instagramModel;
         List<TimelineMedia> feedItems;
@@ -799,39 +406,119 @@ public final class InstagramPostController {
     }
 
     /**
-     * Updates the posts of this Instagram post controller.
+     * Returns the feed session of this Instagram post controller for the specified Instagram model. The session is
+     * loaded from its file the first time it is needed, and a new session is created if the saved session belongs to
+     * another user.
+     *
+     * @param instagramModel the Instagram model to be used in the operation
+     * @return the feed session of this Instagram post controller for the specified Instagram model
+     */
+    private InstagramFeedSession getFeedSession(InstagramModel instagramModel) {
+        String username;
+        File file;
+        String fileName = "instagram-feed-session.ser";
+
+        username = instagramModel.getUsername();
+
+        if ((this.feedSession != null) && this.feedSession.getUsername()
+                                                          .equals(username)) {
+            return this.feedSession;
+        } //end if
+
+        this.feedSession = null;
+
+        file = new File(fileName);
+
+        if (file.exists()) {
+            try (ObjectInputStream inputStream = new ObjectInputStream(new FileInputStream(file))) {
+                this.feedSession = (InstagramFeedSession) inputStream.readObject();
+            } catch (IOException | ClassNotFoundException e) {
+                e.printStackTrace();
+            } //end try catch
+        } //end if
+
+        if ((this.feedSession == null) || !this.feedSession.getUsername()
+                                                           .equals(username)) {
+            this.feedSession = InstagramFeedSession.createInstagramFeedSession(username);
+        } //end if
+
+        return this.feedSession;
+    } //getFeedSession
+
+    /**
+     * Saves the feed session of this Instagram post controller to its file.
      */
-    public void updatePosts() {
+    private void saveFeedSession() {
+        String fileName = "instagram-feed-session.ser";
+
+        if (this.feedSession == null) {
+            return;
+        } //end if
+
+        try (ObjectOutputStream outputStream = new ObjectOutputStream(new FileOutputStream(fileName))) {
+            outputStream.writeObject(this.feedSession);
+        } catch (IOException e) {
+            e.printStackTrace();
+        } //end try catch
+    } //saveFeedSession
+
+    /**
+     * Creates the posts for the specified media that has not yet been seen by this Instagram post controller, and
+     * adds them to the specified list of posts.
+     *
+     * @param mediaCollection the media to be used in the operation
+     * @param posts the list of posts to be used in the operation
+     * @return the number of posts that were created
+     */
+    private int addPosts(Collection<TimelineMedia> mediaCollection, List<Post> posts) {
+        String id;
+        int count = 0;
+
+        for (TimelineMedia media : mediaCollection) {
+            id = media.getId();
+
+            if (this.ids.add(id)) {
+                count++;
+
+                posts.add((InstagramPost) this.postStore.intern(new InstagramPost(media)));
+            } //end if
+        } //end for
+
+        return count;
+    } //addPosts
+
+    /**
+     * Updates the posts of this Instagram post controller. The head page is fetched and published as one composed
+     * future, and the feed scheduler's worker waits for it, because the scheduler adapts its period to the number of
+     * new posts. If the worker is interrupted while it waits, the future is cancelled, so that its posts are not
+     * published, and the wait is abandoned.
+     *
+     * @return the number of new posts
+     * @throws CancellationException if the current thread is interrupted while it waits for the head page
+     * @throws CompletionException if the head page could not be fetched
+     */
+    public int updatePosts() {
         InstagramModel instagramModel;
         IGClient client;
-        Iterable<FeedTimelineResponse> iterable;
+        InstagramFeedSession session;
+        long currentGeneration;
         Comparator<TimelineMedia> comparator;
         Set<TimelineMedia> mediaSet;
-        List<TimelineMedia> feedItems;
-        List<Node> nodes;
-        List<Node> nodeCopies;
-        String id;
-        VBox vBox;
-        VBox vBoxCopy;
-        InstagramPost post;
-        int count = 0;
-        int maxCount = 50;
+        List<Post> posts;
         PostView postView;
-        VBox instagramBox;
-        VBox allBox;
+        ListView<Post> instagramList;
+        Timeline allTimeline;
+        FeedDispatcher dispatcher;
+        CompletableFuture<Integer> future;
 
         instagramModel = this.model.getInstagramModel();
 
         if (instagramModel == null) {
-            return;
+            return 0;
         } //end if
 
         client = instagramModel.getClient();
 
-        iterable = client.actions()
-                         .timeline()
-                         .feed();
-
         if(sortByTime) {
             comparator = Comparator.<TimelineMedia>comparingLong(media -> media.getCaption()
             .getCreated_at_utc())
@@ -847,167 +534,306 @@ public final class InstagramPostController {
 
         postView = this.view.getPostView();
 
-        instagramBox = postView.getInstagramBox();
+        instagramList = postView.getInstagramList();
 
-        allBox = postView.getAllBox();
+        allTimeline = postView.getAllTimeline();
 
-        if(updateAll) {
-            instagramBox.getChildren().clear();
-            this.ids.clear();
-            boxesToPosts.clear();
-            updateAll = false;
-        }
+        dispatcher = postView.getFeedDispatcher();
 
-        breakLoop:
-        for (FeedTimelineResponse response : iterable) {
-            feedItems = response.getFeed_items();
+        posts = new ArrayList<>();
 
-            for (TimelineMedia media : feedItems) {
-                if (this.isAd(media)) {
-                    continue;
-                } //end if
+        this.feedLock.lock();
 
-                mediaSet.add(media);
+        try {
+            session = this.getFeedSession(instagramModel);
 
-                count++;
+            if(updateAll) {
+                dispatcher.execute(() -> {
+                    instagramList.getItems()
+                                 .clear();
 
-                if (count == maxCount) {
-                    break breakLoop;
-                } //end if
-            } //end for
-        } //end for
+                    allTimeline.removeIf((post) -> post instanceof InstagramPost);
 
-        nodes = new ArrayList<>();
+                    this.postStore.removeFeed(Network.INSTAGRAM);
 
-        nodeCopies = new ArrayList<>();
+                    this.window.clear();
+                });
+                this.ids.clear();
+                session.reset();
+                updateAll = false;
+            }
 
-        for (TimelineMedia media : mediaSet) {
-            id = media.getId();
+            currentGeneration = this.generation;
+        } finally {
+            this.feedLock.unlock();
+        } //end try finally
 
-            if (!this.ids.contains(id)) {
-                this.ids.add(id);
+        future = session.getNewMedia(client, (media) -> !this.isAd(media))
+                        .thenApply((mediaList) -> {
+                            int newPosts;
 
-                vBox = this.createBox(media, false);
+                            mediaSet.addAll(mediaList);
 
-                vBoxCopy = this.createBox(media, true);
+                            this.feedLock.lock();
 
-                nodes.add(vBox);
+                            try {
+                                if (currentGeneration != this.generation) {
+                                    return 0;
+                                } //end if
 
-                nodes.add(new Separator());
+                                this.saveFeedSession();
 
-                nodeCopies.add(vBoxCopy);
+                                newPosts = this.addPosts(mediaSet, posts);
 
-                nodeCopies.add(new Separator());
+                                if (newPosts > 0) {
+                                    dispatcher.prepend(instagramList, posts);
 
-                post = new InstagramPost(media);
+                                    dispatcher.merge(posts);
 
-                this.boxesToPosts.put(vBox, post);
+                                    dispatcher.execute(() -> this.window.trim(instagramList.getItems(), allTimeline)
+                                                                        .forEach(this.postStore::remove));
+                                } //end if
+                            } finally {
+                                this.feedLock.unlock();
+                            } //end try finally
 
-                this.boxesToPosts.put(vBoxCopy, post);
-            } //end if
-        } //end for
+                            return newPosts;
+                        });
 
-        Platform.runLater(() -> instagramBox.getChildren()
-                                            .addAll(0, nodes));
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
 
-        Platform.runLater(() -> {
-            this.allBoxLock.lock();
+            Thread.currentThread()
+                  .interrupt();
 
-            try {
-                allBox.getChildren()
-                      .addAll(0, nodeCopies);
-            } finally {
-                this.allBoxLock.unlock();
-            } //end try finally
-        });
+            throw new CancellationException("the update of the Instagram feed was interrupted");
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        } //end try catch
     } //updatePosts
 
     /**
-     * Resets this Instagram post controller.
+     * Asynchronously restores the posts that were evicted from the feed window of this Instagram post controller, most
+     * recently evicted first, by looking up their media with the specified Instagram model. Pages of IDs are restored
+     * until the specified list of posts is not empty, or nothing is left spilled. Media that no longer exists is
+     * skipped, and the IDs of media that could not be looked up are put back, to be restored later.
+     *
+     * @param instagramModel the Instagram model to be used in the operation
+     * @param posts the list of posts to be used in the operation
+     * @return a future that completes once the posts have been restored
      */
-    public void reset() {
-        PostView postView;
-        VBox instagramBox;
-        Set<Map.Entry<VBox, Post>> entrySet;
-        Iterator<Map.Entry<VBox, Post>> iterator;
-        VBox allBox;
-        Map.Entry<VBox, Post> entry;
-        VBox key;
-        Post value;
-        List<Node> children;
-        int separatorIndex;
-        int size;
+    private CompletableFuture<Void> restorePosts(InstagramModel instagramModel, List<Post> posts) {
+        List<String> ids;
+        Set<String> failedIds;
+        List<CompletableFuture<TimelineMedia>> futures;
+        CompletableFuture<?>[] futureArray;
+
+        if (!posts.isEmpty() || !this.window.hasSpilled()) {
+            return CompletableFuture.completedFuture(null);
+        } //end if
 
-        this.executorService.shutdownNow();
+        ids = this.window.restore();
 
-        this.executorService = Executors.newSingleThreadScheduledExecutor();
+        if (ids.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        } //end if
 
-        this.ids.clear();
+        failedIds = ConcurrentHashMap.newKeySet();
 
-        postView = this.view.getPostView();
+        futures = new ArrayList<>();
 
-        instagramBox = postView.getInstagramBox();
+        for (String id : ids) {
+            futures.add(instagramModel.getMedia(id)
+                                      .exceptionally((throwable) -> {
+                                          throwable.printStackTrace();
 
-        entrySet = this.boxesToPosts.entrySet();
+                                          failedIds.add(id);
 
-        iterator = entrySet.iterator();
+                                          return null;
+                                      }));
+        } //end for
 
-        allBox = postView.getAllBox();
+        futureArray = futures.toArray(new CompletableFuture<?>[0]);
 
-        instagramBox.getChildren()
-                    .clear();
+        return CompletableFuture.allOf(futureArray)
+                                .thenCompose((ignored) -> {
+                                    TimelineMedia media;
+                                    List<String> putBackIds;
 
-        while (iterator.hasNext()) {
-            entry = iterator.next();
+                                    for (CompletableFuture<TimelineMedia> future : futures) {
+                                        media = future.getNow(null);
 
-            key = entry.getKey();
+                                        if (media != null) {
+                                            posts.add((InstagramPost) this.postStore.intern(new InstagramPost(media)));
+                                        } //end if
+                                    } //end for
 
-            value = entry.getValue();
+                                    if (!failedIds.isEmpty()) {
+                                        putBackIds = new ArrayList<>(ids);
 
-            if (value instanceof InstagramPost) {
-                iterator.remove();
+                                        putBackIds.retainAll(failedIds);
 
-                this.allBoxLock.lock();
+                                        this.window.putBack(putBackIds);
 
-                try {
-                    children = allBox.getChildren();
+                                        return CompletableFuture.completedFuture(null);
+                                    } //end if
 
-                    separatorIndex = children.indexOf(key) + 1;
+                                    return this.restorePosts(instagramModel, posts);
+                                });
+    } //restorePosts
 
-                    size = children.size();
+    /**
+     * Loads the next page of older posts of this Instagram post controller, and appends them to the end of the feed.
+     * The page is restored from the feed window, or fetched, and published as one composed future, so no thread waits
+     * for it. If a page is already being loaded, this method does nothing.
+     */
+    public void loadOlderPosts() {
+        InstagramModel instagramModel;
+        IGClient client;
+        long currentGeneration;
+        InstagramFeedSession session;
+        List<Post> posts;
+        PostView postView;
+        ListView<Post> instagramList;
+        FeedDispatcher dispatcher;
+
+        instagramModel = this.model.getInstagramModel();
 
-                    if (separatorIndex < size) {
-                        children.remove(separatorIndex);
+        if (instagramModel == null) {
+            return;
+        } //end if
+
+        if (!this.pageLoading.compareAndSet(false, true)) {
+            return;
+        } //end if
+
+        client = instagramModel.getClient();
+
+        posts = new ArrayList<>();
+
+        postView = this.view.getPostView();
+
+        instagramList = postView.getInstagramList();
+
+        dispatcher = postView.getFeedDispatcher();
+
+        this.feedLock.lock();
+
+        try {
+            currentGeneration = this.generation;
+
+            session = this.getFeedSession(instagramModel);
+        } finally {
+            this.feedLock.unlock();
+        } //end try finally
+
+        this.restorePosts(instagramModel, posts)
+            .thenCompose((ignored) -> {
+                if (!posts.isEmpty()) {
+                    return CompletableFuture.completedFuture(List.<TimelineMedia>of());
+                } //end if
+
+                return session.getOlderMedia(client, (media) -> !this.isAd(media));
+            })
+            .thenAccept((mediaList) -> {
+                this.feedLock.lock();
+
+                try {
+                    if (currentGeneration != this.generation) {
+                        return;
                     } //end if
 
-                    children.remove(key);
+                    this.saveFeedSession();
+
+                    this.addPosts(mediaList, posts);
+
+                    if (!posts.isEmpty()) {
+                        dispatcher.append(instagramList, posts);
+
+                        dispatcher.merge(posts);
+                    } //end if
                 } finally {
-                    this.allBoxLock.unlock();
+                    this.feedLock.unlock();
                 } //end try finally
-            } //end if
-        } //end while
+            })
+            .whenComplete((ignored, throwable) -> {
+                if (throwable != null) {
+                    throwable.printStackTrace();
+                } //end if
+
+                this.pageLoading.set(false);
+            });
+    } //loadOlderPosts
+
+    /**
+     * Resets this Instagram post controller. The results of an update that is already running are discarded once it
+     * completes.
+     */
+    public void reset() {
+        PostView postView;
+        ListView<Post> instagramList;
+        Timeline allTimeline;
+        FeedDispatcher dispatcher;
+        Path path;
+        String fileName = "instagram-feed-session.ser";
+
+        postView = this.view.getPostView();
+
+        instagramList = postView.getInstagramList();
+
+        allTimeline = postView.getAllTimeline();
+
+        dispatcher = postView.getFeedDispatcher();
+
+        path = Path.of(fileName);
+
+        this.feedLock.lock();
+
+        try {
+            this.generation++;
+
+            this.ids.clear();
+
+            this.feedSession = null;
+
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                e.printStackTrace();
+            } //end try catch
+
+            dispatcher.execute(() -> {
+                instagramList.getItems()
+                             .clear();
+
+                allTimeline.removeIf((post) -> post instanceof InstagramPost);
+
+                this.postStore.removeNetwork(Network.INSTAGRAM);
+
+                this.window.clear();
+            });
+        } finally {
+            this.feedLock.unlock();
+        } //end try finally
     } //reset
 
     /**
-     * Creates, and returns, a {@code InstagramPostController} object using the specified model, view, map from boxes
-     * to posts, and all box lock.
+     * Creates, and returns, a {@code InstagramPostController} object using the specified model, view, and post
+     * store.
      *
      * @param model the model to be used in the operation
      * @param view the view to be used in the operation
-     * @param boxesToPosts the map from boxes to posts to be used in the operation
-     * @param allBoxLock the all box lock to be used in the operation
-     * @return a {@code InstagramPostController} object using the specified model, view, map from boxes to posts, and
-     * all box lock
-     * @throws NullPointerException if the specified model, view, map from boxes to posts, or all box lock is
-     * {@code null}
+     * @param postStore the post store to be used in the operation
+     * @return a {@code InstagramPostController} object using the specified model, view, and post store
+     * @throws NullPointerException if the specified model, view, or post store is {@code null}
      */
-    public static InstagramPostController createInstagramPostController(Model model, View view,
-                                                                        Map<VBox, Post> boxesToPosts,
-                                                                        Lock allBoxLock) {
-        return new InstagramPostController(model, view, boxesToPosts, allBoxLock);
+    public static InstagramPostController createInstagramPostController(Model model, View view, PostStore postStore) {
+        return new InstagramPostController(model, view, postStore);
     } //createInstagramPostController
 
-    public Map<VBox, Post> getBoxesToPosts() {
-        return this.boxesToPosts;
+    public PostStore getPostStore() {
+        return this.postStore;
     }
 }
\ No newline at end of file
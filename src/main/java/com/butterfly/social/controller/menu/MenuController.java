@@ -1,32 +1,33 @@
 package com.butterfly.social.controller.menu;
 
 import com.butterfly.social.SocialButterflyApplication;
+import com.butterfly.social.controller.FeedScheduler;
 import com.butterfly.social.controller.instagram.InstagramPostController;
 import com.butterfly.social.controller.reddit.RedditPostController;
 import com.butterfly.social.controller.twitter.TwitterPostController;
+import com.butterfly.social.controller.twitter.TwitterStreamController;
+import com.butterfly.social.model.ImageCache;
 import com.butterfly.social.model.Model;
 import com.butterfly.social.model.MultiPost;
+import com.butterfly.social.model.MultiPostResult;
+import com.butterfly.social.model.Network;
+import com.butterfly.social.model.Outbox;
+import com.butterfly.social.model.OutboxAction;
 import com.butterfly.social.model.instagram.InstagramModel;
-import com.butterfly.social.model.instagram.InstagramUserRequests;
 import com.butterfly.social.model.reddit.RedditModel;
-import com.butterfly.social.model.reddit.RedditUserRequests;
 import com.butterfly.social.model.twitter.TwitterModel;
 import com.butterfly.social.model.twitter.TwitterUserProfile;
 import com.butterfly.social.view.MenuView;
 import com.butterfly.social.view.PostView;
 import com.butterfly.social.view.View;
-import com.github.instagram4j.instagram4j.responses.users.UsersSearchResponse;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.geometry.Insets;
-import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.VBox;
-import javafx.scene.text.Font;
-import javafx.scene.text.FontWeight;
 import javafx.scene.text.Text;
 import javafx.stage.Stage;
 import javafx.stage.FileChooser;
@@ -42,9 +43,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.function.BiConsumer;
 
 import twitter4j.DirectMessage;
-import twitter4j.StatusUpdate;
 import twitter4j.TwitterException;
 import twitter4j.User;
 
@@ -68,6 +69,16 @@ public final class MenuController {
      */
     private final View view;
 
+    /**
+     * The feed scheduler of this menu controller.
+     */
+    private final FeedScheduler feedScheduler;
+
+    /**
+     * The outbox of this menu controller.
+     */
+    private final Outbox outbox;
+
     /**
      * The Reddit post controller of this menu controller.
      */
@@ -78,44 +89,67 @@ public final class MenuController {
      */
     private final TwitterPostController twitterPostController;
 
+    /**
+     * The Twitter stream controller of this menu controller.
+     */
+    private final TwitterStreamController twitterStreamController;
+
     /**
      * The Instagram post controller of this menu controller.
      */
     private final InstagramPostController instagramPostController;
 
     /**
-     * Constructs a newly allocated {@code MenuController} object with the specified model, view, Reddit post
-     * controller, Twitter post controller, and Instagram post controller.
+     * Constructs a newly allocated {@code MenuController} object with the specified model, view, feed scheduler,
+     * outbox, Reddit post controller, Twitter post controller, Twitter stream controller, and Instagram post
+     * controller.
      *
      * @param model the model to be used in construction
      * @param view the view to be used in construction
+     * @param feedScheduler the feed scheduler to be used in construction
+     * @param outbox the outbox to be used in construction
      * @param redditPostController the Reddit post controller to be used in construction
      * @param twitterPostController the Twitter post controller to be used in construction
+     * @param twitterStreamController the Twitter stream controller to be used in construction
      * @param instagramPostController the Instagram post controller to be used in construction
-     * @throws NullPointerException if the specified model, view, Reddit post controller, Twitter post controller, or
-     * Instagram post controller is {@code null}
+     * @throws NullPointerException if the specified model, view, feed scheduler, outbox, Reddit post controller,
+     * Twitter post controller, Twitter stream controller, or Instagram post controller is {@code null}
      */
-    private MenuController(Model model, View view, RedditPostController redditPostController,
+    private MenuController(Model model, View view, FeedScheduler feedScheduler, Outbox outbox,
+                           RedditPostController redditPostController,
                            TwitterPostController twitterPostController,
+                           TwitterStreamController twitterStreamController,
                            InstagramPostController instagramPostController) {
         Objects.requireNonNull(model, "the specified model is null");
 
         Objects.requireNonNull(view, "the specified view is null");
 
+        Objects.requireNonNull(feedScheduler, "the specified feed scheduler is null");
+
+        Objects.requireNonNull(outbox, "the specified outbox is null");
+
         Objects.requireNonNull(redditPostController, "the specified Reddit post controller is null");
 
         Objects.requireNonNull(twitterPostController, "the specified Twitter post controller is null");
 
+        Objects.requireNonNull(twitterStreamController, "the specified Twitter stream controller is null");
+
         Objects.requireNonNull(instagramPostController, "the specified Instagram post controller is null");
 
         this.model = model;
 
         this.view = view;
 
+        this.feedScheduler = feedScheduler;
+
+        this.outbox = outbox;
+
         this.redditPostController = redditPostController;
 
         this.twitterPostController = twitterPostController;
 
+        this.twitterStreamController = twitterStreamController;
+
         this.instagramPostController = instagramPostController;
     } //MenuController
 
@@ -142,9 +176,6 @@ public final class MenuController {
         MenuItem multiPostMenuItem;
         MenuItem redditDirectMessageMenuItem;
         MenuItem redditPostMenuItem;
-        ScheduledExecutorService executorService;
-        int delay = 0;
-        int period = 1;
 
         redditModel = this.model.getRedditModel();
 
@@ -167,6 +198,8 @@ public final class MenuController {
 
         this.model.setRedditModel(redditModel);
 
+        this.outbox.resume(Network.REDDIT);
+
         menuView = this.view.getMenuView();
 
         redditMenu = menuView.getRedditMenu();
@@ -218,9 +251,7 @@ public final class MenuController {
         allMenu.getItems()
                .addAll(allSavedPostsRadioMenuItem, new SeparatorMenuItem(), multiPostMenuItem);
 
-        executorService = this.redditPostController.getExecutorService();
-
-        executorService.scheduleAtFixedRate(this.redditPostController::updatePosts, delay, period, TimeUnit.MINUTES);
+        this.feedScheduler.schedule(Network.REDDIT, this.redditPostController::updatePosts);
     } //logInToReddit
 
     /**
@@ -247,6 +278,8 @@ public final class MenuController {
 
         this.model.setRedditModel(null);
 
+        this.feedScheduler.cancel(Network.REDDIT);
+
         this.redditPostController.reset();
 
         menuView = this.view.getMenuView();
@@ -335,8 +368,8 @@ public final class MenuController {
             stringBuilder.append(",\n");
 
             if (trophy.getIcon70() != null) {
-                System.out.println("hey: " + trophy.getIcon70());
-                trophyURLs.add(new ImageView(new Image(trophy.getIcon70())));
+                trophyURLs.add(ImageCache.getCache()
+                                         .createImageView(trophy.getIcon70(), 0));
             }
         });
 
@@ -538,7 +571,7 @@ public final class MenuController {
         alert.show();
 
         redditPostController.updateAll = true;
-        redditPostController.updatePosts();
+        this.feedScheduler.runNow(Network.REDDIT);
     }
 
     /**
@@ -562,9 +595,6 @@ public final class MenuController {
         MenuItem allSavedPostsRadioMenuItem;
         MenuItem multiPostMenuItem;
         MenuItem twitterPostMenuItem;
-        ScheduledExecutorService executorService;
-        int delay = 0;
-        int period = 1;
 
         twitterModel = this.model.getTwitterModel();
 
@@ -587,6 +617,8 @@ public final class MenuController {
 
         this.model.setTwitterModel(twitterModel);
 
+        this.outbox.resume(Network.TWITTER);
+
         menuView = this.view.getMenuView();
 
         twitterMenu = menuView.getTwitterMenu();
@@ -637,9 +669,11 @@ public final class MenuController {
         allMenu.getItems()
                .addAll(allSavedPostsRadioMenuItem, new SeparatorMenuItem(), multiPostMenuItem);
 
-        executorService = this.twitterPostController.getExecutorService();
+        this.feedScheduler.schedule(Network.TWITTER, this.twitterPostController::updatePosts);
 
-        executorService.scheduleAtFixedRate(this.twitterPostController::updatePosts, delay, period, TimeUnit.MINUTES);
+        if (TwitterStreamController.isEnabled()) {
+            this.twitterStreamController.start();
+        } //end if
     } //logInToTwitter
 
     /**
@@ -668,6 +702,10 @@ public final class MenuController {
 
         this.model.setTwitterModel(null);
 
+        this.twitterStreamController.stop();
+
+        this.feedScheduler.cancel(Network.TWITTER);
+
         this.twitterPostController.reset();
 
         menuView = this.view.getMenuView();
@@ -865,7 +903,7 @@ public final class MenuController {
         alert.show();
 
         twitterPostController.updateAll = true;
-        twitterPostController.updatePosts();
+        this.feedScheduler.runNow(Network.TWITTER);
     }
 
     private void blockRedditUser() {
@@ -951,22 +989,32 @@ public final class MenuController {
             return;
         }
 
-        boolean followed = instagramModel.blockInstagramUser(searchUser);
+        instagramModel.blockInstagramUser(searchUser)
+                      .whenComplete((blocked, throwable) -> {
+                          if (throwable != null) {
+                              throwable.printStackTrace();
+                          } //end if
 
-        alert = new Alert(Alert.AlertType.INFORMATION);
+                          Platform.runLater(() -> {
+                              Alert resultAlert = new Alert(Alert.AlertType.INFORMATION);
 
-        alert.setTitle(title);
+                              resultAlert.setTitle(title);
 
-        if (followed == false) {
-            alert.setHeaderText("There was a problem blocking that user");
-        }
-        else {
-            alert.setHeaderText("Successfully blocked!");
-        }
-        alert.show();
+                              if (!Boolean.TRUE.equals(blocked)) {
+                                  resultAlert.setHeaderText("There was a problem blocking that user");
+                              } else {
+                                  resultAlert.setHeaderText("Successfully blocked!");
+                              } //end if
+
+                              resultAlert.show();
+                          });
 
-        instagramPostController.updateAll = true;
-        instagramPostController.updatePosts();
+                          if (Boolean.TRUE.equals(blocked)) {
+                              instagramPostController.updateAll = true;
+
+                              this.feedScheduler.runNow(Network.INSTAGRAM);
+                          } //end if
+                      });
     }
 
     /**
@@ -991,9 +1039,6 @@ public final class MenuController {
         MenuItem allSavedPostsRadioMenuItem;
         MenuItem multiPostMenuItem;
         MenuItem instagramPostMenuItem;
-        ScheduledExecutorService executorService;
-        int delay = 0;
-        int period = 1;
 
         instagramModel = this.model.getInstagramModel();
 
@@ -1016,6 +1061,8 @@ public final class MenuController {
 
         this.model.setInstagramModel(instagramModel);
 
+        this.outbox.resume(Network.INSTAGRAM);
+
         menuView = this.view.getMenuView();
 
         instagramMenu = menuView.getInstagramMenu();
@@ -1070,10 +1117,7 @@ public final class MenuController {
         allMenu.getItems()
                .addAll(allSavedPostsRadioMenuItem, new SeparatorMenuItem(), multiPostMenuItem);
 
-        executorService = this.instagramPostController.getExecutorService();
-
-        executorService.scheduleAtFixedRate(this.instagramPostController::updatePosts, delay, period,
-                                            TimeUnit.MINUTES);
+        this.feedScheduler.schedule(Network.INSTAGRAM, this.instagramPostController::updatePosts);
     } //logInToInstagram
 
     /**
@@ -1100,6 +1144,8 @@ public final class MenuController {
 
         this.model.setInstagramModel(null);
 
+        this.feedScheduler.cancel(Network.INSTAGRAM);
+
         this.instagramPostController.reset();
 
         menuView = this.view.getMenuView();
@@ -1221,7 +1267,6 @@ public final class MenuController {
         String headerText = "Enter a username to search for ";
         String resultHeaderText = "Usernames found similar to ";
         String searchUser;
-        String searchResults = "";
         TextInputDialog userInputDialog;
 
         instagramModel = this.model.getInstagramModel();
@@ -1250,34 +1295,40 @@ public final class MenuController {
             return;
         }
 
-        UsersSearchResponse searchResponse = null;
-        try {
-            searchResponse = instagramModel.searchForUsers(searchUser).get();
-        } catch (InterruptedException e) {
-            resultHeaderText = "No results found";
-            e.printStackTrace();
-        } catch (ExecutionException e) {
-            resultHeaderText = "No results found";
-            e.printStackTrace();
-        }
+        instagramModel.searchForUsers(searchUser)
+                      .whenComplete((searchResponse, throwable) -> {
+                          StringBuilder searchResults;
+                          String resultHeader;
 
-        if (searchResponse != null) {
-            for (int i = 0; (i < 10) && (i < searchResponse.getNum_results()); i++) {
-                searchResults += searchResponse.getUsers().get(i).getUsername() + "\n";
-            }
-        }
+                          searchResults = new StringBuilder();
 
-        alert = new Alert(Alert.AlertType.INFORMATION);
+                          if (throwable != null) {
+                              throwable.printStackTrace();
 
-        alert.setTitle(title);
+                              resultHeader = "No results found: " + searchUser;
+                          } else {
+                              for (int i = 0; (i < 10) && (i < searchResponse.getNum_results()); i++) {
+                                  searchResults.append(searchResponse.getUsers()
+                                                                     .get(i)
+                                                                     .getUsername())
+                                               .append("\n");
+                              } //end for
 
-        resultHeaderText += searchUser;
+                              resultHeader = resultHeaderText + searchUser;
+                          } //end if
 
-        alert.setHeaderText(resultHeaderText);
+                          Platform.runLater(() -> {
+                              Alert resultAlert = new Alert(Alert.AlertType.INFORMATION);
 
-        alert.setContentText(searchResults);
+                              resultAlert.setTitle(title);
 
-        alert.show();
+                              resultAlert.setHeaderText(resultHeader);
+
+                              resultAlert.setContentText(searchResults.toString());
+
+                              resultAlert.show();
+                          });
+                      });
     } //searchUsersOnInstagram
 
     public Scene getAllSavedPostsScene() {
@@ -1286,15 +1337,20 @@ public final class MenuController {
         this.twitterPostController.getSavedPosts();
         VBox temp = new VBox();
         if(this.instagramPostController.getAllSavedBox() != null) {
-            temp.getChildren().addAll(this.instagramPostController.getAllSavedBox().getChildren());
+            //The saved media is fetched asynchronously, so the box itself is added, and fills in once it arrives.
+            temp.getChildren().add(this.instagramPostController.getAllSavedBox());
         }
         if(this.redditPostController.getAllSavedBox() != null) {
             temp.getChildren().addAll(this.redditPostController.getAllSavedBox().getChildren());
         }
         if(this.twitterPostController.getAllSavedBox() != null) {
-            temp.getChildren().addAll(this.twitterPostController.getAllSavedBox().getChildren());
+            //The saved tweets are looked up asynchronously, so the box itself is added, and fills in once they arrive.
+            temp.getChildren().add(this.twitterPostController.getAllSavedBox());
         }
 
+        this.view.getPostView()
+                 .applyStyle(temp);
+
         return new Scene(temp, 500, 300);
     }
 
@@ -1378,12 +1434,8 @@ public final class MenuController {
         } else {
             return;
         }
-        TwitterModel twitterModel = this.model.getTwitterModel();
-        try {
-            twitterModel.getRequests().sendDirectMessage(username, message);
-        } catch (TwitterException e) {
-
-        }
+        this.outbox.enqueue(OutboxAction.createOutboxAction(Network.TWITTER, OutboxAction.Kind.DIRECT_MESSAGE, username,
+                                                            null, message, null));
     }
 
     public void sendRedditDirectMessage() {
@@ -1421,10 +1473,8 @@ public final class MenuController {
         } else {
             return;
         }
-        RedditModel redditModel = this.model.getRedditModel();
-        RedditUserRequests userRequests = new RedditUserRequests();
-        userRequests.setRedditClient(redditModel.getClient());
-        userRequests.sendPrivateMessage(username, subject, message);
+        this.outbox.enqueue(OutboxAction.createOutboxAction(Network.REDDIT, OutboxAction.Kind.DIRECT_MESSAGE, username,
+                                                            subject, message, null));
     }
 
     public void makeInstagramPost() {
@@ -1481,9 +1531,9 @@ public final class MenuController {
                 return;
             }
             if (this.model.getInstagramModel() != null) {
-                InstagramUserRequests instagramUserRequests = new InstagramUserRequests();
-                instagramUserRequests.setIgClient(this.model.getInstagramModel().getClient());
-                instagramUserRequests.post(file, textArea.getText());
+                this.outbox.enqueue(OutboxAction.createOutboxAction(Network.INSTAGRAM, OutboxAction.Kind.POST, null,
+                                                                    null, textArea.getText(),
+                                                                    file.getAbsolutePath()));
                 stage.close();
             }
         });
@@ -1548,9 +1598,8 @@ public final class MenuController {
 
         postButton.setOnAction(actionEvent -> {
             if (this.model.getRedditModel() != null) {
-                RedditUserRequests redditUserRequests = new RedditUserRequests();
-                redditUserRequests.setRedditClient(this.model.getRedditModel().getClient());
-                redditUserRequests.post(subreddit, title, textArea.getText());
+                this.outbox.enqueue(OutboxAction.createOutboxAction(Network.REDDIT, OutboxAction.Kind.POST, subreddit,
+                                                                    title, textArea.getText(), null));
                 stage.close();
             }
         });
@@ -1600,17 +1649,10 @@ public final class MenuController {
                 alert.showAndWait();
                 return;
             }
-            try {
-                if (this.model.getTwitterModel() != null) {
-                    this.model.getTwitterModel().getRequests().postTweet(new StatusUpdate(textArea.getText()));
-                    stage.close();
-                }
-            } catch (TwitterException e) {
+            if (this.model.getTwitterModel() != null) {
+                this.outbox.enqueue(OutboxAction.createOutboxAction(Network.TWITTER, OutboxAction.Kind.POST, null,
+                                                                    null, textArea.getText(), null));
                 stage.close();
-                alert.setTitle("Error");
-                alert.setHeaderText("Multi-Post Error");
-                alert.setContentText("There was an error with your Twitter Post. Please try again.");
-                alert.showAndWait();
             }
         });
 
@@ -1777,22 +1819,15 @@ public final class MenuController {
                 return;
             }
             MultiPost multiPost= new MultiPost(this.model);
-            try {
-                multiPost.createPost(finalPostTwitter,
-                        finalPostInstagram,
-                        finalPostReddit,
-                        textArea.getText(),
-                        finalTitle,
-                        finalFile,
-                        finalSubreddit);
-                stage.close();
-            } catch (TwitterException e) {
-                stage.close();
-                alert.setTitle("Error");
-                alert.setHeaderText("Multi-Post Error");
-                alert.setContentText("There was an error with your Multi-Post. Please try again.");
-                alert.showAndWait();
-            }
+            MultiPostResult result = multiPost.createPost(finalPostTwitter,
+                    finalPostInstagram,
+                    finalPostReddit,
+                    textArea.getText(),
+                    finalTitle,
+                    finalFile,
+                    finalSubreddit);
+            stage.close();
+            this.showMultiPostProgress(result);
         });
 
         cancelButton.setOnAction(actionEvent -> {
@@ -1811,12 +1846,81 @@ public final class MenuController {
         stage.show();
     }
 
+    /**
+     * Displays the progress of the specified multi-post result, with one line per network that is updated as the post
+     * to that network succeeds or fails.
+     *
+     * @param result the multi-post result to be used in the operation
+     */
+    private void showMultiPostProgress(MultiPostResult result) {
+        Alert alert;
+        VBox progressBox;
+        String displayName;
+        Label label;
+        CompletableFuture<String> future;
+
+        progressBox = new VBox();
+
+        for (Network network : result.getNetworks()) {
+            displayName = network.getDisplayName();
+
+            label = new Label(displayName + ": Posting...");
+
+            progressBox.getChildren()
+                       .add(label);
+
+            future = result.getFuture(network);
+
+            future.whenComplete(this.createProgressHandler(label, displayName));
+        } //end for
+
+        alert = new Alert(Alert.AlertType.INFORMATION);
+
+        alert.setTitle("Multi-Post");
+
+        alert.setHeaderText("Your Multi-Post is being sent.");
+
+        alert.getDialogPane()
+             .setContent(progressBox);
+
+        result.whenAllComplete()
+              .thenRun(() -> Platform.runLater(() -> alert.setHeaderText("Your Multi-Post has finished.")));
+
+        alert.show();
+    } //showMultiPostProgress
+
+    /**
+     * Returns a handler that updates the specified progress label of the network with the specified display name
+     * once the post to that network completes.
+     *
+     * @param label the label to be used in the operation
+     * @param displayName the display name to be used in the operation
+     * @return a handler that updates the specified progress label once the post to its network completes
+     */
+    private BiConsumer<String, Throwable> createProgressHandler(Label label, String displayName) {
+        return (permalink, throwable) -> {
+            String text;
+            Throwable cause;
+
+            if (throwable == null) {
+                text = String.format("%s: Posted %s", displayName, permalink);
+            } else {
+                cause = (throwable instanceof CompletionException) ? throwable.getCause() : throwable;
+
+                cause.printStackTrace();
+
+                text = String.format("%s: Failed (%s)", displayName, cause.getMessage());
+            } //end if
+
+            Platform.runLater(() -> label.setText(text));
+        };
+    } //createProgressHandler
+
     private void followInstagramUser() {
         InstagramModel instagramModel;
         Alert alert;
         String title = "Social Butterfly";
         String headerText = "Enter the username of the account you wish to follow ";
-        String searchResults = "";
         String searchUser;
         TextInputDialog userInputDialog;
 
@@ -1845,36 +1949,49 @@ public final class MenuController {
         if (searchUser.isBlank() || searchUser.isEmpty()) {
             return;
         }
-        UsersSearchResponse searchResponse = null;
-        try {
-            searchResponse = instagramModel.searchForUsers(searchUser).get();
-        } catch (InterruptedException | ExecutionException e) {
-            e.printStackTrace();
-        }
-
-        if (searchResponse != null) {
-            for (int i = 0; (i < 10) && (i < searchResponse.getNum_results()); i++) {
-                searchResults += searchResponse.getUsers().get(i).getUsername() + "\n";
-            }
-        }
-        if(!searchResponse.toString().contains(searchUser)) {
-            String message = "There was a problem following that user";
-            alert = new Alert(Alert.AlertType.ERROR, message);
-            alert.show();
-            return;
-        }
-
-        instagramModel.searchForUsers(searchUser);
-
-        instagramModel.followInstagramProfile(searchUser);
-
-        alert = new Alert(Alert.AlertType.INFORMATION);
-
-        alert.setTitle(title);
-
-        alert.setHeaderText("Successfully followed!");
-
-        alert.show();
+        instagramModel.searchForUsers(searchUser)
+                      .thenCompose((searchResponse) -> {
+                          boolean found = false;
+
+                          for (int i = 0; (i < 10) && (i < searchResponse.getNum_results()); i++) {
+                              if (searchResponse.getUsers()
+                                                .get(i)
+                                                .getUsername()
+                                                .equalsIgnoreCase(searchUser)) {
+                                  found = true;
+
+                                  break;
+                              } //end if
+                          } //end for
+
+                          if (!found) {
+                              return CompletableFuture.completedFuture(false);
+                          } //end if
+
+                          return instagramModel.followInstagramProfile(searchUser);
+                      })
+                      .whenComplete((followed, throwable) -> {
+                          if (throwable != null) {
+                              throwable.printStackTrace();
+                          } //end if
+
+                          Platform.runLater(() -> {
+                              Alert resultAlert;
+
+                              if (Boolean.TRUE.equals(followed)) {
+                                  resultAlert = new Alert(Alert.AlertType.INFORMATION);
+
+                                  resultAlert.setTitle(title);
+
+                                  resultAlert.setHeaderText("Successfully followed!");
+                              } else {
+                                  resultAlert = new Alert(Alert.AlertType.ERROR,
+                                                          "There was a problem following that user");
+                              } //end if
+
+                              resultAlert.show();
+                          });
+                      });
     }
 
     /**
@@ -1931,14 +2048,6 @@ public final class MenuController {
         TabPane tabPane;
         boolean contains;
         SplitPane splitPane;
-        VBox redditBox;
-        VBox twitterBox;
-        VBox instagramBox;
-        VBox allBox;
-        ScrollPane redditScrollPane;
-        ScrollPane twitterScrollPane;
-        ScrollPane instagramScrollPane;
-        ScrollPane allScrollPane;
         Tab redditTab;
         String redditText = "Reddit";
         Tab twitterTab;
@@ -1972,45 +2081,29 @@ public final class MenuController {
         splitPane.getItems()
                  .clear();
 
-        redditBox = postView.getRedditBox();
-
-        twitterBox = postView.getTwitterBox();
-
-        instagramBox = postView.getInstagramBox();
-
-        allBox = postView.getAllBox();
-
-        redditScrollPane = new ScrollPane(redditBox);
-
-        twitterScrollPane = new ScrollPane(twitterBox);
-
-        instagramScrollPane = new ScrollPane(instagramBox);
-
-        allScrollPane = new ScrollPane(allBox);
-
         redditTab = new Tab(redditText);
 
         redditTab.setClosable(false);
 
-        redditTab.setContent(redditScrollPane);
+        redditTab.setContent(postView.getRedditList());
 
         twitterTab = new Tab(twitterText);
 
         twitterTab.setClosable(false);
 
-        twitterTab.setContent(twitterScrollPane);
+        twitterTab.setContent(postView.getTwitterList());
 
         instagramTab = new Tab(instagramText);
 
         instagramTab.setClosable(false);
 
-        instagramTab.setContent(instagramScrollPane);
+        instagramTab.setContent(postView.getInstagramList());
 
         allTab = new Tab(allText);
 
         allTab.setClosable(false);
 
-        allTab.setContent(allScrollPane);
+        allTab.setContent(postView.getAllList());
 
         scene = this.view.getScene();
 
@@ -2040,12 +2133,6 @@ public final class MenuController {
         SplitPane splitPane;
         boolean contains;
         TabPane tabPane;
-        VBox redditBox;
-        VBox twitterBox;
-        VBox instagramBox;
-        ScrollPane redditScrollPane;
-        ScrollPane twitterScrollPane;
-        ScrollPane instagramScrollPane;
         double position0;
         double position1;
         Scene scene;
@@ -2073,20 +2160,8 @@ public final class MenuController {
         tabPane.getTabs()
                .clear();
 
-        redditBox = postView.getRedditBox();
-
-        twitterBox = postView.getTwitterBox();
-
-        instagramBox = postView.getInstagramBox();
-
-        redditScrollPane = new ScrollPane(redditBox);
-
-        twitterScrollPane = new ScrollPane(twitterBox);
-
-        instagramScrollPane = new ScrollPane(instagramBox);
-
         splitPane.getItems()
-                 .addAll(redditScrollPane, twitterScrollPane, instagramScrollPane);
+                 .addAll(postView.getRedditList(), postView.getTwitterList(), postView.getInstagramList());
 
         position0 = 1.0 / 3.0;
 
@@ -2111,110 +2186,67 @@ public final class MenuController {
     } //switchToSplitPane
 
     /**
-     * Updates the font size of the posts to the specified size.
+     * Shows an alert for the specified outbox action, if it could not be sent.
      *
-     * @param size the size to be used in the operation
+     * @param action the outbox action to be used in the operation
+     * @param throwable the throwable of the last attempt, or {@code null} if the action was sent
      */
-    private void updateFontSize(int size) {
-        PostView postView;
-        VBox redditBox;
-        VBox twitterBox;
-        VBox instagramBox;
-        VBox allBox;
-        String family = "Tahoma";
+    private void showOutboxFailure(OutboxAction action, Throwable throwable) {
+        String displayName;
+        String kind;
+        String message;
 
-        postView = this.view.getPostView();
+        if (throwable == null) {
+            return;
+        } //end if
 
-        redditBox = postView.getRedditBox();
+        throwable.printStackTrace();
 
-        twitterBox = postView.getTwitterBox();
+        displayName = action.getNetwork()
+                            .getDisplayName();
 
-        instagramBox = postView.getInstagramBox();
+        kind = action.getKind()
+                     .toString()
+                     .toLowerCase()
+                     .replace('_', ' ');
 
-        allBox = postView.getAllBox();
+        message = String.format("Your %s could not be sent to %s.", kind, displayName);
 
-        for (Node node0 : redditBox.getChildren()) {
-            if (node0 instanceof VBox) {
-                for (Node node1 : ((VBox) node0).getChildren()) {
-                    if (node1 instanceof Label) {
-                        ((Label) node1).setFont(Font.font(family, FontWeight.BOLD, size));
-                    } else if (node1 instanceof Text) {
-                        ((Text) node1).setFont(Font.font(family, size));
-                    } else if (node1 instanceof Accordion) {
-                        for (TitledPane titledPane : ((Accordion) node1).getPanes()) {
-                            titledPane.setFont(Font.font(family, size));
-                        } //end for
-                    } //end if
-                } //end for
-            } //end if
-        } //end for
+        Platform.runLater(() -> {
+            Alert alert = new Alert(Alert.AlertType.ERROR);
 
-        for (Node node0 : twitterBox.getChildren()) {
-            if (node0 instanceof VBox) {
-                for (Node node1 : ((VBox) node0).getChildren()) {
-                    if (node1 instanceof Label) {
-                        ((Label) node1).setFont(Font.font(family, FontWeight.BOLD, size));
-                    } else if (node1 instanceof Text) {
-                        ((Text) node1).setFont(Font.font(family, size));
-                    } else if (node1 instanceof Accordion) {
-                        for (TitledPane titledPane : ((Accordion) node1).getPanes()) {
-                            titledPane.setFont(Font.font(family, size));
-                        } //end for
-                    } //end if
-                } //end for
-            } //end if
-        } //end for
+            alert.setTitle("Error");
 
-        for (Node node0 : instagramBox.getChildren()) {
-            if (node0 instanceof VBox) {
-                for (Node node1 : ((VBox) node0).getChildren()) {
-                    if (node1 instanceof Label) {
-                        ((Label) node1).setFont(Font.font(family, FontWeight.BOLD, size));
-                    } else if (node1 instanceof Text) {
-                        ((Text) node1).setFont(Font.font(family, size));
-                    } else if (node1 instanceof Accordion) {
-                        for (TitledPane titledPane : ((Accordion) node1).getPanes()) {
-                            titledPane.setFont(Font.font(family, size));
-                        } //end for
-                    } //end if
-                } //end for
-            } //end if
-        } //end for
+            alert.setHeaderText(String.format("%s Error", displayName));
 
-        for (Node node0 : allBox.getChildren()) {
-            if (node0 instanceof VBox) {
-                for (Node node1 : ((VBox) node0).getChildren()) {
-                    if (node1 instanceof Label) {
-                        ((Label) node1).setFont(Font.font(family, FontWeight.BOLD, size));
-                    } else if (node1 instanceof Text) {
-                        ((Text) node1).setFont(Font.font(family, size));
-                    } else if (node1 instanceof Accordion) {
-                        for (TitledPane titledPane : ((Accordion) node1).getPanes()) {
-                            titledPane.setFont(Font.font(family, size));
-                        } //end for
-                    } //end if
-                } //end for
-            } //end if
-        } //end for
-    } //updateFontSize
+            alert.setContentText(message);
+
+            alert.show();
+        });
+    } //showOutboxFailure
 
     /**
-     * Creates, and returns, a {@code MenuController} object using the specified model, view, Reddit post controller,
-     * Twitter post controller, and Instagram post controller.
+     * Creates, and returns, a {@code MenuController} object using the specified model, view, feed scheduler, outbox,
+     * Reddit post controller, Twitter post controller, Twitter stream controller, and Instagram post controller.
      *
      * @param model the model to be used in the operation
      * @param view the view to be used in the operation
+     * @param feedScheduler the feed scheduler to be used in the operation
+     * @param outbox the outbox to be used in the operation
      * @param redditPostController the Reddit post controller to be used in construction
      * @param twitterPostController the Twitter post controller to be used in construction
+     * @param twitterStreamController the Twitter stream controller to be used in construction
      * @param instagramPostController the Instagram post controller to be used in construction
-     * @return a {@code MenuController} object using the specified model, view, Reddit post controller, Twitter post
-     * controller, and Instagram post controller
-     * @throws NullPointerException if the specified model, view, Reddit post controller, Twitter post controller, or
-     * Instagram post controller is {@code null}
+     * @return a {@code MenuController} object using the specified model, view, feed scheduler, outbox, Reddit post
+     * controller, Twitter post controller, Twitter stream controller, and Instagram post controller
+     * @throws NullPointerException if the specified model, view, feed scheduler, outbox, Reddit post controller,
+     * Twitter post controller, Twitter stream controller, or Instagram post controller is {@code null}
      */
-    public static MenuController createMenuController(Model model, View view,
+    public static MenuController createMenuController(Model model, View view, FeedScheduler feedScheduler,
+                                                      Outbox outbox,
                                                       RedditPostController redditPostController,
                                                       TwitterPostController twitterPostController,
+                                                      TwitterStreamController twitterStreamController,
                                                       InstagramPostController instagramPostController) {
         MenuController controller;
         MenuView menuView;
@@ -2267,8 +2299,10 @@ public final class MenuController {
         Menu twitterMenu;
         Menu allMenu;
 
-        controller = new MenuController(model, view, redditPostController, twitterPostController,
-                                        instagramPostController);
+        controller = new MenuController(model, view, feedScheduler, outbox, redditPostController,
+                                        twitterPostController, twitterStreamController, instagramPostController);
+
+        outbox.addListener(controller::showOutboxFailure);
 
         menuView = controller.view.getMenuView();
 
@@ -2653,8 +2687,9 @@ public final class MenuController {
 
         splitRadioMenuItem.addEventHandler(ActionEvent.ACTION, (actionEvent) -> controller.switchToSplitPane());
 
-        fontSizeSpinner.valueProperty()
-                       .addListener((observable, oldValue, newValue) -> controller.updateFontSize(newValue));
+        controller.view.getPostView()
+                       .fontSizeProperty()
+                       .bind(fontSizeSpinner.valueProperty());
 
         allSavedPostsRadioMenuItem.addEventHandler(ActionEvent.ACTION, (actionEvent) -> {
             Scene scene = controller.getAllSavedPostsScene();
@@ -2668,24 +2703,30 @@ public final class MenuController {
             controller.redditPostController.sortByTime = true;
             controller.instagramPostController.sortByTime = true;
             controller.twitterPostController.sortByTime = true;
+            controller.view.getPostView()
+                           .getAllTimeline()
+                           .setSortByTime(true);
             controller.redditPostController.updateAll = true;
             controller.instagramPostController.updateAll = true;
             controller.twitterPostController.updateAll = true;
-            controller.redditPostController.updatePosts();
-            controller.instagramPostController.updatePosts();
-            controller.twitterPostController.updatePosts();
+            controller.feedScheduler.runNow(Network.REDDIT);
+            controller.feedScheduler.runNow(Network.INSTAGRAM);
+            controller.feedScheduler.runNow(Network.TWITTER);
         });
 
         popularitySortRadioMenuItem.addEventHandler(ActionEvent.ACTION, (actionEvent) -> {
             controller.redditPostController.sortByTime = false;
             controller.instagramPostController.sortByTime = false;
             controller.twitterPostController.sortByTime = false;
+            controller.view.getPostView()
+                           .getAllTimeline()
+                           .setSortByTime(false);
             controller.twitterPostController.updateAll = true;
             controller.instagramPostController.updateAll = true;
             controller.redditPostController.updateAll = true;
-            controller.redditPostController.updatePosts();
-            controller.instagramPostController.updatePosts();
-            controller.twitterPostController.updatePosts();
+            controller.feedScheduler.runNow(Network.REDDIT);
+            controller.feedScheduler.runNow(Network.INSTAGRAM);
+            controller.feedScheduler.runNow(Network.TWITTER);
         });
 
         twitterModel0 = controller.model.getTwitterModel();
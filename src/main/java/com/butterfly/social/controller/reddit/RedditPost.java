@@ -1,7 +1,14 @@
 package com.butterfly.social.controller.reddit;
 
 import com.butterfly.social.controller.Post;
+import com.butterfly.social.model.Network;
+import com.butterfly.social.view.PostAttachment;
+import com.butterfly.social.view.PostViewModel;
+import net.dean.jraw.models.EmbeddedMedia;
 import net.dean.jraw.models.Submission;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -16,6 +23,11 @@ public final class RedditPost implements Post {
      */
     private final Submission submission;
 
+    /**
+     * The view-model of this Reddit post, or {@code null} if it has not been created.
+     */
+    private volatile PostViewModel viewModel;
+
     /**
      * Constructs a newly allocated {@code RedditPost} object with the specified submission.
      *
@@ -26,8 +38,86 @@ public final class RedditPost implements Post {
         Objects.requireNonNull(submission, "the specified submission is null");
 
         this.submission = submission;
+
+        this.viewModel = null;
     } //RedditPost
 
+    /**
+     * Returns the attachment of the specified submission, or {@code null} if it has none. Images hosted by Reddit and
+     * Reddit videos are supported.
+     *
+     * @param submission the submission to be used in the operation
+     * @return the attachment of the specified submission, or {@code null} if it has none
+     */
+    private static PostAttachment createAttachment(Submission submission) {
+        String url;
+        String imageUrl = "i.redd.it";
+        EmbeddedMedia embeddedMedia;
+        EmbeddedMedia.RedditVideo video;
+        String thumbnail;
+        String posterUrl = null;
+
+        url = submission.getUrl();
+
+        if ((url != null) && url.contains(imageUrl)) {
+            return PostAttachment.createPostAttachment(PostAttachment.Kind.PHOTO, url);
+        } //end if
+
+        embeddedMedia = submission.getEmbeddedMedia();
+
+        if (embeddedMedia == null) {
+            return null;
+        } //end if
+
+        video = embeddedMedia.getRedditVideo();
+
+        if (video == null) {
+            return null;
+        } //end if
+
+        thumbnail = submission.getThumbnail();
+
+        if ((thumbnail != null) && thumbnail.startsWith("http")) {
+            posterUrl = thumbnail;
+        } //end if
+
+        return PostAttachment.createPostAttachment(PostAttachment.Kind.VIDEO, video.getHlsUrl(), posterUrl);
+    } //createAttachment
+
+    /**
+     * Returns the view-model of the specified submission.
+     *
+     * @param submission the submission to be used in the operation
+     * @return the view-model of the specified submission
+     */
+    private static PostViewModel createViewModel(Submission submission) {
+        String name;
+        List<PostAttachment> attachments;
+        PostAttachment attachment;
+        String dateTime;
+        List<String> statistics;
+
+        name = String.format("by %s in r/%s", submission.getAuthor(), submission.getSubreddit());
+
+        attachments = new ArrayList<>();
+
+        attachment = RedditPost.createAttachment(submission);
+
+        if (attachment != null) {
+            attachments.add(attachment);
+        } //end if
+
+        dateTime = PostViewModel.formatDateTime(submission.getCreated()
+                                                          .toInstant());
+
+        statistics = List.of(String.format("%d Upvotes", submission.getScore()),
+                             String.format("%d Comments", submission.getCommentCount()));
+
+        return PostViewModel.createPostViewModel(Network.REDDIT, submission.getTitle(), name, null,
+                                                 Objects.requireNonNullElse(submission.getSelfText(), ""),
+                                                 attachments, dateTime, statistics);
+    } //createViewModel
+
     /**
      * Returns the submission of this Reddit post.
      *
@@ -37,6 +127,68 @@ public final class RedditPost implements Post {
         return this.submission;
     } //getSubmission
 
+    /**
+     * Returns the view-model of this Reddit post. The view-model is created when it is first requested, so a post
+     * that is never displayed holds only its submission.
+     *
+     * @return the view-model of this Reddit post
+     */
+    @Override
+    public PostViewModel getViewModel() {
+        PostViewModel viewModel;
+
+        viewModel = this.viewModel;
+
+        if (viewModel == null) {
+            viewModel = RedditPost.createViewModel(this.submission);
+
+            this.viewModel = viewModel;
+        } //end if
+
+        return viewModel;
+    } //getViewModel
+
+    /**
+     * Returns the network of this Reddit post.
+     *
+     * @return the network of this Reddit post
+     */
+    @Override
+    public Network getNetwork() {
+        return Network.REDDIT;
+    } //getNetwork
+
+    /**
+     * Returns the ID of this Reddit post.
+     *
+     * @return the ID of this Reddit post
+     */
+    @Override
+    public String getId() {
+        return this.submission.getId();
+    } //getId
+
+    /**
+     * Returns the instant at which this Reddit post was created.
+     *
+     * @return the instant at which this Reddit post was created
+     */
+    @Override
+    public Instant getCreated() {
+        return this.submission.getCreated()
+                              .toInstant();
+    } //getCreated
+
+    /**
+     * Returns the popularity score of this Reddit post, which is its number of upvotes.
+     *
+     * @return the popularity score of this Reddit post
+     */
+    @Override
+    public long getScore() {
+        return this.submission.getScore();
+    } //getScore
+
     /**
      * Returns the hash code of this Reddit post.
      *
@@ -1,26 +1,26 @@
 package com.butterfly.social.controller.reddit;
 
+import com.butterfly.social.controller.FeedWindow;
 import com.butterfly.social.controller.Post;
+import com.butterfly.social.controller.PostStore;
 import com.butterfly.social.model.Model;
+import com.butterfly.social.model.Network;
+import com.butterfly.social.model.Outbox;
+import com.butterfly.social.model.OutboxAction;
 import com.butterfly.social.model.reddit.RedditModel;
-import com.butterfly.social.view.MenuView;
+import com.butterfly.social.view.FeedDispatcher;
 import com.butterfly.social.view.PostView;
+import com.butterfly.social.view.PostViewModel;
+import com.butterfly.social.view.Timeline;
 import com.butterfly.social.view.View;
 import javafx.application.Platform;
 import javafx.event.ActionEvent;
-import javafx.scene.CacheHint;
+import javafx.geometry.Insets;
 import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.VBox;
-import javafx.scene.media.Media;
-import javafx.scene.media.MediaPlayer;
-import javafx.scene.media.MediaView;
-import javafx.scene.text.Font;
-import javafx.scene.text.FontWeight;
-import javafx.scene.text.Text;
 import javafx.stage.Stage;
 import net.dean.jraw.RedditClient;
 import net.dean.jraw.models.*;
@@ -28,15 +28,14 @@ import net.dean.jraw.pagination.DefaultPaginator;
 import net.dean.jraw.tree.CommentNode;
 import net.dean.jraw.tree.RootCommentNode;
 
-import java.net.URI;
-import java.net.URISyntaxException;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.time.temporal.ChronoField;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 /**
  * A controller for Reddit posts of the Social Butterfly application.
@@ -45,6 +44,11 @@ import java.util.concurrent.locks.Lock;
  * @version April 18, 2021
  */
 public final class RedditPostController {
+    /**
+     * The thread executor of the {@code RedditPostController} class, on which comment trees are fetched.
+     */
+    private static final ExecutorService threadExecutor;
+
     /**
      * The model of this Reddit post controller.
      */
@@ -55,6 +59,11 @@ public final class RedditPostController {
      */
     private final View view;
 
+    /**
+     * The outbox of this Reddit post controller.
+     */
+    private final Outbox outbox;
+
     /**
      * The IDs of this Reddit post controller.
      */
@@ -62,188 +71,113 @@ public final class RedditPostController {
 
     private final Set<String> savedIds;
     /**
-     * The map from boxes to posts of this Reddit post controller.
+     * The post store of this Reddit post controller.
      */
-    private final Map<VBox, Post> boxesToPosts;
+    private final PostStore postStore;
 
     /**
-     * The all box lock of this Reddit post controller.
+     * The feed window of this Reddit post controller.
      */
-    private final Lock allBoxLock;
-
-    private VBox allSavedBox;
-
-    public boolean sortByTime = true;
-
-    public boolean updateAll = false;
+    private final FeedWindow window;
 
     /**
-     * The executor service of this Reddit post controller.
+     * The feed lock of this Reddit post controller.
      */
-    private ScheduledExecutorService executorService;
+    private final Lock feedLock;
 
     /**
-     * Constructs a newly allocated {@code RedditPostController} object with the specified model, view, map from boxes
-     * to posts, and all box lock.
-     *
-     * @param model the model to be used in construction
-     * @param view the view to be used in construction
-     * @param boxesToPosts the map from boxes to posts to be used in construction
-     * @param allBoxLock the all box lock to be used in construction
-     * @throws NullPointerException if the specified model, view, map from boxes to posts, or all box lock is
-     * {@code null}
+     * The page lock of this Reddit post controller, which is held while a page of older posts is loaded.
      */
-    private RedditPostController(Model model, View view, Map<VBox, Post> boxesToPosts, Lock allBoxLock) {
-        Objects.requireNonNull(model, "the specified model is null");
-
-        Objects.requireNonNull(view, "the specified view is null");
-
-        Objects.requireNonNull(boxesToPosts, "the specified map from boxes to posts is null");
-
-        Objects.requireNonNull(allBoxLock, "the specified all box lock is null");
-
-        this.model = model;
-
-        this.view = view;
-
-        this.ids = new HashSet<>();
-
-        this.savedIds = new HashSet<>();
-
-        this.boxesToPosts = boxesToPosts;
-
-        this.allBoxLock = allBoxLock;
-
-        this.allSavedBox = null;
-
-        this.executorService = Executors.newSingleThreadScheduledExecutor();
-    } //RedditPostController
+    private final Lock pageLock;
 
     /**
-     * Returns the executor service of this Reddit post controller.
-     *
-     * @return the executor service of this Reddit post controller
+     * The generation of this Reddit post controller, which is advanced each time it is reset, so that the results of
+     * an update that started before a reset are discarded.
      */
-    public ScheduledExecutorService getExecutorService() {
-        return this.executorService;
-    } //getExecutorService
-
-    public VBox getAllSavedBox() {
-        return this.allSavedBox;
-    }
+    private long generation;
 
     /**
-     * Returns a media accordion for the specified submission.
-     *
-     * @param submission the submission to be used in the operation
-     * @return a media accordion for the specified submission
-     * @throws NullPointerException if the specified submission is {@code null}
-     */
-    private Accordion getMediaAccordion(Submission submission) {
-        String urlString;
-        EmbeddedMedia embeddedMedia;
-        String imageUrl = "i.redd.it";
-        Node node;
-        ScrollPane scrollPane;
-        TitledPane titledPane;
-        String mediaName = "Attachment 0";
-        Accordion accordion;
-
-        Objects.requireNonNull(submission, "the specified submission is null");
-
-        urlString = submission.getUrl();
-
-        embeddedMedia = submission.getEmbeddedMedia();
-
-        if (urlString.contains(imageUrl)) {
-            URI uri;
-            String uriString;
-            Image image;
-            ImageView imageView;
-
-            try {
-                uri = new URI(urlString);
+     * The full name of the newest submission seen by this Reddit post controller, or {@code null} if no submission has
+     * been seen.
+     */
+    private volatile String anchor;
 
-                uriString = uri.toString();
-            } catch (URISyntaxException e) {
-                e.printStackTrace();
+    /**
+     * The paginator of older submissions of this Reddit post controller.
+     */
+    private volatile DefaultPaginator<Submission> olderPaginator;
 
-                return null;
-            } //end try catch
+    private VBox allSavedBox;
 
-            image = new Image(uriString, true);
+    static {
+        AtomicInteger threadCount;
 
-            imageView = new ImageView(image);
+        threadCount = new AtomicInteger();
 
-            imageView.setCache(true);
+        threadExecutor = Executors.newFixedThreadPool(2, (runnable) -> {
+            Thread thread;
 
-            imageView.setCacheHint(CacheHint.SPEED);
+            thread = new Thread(runnable, "reddit-thread-" + threadCount.incrementAndGet());
 
-            node = imageView;
-        } else if (embeddedMedia != null) {
-            EmbeddedMedia.RedditVideo video;
-            URI uri;
-            String uriString;
-            Media media;
-            MediaPlayer mediaPlayer;
-            MediaView mediaView;
+            thread.setDaemon(true);
 
-            video = embeddedMedia.getRedditVideo();
+            return thread;
+        });
+    } //static
 
-            if (video == null) {
-                return null;
-            } //end if
+    public boolean sortByTime = true;
 
-            urlString = video.getHlsUrl();
+    public boolean updateAll = false;
 
-            try {
-                uri = new URI(urlString);
+    /**
+     * Constructs a newly allocated {@code RedditPostController} object with the specified model, view, outbox, and
+     * post store.
+     *
+     * @param model the model to be used in construction
+     * @param view the view to be used in construction
+     * @param outbox the outbox to be used in construction
+     * @param postStore the post store to be used in construction
+     * @throws NullPointerException if the specified model, view, outbox, or post store is {@code null}
+     */
+    private RedditPostController(Model model, View view, Outbox outbox, PostStore postStore) {
+        Objects.requireNonNull(model, "the specified model is null");
 
-                uriString = uri.toString();
-            } catch (URISyntaxException e) {
-                e.printStackTrace();
+        Objects.requireNonNull(view, "the specified view is null");
 
-                return null;
-            } //end try catch
+        Objects.requireNonNull(outbox, "the specified outbox is null");
 
-            media = new Media(uriString);
+        Objects.requireNonNull(postStore, "the specified post store is null");
 
-            mediaPlayer = new MediaPlayer(media);
+        this.model = model;
 
-            mediaView = new MediaView(mediaPlayer);
+        this.view = view;
 
-            mediaPlayer.setOnEndOfMedia(mediaPlayer::stop);
+        this.outbox = outbox;
 
-            mediaView.setOnMouseClicked((mouseEvent) -> {
-                MediaPlayer.Status status;
+        this.ids = FeedWindow.createIdSet();
 
-                status = mediaPlayer.getStatus();
+        this.savedIds = FeedWindow.createIdSet();
 
-                switch (status) {
-                    case PLAYING -> mediaPlayer.pause();
-                    case READY, PAUSED, STOPPED -> mediaPlayer.play();
-                } //end switch
-            });
+        this.postStore = postStore;
 
-            mediaView.setCache(true);
+        this.window = FeedWindow.createFeedWindow(Network.REDDIT);
 
-            mediaView.setCacheHint(CacheHint.SPEED);
+        this.feedLock = new ReentrantLock();
 
-            node = mediaView;
-        } else {
-            return null;
-        } //end if
+        this.pageLock = new ReentrantLock();
 
-        scrollPane = new ScrollPane(node);
+        this.generation = 0L;
 
-        titledPane = new TitledPane(mediaName, scrollPane);
+        this.anchor = null;
 
-        titledPane.setFont(Font.font(14));
+        this.olderPaginator = null;
 
-        accordion = new Accordion(titledPane);
+        this.allSavedBox = null;
+    } //RedditPostController
 
-        return accordion;
-    } //getMediaAccordion
+    public VBox getAllSavedBox() {
+        return this.allSavedBox;
+    }
 
     private void displayContextMenu(VBox box, double x, double y) {
         Post post;
@@ -260,7 +194,7 @@ public final class RedditPostController {
 
         Objects.requireNonNull(box, "the specified box is null");
 
-        post = this.boxesToPosts.get(box);
+        post = this.postStore.getPost(box);
 
         if (post == null) {
             return;
@@ -307,152 +241,113 @@ public final class RedditPostController {
     } //displayContextMenu
 
     /**
-     * Returns a box for the specified submission.
+     * Returns a box for the specified Reddit post, which is rendered from the view-model of the post and is
+     * mapped to the post until the box is discarded.
      *
-     * @param submission the submission to be used in the operation
+     * @param post the Reddit post to be used in the operation
      * @param displayReddit whether or not to display "on Reddit" in the box
-     * @return a box for the specified submission
-     * @throws NullPointerException if the specified submission is {@code null}
-     */
-    private VBox createBox(Submission submission, boolean displayReddit) {
-        String title;
-        String author;
-        String subreddit;
-        String name;
-        String textString;
-        LocalDateTime dateTime;
+     * @return a box for the specified Reddit post
+     * @throws NullPointerException if the specified Reddit post is {@code null}
+     */
+    public VBox createBox(RedditPost post, boolean displayReddit) {
         Scene scene;
-        MenuView menuView;
-        Spinner<Integer> fontSizeSpinner;
-        int size;
-        Text titleText;
-        String family = "Tahoma";
-        Label nameLabel;
-        Text text;
-        Accordion accordion;
-        String month;
-        int day;
-        int year;
-        int hour;
-        int minute;
-        String amPm;
-        String format;
-        String dateTimeString;
-        Label dateTimeLabel;
-        VBox vBox;
-        int numComments;
-
-        Objects.requireNonNull(submission, "the specified submission is null");
-
-        title = submission.getTitle();
-
-        author = submission.getAuthor();
+        PostViewModel viewModel;
+        VBox box;
 
-        subreddit = submission.getSubreddit();
-
-        name = String.format("by %s in r/%s", author, subreddit);
-
-        textString = submission.getSelfText();
-
-        dateTime = submission.getCreated()
-                             .toInstant()
-                             .atZone(ZoneId.systemDefault())
-                             .toLocalDateTime();
+        Objects.requireNonNull(post, "the specified Reddit post is null");
 
         scene = this.view.getScene();
 
-        menuView = this.view.getMenuView();
-
-        fontSizeSpinner = menuView.getFontSizeSpinner();
-
-        size = fontSizeSpinner.getValue();
-
-        numComments = submission.getCommentCount();
-
-        titleText = new Text(title);
-
-        titleText.setFont(Font.font(family, FontWeight.BOLD, size));
-
-        titleText.wrappingWidthProperty()
-                 .bind(scene.widthProperty());
-
-        nameLabel = new Label(name);
-
-        nameLabel.setFont(Font.font(family, FontWeight.BOLD, size));
-
-        text = new Text(textString);
-
-        text.setFont(Font.font(14));
+        viewModel = post.getViewModel();
 
-        text.wrappingWidthProperty()
-            .bind(scene.widthProperty());
+        box = viewModel.createBox(scene, displayReddit);
 
-        accordion = getMediaAccordion(submission);
-
-        month = dateTime.getMonth()
-                        .name();
-
-        month = month.charAt(0) + month.substring(1)
-                                       .toLowerCase();
-
-        day = dateTime.getDayOfMonth();
-
-        year = dateTime.getYear();
-
-        hour = dateTime.get(ChronoField.CLOCK_HOUR_OF_AMPM);
+        box.setOnContextMenuRequested((contextMenuEvent) -> {
+            double screenX;
+            double screenY;
 
-        minute = dateTime.getMinute();
+            screenX = contextMenuEvent.getScreenX();
 
-        amPm = (dateTime.get(ChronoField.AMPM_OF_DAY) == 0) ? "AM" : "PM";
+            screenY = contextMenuEvent.getScreenY();
 
-        if (displayReddit) {
-            format = "%s %d, %d at %02d:%02d %s on Reddit";
-        } else {
-            format = "%s %d, %d at %02d:%02d %s";
-        } //end if
+            this.displayContextMenu(box, screenX, screenY);
+        });
 
-        dateTimeString = String.format(format, month, day, year, hour, minute, amPm);
+        this.postStore.register(box, post);
 
-        dateTimeLabel = new Label(dateTimeString);
+        return box;
+    } //createBox
 
-        dateTimeLabel.setFont(Font.font(family, FontWeight.BOLD, size));
+    /**
+     * Returns up to the specified maximum number of submissions of the specified saved listing, in the order of the
+     * listing. Submissions are taken from the listing payload as is, and items that were not deserialized as
+     * submissions are resolved with a single fullname lookup. Saved comments are omitted.
+     *
+     * @param client the client to be used in the operation
+     * @param listing the saved listing to be used in the operation
+     * @param maxCount the maximum number of submissions to be returned
+     * @return up to the specified maximum number of submissions of the specified saved listing
+     */
+    private List<Submission> getSavedSubmissions(RedditClient client, List<PublicContribution<?>> listing,
+                                                 int maxCount) {
+        List<String> fullNames;
+        String fullName;
+        String submissionPrefix = "t3_";
+        Map<String, Submission> fullNamesToSubmissions;
+        Listing<Object> lookedUp;
+        Submission submission;
+        List<Submission> submissions;
 
-        format = "%d Upvotes";
+        fullNames = new ArrayList<>();
 
-        String upvotesString = String.format(format, submission.getScore());
+        fullNamesToSubmissions = new HashMap<>();
 
-        String numCommentsString = String.format("%d Comments", numComments);
+        for (PublicContribution<?> contribution : listing) {
+            if (fullNames.size() == maxCount) {
+                break;
+            } //end if
 
-        Label upvotesLabel = new Label(upvotesString);
+            fullName = contribution.getFullName();
 
-        Label numCommentsLabel = new Label(numCommentsString);
+            if (contribution instanceof Submission) {
+                fullNamesToSubmissions.put(fullName, (Submission) contribution);
+            } else if ((fullName == null) || !fullName.startsWith(submissionPrefix)) {
+                continue;
+            } //end if
 
-        numCommentsLabel.setFont(Font.font(family, FontWeight.BOLD, size));
+            fullNames.add(fullName);
+        } //end for
 
-        upvotesLabel.setFont(Font.font(family, FontWeight.BOLD, size));
+        if (fullNamesToSubmissions.size() < fullNames.size()) {
+            try {
+                lookedUp = client.lookup(fullNames.stream()
+                                                  .filter(name -> !fullNamesToSubmissions.containsKey(name))
+                                                  .toArray(String[]::new));
 
-        if (accordion == null) {
-            vBox = new VBox(titleText, nameLabel, text, dateTimeLabel, upvotesLabel, numCommentsLabel);
-        } else {
-            accordion.prefWidthProperty()
-                     .bind(scene.widthProperty());
+                for (Object item : lookedUp) {
+                    if (item instanceof Submission) {
+                        submission = (Submission) item;
 
-            vBox = new VBox(titleText, nameLabel, text, accordion, dateTimeLabel, upvotesLabel, numCommentsLabel);
+                        fullNamesToSubmissions.put(submission.getFullName(), submission);
+                    } //end if
+                } //end for
+            } catch (Exception e) {
+                e.printStackTrace();
+            } //end try catch
         } //end if
 
-        vBox.setOnContextMenuRequested((contextMenuEvent) -> {
-            double screenX;
-            double screenY;
+        submissions = new ArrayList<>();
 
-            screenX = contextMenuEvent.getScreenX();
-
-            screenY = contextMenuEvent.getScreenY();
+        for (String name : fullNames) {
+            submission = fullNamesToSubmissions.get(name);
 
-            this.displayContextMenu(vBox, screenX, screenY);
-        });
+            if (submission != null) {
+                submissions.add(submission);
+            } //end if
+        } //end for
 
-        return vBox;
-    } //createPostBox
+        return submissions;
+    } //getSavedSubmissions
 
     /**
      * Updates the saved posts of this Reddit post controller.
@@ -462,11 +357,12 @@ public final class RedditPostController {
         RedditClient client;
         List<Node> nodes;
         List<Node> nodeCopies;
+        List<PublicContribution> savedPosts;
+        List<PublicContribution<?>> listing;
         String id;
         VBox vBox;
         VBox vBoxCopy;
         RedditPost post;
-        int count = 0;
         int maxCount = 50;
         PostView postView;
         VBox redditBox;
@@ -483,37 +379,34 @@ public final class RedditPostController {
 
         nodeCopies = new ArrayList<>();
 
-        List<PublicContribution> listing = redditModel.getSavedPosts();
-        for (PublicContribution pc : listing) {
-            id = pc.getId();
-            Submission submission = client.submission(id).inspect();
-            vBox = this.createBox(submission, false);
+        savedPosts = redditModel.getSavedPosts();
 
-            vBoxCopy = this.createBox(submission, true);
+        listing = new ArrayList<>();
 
-            nodes.add(vBox);
+        if (savedPosts != null) {
+            for (PublicContribution<?> contribution : savedPosts) {
+                listing.add(contribution);
+            } //end for
+        } //end if
 
-            nodes.add(new Separator());
+        for (Submission submission : this.getSavedSubmissions(client, listing, maxCount)) {
+            id = submission.getId();
 
-            nodeCopies.add(vBoxCopy);
+            post = (RedditPost) this.postStore.retain(new RedditPost(submission));
 
-            nodeCopies.add(new Separator());
+            vBox = this.createBox(post, false);
 
-            if (!this.savedIds.contains(id)) {
-                this.savedIds.add(id);
+            vBoxCopy = this.createBox(post, true);
 
-                post = new RedditPost(submission);
+            nodes.add(vBox);
 
-                this.boxesToPosts.put(vBox, post);
+            nodes.add(new Separator());
 
-                this.boxesToPosts.put(vBoxCopy, post);
-            } //end if
+            nodeCopies.add(vBoxCopy);
 
-            count++;
+            nodeCopies.add(new Separator());
 
-            if (count == maxCount) {
-                break;
-            } //end if
+            this.savedIds.add(id);
         } //end for
 
         redditBox = new VBox();
@@ -526,6 +419,9 @@ public final class RedditPostController {
         System.out.println("Nodes COPY size: " + nodeCopies.size());
         allSavedBox.getChildren().addAll(0, nodeCopies);
 
+        this.view.getPostView()
+                 .applyStyle(redditBox);
+
         Scene scene = new Scene(redditBox, 500, 300);
 
         return scene;
@@ -538,196 +434,390 @@ public final class RedditPostController {
         return null;
     }
 
+    /**
+     * Adds the submissions of the specified Reddit client's front page that are newer than the submission with the
+     * specified anchor to the specified list of submissions, newest first, and returns the paginator that was used. If
+     * the anchor is {@code null}, the first page is added, and the returned paginator can be kept so that older pages
+     * can be loaded on demand. The state of this Reddit post controller is not modified.
+     *
+     * @param client the Reddit client to be used in the operation
+     * @param currentAnchor the full name of the newest submission seen, or {@code null} if none has been seen
+     * @param submissions the list of submissions to be used in the operation
+     * @return the paginator that was used
+     */
+    private DefaultPaginator<Submission> getNewSubmissions(RedditClient client, String currentAnchor,
+                                                           List<Submission> submissions) {
+        SubredditSort sort;
+        int limit = 50;
+        int anchoredLimit = 10;
+        int maxCount = 50;
+        DefaultPaginator<Submission> paginator;
+        String fullName;
+
+        sort = this.sortByTime ? SubredditSort.NEW : SubredditSort.TOP;
+
+        paginator = client.frontPage()
+                          .sorting(sort)
+                          .limit((currentAnchor == null) ? limit : anchoredLimit)
+                          .build();
+
+        breakLoop:
+        for (Listing<Submission> listing : paginator) {
+            for (Submission submission : listing) {
+                fullName = submission.getFullName();
+
+                if (fullName.equals(currentAnchor)) {
+                    break breakLoop;
+                } //end if
+
+                submissions.add(submission);
+
+                if (submissions.size() == maxCount) {
+                    break breakLoop;
+                } //end if
+            } //end for
+
+            if (currentAnchor == null) {
+                break;
+            } //end if
+        } //end for
+
+        return paginator;
+    } //getNewSubmissions
+
+    /**
+     * Creates the posts for the specified submissions that have not yet been seen by this Reddit post controller, and
+     * adds them to the specified list of posts.
+     *
+     * @param submissions the submissions to be used in the operation
+     * @param posts the list of posts to be used in the operation
+     * @return the number of posts that were created
+     */
+    private int addPosts(List<Submission> submissions, List<Post> posts) {
+        String id;
+        int count = 0;
+
+        for (Submission submission : submissions) {
+            id = submission.getId();
+
+            if (this.ids.add(id)) {
+                count++;
+
+                posts.add((RedditPost) this.postStore.intern(new RedditPost(submission)));
+            } //end if
+        } //end for
+
+        return count;
+    } //addPosts
+
     /**
      * Updates the posts of this Reddit post controller.
+     *
+     * @return the number of new posts
      */
-    public void updatePosts() {
+    public int updatePosts() {
         RedditModel redditModel;
         RedditClient client;
+        long currentGeneration;
+        String currentAnchor;
+        List<Submission> submissions;
         DefaultPaginator<Submission> paginator;
-        int limit = 50;
-        List<Node> nodes;
-        List<Node> nodeCopies;
-        String id;
-        VBox vBox;
-        VBox vBoxCopy;
-        RedditPost post;
-        int count = 0;
-        int maxCount = 50;
+        List<Post> posts;
         PostView postView;
-        VBox redditBox;
-        VBox allBox;
+        ListView<Post> redditList;
+        Timeline allTimeline;
+        FeedDispatcher dispatcher;
+        int newPosts;
 
         redditModel = this.model.getRedditModel();
 
         if (redditModel == null) {
-            return;
+            return 0;
         } //end if
 
         client = redditModel.getClient();
-        
-        if(sortByTime) {
-            paginator = client.frontPage()
-            .sorting(SubredditSort.NEW)
-            .limit(limit)
-            .build();
-        }
-        else {
-            paginator = client.frontPage()
-            .sorting(SubredditSort.TOP)
-            .limit(limit)
-            .build();
-        }
 
+        posts = new ArrayList<>();
 
-        nodes = new ArrayList<>();
+        postView = this.view.getPostView();
 
-        nodeCopies = new ArrayList<>();
+        redditList = postView.getRedditList();
 
-        postView = this.view.getPostView();
+        allTimeline = postView.getAllTimeline();
 
-        redditBox = postView.getRedditBox();
+        dispatcher = postView.getFeedDispatcher();
 
-        allBox = postView.getAllBox();
+        this.feedLock.lock();
 
-        if(updateAll) {
-            redditBox.getChildren().clear();
-            this.ids.clear();
-            boxesToPosts.clear();
-            updateAll = false;
-        }
+        try {
+            if(updateAll) {
+                dispatcher.execute(() -> {
+                    redditList.getItems()
+                              .clear();
 
-        breakLoop:
-        for (Listing<Submission> listing : paginator) {
-            for (Submission submission : listing) {
-                id = submission.getId();
+                    allTimeline.removeIf((post) -> post instanceof RedditPost);
 
-                if (!this.ids.contains(id)) {
-                    this.ids.add(id);
+                    this.postStore.removeFeed(Network.REDDIT);
 
-                    vBox = this.createBox(submission, false);
+                    this.window.clear();
+                });
+                this.ids.clear();
+                this.anchor = null;
+                this.olderPaginator = null;
+                updateAll = false;
+            }
 
-                    vBoxCopy = this.createBox(submission, true);
+            currentGeneration = this.generation;
 
-                    nodes.add(vBox);
+            currentAnchor = this.anchor;
+        } finally {
+            this.feedLock.unlock();
+        } //end try finally
 
-                    nodes.add(new Separator());
+        submissions = new ArrayList<>();
 
-                    nodeCopies.add(vBoxCopy);
+        paginator = this.getNewSubmissions(client, currentAnchor, submissions);
 
-                    nodeCopies.add(new Separator());
+        this.feedLock.lock();
 
-                    post = new RedditPost(submission);
+        try {
+            if (currentGeneration != this.generation) {
+                return 0;
+            } //end if
 
-                    this.boxesToPosts.put(vBox, post);
+            if (this.olderPaginator == null) {
+                this.olderPaginator = paginator;
+            } //end if
 
-                    this.boxesToPosts.put(vBoxCopy, post);
-                } //end if
+            if (this.sortByTime && !submissions.isEmpty()) {
+                this.anchor = submissions.get(0)
+                                         .getFullName();
+            } //end if
 
-                count++;
+            newPosts = this.addPosts(submissions, posts);
 
-                if (count == maxCount) {
-                    break breakLoop;
-                } //end if
-            } //end for
+            if (newPosts > 0) {
+                dispatcher.prepend(redditList, posts);
+
+                dispatcher.merge(posts);
+
+                dispatcher.execute(() -> this.window.trim(redditList.getItems(), allTimeline)
+                                                    .forEach(this.postStore::remove));
+            } //end if
+        } finally {
+            this.feedLock.unlock();
+        } //end try finally
+
+        return newPosts;
+    } //updatePosts
+
+    /**
+     * Restores a page of the posts that were evicted from the feed window of this Reddit post controller, most
+     * recently evicted first, by looking up their submissions. Submissions that no longer exist are skipped, and if the
+     * lookup fails, the IDs are put back, to be restored later.
+     *
+     * @param posts the list of posts to be used in the operation
+     * @return {@code true}, if the submissions were looked up, and {@code false} otherwise
+     */
+    private boolean restorePosts(List<Post> posts) {
+        RedditClient client;
+        List<String> ids;
+        String submissionPrefix;
+        Listing<Object> lookedUp;
+        Map<String, Submission> idsToSubmissions;
+        Submission submission;
+
+        client = this.model.getRedditModel()
+                           .getClient();
+
+        ids = this.window.restore();
+
+        if (ids.isEmpty()) {
+            return false;
+        } //end if
+
+        submissionPrefix = "t3_";
+
+        idsToSubmissions = new HashMap<>();
+
+        try {
+            lookedUp = client.lookup(ids.stream()
+                                        .map((id) -> submissionPrefix + id)
+                                        .toArray(String[]::new));
+        } catch (Exception e) {
+            e.printStackTrace();
+
+            this.window.putBack(ids);
+
+            return false;
+        } //end try catch
+
+        for (Object item : lookedUp) {
+            if (item instanceof Submission) {
+                submission = (Submission) item;
+
+                idsToSubmissions.put(submission.getId(), submission);
+            } //end if
         } //end for
 
-        Platform.runLater(() -> redditBox.getChildren()
-                                         .addAll(0, nodes));
+        for (String id : ids) {
+            submission = idsToSubmissions.get(id);
 
-        Platform.runLater(() -> {
-            this.allBoxLock.lock();
+            if (submission != null) {
+                posts.add((RedditPost) this.postStore.intern(new RedditPost(submission)));
+            } //end if
+        } //end for
+
+        return true;
+    } //restorePosts
+
+    /**
+     * Loads the next page of older posts of this Reddit post controller, and appends them to the end of the feed. If
+     * a page is already being loaded, this method does nothing.
+     */
+    public void loadOlderPosts() {
+        long currentGeneration;
+        DefaultPaginator<Submission> paginator;
+        List<Submission> submissions;
+        List<Post> posts;
+        PostView postView;
+        ListView<Post> redditList;
+        FeedDispatcher dispatcher;
+
+        if (this.model.getRedditModel() == null) {
+            return;
+        } //end if
+
+        if (!this.pageLock.tryLock()) {
+            return;
+        } //end if
+
+        posts = new ArrayList<>();
+
+        submissions = new ArrayList<>();
+
+        postView = this.view.getPostView();
+
+        redditList = postView.getRedditList();
+
+        dispatcher = postView.getFeedDispatcher();
+
+        try {
+            this.feedLock.lock();
 
             try {
-                allBox.getChildren()
-                      .addAll(0, nodeCopies);
+                currentGeneration = this.generation;
+
+                paginator = this.olderPaginator;
             } finally {
-                this.allBoxLock.unlock();
+                this.feedLock.unlock();
             } //end try finally
-        });
-    } //updatePosts
+
+            while (posts.isEmpty() && this.window.hasSpilled()) {
+                if (!this.restorePosts(posts)) {
+                    break;
+                } //end if
+            } //end while
+
+            if (posts.isEmpty() && (paginator != null)) {
+                submissions.addAll(paginator.next());
+            } //end if
+
+            this.feedLock.lock();
+
+            try {
+                if (currentGeneration != this.generation) {
+                    return;
+                } //end if
+
+                this.addPosts(submissions, posts);
+
+                if (!posts.isEmpty()) {
+                    dispatcher.append(redditList, posts);
+
+                    dispatcher.merge(posts);
+                } //end if
+            } finally {
+                this.feedLock.unlock();
+            } //end try finally
+        } finally {
+            this.pageLock.unlock();
+        } //end try finally
+    } //loadOlderPosts
 
     /**
-     * Resets this Reddit post controller.
+     * Resets this Reddit post controller. The results of an update that is already running are discarded once it
+     * completes.
      */
     public void reset() {
         PostView postView;
-        VBox redditBox;
-        Set<Map.Entry<VBox, Post>> entrySet;
-        Iterator<Map.Entry<VBox, Post>> iterator;
-        VBox allBox;
-        Map.Entry<VBox, Post> entry;
-        VBox key;
-        Post value;
-        List<Node> children;
-        int separatorIndex;
-        int size;
+        ListView<Post> redditList;
+        Timeline allTimeline;
+        FeedDispatcher dispatcher;
 
-        this.executorService.shutdownNow();
+        postView = this.view.getPostView();
 
-        this.executorService = Executors.newSingleThreadScheduledExecutor();
+        redditList = postView.getRedditList();
 
-        this.ids.clear();
+        allTimeline = postView.getAllTimeline();
 
-        postView = this.view.getPostView();
+        dispatcher = postView.getFeedDispatcher();
 
-        redditBox = postView.getRedditBox();
+        this.feedLock.lock();
 
-        entrySet = this.boxesToPosts.entrySet();
+        try {
+            this.generation++;
 
-        iterator = entrySet.iterator();
+            this.ids.clear();
 
-        allBox = postView.getAllBox();
+            this.anchor = null;
 
-        redditBox.getChildren()
-                 .clear();
+            this.olderPaginator = null;
 
-        while (iterator.hasNext()) {
-            entry = iterator.next();
+            dispatcher.execute(() -> {
+                redditList.getItems()
+                          .clear();
 
-            key = entry.getKey();
+                allTimeline.removeIf((post) -> post instanceof RedditPost);
 
-            value = entry.getValue();
+                this.postStore.removeNetwork(Network.REDDIT);
 
-            if (value instanceof RedditPost) {
-                iterator.remove();
+                this.window.clear();
+            });
+        } finally {
+            this.feedLock.unlock();
+        } //end try finally
+    } //reset
 
-                this.allBoxLock.lock();
+    /**
+     * Returns a box for the specified comment of the thread with the specified ID.
+     *
+     * @param comment the comment to be used in the operation
+     * @param depth the depth of the specified comment
+     * @param id the ID of the thread to be used in the operation
+     * @return a box for the specified comment of the thread with the specified ID
+     */
+    private VBox createCommentBox(PublicContribution<?> comment, int depth, String id) {
+        String boldClass = "post-bold";
+        double indent = 15.0;
+        Label authorLabel;
+        Label bodyLabel;
+        VBox commentBox;
 
-                try {
-                    children = allBox.getChildren();
+        authorLabel = new Label(comment.getAuthor());
 
-                    separatorIndex = children.indexOf(key) + 1;
+        authorLabel.getStyleClass()
+                   .add(boldClass);
 
-                    size = children.size();
+        bodyLabel = new Label(comment.getBody());
 
-                    if (separatorIndex < size) {
-                        children.remove(separatorIndex);
-                    } //end if
+        bodyLabel.setWrapText(true);
 
-                    children.remove(key);
-                } finally {
-                    this.allBoxLock.unlock();
-                } //end try finally
-            } //end if
-        } //end while
-    } //reset
+        commentBox = new VBox(authorLabel, bodyLabel);
 
-    public void viewRedditThread(String id) {
-        RedditModel redditModel = this.model.getRedditModel();
-        RedditClient redditClient = redditModel.getClient();
-        List<Node> nodes = new ArrayList<>();
-        int size;
-        String postID;
-        String group = "Tahoma";
-        MenuView menuView;
-        Spinner<Integer> fontSizeSpinner;
-        menuView = this.view.getMenuView();
-        fontSizeSpinner = menuView.getFontSizeSpinner();
-        size = fontSizeSpinner.getValue();
-        List<Comment> comments = new ArrayList<>();
-        VBox post = createBox(redditClient.submission(id).inspect(), false);
-        post.setOnContextMenuRequested((contextMenuEvent) -> {
+        commentBox.setPadding(new Insets(0, 0, 0, indent * Math.max(0, depth - 1)));
+
+        commentBox.setOnContextMenuRequested((contextMenuEvent) -> {
             double screenX;
             double screenY;
 
@@ -735,64 +825,333 @@ public final class RedditPostController {
 
             screenY = contextMenuEvent.getScreenY();
 
-            this.showRedditThreadContextMenu(post, screenX, screenY, true, id);
+            this.showRedditThreadContextMenu(commentBox, screenX, screenY, false, id);
         });
-        RootCommentNode root = redditClient.submission(id).comments();
-        //root.loadFully(redditClient);
-        Iterator<CommentNode<PublicContribution<?>>> it = root.walkTree().iterator();
-        Label commentsLabel = new Label("Comments");
-        commentsLabel.setFont(Font.font(15));
-        VBox commentsLabelBox = new VBox(commentsLabel);
-        nodes.add(post);
-        nodes.add(new Separator());
-        nodes.add(new VBox());
-        nodes.add(commentsLabelBox);
+
+        return commentBox;
+    } //createCommentBox
+
+    /**
+     * Returns a box holding a link with the specified text at the specified depth. When the link is clicked, it is
+     * disabled and the specified action is given the box, so that the action can replace the link with its content.
+     *
+     * @param text the text of the link to be used in the operation
+     * @param depth the depth to be used in the operation
+     * @param action the action to be used in the operation
+     * @return a box holding a link with the specified text at the specified depth
+     */
+    private VBox createLinkBox(String text, int depth, Consumer<VBox> action) {
+        double indent = 15.0;
+        Hyperlink link;
+        VBox linkBox;
+
+        link = new Hyperlink(text);
+
+        linkBox = new VBox(link);
+
+        linkBox.setPadding(new Insets(0, 0, 0, indent * Math.max(0, depth - 1)));
+
+        link.setOnAction((actionEvent) -> {
+            link.setDisable(true);
+
+            action.accept(linkBox);
+        });
+
+        return linkBox;
+    } //createLinkBox
+
+    /**
+     * Returns a box holding a link that renders the collapsed subtree of the specified reply when it is clicked.
+     *
+     * @param reply the reply to be used in the operation
+     * @param id the ID of the thread to be used in the operation
+     * @return a box holding a link that renders the collapsed subtree of the specified reply when it is clicked
+     */
+    private VBox createCollapsedBox(CommentNode<Comment> reply, String id) {
+        int levels = 2;
+        int maxDepth;
+
+        maxDepth = reply.getDepth() + levels;
+
+        return this.createLinkBox("Show replies", reply.getDepth() + 1, (linkBox) -> {
+            List<Node> replyNodes = new ArrayList<>();
+
+            this.addReplyNodes(replyNodes, reply, reply.getReplies(), 0, maxDepth, id);
+
+            linkBox.getChildren()
+                   .setAll(replyNodes);
+        });
+    } //createCollapsedBox
+
+    /**
+     * Adds nodes for a page of the specified replies of the specified parent, starting at the specified index, to the
+     * specified list of nodes. Replies are rendered down to the specified maximum depth, and deeper subtrees, further
+     * pages, and "more children" that have not been fetched yet are left behind links that load them on demand. This
+     * must be called on the JavaFX application thread.
+     *
+     * @param nodes the list of nodes to be used in the operation
+     * @param parent the parent of the specified replies
+     * @param replies the replies to be used in the operation
+     * @param start the index of the first reply to be rendered
+     * @param maxDepth the maximum depth to be rendered
+     * @param id the ID of the thread to be used in the operation
+     */
+    private void addReplyNodes(List<Node> nodes, CommentNode<?> parent, List<? extends CommentNode<Comment>> replies,
+                               int start, int maxDepth, String id) {
+        int pageSize = 20;
+        int end;
+
+        end = Math.min(start + pageSize, replies.size());
+
+        for (int i = start; i < end; i++) {
+            this.addReplyNode(nodes, replies.get(i), maxDepth, id);
+        } //end for
+
+        this.addMoreNodes(nodes, parent, replies, end, maxDepth, id);
+    } //addReplyNodes
+
+    /**
+     * Adds nodes for the specified reply, and its subtree down to the specified maximum depth, to the specified list
+     * of nodes. This must be called on the JavaFX application thread.
+     *
+     * @param nodes the list of nodes to be used in the operation
+     * @param reply the reply to be used in the operation
+     * @param maxDepth the maximum depth to be rendered
+     * @param id the ID of the thread to be used in the operation
+     */
+    private void addReplyNode(List<Node> nodes, CommentNode<Comment> reply, int maxDepth, String id) {
+        nodes.add(this.createCommentBox(reply.getSubject(), reply.getDepth(), id));
+
         nodes.add(new Separator());
-        PublicContribution<?> comment = it.next().getSubject();
-        while (it.hasNext()) {
-            menuView = this.view.getMenuView();
-            fontSizeSpinner = menuView.getFontSizeSpinner();
-            size = fontSizeSpinner.getValue();
-            comment = it.next().getSubject();
-            String author = comment.getAuthor();
-            String body = comment.getBody();
-            //int upvotes = commentObj.getScore();
-            Label authorLabel = new Label(author);
-            Label bodyLabel = new Label(body);
-            bodyLabel.setWrapText(true);
-            //String infoString = upvotes + " Upvotes";
-            //Label infoLabel = new Label(infoString);
-            authorLabel.setFont(Font.font(group, FontWeight.BOLD, size));
-            bodyLabel.setFont(Font.font(size));
-            //infoLabel.setFont(Font.font(group, FontWeight.BOLD, size));
-            VBox commentBox = new VBox(authorLabel,bodyLabel);
-            commentBox.setOnContextMenuRequested((contextMenuEvent) -> {
-                double screenX;
-                double screenY;
-
-                screenX = contextMenuEvent.getScreenX();
-
-                screenY = contextMenuEvent.getScreenY();
-
-
-                this.showRedditThreadContextMenu(commentBox, screenX, screenY, false, id);
-            });
-            nodes.add(commentBox);
-            nodes.add(new Separator());
-            //System.out.println(comment.getBody());
-        }
-        VBox fullPage = new VBox();
-        fullPage.getChildren().addAll(0,nodes);
-        ScrollPane scrollPane = new ScrollPane(fullPage);
-        Scene scene = new Scene(scrollPane, 500, 300);
-        Stage stage = new Stage();
+
+        if (reply.getReplies()
+                 .isEmpty() && !reply.hasMoreChildren()) {
+            return;
+        } //end if
+
+        if (reply.getDepth() < maxDepth) {
+            this.addReplyNodes(nodes, reply, reply.getReplies(), 0, maxDepth, id);
+        } else {
+            nodes.add(this.createCollapsedBox(reply, id));
+        } //end if
+    } //addReplyNode
+
+    /**
+     * Adds a link for the replies of the specified parent that follow the specified index to the specified list of
+     * nodes, if there are any. Further pages are rendered from a copy of the replies already fetched, since fetching
+     * "more children" on the thread executor adds to the replies of the parent, and "more children" are fetched when
+     * the link is clicked. This must be called on the JavaFX application thread.
+     *
+     * @param nodes the list of nodes to be used in the operation
+     * @param parent the parent of the specified replies
+     * @param replies the replies to be used in the operation
+     * @param end the index of the first reply that has not been rendered
+     * @param maxDepth the maximum depth to be rendered
+     * @param id the ID of the thread to be used in the operation
+     */
+    private void addMoreNodes(List<Node> nodes, CommentNode<?> parent, List<? extends CommentNode<Comment>> replies,
+                              int end, int maxDepth, String id) {
+        int depth;
+        List<CommentNode<Comment>> remainingReplies;
+        String text;
+        RedditClient client;
+
+        depth = parent.getDepth() + 1;
+
+        if (end < replies.size()) {
+            remainingReplies = new ArrayList<>(replies.subList(end, replies.size()));
+
+            text = String.format("Show %d more replies", remainingReplies.size());
+
+            nodes.add(this.createLinkBox(text, depth, (linkBox) -> {
+                List<Node> replyNodes = new ArrayList<>();
+
+                this.addReplyNodes(replyNodes, parent, remainingReplies, 0, maxDepth, id);
+
+                linkBox.getChildren()
+                       .setAll(replyNodes);
+            }));
+        } else if (parent.hasMoreChildren()) {
+            client = this.model.getRedditModel()
+                               .getClient();
+
+            nodes.add(this.createLinkBox("Load more comments", depth, (linkBox) -> {
+                CompletableFuture.supplyAsync(() -> parent.replaceMore(client), threadExecutor)
+                                 .whenCompleteAsync((newReplies, throwable) -> {
+                                     List<Node> replyNodes = new ArrayList<>();
+
+                                     if (throwable != null) {
+                                         throwable.printStackTrace();
+
+                                         replyNodes.add(new Label("Could not load more comments."));
+                                     } else {
+                                         this.addReplyNodes(replyNodes, parent, newReplies, 0, maxDepth, id);
+                                     } //end if
+
+                                     linkBox.getChildren()
+                                            .setAll(replyNodes);
+                                 }, Platform::runLater);
+            }));
+        } //end if
+    } //addMoreNodes
+
+    /**
+     * Displays the thread with the specified ID in a new stage. The stage is shown immediately, and the submission and
+     * its comment tree are fetched on the thread executor with one request. The nodes are then built on the JavaFX
+     * application thread, a few top-level comments per pulse, so the stage stays responsive while they stream in.
+     * Only the top levels of the tree are rendered, and the rest is loaded on demand.
+     *
+     * @param id the ID of the thread to be used in the operation
+     */
+    public void viewRedditThread(String id) {
+        RedditModel redditModel;
+        RedditClient redditClient;
+        PostView postView;
+        VBox fullPage;
+        ScrollPane scrollPane;
+        Scene scene;
+        Stage stage;
+
+        redditModel = this.model.getRedditModel();
+
+        if (redditModel == null) {
+            return;
+        } //end if
+
+        redditClient = redditModel.getClient();
+
+        postView = this.view.getPostView();
+
+        fullPage = new VBox(new Label("Loading..."));
+
+        scrollPane = new ScrollPane(fullPage);
+
+        postView.applyStyle(scrollPane);
+
+        scene = new Scene(scrollPane, 500, 300);
+
+        stage = new Stage();
+
         stage.setScene(scene);
-        stage.setTitle(redditClient.submission(id).inspect().getTitle());
+
+        stage.setTitle("Reddit Thread");
+
         stage.setResizable(true);
+
         stage.setHeight(300);
+
         stage.setWidth(500);
+
         stage.show();
-    }
+
+        CompletableFuture.supplyAsync(() -> redditClient.submission(id)
+                                                        .comments(), threadExecutor)
+                         .whenCompleteAsync((root, throwable) -> {
+                             if (throwable != null) {
+                                 throwable.printStackTrace();
+
+                                 fullPage.getChildren()
+                                         .setAll(new Label("Could not load the thread."));
+                             } else {
+                                 this.streamThread(stage, fullPage, root, id);
+                             } //end if
+                         }, Platform::runLater);
+    } //viewRedditThread
+
+    /**
+     * Replaces the contents of the specified page with the specified comment tree of the thread with the specified ID.
+     * The header is built at once, and the first page of top-level comments is built in small batches, each in its
+     * own {@link Platform#runLater(Runnable)} task, so that the stage is laid out and painted between them. This must
+     * be called on the JavaFX application thread.
+     *
+     * @param stage the stage to be used in the operation
+     * @param page the page to be used in the operation
+     * @param root the root of the comment tree to be used in the operation
+     * @param id the ID of the thread to be used in the operation
+     */
+    private void streamThread(Stage stage, VBox page, RootCommentNode root, String id) {
+        int levels = 2;
+        int pageSize = 20;
+        int batchSize = 5;
+        Submission submission;
+        VBox post;
+        Label commentsLabel;
+        List<CommentNode<Comment>> replies;
+        int end;
+        int batchStart;
+        int batchEnd;
+        List<CommentNode<Comment>> batch;
+
+        submission = root.getSubject();
+
+        post = this.createBox((RedditPost) this.postStore.retain(new RedditPost(submission)), false);
+
+        post.setOnContextMenuRequested((contextMenuEvent) -> {
+            double screenX;
+            double screenY;
+
+            screenX = contextMenuEvent.getScreenX();
+
+            screenY = contextMenuEvent.getScreenY();
+
+            this.showRedditThreadContextMenu(post, screenX, screenY, true, id);
+        });
+
+        commentsLabel = new Label("Comments");
+
+        commentsLabel.getStyleClass()
+                     .add("post-header");
+
+        stage.setTitle(submission.getTitle());
+
+        page.getChildren()
+            .setAll(post, new Separator(), new VBox(commentsLabel), new Separator());
+
+        replies = new ArrayList<>(root.getReplies());
+
+        end = Math.min(pageSize, replies.size());
+
+        for (int start = 0; start < end; start += batchSize) {
+            batchStart = start;
+
+            batchEnd = Math.min(start + batchSize, end);
+
+            batch = replies.subList(batchStart, batchEnd);
+
+            this.streamReplies(page, batch, levels, id);
+        } //end for
+
+        Platform.runLater(() -> {
+            List<Node> nodes = new ArrayList<>();
+
+            this.addMoreNodes(nodes, root, replies, end, levels, id);
+
+            page.getChildren()
+                .addAll(nodes);
+        });
+    } //streamThread
+
+    /**
+     * Adds nodes for the specified replies to the specified page in their own {@link Platform#runLater(Runnable)}
+     * task. This must be called on the JavaFX application thread.
+     *
+     * @param page the page to be used in the operation
+     * @param replies the replies to be used in the operation
+     * @param maxDepth the maximum depth to be rendered
+     * @param id the ID of the thread to be used in the operation
+     */
+    private void streamReplies(VBox page, List<CommentNode<Comment>> replies, int maxDepth, String id) {
+        Platform.runLater(() -> {
+            List<Node> nodes = new ArrayList<>();
+
+            for (CommentNode<Comment> reply : replies) {
+                this.addReplyNode(nodes, reply, maxDepth, id);
+            } //end for
+
+            page.getChildren()
+                .addAll(nodes);
+        });
+    } //streamReplies
 
     public void showRedditThreadContextMenu(VBox post, double x, double y, boolean originalPost, String id) {
         String upvoteDisplay = "Upvote Post";
@@ -805,7 +1164,7 @@ public final class RedditPostController {
             commentDisplay = "Reply to Comment";
         }
 
-        /* Post postTemp = this.boxesToPosts.get(post);
+        /* Post postTemp = this.postStore.getPost(post);
 
         if (postTemp == null) {
             return;
@@ -838,7 +1197,11 @@ public final class RedditPostController {
             //td.getDialogPane().setGraphic(new ImageView("https://external-preview.redd.it/iDdntscPf-nfWKqzHRGFmhVxZm4hZgaKe5oyFws-yzA.png?auto=webp&s=38648ef0dc2c3fce76d5e1d8639234d8da0152b2"));
             td.showAndWait();
             String comment = td.getResult();
-            this.model.getRedditModel().getClient().submission(id).reply(comment);
+            if (comment == null || comment.isBlank()) {
+                return;
+            }
+            this.outbox.enqueue(OutboxAction.createOutboxAction(Network.REDDIT, OutboxAction.Kind.COMMENT, id, null,
+                                                                comment, null));
         });
 
         threadContextMenu = new ContextMenu(upvoteItem, replyItem);
@@ -847,20 +1210,18 @@ public final class RedditPostController {
     }
 
     /**
-     * Creates, and returns, a {@code createRedditPostController} object using the specified model, view, map from
-     * boxes to posts, and all box lock.
+     * Creates, and returns, a {@code createRedditPostController} object using the specified model, view, outbox, and
+     * post store.
      *
      * @param model the model to be used in the operation
      * @param view the view to be used in the operation
-     * @param boxesToPosts the map from boxes to posts to be used in the operation
-     * @param allBoxLock the all box lock to be used in the operation
-     * @return a {@code createRedditPostController} object using the specified model, view, map from boxes to posts,
-     * and all box lock
-     * @throws NullPointerException if the specified model, view, map from boxes to posts, or all box lock is
-     * {@code null}
-     */
-    public static RedditPostController createRedditPostController(Model model, View view, Map<VBox, Post> boxesToPosts,
-                                                                  Lock allBoxLock) {
-        return new RedditPostController(model, view, boxesToPosts, allBoxLock);
+     * @param outbox the outbox to be used in the operation
+     * @param postStore the post store to be used in the operation
+     * @return a {@code createRedditPostController} object using the specified model, view, outbox, and post store
+     * @throws NullPointerException if the specified model, view, outbox, or post store is {@code null}
+     */
+    public static RedditPostController createRedditPostController(Model model, View view, Outbox outbox,
+                                                                  PostStore postStore) {
+        return new RedditPostController(model, view, outbox, postStore);
     } //createRedditPostController
 }
\ No newline at end of file
@@ -1,8 +1,18 @@
 package com.butterfly.social.controller.twitter;
 
 import com.butterfly.social.controller.Post;
+import com.butterfly.social.model.Network;
+import com.butterfly.social.view.MediaVariant;
+import com.butterfly.social.view.PostAttachment;
+import com.butterfly.social.view.PostViewModel;
+import twitter4j.MediaEntity;
 import twitter4j.Status;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * A Twitter post of the Social Butterfly application.
@@ -11,10 +21,20 @@ import java.util.Objects;
  * @version March 21, 2021
  */
 public final class TwitterPost implements Post {
+    /**
+     * The pattern of the resolution that is encoded in the URL of a video variant.
+     */
+    private static final Pattern resolutionPattern = Pattern.compile("/(\\d+)x(\\d+)/");
+
     /**
      * The status of this Twitter post.
      */
-    private final Status status;
+    private volatile Status status;
+
+    /**
+     * The view-model of this Twitter post, or {@code null} if it has not been created.
+     */
+    private volatile PostViewModel viewModel;
 
     /**
      * Constructs a newly allocated {@code TwitterPost} object with the specified status.
@@ -26,8 +46,108 @@ public final class TwitterPost implements Post {
         Objects.requireNonNull(status, "the specified status is null");
 
         this.status = status;
+
+        this.viewModel = null;
     } //TwitterPost
 
+    /**
+     * Returns the width of the specified video variant, which is encoded in its URL, or {@code 0} if it is unknown.
+     *
+     * @param variant the video variant to be used in the operation
+     * @return the width of the specified video variant, or {@code 0} if it is unknown
+     */
+    private static int getWidth(MediaEntity.Variant variant) {
+        Matcher matcher;
+
+        matcher = resolutionPattern.matcher(variant.getUrl());
+
+        if (!matcher.find()) {
+            return 0;
+        } //end if
+
+        return Integer.parseInt(matcher.group(1));
+    } //getWidth
+
+    /**
+     * Returns the attachment of the specified media entity, or {@code null} if its type is not supported. Every MP4
+     * variant of a video or GIF is attached, so that the variant can be selected when it is played.
+     *
+     * @param mediaEntity the media entity to be used in the operation
+     * @return the attachment of the specified media entity, or {@code null} if its type is not supported
+     */
+    private static PostAttachment createAttachment(MediaEntity mediaEntity) {
+        String type;
+        List<MediaVariant> variants;
+        String contentType = "video/mp4";
+        String posterUrl;
+
+        type = mediaEntity.getType();
+
+        if ("photo".equals(type)) {
+            return PostAttachment.createPostAttachment(PostAttachment.Kind.PHOTO, mediaEntity.getMediaURLHttps());
+        } //end if
+
+        variants = new ArrayList<>();
+
+        if (mediaEntity.getVideoVariants() != null) {
+            for (MediaEntity.Variant variant : mediaEntity.getVideoVariants()) {
+                if (contentType.equals(variant.getContentType())) {
+                    variants.add(MediaVariant.createMediaVariant(variant.getUrl(), variant.getBitrate(),
+                                                                 TwitterPost.getWidth(variant)));
+                } //end if
+            } //end for
+        } //end if
+
+        if (variants.isEmpty()) {
+            return null;
+        } //end if
+
+        posterUrl = mediaEntity.getMediaURLHttps();
+
+        return switch (type) {
+            case "video" -> PostAttachment.createPostAttachment(PostAttachment.Kind.VIDEO, variants, posterUrl);
+            case "animated_gif" -> PostAttachment.createPostAttachment(PostAttachment.Kind.GIF, variants, posterUrl);
+            default -> null;
+        };
+    } //createAttachment
+
+    /**
+     * Returns the view-model of the specified status.
+     *
+     * @param status the status to be used in the operation
+     * @return the view-model of the specified status
+     */
+    private static PostViewModel createViewModel(Status status) {
+        String name;
+        List<PostAttachment> attachments;
+        PostAttachment attachment;
+        String dateTime;
+        String statistic;
+
+        name = String.format("%s @%s", status.getUser()
+                                             .getName(), status.getUser()
+                                                               .getScreenName());
+
+        attachments = new ArrayList<>();
+
+        for (MediaEntity mediaEntity : status.getMediaEntities()) {
+            attachment = TwitterPost.createAttachment(mediaEntity);
+
+            if (attachment != null) {
+                attachments.add(attachment);
+            } //end if
+        } //end for
+
+        dateTime = PostViewModel.formatDateTime(status.getCreatedAt()
+                                                      .toInstant());
+
+        statistic = String.format("%d Retweets %d Favorites", status.getRetweetCount(), status.getFavoriteCount());
+
+        return PostViewModel.createPostViewModel(Network.TWITTER, null, name, null,
+                                                 Objects.requireNonNullElse(status.getText(), ""), attachments,
+                                                 dateTime, List.of(statistic));
+    } //createViewModel
+
     /**
      * Returns the status of this Twitter post.
      *
@@ -37,6 +157,89 @@ public final class TwitterPost implements Post {
         return this.status;
     } //getStatus
 
+    /**
+     * Updates this Twitter post in place with the specified status, such as the status that is returned when this
+     * Twitter post is favorited or retweeted. The view-model of this Twitter post is created again from the specified
+     * status when it is next requested.
+     *
+     * @param status the status to be used in the operation
+     * @throws NullPointerException if the specified status is {@code null}
+     * @throws IllegalArgumentException if the specified status is not a status of this Twitter post's tweet
+     */
+    public void setStatus(Status status) {
+        Objects.requireNonNull(status, "the specified status is null");
+
+        if (status.getId() != this.status.getId()) {
+            throw new IllegalArgumentException("the specified status is not a status of this Twitter post's tweet");
+        } //end if
+
+        this.status = status;
+
+        this.viewModel = null;
+    } //setStatus
+
+    /**
+     * Returns the view-model of this Twitter post. The view-model is created when it is first requested, so a post
+     * that is never displayed holds only its status.
+     *
+     * @return the view-model of this Twitter post
+     */
+    @Override
+    public PostViewModel getViewModel() {
+        PostViewModel viewModel;
+
+        viewModel = this.viewModel;
+
+        if (viewModel == null) {
+            viewModel = TwitterPost.createViewModel(this.status);
+
+            this.viewModel = viewModel;
+        } //end if
+
+        return viewModel;
+    } //getViewModel
+
+    /**
+     * Returns the network of this Twitter post.
+     *
+     * @return the network of this Twitter post
+     */
+    @Override
+    public Network getNetwork() {
+        return Network.TWITTER;
+    } //getNetwork
+
+    /**
+     * Returns the ID of this Twitter post.
+     *
+     * @return the ID of this Twitter post
+     */
+    @Override
+    public String getId() {
+        return Long.toString(this.status.getId());
+    } //getId
+
+    /**
+     * Returns the instant at which this Twitter post was created.
+     *
+     * @return the instant at which this Twitter post was created
+     */
+    @Override
+    public Instant getCreated() {
+        return this.status.getCreatedAt()
+                          .toInstant();
+    } //getCreated
+
+    /**
+     * Returns the popularity score of this Twitter post, which is its number of favorites.
+     *
+     * @return the popularity score of this Twitter post
+     */
+    @Override
+    public long getScore() {
+        return this.status.getFavoriteCount();
+    } //getScore
+
     /**
      * Returns the hash code of this Twitter post.
      *
@@ -1,41 +1,36 @@
 package com.butterfly.social.controller.twitter;
 
+import com.butterfly.social.controller.FeedWindow;
 import com.butterfly.social.controller.Post;
+import com.butterfly.social.controller.PostStore;
 import com.butterfly.social.model.Model;
+import com.butterfly.social.model.Network;
 import com.butterfly.social.model.twitter.TwitterModel;
-import com.butterfly.social.view.MenuView;
+import com.butterfly.social.view.FeedDispatcher;
 import com.butterfly.social.view.PostView;
+import com.butterfly.social.view.PostViewModel;
+import com.butterfly.social.view.Timeline;
 import com.butterfly.social.view.View;
 import javafx.application.Platform;
 import javafx.event.ActionEvent;
-import javafx.scene.CacheHint;
 import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
 import javafx.scene.layout.VBox;
-import javafx.scene.media.Media;
-import javafx.scene.media.MediaPlayer;
-import javafx.scene.media.MediaView;
-import javafx.scene.text.Font;
-import javafx.scene.text.FontWeight;
-import javafx.scene.text.Text;
-import javafx.util.Duration;
 import twitter4j.*;
 import twitter4j.api.FavoritesResources;
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
-import java.net.URI;
-import java.net.URISyntaxException;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.time.temporal.ChronoField;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * A controller for Twitter posts of the Social Butterfly application.
@@ -44,6 +39,12 @@ import java.util.concurrent.locks.Lock;
  * @version April 18, 2021
  */
 public final class TwitterPostController {
+    /**
+     * The lookup executor of the {@code TwitterPostController} class, on which batches of statuses are looked up, and
+     * the actions of the context menu are performed.
+     */
+    private static final ExecutorService lookupExecutor;
+
     /**
      * The model of this Twitter post controller.
      */
@@ -62,454 +63,283 @@ public final class TwitterPostController {
     private final Set<Long> savedIds;
 
     /**
-     * The map from boxes to posts of this Twitter post controller.
+     * The status cache of this Twitter post controller.
      */
-    private final Map<VBox, Post> boxesToPosts;
+    private final Map<Long, Status> statusCache;
 
     /**
-     * The all box lock of this Twitter post controller.
+     * The post store of this Twitter post controller.
      */
-    private final Lock allBoxLock;
+    private final PostStore postStore;
 
     /**
-     * The executor service of this Twitter post controller.
+     * The feed window of this Twitter post controller.
      */
-    private ScheduledExecutorService executorService;
-
-    public boolean sortByTime = true;
-
-    public boolean updateAll = false;
-
-    private VBox allSavedBox;
+    private final FeedWindow window;
 
     /**
-     * Constructs a newly allocated {@code TwitterPostController} object with the specified model, view, map from boxes
-     * to posts, and all box lock.
-     *
-     * @param model the model to be used in construction
-     * @param view the view to be used in construction
-     * @param boxesToPosts the map from boxes to posts to be used in construction
-     * @param allBoxLock the all box lock to be used in construction
-     * @throws NullPointerException if the specified model, view, map from boxes to posts, or all box lock is
-     * {@code null}
+     * The ID of the newest status seen by this Twitter post controller, or {@code 0} if no status has been seen.
      */
-    private TwitterPostController(Model model, View view, Map<VBox, Post> boxesToPosts, Lock allBoxLock) {
-        Objects.requireNonNull(model, "the specified model is null");
-
-        Objects.requireNonNull(view, "the specified view is null");
-
-        Objects.requireNonNull(boxesToPosts, "the specified map from boxes to posts is null");
-
-        Objects.requireNonNull(allBoxLock, "the specified all box lock is null");
-
-        this.model = model;
-
-        this.view = view;
-
-        this.ids = new HashSet<>();
-
-        this.savedIds = new HashSet<>();
-
-        this.boxesToPosts = boxesToPosts;
-
-        this.allBoxLock = allBoxLock;
-
-        this.executorService = Executors.newSingleThreadScheduledExecutor();
-    } //TwitterPostController
-
-    public VBox getAllSavedBox() {
-        //updateSavedPosts();
-        return this.allSavedBox;
-    }
+    private volatile long sinceId;
 
     /**
-     * Returns the executor service of this Twitter post controller.
-     *
-     * @return the executor service of this Twitter post controller
+     * The gap of the home timeline that this Twitter post controller has not finished backfilling, or {@code null} if
+     * there is none.
      */
-    public ScheduledExecutorService getExecutorService() {
-        return this.executorService;
-    } //getExecutorService
+    private Gap gap;
 
     /**
-     * Returns the video node for the specified media entity.
-     *
-     * @param mediaEntity the media entity to be used in the operation
-     * @return the video node for the specified media entity
-     * @throws NullPointerException if the specified media entity is {@code null}
+     * The feed lock of this Twitter post controller.
      */
-    private Node getVideoNode(MediaEntity mediaEntity) {
-        MediaEntity.Variant[] variants;
-        int index;
-        String urlString;
-        URI uri;
-        String uriString;
-        Media media;
-        MediaPlayer mediaPlayer;
-        MediaView mediaView;
-
-        Objects.requireNonNull(mediaEntity, "the specified media entity is null");
-
-        variants = mediaEntity.getVideoVariants();
-
-        Arrays.sort(variants, Comparator.comparing(MediaEntity.Variant::getBitrate));
-
-        index = variants.length / 2;
-
-        urlString = variants[index].getUrl();
-
-        try {
-            uri = new URI(urlString);
-
-            uriString = uri.toString();
-        } catch (URISyntaxException e) {
-            e.printStackTrace();
-
-            return null;
-        } //end try catch
-
-        media = new Media(uriString);
-
-        mediaPlayer = new MediaPlayer(media);
-
-        mediaView = new MediaView(mediaPlayer);
-
-        mediaPlayer.setOnEndOfMedia(mediaPlayer::stop);
-
-        mediaView.setOnMouseClicked((mouseEvent) -> {
-            MediaPlayer.Status status;
-
-            status = mediaPlayer.getStatus();
-
-            switch (status) {
-                case PLAYING -> mediaPlayer.pause();
-                case READY, PAUSED, STOPPED -> mediaPlayer.play();
-            } //end switch
-        });
-
-        mediaView.setCache(true);
-
-        mediaView.setCacheHint(CacheHint.SPEED);
-
-        return mediaView;
-    } //getVideoNode
+    private final Lock feedLock;
 
     /**
-     * Returns the photo node for the specified media entity.
-     *
-     * @param mediaEntity the media entity to be used in the operation
-     * @return the photo node for the specified media entity
-     * @throws NullPointerException if the specified media entity is {@code null}
+     * The page lock of this Twitter post controller, which is held while a page of older posts is loaded.
      */
-    private Node getPhotoNode(MediaEntity mediaEntity) {
-        String urlString;
-        URI uri;
-        String uriString;
-        Image image;
-        ImageView imageView;
-
-        Objects.requireNonNull(mediaEntity, "the specified media entity is null");
-
-        urlString = mediaEntity.getMediaURLHttps();
-
-        try {
-            uri = new URI(urlString);
-
-            uriString = uri.toString();
-        } catch (URISyntaxException e) {
-            e.printStackTrace();
-
-            return null;
-        } //end try catch
-
-        image = new Image(uriString, true);
-
-        imageView = new ImageView(image);
-
-        imageView.setCache(true);
-
-        imageView.setCacheHint(CacheHint.SPEED);
-
-        return imageView;
-    } //getPhotoNode
+    private final Lock pageLock;
 
     /**
-     * Returns the GIF node for the specified media entity.
-     *
-     * @param mediaEntity the media entity to be used in the operation
-     * @return the GIF node for the specified media entity
-     * @throws NullPointerException if the specified media entity is {@code null}
+     * The generation of this Twitter post controller, which is advanced each time it is reset, so that the results of
+     * an update that started before a reset are discarded.
      */
-    private Node getGifNode(MediaEntity mediaEntity) {
-        MediaEntity.Variant[] variants;
-        int index;
-        String urlString;
-        URI uri;
-        String uriString;
-        Media media;
-        MediaPlayer mediaPlayer;
-        MediaView mediaView;
-
-        Objects.requireNonNull(mediaEntity, "the specified media entity is null");
-
-        variants = mediaEntity.getVideoVariants();
+    private long generation;
 
-        Arrays.sort(variants, Comparator.comparing(MediaEntity.Variant::getBitrate));
-
-        index = variants.length / 2;
-
-        urlString = variants[index].getUrl();
+    public boolean sortByTime = true;
 
-        try {
-            uri = new URI(urlString);
+    public volatile boolean updateAll = false;
 
-            uriString = uri.toString();
-        } catch (URISyntaxException e) {
-            e.printStackTrace();
+    private VBox allSavedBox;
 
-            return null;
-        } //end try catch
+    static {
+        int poolSize = Integer.getInteger("social.butterfly.twitter.lookupThreads", 4);
+        AtomicInteger threadCount;
 
-        media = new Media(uriString);
+        threadCount = new AtomicInteger();
 
-        mediaPlayer = new MediaPlayer(media);
+        lookupExecutor = Executors.newFixedThreadPool(poolSize, (runnable) -> {
+            Thread thread;
 
-        mediaView = new MediaView(mediaPlayer);
+            thread = new Thread(runnable, "twitter-lookup-" + threadCount.incrementAndGet());
 
-        mediaPlayer.setOnEndOfMedia(() -> {
-            mediaPlayer.seek(Duration.ZERO);
+            thread.setDaemon(true);
 
-            mediaPlayer.play();
+            return thread;
         });
-
-        mediaPlayer.setAutoPlay(true);
-
-        mediaView.setCache(true);
-
-        mediaView.setCacheHint(CacheHint.SPEED);
-
-        return mediaView;
-    } //getGifNode
+    } //static
 
     /**
-     * Returns an accordion of the specified media entities.
+     * Constructs a newly allocated {@code TwitterPostController} object with the specified model, view, and post
+     * store.
      *
-     * @param mediaEntities the media entities to be used in the operation
-     * @return an accordion of the specified media entities
-     * @throws NullPointerException if the specified array of media entities is {@code null}
+     * @param model the model to be used in construction
+     * @param view the view to be used in construction
+     * @param postStore the post store to be used in construction
+     * @throws NullPointerException if the specified model, view, or post store is {@code null}
      */
-    private Accordion getMediaAccordion(MediaEntity[] mediaEntities) {
-        MenuView menuView;
-        Spinner<Integer> fontSizeSpinner;
-        int size;
-        List<TitledPane> titledPanes;
-        String type;
-        Node node;
-        String mediaName;
-        int mediaCount = 1;
-        ScrollPane scrollPane;
-        TitledPane titledPane;
-        String family = "Tahoma";
-        TitledPane[] array;
-        Accordion accordion;
-
-        Objects.requireNonNull(mediaEntities, "the specified array of media entities is null");
-
-        if (mediaEntities.length == 0) {
-            return null;
-        } //end if
-
-        menuView = this.view.getMenuView();
-
-        fontSizeSpinner = menuView.getFontSizeSpinner();
+    private TwitterPostController(Model model, View view, PostStore postStore) {
+        Objects.requireNonNull(model, "the specified model is null");
 
-        size = fontSizeSpinner.getValue();
+        Objects.requireNonNull(view, "the specified view is null");
 
-        titledPanes = new ArrayList<>();
+        Objects.requireNonNull(postStore, "the specified post store is null");
 
-        for (MediaEntity mediaEntity : mediaEntities) {
-            type = mediaEntity.getType();
+        this.model = model;
 
-            node = switch (type) {
-                case "video" -> this.getVideoNode(mediaEntity);
-                case "photo" -> this.getPhotoNode(mediaEntity);
-                case "animated_gif" -> this.getGifNode(mediaEntity);
-                default -> {
-                    String message;
+        this.view = view;
 
-                    message = String.format("Invalid type: %s", type);
+        this.ids = FeedWindow.createIdSet();
 
-                    throw new IllegalStateException(message);
-                } //default
-            };
+        this.feedLock = new ReentrantLock();
 
-            if (node != null) {
-                mediaName = String.format("Attachment %d", mediaCount);
+        this.pageLock = new ReentrantLock();
 
-                mediaCount++;
+        this.generation = 0L;
 
-                scrollPane = new ScrollPane(node);
+        this.savedIds = FeedWindow.createIdSet();
 
-                titledPane = new TitledPane(mediaName, scrollPane);
+        this.statusCache = FeedWindow.createIdCache();
 
-                titledPane.setFont(Font.font(family, size));
+        this.postStore = postStore;
 
-                titledPanes.add(titledPane);
-            } //end if
-        } //end for
+        this.window = FeedWindow.createFeedWindow(Network.TWITTER);
 
-        array = new TitledPane[titledPanes.size()];
+        this.sinceId = 0L;
 
-        titledPanes.toArray(array);
-
-        accordion = new Accordion(array);
+        this.gap = null;
+    } //TwitterPostController
 
-        return accordion;
-    } //getMediaAccordion
+    public VBox getAllSavedBox() {
+        //updateSavedPosts();
+        return this.allSavedBox;
+    }
 
     /**
-     * Returns a remove favorite menu item using the specified favorites resources, ID, and box.
+     * Returns a remove favorite menu item using the specified favorites resources, ID, and Twitter post.
      *
      * @param favoritesResources the favorites resources to be used in the operation
      * @param id the ID to be used in the operation
-     * @param box the box to be used in the operation
-     * @return a remove favorite menu item using the specified favorites resources, ID, and box
-     * @throws NullPointerException if the specified favorites resources or box is {@code null}
+     * @param twitterPost the Twitter post to be used in the operation
+     * @return a remove favorite menu item using the specified favorites resources, ID, and Twitter post
+     * @throws NullPointerException if the specified favorites resources or Twitter post is {@code null}
      */
-    private MenuItem createRemoveFavoriteMenuItem(FavoritesResources favoritesResources, long id, VBox box) {
+    private MenuItem createRemoveFavoriteMenuItem(FavoritesResources favoritesResources, long id,
+                                                  TwitterPost twitterPost) {
         MenuItem removeFavoriteMenuItem;
+        String message = "The favorite could not be removed! Please try again later.";
 
         Objects.requireNonNull(favoritesResources, "the specified favorites resources is null");
 
-        Objects.requireNonNull(box, "the specified box is null");
+        Objects.requireNonNull(twitterPost, "the specified Twitter post is null");
 
         removeFavoriteMenuItem = new MenuItem("Remove Favorite");
 
-        removeFavoriteMenuItem.addEventHandler(ActionEvent.ACTION, (actionEvent) -> {
-            Status newStatus;
-            TwitterPost newTwitterPost;
-
-            try {
-                newStatus = favoritesResources.destroyFavorite(id);
-
-                newTwitterPost = new TwitterPost(newStatus);
-
-                this.boxesToPosts.put(box, newTwitterPost);
-            } catch (TwitterException e) {
-                e.printStackTrace();
-            } //end try catch
-        });
+        removeFavoriteMenuItem.addEventHandler(ActionEvent.ACTION, (actionEvent) -> this.perform(twitterPost,
+            () -> favoritesResources.destroyFavorite(id), message));
 
         return removeFavoriteMenuItem;
     } //createRemoveFavoriteMenuItem
 
     /**
-     * Returns a favorite menu item using the specified favorites resources, ID, and box.
+     * Returns a favorite menu item using the specified favorites resources, ID, and Twitter post.
      *
      * @param favoritesResources the favorites resources to be used in the operation
      * @param id the ID to be used in the operation
-     * @param box the box to be used in the operation
-     * @return a favorite menu item using the specified favorites resources, ID, and box
-     * @throws NullPointerException if the specified favorites resources or box is {@code null}
+     * @param twitterPost the Twitter post to be used in the operation
+     * @return a favorite menu item using the specified favorites resources, ID, and Twitter post
+     * @throws NullPointerException if the specified favorites resources or Twitter post is {@code null}
      */
-    private MenuItem createFavoriteMenuItem(FavoritesResources favoritesResources, long id, VBox box) {
+    private MenuItem createFavoriteMenuItem(FavoritesResources favoritesResources, long id, TwitterPost twitterPost) {
         MenuItem favoriteMenuItem;
+        String message = "The tweet could not be favorited! Please try again later.";
 
         Objects.requireNonNull(favoritesResources, "the specified favorites resources is null");
 
-        Objects.requireNonNull(box, "the specified box is null");
+        Objects.requireNonNull(twitterPost, "the specified Twitter post is null");
 
         favoriteMenuItem = new MenuItem("Favorite");
 
-        favoriteMenuItem.addEventHandler(ActionEvent.ACTION, (actionEvent) -> {
-            Status newStatus;
-            TwitterPost newTwitterPost;
-
-            try {
-                newStatus = favoritesResources.createFavorite(id);
-
-                newTwitterPost = new TwitterPost(newStatus);
-
-                this.boxesToPosts.put(box, newTwitterPost);
-            } catch (TwitterException e) {
-                e.printStackTrace();
-            } //end try catch
-        });
+        favoriteMenuItem.addEventHandler(ActionEvent.ACTION, (actionEvent) -> this.perform(twitterPost,
+            () -> favoritesResources.createFavorite(id), message));
 
         return favoriteMenuItem;
     } //createFavoriteMenuItem
 
     /**
-     * Returns a remove retweet menu item using the specified Twitter, ID, and box.
+     * Returns a remove retweet menu item using the specified Twitter, ID, and Twitter post.
      *
      * @param twitter the Twitter to be used in the operation
      * @param id the ID to be used in the operation
-     * @param box the box to be used in the operation
-     * @return a remove retweet menu item using the specified Twitter, ID, and box
-     * @throws NullPointerException if the specified Twitter or box is {@code null}
+     * @param twitterPost the Twitter post to be used in the operation
+     * @return a remove retweet menu item using the specified Twitter, ID, and Twitter post
+     * @throws NullPointerException if the specified Twitter or Twitter post is {@code null}
      */
-    private MenuItem createRemoveRetweetMenuItem(Twitter twitter, long id, VBox box) {
+    private MenuItem createRemoveRetweetMenuItem(Twitter twitter, long id, TwitterPost twitterPost) {
         MenuItem removeRetweetMenuItem;
+        String message = "The retweet could not be removed! Please try again later.";
 
         Objects.requireNonNull(twitter, "the specified Twitter is null");
 
-        Objects.requireNonNull(box, "the specified box is null");
+        Objects.requireNonNull(twitterPost, "the specified Twitter post is null");
 
         removeRetweetMenuItem = new MenuItem("Remove Retweet");
 
-        removeRetweetMenuItem.addEventHandler(ActionEvent.ACTION, (actionEvent) -> {
-            Status newStatus;
-            TwitterPost newTwitterPost;
-
-            try {
-                newStatus = twitter.unRetweetStatus(id);
-
-                newTwitterPost = new TwitterPost(newStatus);
-
-                this.boxesToPosts.put(box, newTwitterPost);
-            } catch (TwitterException e) {
-                e.printStackTrace();
-            } //end try catch
-        });
+        removeRetweetMenuItem.addEventHandler(ActionEvent.ACTION, (actionEvent) -> this.perform(twitterPost,
+            () -> twitter.unRetweetStatus(id), message));
 
         return removeRetweetMenuItem;
     } //createRemoveRetweetMenuItem
 
     /**
-     * Returns a retweet menu item using the specified Twitter, ID, and box.
+     * Returns a retweet menu item using the specified Twitter, ID, and Twitter post.
      *
      * @param twitter the Twitter to be used in the operation
      * @param id the ID to be used in the operation
-     * @param box the box to be used in the operation
-     * @return a retweet menu item using the specified Twitter, ID, and box
-     * @throws NullPointerException if the specified Twitter or box is {@code null}
+     * @param twitterPost the Twitter post to be used in the operation
+     * @return a retweet menu item using the specified Twitter, ID, and Twitter post
+     * @throws NullPointerException if the specified Twitter or Twitter post is {@code null}
      */
-    private MenuItem createRetweetMenuItem(Twitter twitter, long id, VBox box) {
+    private MenuItem createRetweetMenuItem(Twitter twitter, long id, TwitterPost twitterPost) {
         MenuItem retweetMenuItem;
+        String message = "The tweet could not be retweeted! Please try again later.";
 
         Objects.requireNonNull(twitter, "the specified Twitter is null");
 
-        Objects.requireNonNull(box, "the specified box is null");
+        Objects.requireNonNull(twitterPost, "the specified Twitter post is null");
 
         retweetMenuItem = new MenuItem("Retweet");
 
-        retweetMenuItem.addEventHandler(ActionEvent.ACTION, (actionEvent) -> {
-            Status newStatus;
-            TwitterPost newTwitterPost;
+        retweetMenuItem.addEventHandler(ActionEvent.ACTION, (actionEvent) -> this.perform(twitterPost,
+            () -> twitter.retweetStatus(id), message));
 
-            try {
-                newStatus = twitter.retweetStatus(id);
+        return retweetMenuItem;
+    } //createRetweetMenuItem
 
-                newTwitterPost = new TwitterPost(newStatus);
+    /**
+     * Performs the specified action on the specified Twitter post on the lookup executor, so that a request that
+     * waits for its rate limit never blocks the JavaFX application thread, and then updates the post with the status
+     * the action returned. If the action fails, the specified message is shown to the user.
+     *
+     * @param twitterPost the Twitter post to be used in the operation
+     * @param action the action to be used in the operation
+     * @param message the message to be used in the operation
+     */
+    private void perform(TwitterPost twitterPost, StatusAction action, String message) {
+        lookupExecutor.execute(() -> {
+            Status newStatus;
 
-                this.boxesToPosts.put(box, newTwitterPost);
+            try {
+                newStatus = action.perform();
             } catch (TwitterException e) {
                 e.printStackTrace();
+
+                Platform.runLater(() -> {
+                    Alert alert;
+
+                    alert = new Alert(Alert.AlertType.ERROR, message);
+
+                    alert.show();
+                });
+
+                return;
             } //end try catch
+
+            Platform.runLater(() -> this.updatePost(twitterPost, newStatus));
         });
+    } //perform
 
-        return retweetMenuItem;
-    } //createRetweetMenuItem
+    /**
+     * Updates the specified Twitter post in place with the specified status, which was returned by an action on the
+     * post, and renders the post again on the JavaFX application thread. A retweet is unwrapped to the status that it
+     * retweets, and statuses of other tweets are ignored.
+     *
+     * @param twitterPost the Twitter post to be used in the operation
+     * @param newStatus the status to be used in the operation
+     */
+    private void updatePost(TwitterPost twitterPost, Status newStatus) {
+        long id;
+        Status retweetedStatus;
+        Status status;
+        PostView postView;
+
+        id = twitterPost.getStatus()
+                        .getId();
+
+        retweetedStatus = newStatus.getRetweetedStatus();
+
+        if (newStatus.getId() == id) {
+            status = newStatus;
+        } else if ((retweetedStatus != null) && (retweetedStatus.getId() == id)) {
+            status = retweetedStatus;
+        } else {
+            return;
+        } //end if
+
+        twitterPost.setStatus(status);
+
+        postView = this.view.getPostView();
+
+        postView.refresh(twitterPost);
+    } //updatePost
 
     /**
      * Displays a context menu on the specified box at the location of the specified x coordinate and y coordinate.
@@ -534,7 +364,7 @@ public final class TwitterPostController {
 
         Objects.requireNonNull(box, "the specified box is null");
 
-        post = this.boxesToPosts.get(box);
+        post = this.postStore.getPost(box);
 
         if (post == null) {
             return;
@@ -555,15 +385,15 @@ public final class TwitterPostController {
         favoritesResources = twitter.favorites();
 
         if (status.isFavorited()) {
-            menuItem0 = this.createRemoveFavoriteMenuItem(favoritesResources, id, box);
+            menuItem0 = this.createRemoveFavoriteMenuItem(favoritesResources, id, twitterPost);
         } else {
-            menuItem0 = this.createFavoriteMenuItem(favoritesResources, id, box);
+            menuItem0 = this.createFavoriteMenuItem(favoritesResources, id, twitterPost);
         } //end if
 
         if (status.isRetweeted()) {
-            menuItem1 = this.createRemoveRetweetMenuItem(twitter, id, box);
+            menuItem1 = this.createRemoveRetweetMenuItem(twitter, id, twitterPost);
         } else {
-            menuItem1 = this.createRetweetMenuItem(twitter, id, box);
+            menuItem1 = this.createRetweetMenuItem(twitter, id, twitterPost);
         } //end if
 
         save = new MenuItem("Save Post");
@@ -587,6 +417,7 @@ public final class TwitterPostController {
                     }
                 }
                 if(!hasDuplicate) {
+                    this.statusCache.put(status.getId(), status);
                     out.write("" + status.getId() + "\n");
                 }
                 scanner.close();
@@ -600,154 +431,194 @@ public final class TwitterPostController {
     } //displayContextMenu
 
     /**
-     * Returns a box for the specified status.
+     * Returns a box for the specified Twitter post, which is rendered from the view-model of the post and is
+     * mapped to the post until the box is discarded.
      *
-     * @param status the status to be used in the operation
+     * @param post the Twitter post to be used in the operation
      * @param displayTwitter whether or not to display "on Twitter" in the box
-     * @return a box for the specified status
-     * @throws NullPointerException if the specified status is {@code null}
+     * @return a box for the specified Twitter post
+     * @throws NullPointerException if the specified Twitter post is {@code null}
      */
-    private VBox createBox(Status status, boolean displayTwitter) {
-        String name;
-        String screenName;
-        String textString;
-        LocalDateTime dateTime;
-        String combinedName;
-        MenuView menuView;
-        Spinner<Integer> fontSizeSpinner;
-        int size;
-        Label nameLabel;
-        String family = "Tahoma";
+    public VBox createBox(TwitterPost post, boolean displayTwitter) {
         Scene scene;
-        Text text;
-        MediaEntity[] mediaEntities;
-        Accordion accordion;
-        String month;
-        int day;
-        int year;
-        int hour;
-        int minute;
-        String amPm;
-        String format;
-        String dateTimeString;
-        Label dateTimeLabel;
-        VBox vBox;
-
-        Objects.requireNonNull(status, "the specified status is null");
-
-        name = status.getUser()
-                     .getName();
-
-        screenName = status.getUser()
-                           .getScreenName();
-
-        textString = status.getText();
-
-        dateTime = status.getCreatedAt()
-                         .toInstant()
-                         .atZone(ZoneId.systemDefault())
-                         .toLocalDateTime();
+        PostViewModel viewModel;
+        VBox box;
 
-        combinedName = name + " @" + screenName;
+        Objects.requireNonNull(post, "the specified Twitter post is null");
 
-        menuView = this.view.getMenuView();
-
-        fontSizeSpinner = menuView.getFontSizeSpinner();
-
-        size = fontSizeSpinner.getValue();
+        scene = this.view.getScene();
 
-        nameLabel = new Label(combinedName);
+        viewModel = post.getViewModel();
 
-        nameLabel.setFont(Font.font(family, FontWeight.BOLD, size));
+        box = viewModel.createBox(scene, displayTwitter);
 
-        scene = this.view.getScene();
-
-        text = new Text(textString);
+        box.setOnContextMenuRequested((contextMenuEvent) -> {
+            double screenX;
+            double screenY;
 
-        text.setFont(Font.font(family, size));
+            screenX = contextMenuEvent.getScreenX();
 
-        text.wrappingWidthProperty()
-            .bind(scene.widthProperty());
+            screenY = contextMenuEvent.getScreenY();
 
-        mediaEntities = status.getMediaEntities();
+            this.displayContextMenu(box, screenX, screenY);
+        });
 
-        accordion = getMediaAccordion(mediaEntities);
+        this.postStore.register(box, post);
 
-        month = dateTime.getMonth()
-                        .name();
+        return box;
+    } //createBox
 
-        month = month.charAt(0) + month.substring(1)
-                                       .toLowerCase();
+    /**
+     * Asynchronously looks up the statuses with the specified IDs, and adds them to the status cache of this Twitter
+     * post controller.
+     *
+     * @param twitter the Twitter instance to be used in the operation
+     * @param statusIds the IDs to be used in the operation
+     * @return a future of the statuses with the specified IDs that still exist, which completes once they have been
+     * cached
+     */
+    private CompletableFuture<List<Status>> lookupStatuses(Twitter twitter, long[] statusIds) {
+        return CompletableFuture.supplyAsync(() -> {
+            ResponseList<Status> responseList;
 
-        day = dateTime.getDayOfMonth();
+            try {
+                responseList = twitter.lookup(statusIds);
+            } catch (TwitterException e) {
+                throw new CompletionException(e);
+            } //end try catch
 
-        year = dateTime.getYear();
+            for (Status status : responseList) {
+                this.statusCache.put(status.getId(), status);
+            } //end for
 
-        hour = dateTime.get(ChronoField.CLOCK_HOUR_OF_AMPM);
+            return responseList;
+        }, lookupExecutor);
+    } //lookupStatuses
 
-        minute = dateTime.getMinute();
+    /**
+     * Asynchronously looks up the statuses with the specified batch of IDs, and puts them into the specified map from
+     * IDs to statuses. If the batch could not be looked up, its IDs are added to the specified set of failed IDs.
+     *
+     * @param twitter the Twitter instance to be used in the operation
+     * @param batchIds the batch of IDs to be used in the operation
+     * @param idsToStatuses the map from IDs to statuses to be used in the operation
+     * @param failedIds the set of failed IDs to be used in the operation
+     * @return a future that completes once the batch has been looked up, or has failed
+     */
+    private CompletableFuture<Void> lookupBatch(Twitter twitter, List<Long> batchIds, Map<Long, Status> idsToStatuses,
+                                                Set<Long> failedIds) {
+        long[] batch;
 
-        amPm = (dateTime.get(ChronoField.AMPM_OF_DAY) == 0) ? "AM" : "PM";
+        batch = batchIds.stream()
+                        .mapToLong(Long::longValue)
+                        .toArray();
 
-        if (displayTwitter) {
-            format = "%s %d, %d at %02d:%02d %s on Twitter";
-        } else {
-            format = "%s %d, %d at %02d:%02d %s";
-        } //end if
+        return this.lookupStatuses(twitter, batch)
+                   .thenAccept((statuses) -> {
+                       for (Status status : statuses) {
+                           idsToStatuses.put(status.getId(), status);
+                       } //end for
+                   })
+                   .exceptionally((throwable) -> {
+                       throwable.printStackTrace();
 
-        dateTimeString = String.format(format, month, day, year, hour, minute, amPm);
+                       failedIds.addAll(batchIds);
 
-        format = "%d Retweets %d Favorites";
+                       return null;
+                   });
+    } //lookupBatch
 
-        String likesRetweetsString = String.format(format, status.getRetweetCount(), status.getFavoriteCount());
+    /**
+     * Asynchronously returns the statuses with the specified IDs, in the order of the IDs. Statuses that are not in
+     * the status cache of this Twitter post controller are looked up in concurrent batches of up to 100 IDs, and added
+     * to the cache. Statuses that no longer exist, or whose batch could not be looked up, are omitted.
+     *
+     * @param twitter the Twitter instance to be used in the operation
+     * @param statusIds the IDs to be used in the operation
+     * @return a future of the statuses with the specified IDs, in the order of the IDs
+     */
+    private CompletableFuture<List<Status>> getStatuses(Twitter twitter, List<Long> statusIds) {
+        return this.getStatuses(twitter, statusIds, ConcurrentHashMap.newKeySet());
+    } //getStatuses
 
-        Label likesRetweetsLabel = new Label(likesRetweetsString);
+    /**
+     * Asynchronously returns the statuses with the specified IDs, in the order of the IDs. Statuses that are not in
+     * the status cache of this Twitter post controller are looked up in concurrent batches of up to 100 IDs, and added
+     * to the cache. Statuses that no longer exist are omitted, and the IDs of a batch that could not be looked up are
+     * added to the specified set of failed IDs, which must allow concurrent additions.
+     *
+     * @param twitter the Twitter instance to be used in the operation
+     * @param statusIds the IDs to be used in the operation
+     * @param failedIds the set of failed IDs to be used in the operation
+     * @return a future of the statuses with the specified IDs, in the order of the IDs
+     */
+    private CompletableFuture<List<Status>> getStatuses(Twitter twitter, List<Long> statusIds, Set<Long> failedIds) {
+        Map<Long, Status> idsToStatuses;
+        List<Long> missingIds;
+        Status cachedStatus;
+        int batchSize = 100;
+        List<CompletableFuture<Void>> futures;
+        int end;
+        List<Long> batchIds;
+        CompletableFuture<?>[] futureArray;
+
+        idsToStatuses = new ConcurrentHashMap<>();
+
+        missingIds = new ArrayList<>();
+
+        for (Long statusId : statusIds) {
+            cachedStatus = this.statusCache.get(statusId);
+
+            if (cachedStatus != null) {
+                idsToStatuses.put(statusId, cachedStatus);
+            } else if (!missingIds.contains(statusId)) {
+                missingIds.add(statusId);
+            } //end if
+        } //end for
 
-        likesRetweetsLabel.setFont(Font.font(family, FontWeight.BOLD, size));
+        futures = new ArrayList<>();
 
-        dateTimeLabel = new Label(dateTimeString);
+        for (int start = 0; start < missingIds.size(); start += batchSize) {
+            end = Math.min(start + batchSize, missingIds.size());
 
-        dateTimeLabel.setFont(Font.font(family, FontWeight.BOLD, size));
+            batchIds = missingIds.subList(start, end);
 
-        if (accordion == null) {
-            vBox = new VBox(nameLabel, text, dateTimeLabel, likesRetweetsLabel);
-        } else {
-            accordion.prefWidthProperty()
-                     .bind(scene.widthProperty());
+            futures.add(this.lookupBatch(twitter, batchIds, idsToStatuses, failedIds));
+        } //end for
 
-            vBox = new VBox(nameLabel, text, accordion, dateTimeLabel, likesRetweetsLabel);
-        } //end if
+        futureArray = futures.toArray(new CompletableFuture<?>[0]);
 
-        vBox.setOnContextMenuRequested((contextMenuEvent) -> {
-            double screenX;
-            double screenY;
+        return CompletableFuture.allOf(futureArray)
+                                .thenApply((ignored) -> {
+                                    List<Status> statuses;
+                                    Status status;
 
-            screenX = contextMenuEvent.getScreenX();
+                                    statuses = new ArrayList<>();
 
-            screenY = contextMenuEvent.getScreenY();
+                                    for (Long statusId : statusIds) {
+                                        status = idsToStatuses.get(statusId);
 
-            this.displayContextMenu(vBox, screenX, screenY);
-        });
+                                        if (status != null) {
+                                            statuses.add(status);
+                                        } //end if
+                                    } //end for
 
-        return vBox;
-    } //createPostBox
+                                    return statuses;
+                                });
+    } //getStatuses
 
-        /**
-     * Updates the posts of this Twitter post controller.
+    /**
+     * Returns a scene of the saved posts of this Twitter post controller. The scene is returned at once, and the saved
+     * posts are added to it, and to the all saved box, on the JavaFX application thread once they have been looked
+     * up.
+     *
+     * @return a scene of the saved posts of this Twitter post controller
      */
     public Scene getSavedPosts() {
         TwitterModel twitterModel;
         Twitter twitter;
-        List<Status> statuses;
-        List<Node> nodes;
-        List<Node> nodeCopies;
-        long id;
-        VBox vBox;
-        VBox vBoxCopy;
-        TwitterPost post;
-        PostView postView;
-        VBox twitterBox;
-        VBox allBox;
+        VBox savedBox;
+        Scene scene;
 
         twitterModel = this.model.getTwitterModel();
 
@@ -757,21 +628,11 @@ public final class TwitterPostController {
 
         twitter = twitterModel.getTwitter();
 
-        nodes = new ArrayList<>();
-
-        nodeCopies = new ArrayList<>();
-
-        postView = this.view.getPostView();
-
-        twitterBox = postView.getTwitterBox();
-
-        allBox = postView.getAllBox();
-
         String savedPostsFileName = "twitter-saved-posts.txt";
 
         File file = new File(savedPostsFileName);
 
-        statuses = new ArrayList<Status>();
+        List<Long> statusIds = new ArrayList<>();
 
         try {
             //file.createNewFile();
@@ -780,19 +641,58 @@ public final class TwitterPostController {
                 String line = scanner.nextLine();
                 line = line.replace("\n", "");
                 Long tempId = Long.parseLong(line);
-                statuses.add(twitter.showStatus(tempId));
+                statusIds.add(tempId);
             }
             scanner.close();
         } catch (Exception f) {
             f.printStackTrace();
         }
 
+        savedBox = new VBox();
+
+        if (this.allSavedBox == null) {
+            this.allSavedBox = new VBox();
+        } //end if
+
+        this.view.getPostView()
+                 .applyStyle(savedBox);
+
+        scene = new Scene(savedBox, 500, 300);
+
+        this.getStatuses(twitter, statusIds)
+            .thenAcceptAsync((statuses) -> this.addSavedPosts(statuses, savedBox), Platform::runLater);
+
+        return scene;
+    } //getSavedPosts
+
+    /**
+     * Adds boxes of the specified saved statuses to the specified saved box, and replaces the contents of the all
+     * saved box of this Twitter post controller with copies of them. This must be called on the JavaFX application
+     * thread.
+     *
+     * @param statuses the statuses to be used in the operation
+     * @param savedBox the saved box to be used in the operation
+     */
+    private void addSavedPosts(List<Status> statuses, VBox savedBox) {
+        List<Node> nodes;
+        List<Node> nodeCopies;
+        long id;
+        VBox vBox;
+        VBox vBoxCopy;
+        TwitterPost post;
+
+        nodes = new ArrayList<>();
+
+        nodeCopies = new ArrayList<>();
+
         for (Status status : statuses) {
             id = status.getId();
 
-            vBox = this.createBox(status, false);
+            post = (TwitterPost) this.postStore.retain(new TwitterPost(status));
+
+            vBox = this.createBox(post, false);
 
-            vBoxCopy = this.createBox(status, true);
+            vBoxCopy = this.createBox(post, true);
 
             nodes.add(vBox);
 
@@ -802,32 +702,17 @@ public final class TwitterPostController {
 
             nodeCopies.add(new Separator());
 
-            if (!this.savedIds.contains(id)) {
-                this.savedIds.add(id);
+            if (this.savedIds.add(id)) {
                 this.ids.add(id);
-
-                post = new TwitterPost(status);
-
-                this.boxesToPosts.put(vBox, post);
-
-                this.boxesToPosts.put(vBoxCopy, post);
             } //end if
         } //end for
 
-        VBox savedBox = new VBox();
-
-        if(this.allSavedBox == null) {
-            this.allSavedBox = new VBox();
-        }
-
-        savedBox.getChildren().addAll(0, nodes);
-
-        allSavedBox.getChildren().addAll(0, nodeCopies);
+        savedBox.getChildren()
+                .addAll(0, nodes);
 
-        Scene scene = new Scene(savedBox, 500, 300);
-
-        return scene;
-    } //updatePosts
+        this.allSavedBox.getChildren()
+                        .setAll(nodeCopies);
+    } //addSavedPosts
 
     /**
      * Gets liked posts from the Twitter account
@@ -848,61 +733,184 @@ public final class TwitterPostController {
         }
         if (likedPosts.size() != 0) {
             for(Status status : likedPosts) {
-                //post = new TwitterPost(status);
-                vBox = this.createBox(status, false);
+                post = (TwitterPost) this.postStore.retain(new TwitterPost(status));
+                vBox = this.createBox(post, false);
                 nodes.add(vBox);
                 nodes.add(new Separator());
             }
         }
         VBox allTwitterLikedPosts = new VBox();
         allTwitterLikedPosts.getChildren().addAll(0,nodes);
+        this.view.getPostView()
+                 .applyStyle(allTwitterLikedPosts);
+
         Scene scene = new Scene(allTwitterLikedPosts,500,300);
         return scene;
     }
 
+    /**
+     * Fetches up to the specified number of pages of the specified gap of the home timeline of the specified Twitter
+     * instance from the top down, adds their statuses to the specified list of statuses, and returns the part of the
+     * gap that is still unfetched. A page that could not be retrieved ends the backfill early.
+     *
+     * @param twitter the Twitter instance to be used in the operation
+     * @param gap the gap to be used in the operation
+     * @param maxPages the maximum number of pages to be fetched
+     * @param statuses the list of statuses to be used in the operation
+     * @return the part of the specified gap that is still unfetched, or {@code null} if the gap has been closed
+     */
+    private Gap backfill(Twitter twitter, Gap gap, int maxPages, List<Status> statuses) {
+        int count = 50;
+        long maxId;
+        Paging paging;
+        List<Status> page;
+
+        maxId = gap.maxId;
+
+        for (int i = 0; i < maxPages; i++) {
+            paging = new Paging();
+
+            paging.setCount(count);
+
+            paging.setSinceId(gap.sinceId);
+
+            paging.setMaxId(maxId);
+
+            try {
+                page = twitter.getHomeTimeline(paging);
+            } catch (TwitterException e) {
+                e.printStackTrace();
+
+                break;
+            } //end try catch
+
+            statuses.addAll(page);
+
+            if (page.size() < count) {
+                return null;
+            } //end if
+
+            maxId = page.get(page.size() - 1)
+                        .getId() - 1;
+        } //end for
+
+        return new Gap(gap.sinceId, maxId);
+    } //backfill
+
+    /**
+     * Adds the statuses of the specified Twitter instance's home timeline that are newer than the newest status seen
+     * to the specified list of statuses, newest first, and returns the gap that is left to be backfilled. If a full
+     * page of newer statuses is returned, the gap between that page and the newest status seen is backfilled using
+     * {@code max_id} paging, for a bounded number of pages. Otherwise, the specified gap that was left by a previous
+     * poll is backfilled, and its statuses are added after the newer ones. A gap is never dropped, so every status
+     * of the home timeline is eventually fetched, but a resumed gap is added above the posts already displayed.
+     *
+     * @param twitter the Twitter instance to be used in the operation
+     * @param currentSinceId the ID of the newest status seen, or {@code 0} if no status has been seen
+     * @param currentGap the gap that was left by a previous poll, or {@code null} if there is none
+     * @param statuses the list of statuses to be used in the operation
+     * @return the gap that is left to be backfilled, or {@code null} if there is none
+     * @throws TwitterException if the first page of statuses could not be retrieved
+     */
+    private Gap getNewStatuses(Twitter twitter, long currentSinceId, Gap currentGap,
+                               List<Status> statuses) throws TwitterException {
+        int count = 50;
+        int maxBackfillPages = 4;
+        Paging paging;
+        List<Status> page;
+        long maxId;
+        Gap nextGap;
+
+        paging = new Paging();
+
+        paging.setCount(count);
+
+        if (currentSinceId > 0) {
+            paging.setSinceId(currentSinceId);
+        } //end if
+
+        page = twitter.getHomeTimeline(paging);
+
+        statuses.addAll(page);
+
+        if ((currentSinceId > 0) && (page.size() == count)) {
+            maxId = page.get(page.size() - 1)
+                        .getId() - 1;
+
+            nextGap = this.backfill(twitter, new Gap(currentSinceId, maxId), maxBackfillPages, statuses);
+
+            if (nextGap == null) {
+                return currentGap;
+            } else if (currentGap == null) {
+                return nextGap;
+            } //end if
+
+            return new Gap(currentGap.sinceId, nextGap.maxId);
+        } //end if
+
+        if (currentGap == null) {
+            return null;
+        } //end if
+
+        return this.backfill(twitter, currentGap, maxBackfillPages, statuses);
+    } //getNewStatuses
+
     /**
      * Updates the posts of this Twitter post controller.
+     *
+     * @return the number of new posts, or {@code -1} if the posts could not be retrieved
      */
-    public void updatePosts() {
+    public int updatePosts() {
         TwitterModel twitterModel;
         Twitter twitter;
-        Paging paging;
-        int count = 50;
+        long currentGeneration;
+        boolean refresh;
+        long currentSinceId;
+        Gap currentGap;
         List<Status> statuses;
-        List<Node> nodes;
-        List<Node> nodeCopies;
+        Gap nextGap;
         long id;
-        VBox vBox;
-        VBox vBoxCopy;
-        TwitterPost post;
-        PostView postView;
-        VBox twitterBox;
-        VBox allBox;
 
         twitterModel = this.model.getTwitterModel();
 
         if (twitterModel == null) {
-            return;
+            return 0;
         } //end if
 
         twitter = twitterModel.getTwitter();
 
-        paging = new Paging();
+        this.feedLock.lock();
 
-        paging.setCount(count);
+        try {
+            refresh = this.updateAll;
+
+            if (refresh) {
+                this.updateAll = false;
+
+                this.sinceId = 0L;
+
+                this.gap = null;
+            } //end if
+
+            currentGeneration = this.generation;
+
+            currentSinceId = this.sinceId;
+
+            currentGap = this.gap;
+        } finally {
+            this.feedLock.unlock();
+        } //end try finally
+
+        statuses = new ArrayList<>();
 
         try {
-            statuses = twitter.getHomeTimeline(paging);
+            nextGap = this.getNewStatuses(twitter, currentSinceId, currentGap, statuses);
         } catch (TwitterException e) {
             e.printStackTrace();
 
-            return;
+            return -1;
         } //end try catch
 
-        nodes = new ArrayList<>();
-
-        nodeCopies = new ArrayList<>();
-
         if(!sortByTime) {
             // sort by popularity
             Collections.sort(statuses, new Comparator<Status>() {
@@ -912,146 +920,315 @@ public final class TwitterPostController {
             });
         }
 
+        this.feedLock.lock();
+
+        try {
+            if (currentGeneration != this.generation) {
+                return 0;
+            } //end if
+
+            this.gap = nextGap;
+
+            for (Status status : statuses) {
+                id = status.getId();
+
+                if (id > this.sinceId) {
+                    this.sinceId = id;
+                } //end if
+            } //end for
+
+            return this.addStatuses(statuses, refresh);
+        } finally {
+            this.feedLock.unlock();
+        } //end try finally
+    } //updatePosts
+
+    /**
+     * Adds posts for the specified statuses that have not been seen yet to the Twitter list and all list. The
+     * specified statuses are added in order, above the posts that are already displayed, or in place of them if the
+     * feed is refreshed.
+     *
+     * @param statuses the statuses to be used in the operation
+     * @param refresh whether or not the feed is refreshed, which is only the case if the specified statuses were
+     * fetched from the top of the home timeline
+     * @return the number of statuses that had not been seen yet
+     */
+    private int addStatuses(List<Status> statuses, boolean refresh) {
+        List<Post> posts;
+        long id;
+        PostView postView;
+        ListView<Post> twitterList;
+        Timeline allTimeline;
+        FeedDispatcher dispatcher;
+        int newPosts = 0;
+
+        posts = new ArrayList<>();
+
         postView = this.view.getPostView();
 
-        twitterBox = postView.getTwitterBox();
+        twitterList = postView.getTwitterList();
 
-        allBox = postView.getAllBox();
+        allTimeline = postView.getAllTimeline();
 
-        if(updateAll) {
-            //clear data
-            twitterBox.getChildren().clear();
-            this.ids.clear();
-            boxesToPosts.clear();
-            updateAll = false;
-        }
+        dispatcher = postView.getFeedDispatcher();
 
-        for (Status status : statuses) {
-            id = status.getId();
+        this.feedLock.lock();
 
-            if (!this.ids.contains(id)) {
-                this.ids.add(id);
+        try {
+            if(refresh) {
+                //clear data
+                dispatcher.execute(() -> {
+                    twitterList.getItems()
+                               .clear();
 
-                vBox = this.createBox(status, false);
+                    allTimeline.removeIf((post) -> post instanceof TwitterPost);
 
-                vBoxCopy = this.createBox(status, true);
+                    this.postStore.removeFeed(Network.TWITTER);
 
-                nodes.add(vBox);
+                    this.window.clear();
+                });
+                this.ids.clear();
+            }
 
-                nodes.add(new Separator());
+            for (Status status : statuses) {
+                id = status.getId();
 
-                nodeCopies.add(vBoxCopy);
+                if (this.ids.add(id)) {
+                    newPosts++;
 
-                nodeCopies.add(new Separator());
+                    posts.add((TwitterPost) this.postStore.intern(new TwitterPost(status)));
+                } //end if
+            } //end for
 
-                post = new TwitterPost(status);
+            if (newPosts > 0) {
+                dispatcher.prepend(twitterList, posts);
 
-                this.boxesToPosts.put(vBox, post);
+                dispatcher.merge(posts);
 
-                this.boxesToPosts.put(vBoxCopy, post);
+                dispatcher.execute(() -> this.window.trim(twitterList.getItems(), allTimeline)
+                                                    .forEach(this.postStore::remove));
             } //end if
-        } //end for
+        } finally {
+            this.feedLock.unlock();
+        } //end try finally
 
-        Platform.runLater(() -> twitterBox.getChildren()
-                                          .addAll(0, nodes));
+        return newPosts;
+    } //addStatuses
 
-        Platform.runLater(() -> {
-            this.allBoxLock.lock();
+    /**
+     * Adds a box for the specified status, which was delivered by a stream, to the Twitter box and all box, unless it
+     * has already been seen. The ID of the newest status polled is not advanced, so that a later poll still fills any
+     * gap in front of the specified status.
+     *
+     * @param status the status to be used in the operation
+     * @return {@code true}, if the specified status had not been seen yet, and {@code false} otherwise
+     * @throws NullPointerException if the specified status is {@code null}
+     */
+    public boolean addStreamedStatus(Status status) {
+        Objects.requireNonNull(status, "the specified status is null");
 
-            try {
-                allBox.getChildren()
-                      .addAll(0, nodeCopies);
-            } finally {
-                this.allBoxLock.unlock();
-            } //end try finally
-        });
-    } //updatePosts
+        return this.addStatuses(List.of(status), false) > 0;
+    } //addStreamedStatus
 
     /**
-     * Resets this Twitter post controller.
+     * Loads the posts that were most recently evicted from the feed window of this Twitter post controller, and
+     * appends them to the end of the feed. Statuses that no longer exist are skipped, and the IDs of statuses that
+     * could not be looked up are put back, to be restored later. If a page is already being loaded, or no posts were
+     * evicted, this method does nothing.
      */
-    public void reset() {
+    public void loadOlderPosts() {
+        TwitterModel twitterModel;
+        Twitter twitter;
+        long currentGeneration;
+        List<Long> statusIds;
+        Set<Long> failedIds;
+        List<String> putBackIds;
+        List<Post> posts;
         PostView postView;
-        VBox twitterBox;
-        Set<Map.Entry<VBox, Post>> entrySet;
-        Iterator<Map.Entry<VBox, Post>> iterator;
-        VBox allBox;
-        Map.Entry<VBox, Post> entry;
-        VBox key;
-        Post value;
-        List<Node> children;
-        int separatorIndex;
-        int size;
+        ListView<Post> twitterList;
+        FeedDispatcher dispatcher;
 
-        this.executorService.shutdownNow();
+        twitterModel = this.model.getTwitterModel();
+
+        if (twitterModel == null) {
+            return;
+        } //end if
+
+        if (!this.pageLock.tryLock()) {
+            return;
+        } //end if
 
-        this.executorService = Executors.newSingleThreadScheduledExecutor();
+        twitter = twitterModel.getTwitter();
 
-        this.ids.clear();
+        posts = new ArrayList<>();
 
         postView = this.view.getPostView();
 
-        twitterBox = postView.getTwitterBox();
+        twitterList = postView.getTwitterList();
+
+        dispatcher = postView.getFeedDispatcher();
+
+        try {
+            this.feedLock.lock();
+
+            try {
+                currentGeneration = this.generation;
+            } finally {
+                this.feedLock.unlock();
+            } //end try finally
+
+            while (posts.isEmpty() && this.window.hasSpilled()) {
+                statusIds = new ArrayList<>();
 
-        entrySet = this.boxesToPosts.entrySet();
+                for (String id : this.window.restore()) {
+                    try {
+                        statusIds.add(Long.parseLong(id));
+                    } catch (NumberFormatException e) {
+                        e.printStackTrace();
+                    } //end try catch
+                } //end for
 
-        iterator = entrySet.iterator();
+                failedIds = ConcurrentHashMap.newKeySet();
 
-        allBox = postView.getAllBox();
+                for (Status status : this.getStatuses(twitter, statusIds, failedIds).join()) {
+                    posts.add((TwitterPost) this.postStore.intern(new TwitterPost(status)));
+                } //end for
 
-        twitterBox.getChildren()
-                  .clear();
+                if (!failedIds.isEmpty()) {
+                    putBackIds = new ArrayList<>();
 
-        while (iterator.hasNext()) {
-            entry = iterator.next();
+                    for (Long statusId : statusIds) {
+                        if (failedIds.contains(statusId)) {
+                            putBackIds.add(String.valueOf(statusId));
+                        } //end if
+                    } //end for
 
-            key = entry.getKey();
+                    this.window.putBack(putBackIds);
 
-            value = entry.getValue();
+                    break;
+                } //end if
+            } //end while
 
-            if (value instanceof TwitterPost) {
-                iterator.remove();
+            this.feedLock.lock();
 
-                this.allBoxLock.lock();
+            try {
+                if ((currentGeneration != this.generation) || posts.isEmpty()) {
+                    return;
+                } //end if
+
+                dispatcher.append(twitterList, posts);
+
+                dispatcher.merge(posts);
+            } finally {
+                this.feedLock.unlock();
+            } //end try finally
+        } finally {
+            this.pageLock.unlock();
+        } //end try finally
+    } //loadOlderPosts
 
-                try {
-                    children = allBox.getChildren();
+    /**
+     * Resets this Twitter post controller. The results of an update that is already running are discarded once it
+     * completes.
+     */
+    public void reset() {
+        PostView postView;
+        ListView<Post> twitterList;
+        Timeline allTimeline;
+        FeedDispatcher dispatcher;
 
-                    separatorIndex = children.indexOf(key) + 1;
+        postView = this.view.getPostView();
 
-                    size = children.size();
+        twitterList = postView.getTwitterList();
 
-                    if (separatorIndex < size) {
-                        children.remove(separatorIndex);
-                    } //end if
+        allTimeline = postView.getAllTimeline();
 
-                    children.remove(key);
-                } finally {
-                    this.allBoxLock.unlock();
-                } //end try finally
-            } //end if
-        } //end while
+        dispatcher = postView.getFeedDispatcher();
+
+        this.feedLock.lock();
+
+        try {
+            this.generation++;
+
+            this.ids.clear();
+
+            this.sinceId = 0L;
+
+            this.gap = null;
+
+            this.statusCache.clear();
+
+            dispatcher.execute(() -> {
+                twitterList.getItems()
+                           .clear();
+
+                allTimeline.removeIf((post) -> post instanceof TwitterPost);
+
+                this.postStore.removeNetwork(Network.TWITTER);
+
+                this.window.clear();
+            });
+        } finally {
+            this.feedLock.unlock();
+        } //end try finally
     } //reset
 
     /**
-     * Creates, and returns, a {@code TwitterPostController} object using the specified model, view, map from boxes to
-     * posts, and all box lock.
+     * Creates, and returns, a {@code TwitterPostController} object using the specified model, view, and post store.
      *
      * @param model the model to be used in the operation
      * @param view the view to be used in the operation
-     * @param boxesToPosts the map from boxes to posts to be used in the operation
-     * @param allBoxLock the all box lock to be used in the operation
-     * @return a {@code TwitterPostController} object using the specified model, view, map from boxes to posts, and all
-     * box lock
-     * @throws NullPointerException if the specified model, view, map from boxes to posts, or all box lock is
-     * {@code null}
+     * @param postStore the post store to be used in the operation
+     * @return a {@code TwitterPostController} object using the specified model, view, and post store
+     * @throws NullPointerException if the specified model, view, or post store is {@code null}
      */
-    public static TwitterPostController createTwitterPostController(Model model, View view,
-                                                                    Map<VBox, Post> boxesToPosts, Lock allBoxLock) {
-        return new TwitterPostController(model, view, boxesToPosts, allBoxLock);
+    public static TwitterPostController createTwitterPostController(Model model, View view, PostStore postStore) {
+        return new TwitterPostController(model, view, postStore);
     } //createTwitterPostController
 
-    public Map<VBox, Post> getBoxesToPosts() {
-        return this.boxesToPosts;
+    public PostStore getPostStore() {
+        return this.postStore;
+    }
+
+    /**
+     * An action of the context menu of a Twitter post, which returns the status of the post after the action.
+     */
+    @FunctionalInterface
+    private interface StatusAction {
+        /**
+         * Performs this action, and returns the status of its post after the action.
+         *
+         * @return the status of the post of this action after the action
+         * @throws TwitterException if this action could not be performed
+         */
+        Status perform() throws TwitterException;
+    }
+
+    /**
+     * A gap of the home timeline, which lies below statuses that have been fetched and above the status with the ID
+     * that bounds it from below. A gap is fetched from the top down using {@code max_id} paging.
+     */
+    private static final class Gap {
+        /**
+         * The ID of the status that bounds this gap from below.
+         */
+        private final long sinceId;
+
+        /**
+         * The maximum ID of the next page of this gap.
+         */
+        private final long maxId;
+
+        /**
+         * Constructs a newly allocated {@code Gap} object with the specified since ID and maximum ID.
+         *
+         * @param sinceId the since ID to be used in construction
+         * @param maxId the maximum ID to be used in construction
+         */
+        private Gap(long sinceId, long maxId) {
+            this.sinceId = sinceId;
+
+            this.maxId = maxId;
+        } //Gap
     }
 }
\ No newline at end of file
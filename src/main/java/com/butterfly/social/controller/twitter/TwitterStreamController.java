@@ -0,0 +1,381 @@
+package com.butterfly.social.controller.twitter;
+
+import com.butterfly.social.controller.FeedScheduler;
+import com.butterfly.social.model.Model;
+import com.butterfly.social.model.Network;
+import com.butterfly.social.model.twitter.TwitterModel;
+import twitter4j.ConnectionLifeCycleListener;
+import twitter4j.FilterQuery;
+import twitter4j.IDs;
+import twitter4j.Status;
+import twitter4j.StatusAdapter;
+import twitter4j.Twitter;
+import twitter4j.TwitterException;
+import twitter4j.TwitterStream;
+import twitter4j.TwitterStreamFactory;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * A stream controller of the Social Butterfly application for the Twitter home timeline. The controller keeps a
+ * long-lived filter stream that follows the accounts the user follows, and feeds statuses into the Twitter post
+ * controller as they arrive. Polling is suspended while the stream is connected, and resumes as a fallback while the
+ * stream reconnects.
+ *
+ * @author Logan Kulinski, lbk@purdue.edu
+ * @version April 25, 2021
+ */
+public final class TwitterStreamController {
+    /**
+     * The enabled property of the {@code TwitterStreamController} class.
+     */
+    private static final String enabledProperty = "social.butterfly.twitter.stream";
+
+    /**
+     * The maximum number of accounts that a filter stream of the {@code TwitterStreamController} class follows.
+     */
+    private static final int maxFollowIds = 5000;
+
+    /**
+     * The Twitter supplier of this Twitter stream controller, which supplies {@code null} when no account is logged in.
+     */
+    private final Supplier<Twitter> twitterSupplier;
+
+    /**
+     * The status consumer of this Twitter stream controller.
+     */
+    private final Consumer<Status> statusConsumer;
+
+    /**
+     * The update of this Twitter stream controller, which polls the home timeline.
+     */
+    private final IntSupplier update;
+
+    /**
+     * The feed scheduler of this Twitter stream controller.
+     */
+    private final FeedScheduler feedScheduler;
+
+    /**
+     * The followed IDs of this Twitter stream controller.
+     */
+    private final Set<Long> followedIds;
+
+    /**
+     * Whether or not the followed IDs of this Twitter stream controller were truncated to the maximum that a filter
+     * stream follows.
+     */
+    private volatile boolean truncated;
+
+    /**
+     * The Twitter stream of this Twitter stream controller, or {@code null} if it is not streaming.
+     */
+    private TwitterStream twitterStream;
+
+    /**
+     * Constructs a newly allocated {@code TwitterStreamController} object with the specified Twitter supplier, status
+     * consumer, update, and feed scheduler.
+     *
+     * @param twitterSupplier the Twitter supplier to be used in construction
+     * @param statusConsumer the status consumer to be used in construction
+     * @param update the update to be used in construction
+     * @param feedScheduler the feed scheduler to be used in construction
+     */
+    private TwitterStreamController(Supplier<Twitter> twitterSupplier, Consumer<Status> statusConsumer,
+                                    IntSupplier update, FeedScheduler feedScheduler) {
+        this.twitterSupplier = twitterSupplier;
+
+        this.statusConsumer = statusConsumer;
+
+        this.update = update;
+
+        this.feedScheduler = feedScheduler;
+
+        this.followedIds = ConcurrentHashMap.newKeySet();
+
+        this.truncated = false;
+
+        this.twitterStream = null;
+    } //TwitterStreamController
+
+    /**
+     * Returns whether or not the streaming mode is enabled. The mode is enabled with the
+     * {@code social.butterfly.twitter.stream} system property. The endpoint of the stream may be pointed at a local
+     * stand-in server with the {@code twitter4j.streamBaseURL} system property.
+     *
+     * @return {@code true}, if the streaming mode is enabled, and {@code false} otherwise
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(enabledProperty);
+    } //isEnabled
+
+    /**
+     * Returns whether or not this Twitter stream controller is streaming.
+     *
+     * @return {@code true}, if this Twitter stream controller is streaming, and {@code false} otherwise
+     */
+    public synchronized boolean isStreaming() {
+        return this.twitterStream != null;
+    } //isStreaming
+
+    /**
+     * Returns whether or not the followed IDs of this Twitter stream controller were truncated to the maximum that a
+     * filter stream follows.
+     *
+     * @return {@code true}, if the followed IDs of this Twitter stream controller were truncated, and {@code false}
+     * otherwise
+     */
+    boolean isTruncated() {
+        return this.truncated;
+    } //isTruncated
+
+    /**
+     * Returns the followed IDs of this Twitter stream controller.
+     *
+     * @return the followed IDs of this Twitter stream controller
+     */
+    Set<Long> getFollowedIds() {
+        return Set.copyOf(this.followedIds);
+    } //getFollowedIds
+
+    /**
+     * Updates the followed IDs of this Twitter stream controller using the specified Twitter instance. The user's own
+     * ID is included, so that the user's own statuses are streamed as well. A filter stream follows at most 5000
+     * accounts, so the IDs are truncated to the user's own ID and the most recently followed accounts, and the
+     * truncation is logged.
+     *
+     * @param twitter the Twitter instance to be used in the operation
+     * @throws TwitterException if the followed IDs could not be retrieved
+     */
+    private void updateFollowedIds(Twitter twitter) throws TwitterException {
+        long cursor = -1L;
+        IDs ids;
+        Set<Long> newIds;
+        boolean full;
+
+        newIds = new LinkedHashSet<>();
+
+        newIds.add(twitter.getId());
+
+        full = false;
+
+        do {
+            ids = twitter.getFriendsIDs(cursor);
+
+            for (long id : ids.getIDs()) {
+                if (newIds.size() < maxFollowIds) {
+                    newIds.add(id);
+                } else {
+                    full = true;
+
+                    break;
+                } //end if
+            } //end for
+
+            cursor = ids.getNextCursor();
+        } while (!full && ids.hasNext());
+
+        this.followedIds.clear();
+
+        this.followedIds.addAll(newIds);
+
+        this.truncated = full;
+
+        if (full) {
+            System.err.printf("The Twitter stream follows only %d accounts, so the home timeline is still polled%n",
+                              maxFollowIds);
+        } //end if
+    } //updateFollowedIds
+
+    /**
+     * Returns a listener that feeds the statuses of followed accounts into the Twitter post controller of this Twitter
+     * stream controller.
+     *
+     * @return a listener that feeds the statuses of followed accounts into the Twitter post controller
+     */
+    private StatusAdapter createStatusListener() {
+        return new StatusAdapter() {
+            @Override
+            public void onStatus(Status status) {
+                long userId;
+
+                userId = status.getUser()
+                               .getId();
+
+                if (followedIds.contains(userId)) {
+                    statusConsumer.accept(status);
+                } //end if
+            } //onStatus
+
+            @Override
+            public void onException(Exception e) {
+                e.printStackTrace();
+            } //onException
+        };
+    } //createStatusListener
+
+    /**
+     * Returns a listener that suspends polling while the stream of this Twitter stream controller is connected, and
+     * resumes it while the stream reconnects. Each connection starts with one poll, so that statuses sent while the
+     * stream was down are not missed. If the followed IDs were truncated, polling is never suspended, so that the
+     * accounts left out of the stream are still shown.
+     *
+     * @return a listener that switches between polling and streaming
+     */
+    private ConnectionLifeCycleListener createConnectionListener() {
+        return new ConnectionLifeCycleListener() {
+            @Override
+            public void onConnect() {
+                if (!truncated) {
+                    feedScheduler.cancel(Network.TWITTER);
+                } //end if
+
+                feedScheduler.execute(Network.TWITTER, update::getAsInt);
+            } //onConnect
+
+            @Override
+            public void onDisconnect() {
+                if (isStreaming() && (twitterSupplier.get() != null)) {
+                    feedScheduler.schedule(Network.TWITTER, update);
+                } //end if
+            } //onDisconnect
+
+            @Override
+            public void onCleanUp() {
+            } //onCleanUp
+        };
+    } //createConnectionListener
+
+    /**
+     * Starts streaming the home timeline of the current Twitter account in the background. The stream shares the
+     * configuration of the account's Twitter instance, and reconnects by itself with a backoff after a network or HTTP
+     * error. If the followed accounts cannot be retrieved, polling continues as before.
+     */
+    public void start() {
+        this.feedScheduler.execute(Network.TWITTER, () -> {
+            Twitter twitter;
+            TwitterStream stream;
+            FilterQuery query;
+            long[] follow;
+
+            twitter = this.twitterSupplier.get();
+
+            if (twitter == null) {
+                return;
+            } //end if
+
+            try {
+                this.updateFollowedIds(twitter);
+            } catch (TwitterException e) {
+                e.printStackTrace();
+
+                return;
+            } //end try catch
+
+            follow = this.followedIds.stream()
+                                     .mapToLong(Long::longValue)
+                                     .toArray();
+
+            query = new FilterQuery(follow);
+
+            synchronized (this) {
+                if (this.twitterStream != null) {
+                    return;
+                } //end if
+
+                stream = new TwitterStreamFactory(twitter.getConfiguration()).getInstance(twitter.getAuthorization());
+
+                stream.addListener(this.createStatusListener());
+
+                stream.addConnectionLifeCycleListener(this.createConnectionListener());
+
+                this.twitterStream = stream;
+            } //end synchronized
+
+            stream.filter(query);
+        });
+    } //start
+
+    /**
+     * Stops the stream of this Twitter stream controller, if it is streaming. Polling is not resumed.
+     */
+    public void stop() {
+        TwitterStream stream;
+
+        synchronized (this) {
+            stream = this.twitterStream;
+
+            this.twitterStream = null;
+        } //end synchronized
+
+        if (stream != null) {
+            stream.cleanUp();
+
+            stream.shutdown();
+        } //end if
+    } //stop
+
+    /**
+     * Creates, and returns, a {@code TwitterStreamController} object using the specified model, Twitter post
+     * controller, and feed scheduler.
+     *
+     * @param model the model to be used in the operation
+     * @param twitterPostController the Twitter post controller to be used in the operation
+     * @param feedScheduler the feed scheduler to be used in the operation
+     * @return a {@code TwitterStreamController} object using the specified model, Twitter post controller, and feed
+     * scheduler
+     * @throws NullPointerException if the specified model, Twitter post controller, or feed scheduler is {@code null}
+     */
+    public static TwitterStreamController createTwitterStreamController(Model model,
+                                                                        TwitterPostController twitterPostController,
+                                                                        FeedScheduler feedScheduler) {
+        Supplier<Twitter> twitterSupplier;
+
+        Objects.requireNonNull(model, "the specified model is null");
+
+        Objects.requireNonNull(twitterPostController, "the specified Twitter post controller is null");
+
+        Objects.requireNonNull(feedScheduler, "the specified feed scheduler is null");
+
+        twitterSupplier = () -> {
+            TwitterModel twitterModel = model.getTwitterModel();
+
+            return (twitterModel == null) ? null : twitterModel.getTwitter();
+        };
+
+        return new TwitterStreamController(twitterSupplier, twitterPostController::addStreamedStatus,
+                                           twitterPostController::updatePosts, feedScheduler);
+    } //createTwitterStreamController
+
+    /**
+     * Creates, and returns, a {@code TwitterStreamController} object using the specified Twitter supplier, status
+     * consumer, update, and feed scheduler.
+     *
+     * @param twitterSupplier the Twitter supplier to be used in the operation
+     * @param statusConsumer the status consumer to be used in the operation
+     * @param update the update to be used in the operation
+     * @param feedScheduler the feed scheduler to be used in the operation
+     * @return a {@code TwitterStreamController} object using the specified Twitter supplier, status consumer, update,
+     * and feed scheduler
+     * @throws NullPointerException if the specified Twitter supplier, status consumer, update, or feed scheduler is
+     * {@code null}
+     */
+    static TwitterStreamController createTwitterStreamController(Supplier<Twitter> twitterSupplier,
+                                                                 Consumer<Status> statusConsumer, IntSupplier update,
+                                                                 FeedScheduler feedScheduler) {
+        Objects.requireNonNull(twitterSupplier, "the specified Twitter supplier is null");
+
+        Objects.requireNonNull(statusConsumer, "the specified status consumer is null");
+
+        Objects.requireNonNull(update, "the specified update is null");
+
+        Objects.requireNonNull(feedScheduler, "the specified feed scheduler is null");
+
+        return new TwitterStreamController(twitterSupplier, statusConsumer, update, feedScheduler);
+    } //createTwitterStreamController
+}
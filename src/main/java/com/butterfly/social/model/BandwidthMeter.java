@@ -0,0 +1,91 @@
+package com.butterfly.social.model;
+
+/**
+ * A meter of the download throughput of the Social Butterfly application. Each download that is large enough to be
+ * dominated by transfer time, rather than latency, updates an exponentially weighted moving average of the
+ * throughput, and a stalled stream halves the estimate.
+ *
+ * @author Logan Kulinski, lbk@purdue.edu
+ * @version April 25, 2021
+ */
+public final class BandwidthMeter {
+    /**
+     * The meter of the {@code BandwidthMeter} class.
+     */
+    private static final BandwidthMeter meter;
+
+    /**
+     * The weight of a new sample of the {@code BandwidthMeter} class.
+     */
+    private static final double sampleWeight = 0.3;
+
+    /**
+     * The minimum number of bytes of a download that is sampled by the {@code BandwidthMeter} class.
+     */
+    private static final long minSampleBytes = 32L * 1024;
+
+    static {
+        meter = new BandwidthMeter(Long.getLong("social.butterfly.media.initialBandwidth", 1_500_000L));
+    } //static
+
+    /**
+     * The estimate of this bandwidth meter, in bits per second.
+     */
+    private double estimate;
+
+    /**
+     * Constructs a newly allocated {@code BandwidthMeter} object with the specified initial estimate.
+     *
+     * @param initialEstimate the initial estimate to be used in construction
+     */
+    private BandwidthMeter(long initialEstimate) {
+        this.estimate = Math.max(1L, initialEstimate);
+    } //BandwidthMeter
+
+    /**
+     * Records a download of the specified number of bytes that took the specified number of nanoseconds. Downloads
+     * that are too small to measure throughput are ignored.
+     *
+     * @param bytes the number of bytes to be used in the operation
+     * @param nanos the number of nanoseconds to be used in the operation
+     */
+    public synchronized void record(long bytes, long nanos) {
+        double seconds;
+        double sample;
+
+        if ((bytes < minSampleBytes) || (nanos <= 0)) {
+            return;
+        } //end if
+
+        seconds = nanos / 1_000_000_000.0;
+
+        sample = (bytes * 8) / seconds;
+
+        this.estimate = (sampleWeight * sample) + ((1 - sampleWeight) * this.estimate);
+    } //record
+
+    /**
+     * Records a stream that stalled, which halves the estimate of this bandwidth meter.
+     */
+    public synchronized void recordStall() {
+        this.estimate = Math.max(1.0, this.estimate / 2);
+    } //recordStall
+
+    /**
+     * Returns the estimate of this bandwidth meter, in bits per second.
+     *
+     * @return the estimate of this bandwidth meter, in bits per second
+     */
+    public synchronized long getEstimate() {
+        return (long) this.estimate;
+    } //getEstimate
+
+    /**
+     * Returns the meter of the {@code BandwidthMeter} class.
+     *
+     * @return the meter of the {@code BandwidthMeter} class
+     */
+    public static BandwidthMeter getMeter() {
+        return BandwidthMeter.meter;
+    } //getMeter
+}
@@ -0,0 +1,516 @@
+package com.butterfly.social.model;
+
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A two-tier image cache of the Social Butterfly application. Decoded images are kept in memory, in least recently
+ * used order, up to a number of decoded bytes, and downloaded images are kept on disk, keyed by their URL. Images are
+ * downloaded and decoded on background threads, downsampled to the width they are displayed at, and every request
+ * for an image that is already being loaded shares that load.
+ *
+ * @author Logan Kulinski, lbk@purdue.edu
+ * @version April 25, 2021
+ */
+public final class ImageCache {
+    /**
+     * The cache of the {@code ImageCache} class.
+     */
+    private static final ImageCache cache;
+
+    /**
+     * The step to which requested widths are rounded up, so that images displayed at similar widths share one entry.
+     */
+    private static final int widthStep = 128;
+
+    static {
+        long maxMemoryBytes;
+        long maxDiskBytes;
+
+        maxMemoryBytes = Long.getLong("social.butterfly.imageCache.memoryBytes", 64L * 1024 * 1024);
+
+        maxDiskBytes = Long.getLong("social.butterfly.imageCache.diskBytes", 256L * 1024 * 1024);
+
+        cache = new ImageCache(new File("image-cache"), maxMemoryBytes, maxDiskBytes);
+    } //static
+
+    /**
+     * The directory of this image cache.
+     */
+    private final File directory;
+
+    /**
+     * The map from keys to decoded images of this image cache, in least recently used order.
+     */
+    private final Map<String, Image> keysToImages;
+
+    /**
+     * The map from keys to in-flight loads of this image cache.
+     */
+    private final Map<String, CompletableFuture<Image>> keysToLoads;
+
+    /**
+     * The executor of this image cache.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The maximum number of decoded bytes that are kept in memory by this image cache.
+     */
+    private final long maxMemoryBytes;
+
+    /**
+     * The maximum number of bytes that are kept on disk by this image cache.
+     */
+    private final long maxDiskBytes;
+
+    /**
+     * The number of decoded bytes that are kept in memory by this image cache.
+     */
+    private long memoryBytes;
+
+    /**
+     * Constructs a newly allocated {@code ImageCache} object with the specified directory, maximum memory bytes, and
+     * maximum disk bytes.
+     *
+     * @param directory the directory to be used in construction
+     * @param maxMemoryBytes the maximum number of decoded bytes to be kept in memory
+     * @param maxDiskBytes the maximum number of bytes to be kept on disk
+     */
+    ImageCache(File directory, long maxMemoryBytes, long maxDiskBytes) {
+        AtomicInteger threadCount;
+        int poolSize = 4;
+
+        this.directory = directory;
+
+        this.keysToImages = new LinkedHashMap<>(16, 0.75f, true);
+
+        this.keysToLoads = new ConcurrentHashMap<>();
+
+        threadCount = new AtomicInteger();
+
+        this.executor = Executors.newFixedThreadPool(poolSize, (runnable) -> {
+            Thread thread;
+
+            thread = new Thread(runnable, "image-loader-" + threadCount.incrementAndGet());
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        this.maxMemoryBytes = maxMemoryBytes;
+
+        this.maxDiskBytes = maxDiskBytes;
+
+        this.memoryBytes = 0L;
+    } //ImageCache
+
+    /**
+     * Returns the key of the specified URL at the specified requested width.
+     *
+     * @param url the URL to be used in the operation
+     * @param requestedWidth the requested width to be used in the operation
+     * @return the key of the specified URL at the specified requested width
+     */
+    private static String getKey(String url, int requestedWidth) {
+        return String.format("%d@%s", requestedWidth, url);
+    } //getKey
+
+    /**
+     * Returns the specified width rounded up to the width step, or {@code 0} if the specified width is not positive,
+     * in which case images are decoded at their full width.
+     *
+     * @param width the width to be used in the operation
+     * @return the specified width rounded up to the width step, or {@code 0} if the specified width is not positive
+     */
+    private static int getRequestedWidth(double width) {
+        if (width <= 0) {
+            return 0;
+        } //end if
+
+        return (int) Math.ceil(width / widthStep) * widthStep;
+    } //getRequestedWidth
+
+    /**
+     * Returns the decoded image with the specified key, or {@code null} if it is not kept in memory.
+     *
+     * @param key the key to be used in the operation
+     * @return the decoded image with the specified key, or {@code null} if it is not kept in memory
+     */
+    synchronized Image getImage(String key) {
+        return this.keysToImages.get(key);
+    } //getImage
+
+    /**
+     * Keeps the specified decoded image in memory with the specified key, and evicts the least recently used images
+     * until the decoded bytes in memory are within the maximum. Images larger than the maximum are not kept.
+     *
+     * @param key the key to be used in the operation
+     * @param image the image to be used in the operation
+     */
+    synchronized void putImage(String key, Image image) {
+        long size;
+        Image oldImage;
+        Iterator<Map.Entry<String, Image>> iterator;
+        Map.Entry<String, Image> eldest;
+
+        size = ImageCache.getSize(image);
+
+        if (size > this.maxMemoryBytes) {
+            return;
+        } //end if
+
+        oldImage = this.keysToImages.put(key, image);
+
+        if (oldImage != null) {
+            this.memoryBytes -= ImageCache.getSize(oldImage);
+        } //end if
+
+        this.memoryBytes += size;
+
+        iterator = this.keysToImages.entrySet()
+                                    .iterator();
+
+        while ((this.memoryBytes > this.maxMemoryBytes) && iterator.hasNext()) {
+            eldest = iterator.next();
+
+            this.memoryBytes -= ImageCache.getSize(eldest.getValue());
+
+            iterator.remove();
+        } //end while
+    } //putImage
+
+    /**
+     * Returns the number of decoded bytes that are kept in memory by this image cache.
+     *
+     * @return the number of decoded bytes that are kept in memory by this image cache
+     */
+    synchronized long getMemoryBytes() {
+        return this.memoryBytes;
+    } //getMemoryBytes
+
+    /**
+     * Returns the number of bytes of the specified decoded image.
+     *
+     * @param image the image to be used in the operation
+     * @return the number of bytes of the specified decoded image
+     */
+    private static long getSize(Image image) {
+        int bytesPerPixel = 4;
+
+        return (long) image.getWidth() * (long) image.getHeight() * bytesPerPixel;
+    } //getSize
+
+    /**
+     * Returns the file of the specified URL in the directory of this image cache.
+     *
+     * @param url the URL to be used in the operation
+     * @return the file of the specified URL in the directory of this image cache
+     */
+    private File getFile(String url) {
+        MessageDigest digest;
+        byte[] hash;
+        String fileName;
+
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } //end try catch
+
+        hash = digest.digest(url.getBytes(StandardCharsets.UTF_8));
+
+        fileName = String.format("%064x", new BigInteger(1, hash));
+
+        return new File(this.directory, fileName);
+    } //getFile
+
+    /**
+     * Returns the bytes of the image with the specified URL. The bytes are read from disk if they have been
+     * downloaded, and are otherwise downloaded and written to disk.
+     *
+     * @param url the URL to be used in the operation
+     * @return the bytes of the image with the specified URL
+     * @throws IOException if an I/O error occurs
+     */
+    private byte[] readBytes(String url) throws IOException {
+        File file;
+        byte[] bytes;
+        long startTime;
+        File temporaryFile;
+
+        file = this.getFile(url);
+
+        if (file.isFile()) {
+            try {
+                bytes = Files.readAllBytes(file.toPath());
+
+                file.setLastModified(System.currentTimeMillis());
+
+                return bytes;
+            } catch (IOException e) {
+                e.printStackTrace();
+            } //end try catch
+        } //end if
+
+        startTime = System.nanoTime();
+
+        try (InputStream inputStream = new URL(url).openStream()) {
+            bytes = inputStream.readAllBytes();
+        } //end try
+
+        BandwidthMeter.getMeter()
+                      .record(bytes.length, System.nanoTime() - startTime);
+
+        temporaryFile = new File(this.directory, file.getName() + ".tmp");
+
+        try {
+            Files.createDirectories(this.directory.toPath());
+
+            Files.write(temporaryFile.toPath(), bytes);
+
+            Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                       StandardCopyOption.ATOMIC_MOVE);
+
+            this.trimDisk();
+        } catch (IOException e) {
+            e.printStackTrace();
+        } //end try catch
+
+        return bytes;
+    } //readBytes
+
+    /**
+     * Deletes the least recently used files of this image cache until the bytes on disk are within the maximum.
+     */
+    private synchronized void trimDisk() {
+        File[] files;
+        long diskBytes = 0L;
+
+        files = this.directory.listFiles(File::isFile);
+
+        if (files == null) {
+            return;
+        } //end if
+
+        for (File file : files) {
+            diskBytes += file.length();
+        } //end for
+
+        if (diskBytes <= this.maxDiskBytes) {
+            return;
+        } //end if
+
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+
+        for (File file : files) {
+            if (diskBytes <= this.maxDiskBytes) {
+                break;
+            } //end if
+
+            diskBytes -= file.length();
+
+            if (!file.delete()) {
+                diskBytes += file.length();
+            } //end if
+        } //end for
+    } //trimDisk
+
+    /**
+     * Returns the width of the image with the specified bytes, which is read from its header without decoding it, or
+     * {@code -1} if it could not be read.
+     *
+     * @param bytes the bytes to be used in the operation
+     * @return the width of the image with the specified bytes, or {@code -1} if it could not be read
+     */
+    private static int readWidth(byte[] bytes) {
+        Iterator<ImageReader> readers;
+        ImageReader reader;
+
+        try (ImageInputStream inputStream = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            if (inputStream == null) {
+                return -1;
+            } //end if
+
+            readers = ImageIO.getImageReaders(inputStream);
+
+            if (!readers.hasNext()) {
+                return -1;
+            } //end if
+
+            reader = readers.next();
+
+            try {
+                reader.setInput(inputStream, true, true);
+
+                return reader.getWidth(0);
+            } finally {
+                reader.dispose();
+            } //end try finally
+        } catch (IOException e) {
+            return -1;
+        } //end try catch
+    } //readWidth
+
+    /**
+     * Downloads, or reads from disk, and decodes the image with the specified URL at the specified requested width.
+     * Images that are not wider than the requested width are decoded at their full width, so they are never scaled
+     * up.
+     *
+     * @param url the URL to be used in the operation
+     * @param requestedWidth the requested width to be used in the operation
+     * @return the decoded image with the specified URL
+     * @throws IOException if an I/O error occurs, or if the image could not be decoded
+     */
+    private Image decode(String url, int requestedWidth) throws IOException {
+        byte[] bytes;
+        int sourceWidth;
+        int decodedWidth = requestedWidth;
+        Image image;
+
+        bytes = this.readBytes(url);
+
+        sourceWidth = ImageCache.readWidth(bytes);
+
+        if ((sourceWidth > 0) && (sourceWidth <= requestedWidth)) {
+            decodedWidth = 0;
+        } //end if
+
+        image = new Image(new ByteArrayInputStream(bytes), decodedWidth, 0, true, true);
+
+        if (image.isError()) {
+            throw new IOException("the image could not be decoded", image.getException());
+        } //end if
+
+        return image;
+    } //decode
+
+    /**
+     * Loads the image with the specified URL, downsampled to the specified width. An image that is kept in memory is
+     * returned immediately, and a load of an image that is already being loaded is shared.
+     *
+     * @param url the URL to be used in the operation
+     * @param width the width at which the image is displayed, or {@code 0} to decode the image at its full width
+     * @return a future of the image with the specified URL
+     * @throws NullPointerException if the specified URL is {@code null}
+     */
+    public CompletableFuture<Image> load(String url, double width) {
+        int requestedWidth;
+        String key;
+        Image image;
+        CompletableFuture<Image> future;
+        CompletableFuture<Image> existingFuture;
+
+        Objects.requireNonNull(url, "the specified URL is null");
+
+        requestedWidth = ImageCache.getRequestedWidth(width);
+
+        key = ImageCache.getKey(url, requestedWidth);
+
+        image = this.getImage(key);
+
+        if (image != null) {
+            return CompletableFuture.completedFuture(image);
+        } //end if
+
+        future = new CompletableFuture<>();
+
+        existingFuture = this.keysToLoads.putIfAbsent(key, future);
+
+        if (existingFuture != null) {
+            return existingFuture;
+        } //end if
+
+        this.executor.execute(() -> {
+            Image decodedImage;
+
+            try {
+                decodedImage = this.decode(url, requestedWidth);
+
+                this.putImage(key, decodedImage);
+
+                future.complete(decodedImage);
+            } catch (IOException | RuntimeException e) {
+                future.completeExceptionally(e);
+            } finally {
+                this.keysToLoads.remove(key, future);
+            } //end try catch finally
+        });
+
+        return future;
+    } //load
+
+    /**
+     * Creates, and returns, an image view of the image with the specified URL, downsampled to the specified width.
+     * The image is set on the JavaFX application thread once it has been loaded, or immediately if it is kept in
+     * memory.
+     *
+     * @param url the URL to be used in the operation
+     * @param width the width at which the image is displayed, or {@code 0} to decode the image at its full width
+     * @return an image view of the image with the specified URL
+     * @throws NullPointerException if the specified URL is {@code null}
+     */
+    public ImageView createImageView(String url, double width) {
+        ImageView imageView;
+        CompletableFuture<Image> future;
+
+        imageView = new ImageView();
+
+        future = this.load(url, width);
+
+        if (future.isDone() && !future.isCompletedExceptionally()) {
+            imageView.setImage(future.join());
+
+            return imageView;
+        } //end if
+
+        future.whenComplete((image, throwable) -> {
+            if (throwable != null) {
+                throwable.printStackTrace();
+
+                return;
+            } //end if
+
+            Platform.runLater(() -> imageView.setImage(image));
+        });
+
+        return imageView;
+    } //createImageView
+
+    /**
+     * Returns the cache of the {@code ImageCache} class.
+     *
+     * @return the cache of the {@code ImageCache} class
+     */
+    public static ImageCache getCache() {
+        return ImageCache.cache;
+    } //getCache
+}
@@ -14,17 +14,17 @@ public final class Model {
     /**
      * The Reddit model of this model.
      */
-    private RedditModel redditModel;
+    private volatile RedditModel redditModel;
 
     /**
      * The Twitter model of this model.
      */
-    private TwitterModel twitterModel;
+    private volatile TwitterModel twitterModel;
 
     /**
      * The Instagram model of this model.
      */
-    private InstagramModel instagramModel;
+    private volatile InstagramModel instagramModel;
 
     /**
      * Constructs a newly allocated {@code Model} object with the specified Reddit model, Twitter model, and Instagram
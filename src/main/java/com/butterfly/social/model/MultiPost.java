@@ -5,40 +5,147 @@ import com.butterfly.social.model.instagram.InstagramUserRequests;
 import com.butterfly.social.model.reddit.RedditModel;
 import com.butterfly.social.model.reddit.RedditUserRequests;
 import com.butterfly.social.model.twitter.TwitterModel;
+import twitter4j.Status;
 import twitter4j.StatusUpdate;
 import twitter4j.TwitterException;
 
 import java.io.File;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class MultiPost {
+    /**
+     * The executor of the {@code MultiPost} class, on which the posts to each network are dispatched.
+     */
+    private static final ExecutorService executor;
+
+    static {
+        AtomicInteger threadCount;
+
+        threadCount = new AtomicInteger();
+
+        executor = Executors.newFixedThreadPool(Network.values().length, (runnable) -> {
+            Thread thread;
+
+            thread = new Thread(runnable, "multi-post-" + threadCount.incrementAndGet());
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+    } //static
+
     private Model model;
 
     public MultiPost(Model model) {
         this.model = model;
     }
 
-    public void createPost(boolean twitter, boolean instagram, boolean reddit, String body, String title, File media, String subreddit) throws TwitterException {
+    /**
+     * Posts the specified body to Twitter, and returns the permalink of the new tweet.
+     *
+     * @param body the body to be used in the operation
+     * @return the permalink of the new tweet
+     * @throws CompletionException if the tweet could not be posted
+     */
+    private String postToTwitter(String body) {
+        StatusUpdate statusUpdate;
+        Status status;
+        String format = "https://twitter.com/%s/status/%d";
+
+        statusUpdate = new StatusUpdate(body);
+
+        try {
+            status = this.model.getTwitterModel()
+                               .getRequests()
+                               .postTweet(statusUpdate);
+        } catch (TwitterException e) {
+            throw new CompletionException(e);
+        } //end try catch
+
+        return String.format(format, status.getUser()
+                                           .getScreenName(), status.getId());
+    } //postToTwitter
+
+    /**
+     * Posts the specified title and body to the specified subreddit, and returns the permalink of the new submission.
+     *
+     * @param subreddit the subreddit to be used in the operation
+     * @param title the title to be used in the operation
+     * @param body the body to be used in the operation
+     * @return the permalink of the new submission
+     */
+    private String postToReddit(String subreddit, String title, String body) {
+        RedditUserRequests redditUserRequests;
+        String id;
+        String format = "https://redd.it/%s";
+
+        redditUserRequests = new RedditUserRequests();
+
+        redditUserRequests.setRedditClient(this.model.getRedditModel()
+                                                     .getClient());
+
+        id = redditUserRequests.post(subreddit, title, body)
+                               .getId();
+
+        return String.format(format, id);
+    } //postToReddit
+
+    /**
+     * Asynchronously posts the specified media and caption to Instagram.
+     *
+     * @param media the media to be used in the operation
+     * @param caption the caption to be used in the operation
+     * @return a future of the permalink of the new post
+     */
+    private CompletableFuture<String> postToInstagram(File media, String caption) {
+        InstagramUserRequests instagramUserRequests;
+        String format = "https://www.instagram.com/p/%s/";
+
+        instagramUserRequests = new InstagramUserRequests();
+
+        instagramUserRequests.setIgClient(this.model.getInstagramModel()
+                                                    .getClient());
+
+        return instagramUserRequests.upload(media, caption)
+                                    .thenApply((newMedia) -> String.format(format, newMedia.getCode()));
+    } //postToInstagram
+
+    public MultiPostResult createPost(boolean twitter, boolean instagram, boolean reddit, String body, String title, File media, String subreddit) {
         /** Creates a post on the platforms specified by the twitter, instagram, and reddit
          * parameters. The twitter post will contain the text in body. The reddit post
          * will be posted on the specified subreddit and will contain the text from title and body.
          * The instagram post will use body as the caption and the file media for the image.
+         * The selected platforms are posted to concurrently, and a failure on one platform
+         * does not affect the others.
          *
+         * @return the result of the post, with one future of the permalink per selected platform
          */
+        Map<Network, CompletableFuture<String>> networksToFutures = new EnumMap<>(Network.class);
+
         if (twitter) {
-            StatusUpdate statusUpdate = new StatusUpdate(body);
-            this.model.getTwitterModel().getRequests().postTweet(statusUpdate);
+            networksToFutures.put(Network.TWITTER, CompletableFuture.supplyAsync(() -> this.postToTwitter(body),
+                                                                                 executor));
         }
         if (instagram) {
-            InstagramUserRequests instagramUserRequests = new InstagramUserRequests();
-            instagramUserRequests.setIgClient(this.model.getInstagramModel().getClient());
-            instagramUserRequests.post(media, body);
+            networksToFutures.put(Network.INSTAGRAM, CompletableFuture.supplyAsync(() -> this.postToInstagram(media,
+                                                                                                             body),
+                                                                                   executor)
+                                                                      .thenCompose((future) -> future));
         }
         if (reddit) {
-            RedditUserRequests redditUserRequests = new RedditUserRequests();
-            redditUserRequests.setRedditClient(this.model.getRedditModel().getClient());
-            redditUserRequests.post(subreddit, title, body);
+            networksToFutures.put(Network.REDDIT, CompletableFuture.supplyAsync(() -> this.postToReddit(subreddit,
+                                                                                                        title, body),
+                                                                                executor));
         }
+
+        return MultiPostResult.createMultiPostResult(networksToFutures);
     }
 
     public static void main(String[] args) throws TwitterException {
@@ -67,6 +174,6 @@ public class MultiPost {
         //multiPost.createPost(true, true, true, "This is the body of my first multi-post!",
         //        "My first multi-post!", new File("/Users/anudeepyakkala/Desktop/image.jpg"), "test"); // test posting on all 3 platforms
         multiPost.createPost(true, false, true, "This is the body of my second multi-post!",
-                "My second multi-post", null, "test");                                     // test posting on only Twitter and Reddit
+                "My second multi-post", null, "test").whenAllComplete().join();                                     // test posting on only Twitter and Reddit
     }
 }
@@ -0,0 +1,92 @@
+package com.butterfly.social.model;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A result of a multi-post of the Social Butterfly application. The result holds one future per selected network,
+ * which completes with the permalink of the new post on that network, or exceptionally with the error that network
+ * reported.
+ *
+ * @author Logan Kulinski, lbk@purdue.edu
+ * @version April 25, 2021
+ */
+public final class MultiPostResult {
+    /**
+     * The map from networks to futures of this multi-post result.
+     */
+    private final Map<Network, CompletableFuture<String>> networksToFutures;
+
+    /**
+     * Constructs a newly allocated {@code MultiPostResult} object with the specified map from networks to futures.
+     *
+     * @param networksToFutures the map from networks to futures to be used in construction
+     */
+    private MultiPostResult(Map<Network, CompletableFuture<String>> networksToFutures) {
+        this.networksToFutures = networksToFutures;
+    } //MultiPostResult
+
+    /**
+     * Returns the networks of this multi-post result, in the order of the {@code Network} enum.
+     *
+     * @return the networks of this multi-post result
+     */
+    public Set<Network> getNetworks() {
+        return Collections.unmodifiableSet(this.networksToFutures.keySet());
+    } //getNetworks
+
+    /**
+     * Returns the future of the specified network of this multi-post result, or {@code null} if the specified network
+     * was not selected.
+     *
+     * @param network the network to be used in the operation
+     * @return the future of the specified network of this multi-post result, or {@code null} if the specified network
+     * was not selected
+     * @throws NullPointerException if the specified network is {@code null}
+     */
+    public CompletableFuture<String> getFuture(Network network) {
+        Objects.requireNonNull(network, "the specified network is null");
+
+        return this.networksToFutures.get(network);
+    } //getFuture
+
+    /**
+     * Returns a future that completes once the futures of every network of this multi-post result have completed,
+     * successfully or not.
+     *
+     * @return a future that completes once the futures of every network of this multi-post result have completed
+     */
+    public CompletableFuture<Void> whenAllComplete() {
+        CompletableFuture<?>[] futures;
+
+        futures = this.networksToFutures.values()
+                                        .stream()
+                                        .map((future) -> future.handle((permalink, throwable) -> null))
+                                        .toArray(CompletableFuture<?>[]::new);
+
+        return CompletableFuture.allOf(futures);
+    } //whenAllComplete
+
+    /**
+     * Creates, and returns, a {@code MultiPostResult} object using the specified map from networks to futures.
+     *
+     * @param networksToFutures the map from networks to futures to be used in the operation
+     * @return a {@code MultiPostResult} object using the specified map from networks to futures
+     * @throws NullPointerException if the specified map from networks to futures is {@code null}
+     */
+    public static MultiPostResult createMultiPostResult(Map<Network, CompletableFuture<String>> networksToFutures) {
+        Map<Network, CompletableFuture<String>> copy;
+
+        Objects.requireNonNull(networksToFutures, "the specified map from networks to futures is null");
+
+        copy = new EnumMap<>(Network.class);
+
+        copy.putAll(networksToFutures);
+
+        return new MultiPostResult(copy);
+    } //createMultiPostResult
+}
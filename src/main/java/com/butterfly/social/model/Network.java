@@ -0,0 +1,47 @@
+package com.butterfly.social.model;
+
+/**
+ * A social network of the Social Butterfly application.
+ *
+ * @author Logan Kulinski, lbk@purdue.edu
+ * @version April 25, 2021
+ */
+public enum Network {
+    /**
+     * The Reddit network.
+     */
+    REDDIT("Reddit"),
+
+    /**
+     * The Twitter network.
+     */
+    TWITTER("Twitter"),
+
+    /**
+     * The Instagram network.
+     */
+    INSTAGRAM("Instagram");
+
+    /**
+     * The display name of this network.
+     */
+    private final String displayName;
+
+    /**
+     * Constructs a newly allocated {@code Network} object with the specified display name.
+     *
+     * @param displayName the display name to be used in construction
+     */
+    Network(String displayName) {
+        this.displayName = displayName;
+    } //Network
+
+    /**
+     * Returns the display name of this network.
+     *
+     * @return the display name of this network
+     */
+    public String getDisplayName() {
+        return this.displayName;
+    } //getDisplayName
+}
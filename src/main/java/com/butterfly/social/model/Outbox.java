@@ -0,0 +1,828 @@
+package com.butterfly.social.model;
+
+import com.butterfly.social.model.instagram.InstagramModel;
+import com.butterfly.social.model.instagram.InstagramUserRequests;
+import com.butterfly.social.model.reddit.RedditModel;
+import com.butterfly.social.model.reddit.RedditUserRequests;
+import com.butterfly.social.model.twitter.TwitterModel;
+import com.github.instagram4j.instagram4j.exceptions.IGResponseException;
+import com.github.instagram4j.instagram4j.responses.IGResponse;
+import net.dean.jraw.http.NetworkException;
+import twitter4j.StatusUpdate;
+import twitter4j.TwitterException;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * A durable outbox of the Social Butterfly application. Outgoing actions are appended to a journal on disk before they
+ * are sent, so that they survive a crash or a restart, and are sent by a pool of workers. The actions of a
+ * conversation are sent one at a time, in order, and consecutive actions are drained together. A failed action is
+ * retried with an exponential backoff, and the outgoing requests are paced by the request governor. A conversation
+ * whose network is not logged in is parked without using up an attempt, and is drained again once the network is
+ * resumed.
+ *
+ * @author Logan Kulinski, lbk@purdue.edu
+ * @version April 25, 2021
+ */
+public final class Outbox {
+    /**
+     * The enqueued record of the {@code Outbox} class.
+     */
+    private static final String enqueuedRecord = "E";
+
+    /**
+     * The sent record of the {@code Outbox} class.
+     */
+    private static final String sentRecord = "S";
+
+    /**
+     * The failed record of the {@code Outbox} class.
+     */
+    private static final String failedRecord = "F";
+
+    /**
+     * The duplicate status error code of Twitter.
+     */
+    private static final int duplicateStatusCode = 187;
+
+    /**
+     * The model of this outbox.
+     */
+    private final Model model;
+
+    /**
+     * The journal of this outbox.
+     */
+    private final File journal;
+
+    /**
+     * The executor of this outbox.
+     */
+    private final ScheduledExecutorService executor;
+
+    /**
+     * The map from conversations to queues of this outbox.
+     */
+    private final Map<String, Deque<OutboxAction>> conversationsToQueues;
+
+    /**
+     * The map from keys to attempts of this outbox.
+     */
+    private final Map<String, Integer> keysToAttempts;
+
+    /**
+     * The map from networks to parked conversations of this outbox.
+     */
+    private final Map<Network, Set<String>> networksToParkedConversations;
+
+    /**
+     * The keys of this outbox that have been sent or have failed.
+     */
+    private final Set<String> settledKeys;
+
+    /**
+     * The listeners of this outbox.
+     */
+    private final List<BiConsumer<OutboxAction, Throwable>> listeners;
+
+    /**
+     * The maximum number of attempts of this outbox.
+     */
+    private final int maxAttempts;
+
+    /**
+     * The base delay, in milliseconds, of this outbox.
+     */
+    private final long baseDelay;
+
+    /**
+     * The maximum delay, in milliseconds, of this outbox.
+     */
+    private final long maxDelay;
+
+    /**
+     * Constructs a newly allocated {@code Outbox} object with the specified model and journal.
+     *
+     * @param model the model to be used in construction
+     * @param journal the journal to be used in construction
+     */
+    private Outbox(Model model, File journal) {
+        AtomicInteger threadCount;
+        ScheduledThreadPoolExecutor threadPoolExecutor;
+        int poolSize = 2;
+
+        this.model = model;
+
+        this.journal = journal;
+
+        threadCount = new AtomicInteger();
+
+        threadPoolExecutor = new ScheduledThreadPoolExecutor(poolSize, (runnable) -> {
+            Thread thread;
+
+            thread = new Thread(runnable, "outbox-worker-" + threadCount.incrementAndGet());
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        threadPoolExecutor.setRemoveOnCancelPolicy(true);
+
+        this.executor = threadPoolExecutor;
+
+        this.conversationsToQueues = new HashMap<>();
+
+        this.keysToAttempts = new HashMap<>();
+
+        this.networksToParkedConversations = new EnumMap<>(Network.class);
+
+        this.settledKeys = new HashSet<>();
+
+        this.listeners = new CopyOnWriteArrayList<>();
+
+        this.maxAttempts = 6;
+
+        this.baseDelay = TimeUnit.SECONDS.toMillis(2);
+
+        this.maxDelay = TimeUnit.MINUTES.toMillis(5);
+    } //Outbox
+
+    /**
+     * Returns the specified outbox action encoded as a line of the journal.
+     *
+     * @param action the outbox action to be used in the operation
+     * @return the specified outbox action encoded as a line of the journal
+     */
+    private static String encode(OutboxAction action) {
+        ByteArrayOutputStream byteStream;
+
+        byteStream = new ByteArrayOutputStream();
+
+        try (var outputStream = new ObjectOutputStream(byteStream)) {
+            outputStream.writeObject(action);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } //end try catch
+
+        return Base64.getEncoder()
+                     .encodeToString(byteStream.toByteArray());
+    } //encode
+
+    /**
+     * Returns the outbox action encoded in the specified line of the journal, or {@code null} if it is corrupt.
+     *
+     * @param line the line to be used in the operation
+     * @return the outbox action encoded in the specified line of the journal, or {@code null} if it is corrupt
+     */
+    private static OutboxAction decode(String line) {
+        byte[] bytes;
+
+        try {
+            bytes = Base64.getDecoder()
+                          .decode(line);
+        } catch (IllegalArgumentException e) {
+            return null;
+        } //end try catch
+
+        try (var inputStream = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (OutboxAction) inputStream.readObject();
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            return null;
+        } //end try catch
+    } //decode
+
+    /**
+     * Appends a record of the specified type and value to the journal of this outbox.
+     *
+     * @param type the type of the record to be used in the operation
+     * @param value the value of the record to be used in the operation
+     */
+    private synchronized void append(String type, String value) {
+        try (var writer = new BufferedWriter(new FileWriter(this.journal, true))) {
+            writer.write(type + " " + value);
+
+            writer.newLine();
+        } catch (IOException e) {
+            e.printStackTrace();
+        } //end try catch
+    } //append
+
+    /**
+     * Replays the journal of this outbox, and returns the actions that were enqueued but have not been settled, in the
+     * order in which they were enqueued. The journal is then compacted to contain only those actions, and the enqueued
+     * records that could not be decoded, which are kept unchanged rather than lost.
+     *
+     * @return the actions of the journal of this outbox that have not been settled
+     */
+    private synchronized List<OutboxAction> replay() {
+        Map<String, OutboxAction> keysToActions;
+        List<String> undecodedLines;
+        String line;
+        int separatorIndex;
+        String type;
+        String value;
+        OutboxAction action;
+        File compacted;
+
+        keysToActions = new LinkedHashMap<>();
+
+        undecodedLines = new ArrayList<>();
+
+        if (!this.journal.exists()) {
+            return List.of();
+        } //end if
+
+        try (var reader = new BufferedReader(new FileReader(this.journal))) {
+            while ((line = reader.readLine()) != null) {
+                separatorIndex = line.indexOf(' ');
+
+                if (separatorIndex == -1) {
+                    continue;
+                } //end if
+
+                type = line.substring(0, separatorIndex);
+
+                value = line.substring(separatorIndex + 1);
+
+                if (type.equals(enqueuedRecord)) {
+                    action = Outbox.decode(value);
+
+                    if (action == null) {
+                        undecodedLines.add(line);
+                    } else if (!this.settledKeys.contains(action.getKey())) {
+                        keysToActions.put(action.getKey(), action);
+                    } //end if
+                } else if (type.equals(sentRecord) || type.equals(failedRecord)) {
+                    keysToActions.remove(value);
+
+                    this.settledKeys.add(value);
+                } //end if
+            } //end while
+        } catch (IOException e) {
+            e.printStackTrace();
+        } //end try catch
+
+        compacted = new File(this.journal.getPath() + ".tmp");
+
+        try (var writer = new BufferedWriter(new FileWriter(compacted))) {
+            for (String undecodedLine : undecodedLines) {
+                writer.write(undecodedLine);
+
+                writer.newLine();
+            } //end for
+
+            for (OutboxAction pendingAction : keysToActions.values()) {
+                writer.write(enqueuedRecord + " " + Outbox.encode(pendingAction));
+
+                writer.newLine();
+            } //end for
+        } catch (IOException e) {
+            e.printStackTrace();
+
+            return List.copyOf(keysToActions.values());
+        } //end try catch
+
+        try {
+            Files.move(compacted.toPath(), this.journal.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                       StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            e.printStackTrace();
+        } //end try catch
+
+        this.settledKeys.clear();
+
+        return List.copyOf(keysToActions.values());
+    } //replay
+
+    /**
+     * Starts this outbox, resending the actions of its journal that had not been settled.
+     */
+    public void start() {
+        List<OutboxAction> pendingActions;
+
+        pendingActions = this.replay();
+
+        for (OutboxAction action : pendingActions) {
+            this.queue(action);
+        } //end for
+    } //start
+
+    /**
+     * Resumes the conversations of this outbox that were parked because the specified network was not logged in. This
+     * should be called once the user has logged into the network.
+     *
+     * @param network the network to be used in the operation
+     * @throws NullPointerException if the specified network is {@code null}
+     */
+    public synchronized void resume(Network network) {
+        Set<String> conversations;
+
+        Objects.requireNonNull(network, "the specified network is null");
+
+        conversations = this.networksToParkedConversations.remove(network);
+
+        if (conversations == null) {
+            return;
+        } //end if
+
+        for (String conversation : conversations) {
+            this.executor.execute(() -> this.drain(conversation));
+        } //end for
+    } //resume
+
+    /**
+     * Adds the specified listener to this outbox. The listener is called once an action has been sent, with a
+     * {@code null} throwable, or has failed for good, with the throwable of its last attempt.
+     *
+     * @param listener the listener to be used in the operation
+     * @throws NullPointerException if the specified listener is {@code null}
+     */
+    public void addListener(BiConsumer<OutboxAction, Throwable> listener) {
+        Objects.requireNonNull(listener, "the specified listener is null");
+
+        this.listeners.add(listener);
+    } //addListener
+
+    /**
+     * Enqueues the specified outbox action, appending it to the journal of this outbox before it is sent. An action
+     * whose key has already been enqueued is ignored.
+     *
+     * @param action the outbox action to be used in the operation
+     * @throws NullPointerException if the specified outbox action is {@code null}
+     */
+    public synchronized void enqueue(OutboxAction action) {
+        String key;
+
+        Objects.requireNonNull(action, "the specified outbox action is null");
+
+        key = action.getKey();
+
+        if (this.settledKeys.contains(key) || this.keysToAttempts.containsKey(key)) {
+            return;
+        } //end if
+
+        this.append(enqueuedRecord, Outbox.encode(action));
+
+        this.queue(action);
+    } //enqueue
+
+    /**
+     * Queues the specified outbox action in its conversation, and starts draining the conversation if it is idle.
+     *
+     * @param action the outbox action to be used in the operation
+     */
+    private synchronized void queue(OutboxAction action) {
+        String conversation;
+        Deque<OutboxAction> queue;
+        boolean idle;
+
+        conversation = action.getConversation();
+
+        queue = this.conversationsToQueues.get(conversation);
+
+        idle = (queue == null);
+
+        if (idle) {
+            queue = new ArrayDeque<>();
+
+            this.conversationsToQueues.put(conversation, queue);
+        } //end if
+
+        queue.addLast(action);
+
+        this.keysToAttempts.put(action.getKey(), 0);
+
+        if (idle) {
+            this.executor.execute(() -> this.drain(conversation));
+        } //end if
+    } //queue
+
+    /**
+     * Returns the next action of the specified conversation, or {@code null} if the conversation is drained, in which
+     * case it is removed.
+     *
+     * @param conversation the conversation to be used in the operation
+     * @return the next action of the specified conversation, or {@code null} if the conversation is drained
+     */
+    private synchronized OutboxAction peek(String conversation) {
+        Deque<OutboxAction> queue;
+
+        queue = this.conversationsToQueues.get(conversation);
+
+        if ((queue == null) || queue.isEmpty()) {
+            this.conversationsToQueues.remove(conversation);
+
+            return null;
+        } //end if
+
+        return queue.peekFirst();
+    } //peek
+
+    /**
+     * Returns whether or not the user is logged into the specified network.
+     *
+     * @param network the network to be used in the operation
+     * @return {@code true}, if the user is logged into the specified network, and {@code false} otherwise
+     */
+    private boolean isLoggedIn(Network network) {
+        switch (network) {
+            case TWITTER:
+                return this.model.getTwitterModel() != null;
+            case REDDIT:
+                return this.model.getRedditModel() != null;
+            case INSTAGRAM:
+                return this.model.getInstagramModel() != null;
+            default:
+                throw new IllegalArgumentException("the specified network is not supported");
+        } //end switch
+    } //isLoggedIn
+
+    /**
+     * Parks the specified conversation if the user is not logged into the specified network, so that it is drained
+     * again once the network is resumed. The check is made under the monitor of this outbox, so a conversation cannot
+     * be parked after the network has been resumed.
+     *
+     * @param conversation the conversation to be used in the operation
+     * @param network the network to be used in the operation
+     * @return {@code true}, if the specified conversation was parked, and {@code false} otherwise
+     */
+    private synchronized boolean park(String conversation, Network network) {
+        if (this.isLoggedIn(network)) {
+            return false;
+        } //end if
+
+        this.networksToParkedConversations.computeIfAbsent(network, (key) -> new HashSet<>())
+                                          .add(conversation);
+
+        return true;
+    } //park
+
+    /**
+     * Settles the specified outbox action, removing it from its conversation, recording the outcome in the journal of
+     * this outbox, and notifying the listeners.
+     *
+     * @param action the outbox action to be used in the operation
+     * @param throwable the throwable of the last attempt, or {@code null} if the action was sent
+     */
+    private void settle(OutboxAction action, Throwable throwable) {
+        Deque<OutboxAction> queue;
+        String record;
+
+        synchronized (this) {
+            queue = this.conversationsToQueues.get(action.getConversation());
+
+            if (queue != null) {
+                queue.remove(action);
+            } //end if
+
+            this.keysToAttempts.remove(action.getKey());
+
+            this.settledKeys.add(action.getKey());
+
+            record = (throwable == null) ? sentRecord : failedRecord;
+
+            this.append(record, action.getKey());
+        } //end synchronized
+
+        for (BiConsumer<OutboxAction, Throwable> listener : this.listeners) {
+            try {
+                listener.accept(action, throwable);
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            } //end try catch
+        } //end for
+    } //settle
+
+    /**
+     * Drains the specified conversation, sending its actions in order. If an action fails and may be retried, the
+     * conversation is rescheduled after a backoff, and the actions behind it wait. If the network of an action is not
+     * logged in, before or during an attempt, the conversation is parked and the attempt is not counted.
+     *
+     * @param conversation the conversation to be used in the operation
+     */
+    private void drain(String conversation) {
+        OutboxAction action;
+        Throwable cause;
+        int attempts;
+        long delay;
+
+        while ((action = this.peek(conversation)) != null) {
+            if (this.park(conversation, action.getNetwork())) {
+                return;
+            } //end if
+
+            try {
+                this.send(action);
+            } catch (Exception e) {
+                cause = Outbox.unwrap(e);
+
+                if (!Outbox.isDuplicate(cause)) {
+                    if (this.park(conversation, action.getNetwork())) {
+                        return;
+                    } //end if
+
+                    synchronized (this) {
+                        attempts = this.keysToAttempts.merge(action.getKey(), 1, Integer::sum);
+                    } //end synchronized
+
+                    if (Outbox.isRetryable(cause) && (attempts < this.maxAttempts)) {
+                        delay = this.getDelay(attempts);
+
+                        this.executor.schedule(() -> this.drain(conversation), delay, TimeUnit.MILLISECONDS);
+
+                        return;
+                    } //end if
+
+                    this.settle(action, cause);
+
+                    continue;
+                } //end if
+            } //end try catch
+
+            this.settle(action, null);
+        } //end while
+    } //drain
+
+    /**
+     * Returns the delay, in milliseconds, before the next attempt after the specified number of failed attempts.
+     *
+     * @param attempts the number of failed attempts to be used in the operation
+     * @return the delay, in milliseconds, before the next attempt after the specified number of failed attempts
+     */
+    private long getDelay(int attempts) {
+        double delay;
+        double jitter = 0.1;
+
+        delay = Math.min(this.maxDelay, this.baseDelay * Math.pow(2, attempts - 1));
+
+        delay *= 1.0 + ThreadLocalRandom.current()
+                                        .nextDouble(-jitter, jitter);
+
+        return Math.round(delay);
+    } //getDelay
+
+    /**
+     * Returns the cause of the specified throwable, if it only wraps the failure of an asynchronous request.
+     *
+     * @param throwable the throwable to be used in the operation
+     * @return the cause of the specified throwable, if it only wraps the failure of an asynchronous request
+     */
+    private static Throwable unwrap(Throwable throwable) {
+        while (((throwable instanceof CompletionException) || (throwable instanceof ExecutionException)) && (
+            throwable.getCause() != null)) {
+            throwable = throwable.getCause();
+        } //end while
+
+        return throwable;
+    } //unwrap
+
+    /**
+     * Returns whether or not the specified throwable reports that the action was already sent by an earlier attempt.
+     *
+     * @param throwable the throwable to be used in the operation
+     * @return {@code true}, if the specified throwable reports a duplicate, and {@code false} otherwise
+     */
+    private static boolean isDuplicate(Throwable throwable) {
+        return (throwable instanceof TwitterException) && (((TwitterException) throwable).getErrorCode()
+            == duplicateStatusCode);
+    } //isDuplicate
+
+    /**
+     * Returns whether or not the specified HTTP status code reports a rate limit or a server error.
+     *
+     * @param statusCode the status code to be used in the operation
+     * @return {@code true}, if the specified HTTP status code reports a rate limit or a server error, and
+     * {@code false} otherwise
+     */
+    private static boolean isRetryable(int statusCode) {
+        return (statusCode >= 500) || (statusCode == 420) || (statusCode == 429);
+    } //isRetryable
+
+    /**
+     * Returns whether or not an action that failed with the specified throwable may be retried. Only network errors,
+     * rate limits, and server errors are retried, since a send is not idempotent, and an action that a service
+     * rejected, or that failed for any other reason, would fail, or be sent twice, again.
+     *
+     * @param throwable the throwable to be used in the operation
+     * @return {@code true}, if an action that failed with the specified throwable may be retried, and {@code false}
+     * otherwise
+     */
+    private static boolean isRetryable(Throwable throwable) {
+        TwitterException twitterException;
+        IGResponse response;
+
+        if (throwable instanceof TwitterException) {
+            twitterException = (TwitterException) throwable;
+
+            return twitterException.isCausedByNetworkIssue() || twitterException.exceededRateLimitation()
+                || Outbox.isRetryable(twitterException.getStatusCode());
+        } else if (throwable instanceof NetworkException) {
+            return Outbox.isRetryable(((NetworkException) throwable).getRes()
+                                                                     .getCode());
+        } else if (throwable instanceof IGResponseException) {
+            response = ((IGResponseException) throwable).getResponse();
+
+            return (response != null) && Outbox.isRetryable(response.getStatusCode());
+        } //end if
+
+        return (throwable instanceof IOException) || (throwable instanceof UncheckedIOException);
+    } //isRetryable
+
+    /**
+     * Sends the specified outbox action.
+     *
+     * @param action the outbox action to be used in the operation
+     * @throws Exception if the specified outbox action could not be sent
+     * @throws IllegalStateException if the user is not logged into the network of the specified outbox action
+     */
+    private void send(OutboxAction action) throws Exception {
+        switch (action.getNetwork()) {
+            case TWITTER:
+                this.sendToTwitter(action);
+
+                break;
+            case REDDIT:
+                this.sendToReddit(action);
+
+                break;
+            case INSTAGRAM:
+                this.sendToInstagram(action);
+
+                break;
+        } //end switch
+    } //send
+
+    /**
+     * Sends the specified outbox action to Twitter.
+     *
+     * @param action the outbox action to be used in the operation
+     * @throws TwitterException if the specified outbox action could not be sent
+     * @throws IllegalStateException if the user is not logged into Twitter
+     */
+    private void sendToTwitter(OutboxAction action) throws TwitterException {
+        TwitterModel twitterModel;
+
+        twitterModel = this.model.getTwitterModel();
+
+        if (twitterModel == null) {
+            throw new IllegalStateException("the user is not logged into Twitter");
+        } //end if
+
+        switch (action.getKind()) {
+            case POST:
+                twitterModel.getRequests()
+                            .postTweet(new StatusUpdate(action.getBody()));
+
+                break;
+            case DIRECT_MESSAGE:
+                twitterModel.getRequests()
+                            .sendDirectMessage(action.getTarget(), action.getBody());
+
+                break;
+            default:
+                throw new UnsupportedOperationException("the action is not supported by Twitter");
+        } //end switch
+    } //sendToTwitter
+
+    /**
+     * Sends the specified outbox action to Reddit.
+     *
+     * @param action the outbox action to be used in the operation
+     * @throws IllegalStateException if the user is not logged into Reddit
+     */
+    private void sendToReddit(OutboxAction action) {
+        RedditModel redditModel;
+        RedditUserRequests redditUserRequests;
+
+        redditModel = this.model.getRedditModel();
+
+        if (redditModel == null) {
+            throw new IllegalStateException("the user is not logged into Reddit");
+        } //end if
+
+        redditUserRequests = new RedditUserRequests();
+
+        redditUserRequests.setRedditClient(redditModel.getClient());
+
+        switch (action.getKind()) {
+            case POST:
+                redditUserRequests.post(action.getTarget(), action.getTitle(), action.getBody());
+
+                break;
+            case COMMENT:
+                redditUserRequests.comment(action.getTarget(), action.getBody());
+
+                break;
+            case DIRECT_MESSAGE:
+                redditUserRequests.sendPrivateMessage(action.getTarget(), action.getTitle(), action.getBody());
+
+                break;
+        } //end switch
+    } //sendToReddit
+
+    /**
+     * Sends the specified outbox action to Instagram.
+     *
+     * @param action the outbox action to be used in the operation
+     * @throws IllegalStateException if the user is not logged into Instagram
+     */
+    private void sendToInstagram(OutboxAction action) {
+        InstagramModel instagramModel;
+        InstagramUserRequests instagramUserRequests;
+
+        instagramModel = this.model.getInstagramModel();
+
+        if (instagramModel == null) {
+            throw new IllegalStateException("the user is not logged into Instagram");
+        } //end if
+
+        instagramUserRequests = new InstagramUserRequests();
+
+        instagramUserRequests.setIgClient(instagramModel.getClient());
+
+        switch (action.getKind()) {
+            case POST:
+                instagramUserRequests.post(new File(action.getMediaPath()), action.getBody())
+                                     .join();
+
+                break;
+            case COMMENT:
+                instagramUserRequests.comment(action.getTarget(), action.getBody())
+                                     .join();
+
+                break;
+            default:
+                throw new UnsupportedOperationException("the action is not supported by Instagram");
+        } //end switch
+    } //sendToInstagram
+
+    /**
+     * Shuts down this outbox, waiting up to the specified timeout for the actions that are being sent. Actions that
+     * have not been sent remain in the journal, and are sent when the outbox is started again.
+     *
+     * @param timeout the timeout to be used in the operation
+     * @param unit the unit of the specified timeout
+     * @throws NullPointerException if the specified unit is {@code null}
+     */
+    public void shutdown(long timeout, TimeUnit unit) {
+        Objects.requireNonNull(unit, "the specified unit is null");
+
+        this.executor.shutdown();
+
+        try {
+            this.executor.awaitTermination(timeout, unit);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        } //end try catch
+    } //shutdown
+
+    /**
+     * Creates, and returns, an {@code Outbox} object using the specified model and journal.
+     *
+     * @param model the model to be used in the operation
+     * @param journal the journal to be used in the operation
+     * @return an {@code Outbox} object using the specified model and journal
+     * @throws NullPointerException if the specified model or journal is {@code null}
+     */
+    public static Outbox createOutbox(Model model, File journal) {
+        Objects.requireNonNull(model, "the specified model is null");
+
+        Objects.requireNonNull(journal, "the specified journal is null");
+
+        return new Outbox(model, journal);
+    } //createOutbox
+}
@@ -0,0 +1,253 @@
+package com.butterfly.social.model;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * An outgoing action of the Social Butterfly application, such as a post, a comment, or a direct message, that is
+ * queued in the outbox until it has been sent. Each action carries a unique key, so that it is sent at most once per
+ * journal, and a conversation, so that actions of the same conversation are sent in order.
+ *
+ * @author Logan Kulinski, lbk@purdue.edu
+ * @version April 25, 2021
+ */
+public final class OutboxAction implements Serializable {
+    /**
+     * The serial version UID of the {@code OutboxAction} class, which is fixed so that the actions in a journal can
+     * still be read after this class changes.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * A kind of an outbox action.
+     */
+    public enum Kind {
+        /**
+         * A new post.
+         */
+        POST,
+
+        /**
+         * A comment on an existing post.
+         */
+        COMMENT,
+
+        /**
+         * A direct message to a user.
+         */
+        DIRECT_MESSAGE
+    }
+
+    /**
+     * The key of this outbox action.
+     */
+    private final String key;
+
+    /**
+     * The network of this outbox action.
+     */
+    private final Network network;
+
+    /**
+     * The kind of this outbox action.
+     */
+    private final Kind kind;
+
+    /**
+     * The target of this outbox action, which is the subreddit of a post, the ID of a commented post, or the username
+     * of a direct message, or {@code null} if there is none.
+     */
+    private final String target;
+
+    /**
+     * The title of this outbox action, which is the title of a post or the subject of a direct message, or
+     * {@code null} if there is none.
+     */
+    private final String title;
+
+    /**
+     * The body of this outbox action.
+     */
+    private final String body;
+
+    /**
+     * The media path of this outbox action, or {@code null} if there is none.
+     */
+    private final String mediaPath;
+
+    /**
+     * Constructs a newly allocated {@code OutboxAction} object with the specified key, network, kind, target, title,
+     * body, and media path.
+     *
+     * @param key the key to be used in construction
+     * @param network the network to be used in construction
+     * @param kind the kind to be used in construction
+     * @param target the target to be used in construction
+     * @param title the title to be used in construction
+     * @param body the body to be used in construction
+     * @param mediaPath the media path to be used in construction
+     */
+    private OutboxAction(String key, Network network, Kind kind, String target, String title, String body,
+                         String mediaPath) {
+        this.key = key;
+
+        this.network = network;
+
+        this.kind = kind;
+
+        this.target = target;
+
+        this.title = title;
+
+        this.body = body;
+
+        this.mediaPath = mediaPath;
+    } //OutboxAction
+
+    /**
+     * Returns the key of this outbox action.
+     *
+     * @return the key of this outbox action
+     */
+    public String getKey() {
+        return this.key;
+    } //getKey
+
+    /**
+     * Returns the network of this outbox action.
+     *
+     * @return the network of this outbox action
+     */
+    public Network getNetwork() {
+        return this.network;
+    } //getNetwork
+
+    /**
+     * Returns the kind of this outbox action.
+     *
+     * @return the kind of this outbox action
+     */
+    public Kind getKind() {
+        return this.kind;
+    } //getKind
+
+    /**
+     * Returns the target of this outbox action.
+     *
+     * @return the target of this outbox action
+     */
+    public String getTarget() {
+        return this.target;
+    } //getTarget
+
+    /**
+     * Returns the title of this outbox action.
+     *
+     * @return the title of this outbox action
+     */
+    public String getTitle() {
+        return this.title;
+    } //getTitle
+
+    /**
+     * Returns the body of this outbox action.
+     *
+     * @return the body of this outbox action
+     */
+    public String getBody() {
+        return this.body;
+    } //getBody
+
+    /**
+     * Returns the media path of this outbox action.
+     *
+     * @return the media path of this outbox action
+     */
+    public String getMediaPath() {
+        return this.mediaPath;
+    } //getMediaPath
+
+    /**
+     * Returns the conversation of this outbox action. Posts of a network share one conversation, while comments and
+     * direct messages share a conversation with the other actions of the same target.
+     *
+     * @return the conversation of this outbox action
+     */
+    public String getConversation() {
+        if (this.kind == Kind.POST) {
+            return String.format("%s/%s", this.network, this.kind);
+        } //end if
+
+        return String.format("%s/%s/%s", this.network, this.kind, this.target);
+    } //getConversation
+
+    /**
+     * Returns the hash code of this outbox action.
+     *
+     * @return the hash code of this outbox action
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.key);
+    } //hashCode
+
+    /**
+     * Determines whether or not the specified object is equal to this outbox action. {@code true} is returned if and
+     * only if the specified object is an instance of {@code OutboxAction} and its key is equal to this outbox
+     * action's.
+     *
+     * @param object the object to be used in the comparisons
+     * @return {@code true}, if the specified object is equal to this outbox action and {@code false} otherwise
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (object instanceof OutboxAction) {
+            return Objects.equals(this.key, ((OutboxAction) object).key);
+        } //end if
+
+        return false;
+    } //equals
+
+    /**
+     * Returns the {@code String} representation of this outbox action.
+     *
+     * @return the {@code String} representation of this outbox action
+     */
+    @Override
+    public String toString() {
+        String format = "OutboxAction[key=%s, network=%s, kind=%s, target=%s]";
+
+        return String.format(format, this.key, this.network, this.kind, this.target);
+    } //toString
+
+    /**
+     * Creates, and returns, an {@code OutboxAction} object with a new key using the specified network, kind, target,
+     * title, body, and media path.
+     *
+     * @param network the network to be used in the operation
+     * @param kind the kind to be used in the operation
+     * @param target the target to be used in the operation, or {@code null} if there is none
+     * @param title the title to be used in the operation, or {@code null} if there is none
+     * @param body the body to be used in the operation
+     * @param mediaPath the media path to be used in the operation, or {@code null} if there is none
+     * @return an {@code OutboxAction} object with a new key using the specified network, kind, target, title, body,
+     * and media path
+     * @throws NullPointerException if the specified network, kind, or body is {@code null}
+     */
+    public static OutboxAction createOutboxAction(Network network, Kind kind, String target, String title,
+                                                  String body, String mediaPath) {
+        String key;
+
+        Objects.requireNonNull(network, "the specified network is null");
+
+        Objects.requireNonNull(kind, "the specified kind is null");
+
+        Objects.requireNonNull(body, "the specified body is null");
+
+        key = UUID.randomUUID()
+                  .toString();
+
+        return new OutboxAction(key, network, kind, target, title, body, mediaPath);
+    } //createOutboxAction
+}
@@ -0,0 +1,194 @@
+package com.butterfly.social.model;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An HTTP interceptor that sends every request of a client through the request governor. The quota headers of each
+ * response, if the service sends them, are reported back to the governor, and a request that is rejected with a
+ * {@code 429} status is retried once after its endpoint has been unblocked.
+ *
+ * @author Logan Kulinski, lbk@purdue.edu
+ * @version April 25, 2021
+ */
+public final class RateLimitInterceptor implements Interceptor {
+    /**
+     * The endpoint of this rate limit interceptor.
+     */
+    private final String endpoint;
+
+    /**
+     * The remaining header of this rate limit interceptor, or {@code null} if the service sends none.
+     */
+    private final String remainingHeader;
+
+    /**
+     * The used header of this rate limit interceptor, or {@code null} if the service sends none.
+     */
+    private final String usedHeader;
+
+    /**
+     * The reset header, in seconds until the quota resets, of this rate limit interceptor, or {@code null} if the
+     * service sends none.
+     */
+    private final String resetHeader;
+
+    /**
+     * Constructs a newly allocated {@code RateLimitInterceptor} object with the specified endpoint, remaining header,
+     * used header, and reset header.
+     *
+     * @param endpoint the endpoint to be used in construction
+     * @param remainingHeader the remaining header to be used in construction
+     * @param usedHeader the used header to be used in construction
+     * @param resetHeader the reset header to be used in construction
+     */
+    private RateLimitInterceptor(String endpoint, String remainingHeader, String usedHeader, String resetHeader) {
+        this.endpoint = endpoint;
+
+        this.remainingHeader = remainingHeader;
+
+        this.usedHeader = usedHeader;
+
+        this.resetHeader = resetHeader;
+    } //RateLimitInterceptor
+
+    /**
+     * Returns the value of the specified header of the specified response as a number, or {@code -1} if it is missing
+     * or malformed.
+     *
+     * @param response the response to be used in the operation
+     * @param header the header to be used in the operation
+     * @return the value of the specified header of the specified response as a number, or {@code -1} if it is missing
+     * or malformed
+     */
+    private static double getHeaderValue(Response response, String header) {
+        String value;
+
+        if (header == null) {
+            return -1.0;
+        } //end if
+
+        value = response.header(header);
+
+        if (value == null) {
+            return -1.0;
+        } //end if
+
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return -1.0;
+        } //end try catch
+    } //getHeaderValue
+
+    /**
+     * Reports the quota of the specified response to the request governor, and returns the time, in milliseconds
+     * since the epoch, at which that quota resets.
+     *
+     * @param response the response to be used in the operation
+     * @return the time, in milliseconds since the epoch, at which the quota of the specified response resets
+     */
+    private long report(Response response) {
+        RequestGovernor governor;
+        double remaining;
+        double used;
+        double reset;
+        long defaultReset = 60L;
+        long resetTime;
+        int limit;
+
+        governor = RequestGovernor.getGovernor();
+
+        remaining = RateLimitInterceptor.getHeaderValue(response, this.remainingHeader);
+
+        used = RateLimitInterceptor.getHeaderValue(response, this.usedHeader);
+
+        reset = RateLimitInterceptor.getHeaderValue(response, this.resetHeader);
+
+        if (reset < 0) {
+            reset = defaultReset;
+        } //end if
+
+        resetTime = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis((long) Math.ceil(reset));
+
+        if (response.code() == 429) {
+            governor.block(this.endpoint, resetTime);
+        } else if (remaining >= 0) {
+            limit = (used >= 0) ? (int) (remaining + used) : 0;
+
+            governor.update(this.endpoint, (int) remaining, limit, resetTime);
+        } //end if
+
+        return resetTime;
+    } //report
+
+    /**
+     * Waits for the request governor to allow a request to the endpoint of this rate limit interceptor.
+     *
+     * @throws IOException if the request was rejected by the request governor, because it was made on the JavaFX
+     * application thread and would have to wait
+     */
+    private void acquire() throws IOException {
+        try {
+            RequestGovernor.getGovernor()
+                           .acquire(this.endpoint);
+        } catch (RejectedExecutionException e) {
+            throw new IOException(e.getMessage(), e);
+        } //end try catch
+    } //acquire
+
+    /**
+     * Intercepts the specified chain, waiting for the request governor before the request is sent.
+     *
+     * @param chain the chain to be used in the operation
+     * @return the response of the specified chain
+     * @throws IOException if the request could not be executed
+     */
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request;
+        Response response;
+
+        request = chain.request();
+
+        this.acquire();
+
+        response = chain.proceed(request);
+
+        this.report(response);
+
+        if (response.code() == 429) {
+            response.close();
+
+            this.acquire();
+
+            response = chain.proceed(request);
+
+            this.report(response);
+        } //end if
+
+        return response;
+    } //intercept
+
+    /**
+     * Creates, and returns, a {@code RateLimitInterceptor} object using the specified endpoint and quota headers.
+     *
+     * @param endpoint the endpoint to be used in the operation
+     * @param remainingHeader the remaining header to be used in the operation, or {@code null} if there is none
+     * @param usedHeader the used header to be used in the operation, or {@code null} if there is none
+     * @param resetHeader the reset header to be used in the operation, or {@code null} if there is none
+     * @return a {@code RateLimitInterceptor} object using the specified endpoint and quota headers
+     * @throws NullPointerException if the specified endpoint is {@code null}
+     */
+    public static RateLimitInterceptor createRateLimitInterceptor(String endpoint, String remainingHeader,
+                                                                  String usedHeader, String resetHeader) {
+        Objects.requireNonNull(endpoint, "the specified endpoint is null");
+
+        return new RateLimitInterceptor(endpoint, remainingHeader, usedHeader, resetHeader);
+    } //createRateLimitInterceptor
+}
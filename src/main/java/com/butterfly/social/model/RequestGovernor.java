@@ -0,0 +1,290 @@
+package com.butterfly.social.model;
+
+import javafx.application.Platform;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A governor for the outbound requests of the Social Butterfly application. The governor keeps a token bucket for each
+ * endpoint. Requests wait for a token before they are sent, and the buckets are corrected with the quotas the services
+ * report, so a request is deferred until its quota allows it instead of being rejected. Requests that are made on the
+ * JavaFX application thread never wait, and are rejected instead, so that an exhausted quota cannot freeze the user
+ * interface.
+ *
+ * @author Logan Kulinski, lbk@purdue.edu
+ * @version April 25, 2021
+ */
+public final class RequestGovernor {
+    /**
+     * The governor of the {@code RequestGovernor} class.
+     */
+    private static final RequestGovernor governor;
+
+    static {
+        governor = new RequestGovernor();
+    } //static
+
+    /**
+     * The map from endpoints to buckets of this request governor.
+     */
+    private final Map<String, TokenBucket> endpointsToBuckets;
+
+    /**
+     * Constructs a newly allocated {@code RequestGovernor} object.
+     */
+    private RequestGovernor() {
+        this.endpointsToBuckets = new ConcurrentHashMap<>();
+    } //RequestGovernor
+
+    /**
+     * Returns the bucket of the specified endpoint, creating one with the default window if none exists.
+     *
+     * @param endpoint the endpoint to be used in the operation
+     * @param limit the limit to be used if a bucket is created
+     * @return the bucket of the specified endpoint
+     */
+    private TokenBucket getBucket(String endpoint, int limit) {
+        long defaultWindow = TimeUnit.MINUTES.toMillis(15);
+
+        return this.endpointsToBuckets.computeIfAbsent(endpoint, (key) -> new TokenBucket(limit, defaultWindow));
+    } //getBucket
+
+    /**
+     * Configures the specified endpoint to allow the specified number of requests per the specified window. A quota
+     * that is later reported by the service takes precedence over this configuration. If the endpoint already has a
+     * bucket, such as when a user logs in again, that bucket is kept, so that a quota that is spent is not refilled.
+     *
+     * @param endpoint the endpoint to be used in the operation
+     * @param limit the limit to be used in the operation
+     * @param window the window to be used in the operation
+     * @param unit the unit of the window to be used in the operation
+     * @throws NullPointerException if the specified endpoint or unit is {@code null}
+     * @throws IllegalArgumentException if the specified limit or window is not positive
+     */
+    public void configure(String endpoint, int limit, long window, TimeUnit unit) {
+        Objects.requireNonNull(endpoint, "the specified endpoint is null");
+
+        Objects.requireNonNull(unit, "the specified unit is null");
+
+        if (limit <= 0) {
+            throw new IllegalArgumentException("the specified limit is not positive");
+        } else if (window <= 0) {
+            throw new IllegalArgumentException("the specified window is not positive");
+        } //end if
+
+        this.endpointsToBuckets.computeIfAbsent(endpoint, (key) -> new TokenBucket(limit, unit.toMillis(window)));
+    } //configure
+
+    /**
+     * Takes a token for a request to the specified endpoint if the request is allowed at the specified time, and
+     * otherwise returns the time to wait before trying again. Endpoints that are neither configured nor reported by a
+     * service are not limited.
+     *
+     * @param endpoint the endpoint to be used in the operation
+     * @param now the current time, in milliseconds since the epoch
+     * @return {@code 0}, if a token was taken, and otherwise the time, in milliseconds, to wait before trying again
+     * @throws NullPointerException if the specified endpoint is {@code null}
+     */
+    public long tryAcquire(String endpoint, long now) {
+        TokenBucket bucket;
+
+        Objects.requireNonNull(endpoint, "the specified endpoint is null");
+
+        bucket = this.endpointsToBuckets.get(endpoint);
+
+        if (bucket == null) {
+            return 0L;
+        } //end if
+
+        return bucket.reserve(now);
+    } //tryAcquire
+
+    /**
+     * Waits until a request to the specified endpoint is allowed, and then takes a token for it. Endpoints that are
+     * neither configured nor reported by a service are not limited. On the JavaFX application thread, a request that
+     * is not allowed yet is rejected instead of waited for.
+     *
+     * @param endpoint the endpoint to be used in the operation
+     * @throws NullPointerException if the specified endpoint is {@code null}
+     * @throws CancellationException if the current thread is interrupted while waiting
+     * @throws RejectedExecutionException if the current thread is the JavaFX application thread, and the request is
+     * not allowed yet
+     */
+    public void acquire(String endpoint) {
+        long wait;
+        long seconds;
+
+        wait = this.tryAcquire(endpoint, System.currentTimeMillis());
+
+        if ((wait > 0) && Platform.isFxApplicationThread()) {
+            seconds = TimeUnit.MILLISECONDS.toSeconds(wait) + 1;
+
+            throw new RejectedExecutionException("the rate limit of " + endpoint + " is exhausted for another "
+                                                 + seconds + " seconds");
+        } //end if
+
+        while (wait > 0) {
+            try {
+                Thread.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+
+                throw new CancellationException("the request to " + endpoint + " was interrupted");
+            } //end try catch
+
+            wait = this.tryAcquire(endpoint, System.currentTimeMillis());
+        } //end while
+    } //acquire
+
+    /**
+     * Updates the bucket of the specified endpoint with a quota reported by a service.
+     *
+     * @param endpoint the endpoint to be used in the operation
+     * @param remaining the number of remaining requests to be used in the operation
+     * @param limit the limit to be used in the operation, or a non-positive value if it is unknown
+     * @param resetTime the time, in milliseconds since the epoch, at which the quota resets
+     * @throws NullPointerException if the specified endpoint is {@code null}
+     */
+    public void update(String endpoint, int remaining, int limit, long resetTime) {
+        TokenBucket bucket;
+
+        Objects.requireNonNull(endpoint, "the specified endpoint is null");
+
+        bucket = this.getBucket(endpoint, Math.max(limit, 1));
+
+        bucket.update(remaining, limit, resetTime, System.currentTimeMillis());
+    } //update
+
+    /**
+     * Blocks the specified endpoint until the specified time, after a service has rejected a request to it.
+     *
+     * @param endpoint the endpoint to be used in the operation
+     * @param resetTime the time, in milliseconds since the epoch, until which the endpoint is blocked
+     * @throws NullPointerException if the specified endpoint is {@code null}
+     */
+    public void block(String endpoint, long resetTime) {
+        this.update(endpoint, 0, 0, resetTime);
+    } //block
+
+    /**
+     * Returns the governor of the {@code RequestGovernor} class.
+     *
+     * @return the governor of the {@code RequestGovernor} class
+     */
+    public static RequestGovernor getGovernor() {
+        return RequestGovernor.governor;
+    } //getGovernor
+
+    /**
+     * A token bucket of a request governor. The bucket refills continuously at its limit per window, and can be
+     * blocked until a reported reset time.
+     */
+    private static final class TokenBucket {
+        /**
+         * The limit of this token bucket.
+         */
+        private int limit;
+
+        /**
+         * The window, in milliseconds, of this token bucket.
+         */
+        private final long window;
+
+        /**
+         * The tokens of this token bucket.
+         */
+        private double tokens;
+
+        /**
+         * The time, in milliseconds since the epoch, at which this token bucket was last refilled.
+         */
+        private long lastRefill;
+
+        /**
+         * The time, in milliseconds since the epoch, until which this token bucket is blocked.
+         */
+        private long blockedUntil;
+
+        /**
+         * Constructs a newly allocated {@code TokenBucket} object with the specified limit and window.
+         *
+         * @param limit the limit to be used in construction
+         * @param window the window, in milliseconds, to be used in construction
+         */
+        private TokenBucket(int limit, long window) {
+            this.limit = limit;
+
+            this.window = window;
+
+            this.tokens = limit;
+
+            this.lastRefill = System.currentTimeMillis();
+
+            this.blockedUntil = 0L;
+        } //TokenBucket
+
+        /**
+         * Refills this token bucket up to the specified time.
+         *
+         * @param now the current time, in milliseconds since the epoch
+         */
+        private void refill(long now) {
+            long elapsed;
+
+            elapsed = Math.max(0L, now - this.lastRefill);
+
+            this.tokens = Math.min(this.limit, this.tokens + ((double) elapsed * this.limit / this.window));
+
+            this.lastRefill = now;
+        } //refill
+
+        /**
+         * Attempts to take a token from this token bucket at the specified time.
+         *
+         * @param now the current time, in milliseconds since the epoch
+         * @return {@code 0}, if a token was taken, and otherwise the time, in milliseconds, to wait before trying again
+         */
+        private synchronized long reserve(long now) {
+            this.refill(now);
+
+            if (now < this.blockedUntil) {
+                return this.blockedUntil - now;
+            } //end if
+
+            if (this.tokens >= 1.0) {
+                this.tokens -= 1.0;
+
+                return 0L;
+            } //end if
+
+            return Math.max(1L, (long) Math.ceil((1.0 - this.tokens) * this.window / this.limit));
+        } //reserve
+
+        /**
+         * Updates this token bucket with a quota reported by a service at the specified time.
+         *
+         * @param remaining the number of remaining requests to be used in the operation
+         * @param limit the limit to be used in the operation, or a non-positive value if it is unknown
+         * @param resetTime the time, in milliseconds since the epoch, at which the quota resets
+         * @param now the current time, in milliseconds since the epoch
+         */
+        private synchronized void update(int remaining, int limit, long resetTime, long now) {
+            this.refill(now);
+
+            if (limit > 0) {
+                this.limit = limit;
+            } //end if
+
+            this.tokens = Math.min(this.tokens, Math.max(remaining, 0));
+
+            if (remaining <= 0) {
+                this.blockedUntil = Math.max(this.blockedUntil, resetTime);
+            } //end if
+        } //update
+    }
+}
@@ -0,0 +1,250 @@
+package com.butterfly.social.model.instagram;
+
+import com.github.instagram4j.instagram4j.IGClient;
+import com.github.instagram4j.instagram4j.models.media.timeline.TimelineMedia;
+import com.github.instagram4j.instagram4j.requests.feed.FeedTimelineRequest;
+import com.github.instagram4j.instagram4j.responses.feed.FeedTimelineResponse;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * A session of an Instagram timeline feed. A session remembers the newest media that has been seen and the cursor of
+ * the next older page, so that polling only needs the head page, and older pages can be loaded on demand.
+ *
+ * @author Logan Kulinski, lbk@purdue.edu
+ * @version April 25, 2021
+ */
+public final class InstagramFeedSession implements Serializable {
+    /**
+     * The serial version UID of the {@code InstagramFeedSession} class, which is fixed so that a saved session can
+     * still be read after this class changes.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The username of this Instagram feed session.
+     */
+    private final String username;
+
+    /**
+     * The ID of the newest media seen by this Instagram feed session, or {@code null} if no media has been seen.
+     */
+    private String headId;
+
+    /**
+     * The maximum ID of the next older page of this Instagram feed session, or {@code null} if there is none.
+     */
+    private String nextMaxId;
+
+    /**
+     * The more available flag of this Instagram feed session.
+     */
+    private boolean moreAvailable;
+
+    /**
+     * The resumed flag of this Instagram feed session, which is cleared when the session is deserialized.
+     */
+    private transient boolean resumed;
+
+    /**
+     * Constructs a newly allocated {@code InstagramFeedSession} object with the specified username.
+     *
+     * @param username the username to be used in construction
+     */
+    private InstagramFeedSession(String username) {
+        this.username = username;
+
+        this.headId = null;
+
+        this.nextMaxId = null;
+
+        this.moreAvailable = false;
+
+        this.resumed = false;
+    } //InstagramFeedSession
+
+    /**
+     * Returns the username of this Instagram feed session.
+     *
+     * @return the username of this Instagram feed session
+     */
+    public String getUsername() {
+        return this.username;
+    } //getUsername
+
+    /**
+     * Asynchronously returns the media of the head page of the specified client's timeline feed that is newer than the
+     * newest media seen by this Instagram feed session, newest first. The first call after this session is created or
+     * deserialized returns the whole head page, and keeps the saved cursor only if the head page reaches the newest
+     * media seen, so that a restart continues deeper from where the previous session stopped.
+     *
+     * @param client the client to be used in the operation
+     * @param filter the filter of media to be included
+     * @return a future of the media of the head page of the specified client's timeline feed that is newer than the
+     * newest media seen by this Instagram feed session
+     * @throws NullPointerException if the specified client or filter is {@code null}
+     */
+    public CompletableFuture<List<TimelineMedia>> getNewMedia(IGClient client, Predicate<TimelineMedia> filter) {
+        Objects.requireNonNull(client, "the specified client is null");
+
+        Objects.requireNonNull(filter, "the specified filter is null");
+
+        return new FeedTimelineRequest().execute(client)
+                                        .thenApplyAsync((response) -> this.readHeadPage(response, filter),
+                                                        InstagramModel.getExecutor())
+                                        .orTimeout(InstagramModel.requestTimeout, TimeUnit.SECONDS);
+    } //getNewMedia
+
+    /**
+     * Returns the media of the specified head page that is newer than the newest media seen by this Instagram feed
+     * session, newest first, and advances the session past it.
+     *
+     * @param response the response of the head page to be used in the operation
+     * @param filter the filter of media to be included
+     * @return the media of the specified head page that is newer than the newest media seen by this Instagram feed
+     * session
+     */
+    private synchronized List<TimelineMedia> readHeadPage(FeedTimelineResponse response,
+                                                          Predicate<TimelineMedia> filter) {
+        List<TimelineMedia> feedItems;
+        List<TimelineMedia> media;
+        boolean anchorFound = false;
+        String id;
+
+        feedItems = response.getFeed_items();
+
+        media = new ArrayList<>();
+
+        if (feedItems == null) {
+            return media;
+        } //end if
+
+        for (TimelineMedia item : feedItems) {
+            if (!filter.test(item)) {
+                continue;
+            } //end if
+
+            id = item.getId();
+
+            if (Objects.equals(id, this.headId)) {
+                anchorFound = true;
+
+                if (this.resumed) {
+                    break;
+                } //end if
+            } //end if
+
+            media.add(item);
+        } //end for
+
+        if (!this.resumed) {
+            if (!anchorFound || (this.nextMaxId == null)) {
+                this.nextMaxId = response.getNext_max_id();
+
+                this.moreAvailable = response.isMore_available();
+            } //end if
+
+            this.resumed = true;
+        } //end if
+
+        if (!media.isEmpty()) {
+            this.headId = media.get(0)
+                               .getId();
+        } //end if
+
+        return media;
+    } //readHeadPage
+
+    /**
+     * Asynchronously returns the media of the next older page of the specified client's timeline feed, and advances
+     * the cursor of this Instagram feed session once the page arrives. If there is no older page, the future completes
+     * with an empty list.
+     *
+     * @param client the client to be used in the operation
+     * @param filter the filter of media to be included
+     * @return a future of the media of the next older page of the specified client's timeline feed
+     * @throws NullPointerException if the specified client or filter is {@code null}
+     */
+    public synchronized CompletableFuture<List<TimelineMedia>> getOlderMedia(IGClient client,
+                                                                             Predicate<TimelineMedia> filter) {
+        FeedTimelineRequest request;
+
+        Objects.requireNonNull(client, "the specified client is null");
+
+        Objects.requireNonNull(filter, "the specified filter is null");
+
+        if ((this.nextMaxId == null) || !this.moreAvailable) {
+            return CompletableFuture.completedFuture(new ArrayList<>());
+        } //end if
+
+        request = new FeedTimelineRequest();
+
+        request.setMax_id(this.nextMaxId);
+
+        return request.execute(client)
+                      .thenApplyAsync((response) -> this.readOlderPage(response, filter), InstagramModel.getExecutor())
+                      .orTimeout(InstagramModel.requestTimeout, TimeUnit.SECONDS);
+    } //getOlderMedia
+
+    /**
+     * Returns the media of the specified older page, and advances the cursor of this Instagram feed session past it.
+     *
+     * @param response the response of the older page to be used in the operation
+     * @param filter the filter of media to be included
+     * @return the media of the specified older page
+     */
+    private synchronized List<TimelineMedia> readOlderPage(FeedTimelineResponse response,
+                                                           Predicate<TimelineMedia> filter) {
+        List<TimelineMedia> feedItems;
+        List<TimelineMedia> media;
+
+        media = new ArrayList<>();
+
+        feedItems = response.getFeed_items();
+
+        if (feedItems != null) {
+            for (TimelineMedia item : feedItems) {
+                if (filter.test(item)) {
+                    media.add(item);
+                } //end if
+            } //end for
+        } //end if
+
+        this.nextMaxId = response.getNext_max_id();
+
+        this.moreAvailable = response.isMore_available();
+
+        return media;
+    } //readOlderPage
+
+    /**
+     * Resets this Instagram feed session, so that the next poll starts from the head of the feed.
+     */
+    public synchronized void reset() {
+        this.headId = null;
+
+        this.nextMaxId = null;
+
+        this.moreAvailable = false;
+
+        this.resumed = false;
+    } //reset
+
+    /**
+     * Creates, and returns, an {@code InstagramFeedSession} object using the specified username.
+     *
+     * @param username the username to be used in the operation
+     * @return an {@code InstagramFeedSession} object using the specified username
+     * @throws NullPointerException if the specified username is {@code null}
+     */
+    public static InstagramFeedSession createInstagramFeedSession(String username) {
+        Objects.requireNonNull(username, "the specified username is null");
+
+        return new InstagramFeedSession(username);
+    } //createInstagramFeedSession
+}
@@ -1,5 +1,7 @@
 package com.butterfly.social.model.instagram;
 
+import com.butterfly.social.model.RateLimitInterceptor;
+import com.butterfly.social.model.RequestGovernor;
 import com.github.instagram4j.instagram4j.IGClient;
 import com.github.instagram4j.instagram4j.exceptions.IGLoginException;
 import com.github.instagram4j.instagram4j.models.user.Profile;
@@ -10,6 +12,7 @@ import com.github.instagram4j.instagram4j.models.media.timeline.TimelineMedia;
 import com.github.instagram4j.instagram4j.requests.feed.FeedSavedRequest;
 import com.github.instagram4j.instagram4j.requests.media.MediaActionRequest;
 import com.github.instagram4j.instagram4j.requests.media.MediaActionRequest.MediaAction;
+import com.github.instagram4j.instagram4j.requests.media.MediaInfoRequest;
 import com.github.instagram4j.instagram4j.responses.feed.FeedSavedResponse;
 import com.github.instagram4j.instagram4j.responses.users.UsersSearchResponse;
 import com.github.instagram4j.instagram4j.requests.IGGetRequest;
@@ -23,16 +26,54 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Scanner;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.OkHttpClient;
 
 import static com.github.instagram4j.instagram4j.requests.friendships.FriendshipsActionRequest.FriendshipsAction.*;
 
 public final class InstagramModel implements Serializable {
+    /**
+     * The executor of the {@code InstagramModel} class, on which the stages of every Instagram request are composed.
+     */
+    private static final ExecutorService executor;
+
+    /**
+     * The timeout, in seconds, of an Instagram request.
+     */
+    static final long requestTimeout = 30L;
+
+    /**
+     * The timeout, in seconds, of an Instagram upload.
+     */
+    static final long uploadTimeout = 120L;
+
+    static {
+        AtomicInteger threadCount;
+
+        threadCount = new AtomicInteger();
+
+        executor = Executors.newFixedThreadPool(2, (runnable) -> {
+            Thread thread;
+
+            thread = new Thread(runnable, "instagram-worker-" + threadCount.incrementAndGet());
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+    } //static
+
     private IGClient client;
 
     private InstagramModel() {
@@ -73,7 +114,12 @@ public final class InstagramModel implements Serializable {
 
     public void setBio(String newBio) { this.client.actions().account().setBio(newBio); }
 
-    public CompletableFuture<UsersSearchResponse> searchForUsers(String searchUser) { return this.client.actions().search().searchUser(searchUser); }
+    public CompletableFuture<UsersSearchResponse> searchForUsers(String searchUser) {
+        return this.client.actions()
+                          .search()
+                          .searchUser(searchUser)
+                          .orTimeout(requestTimeout, TimeUnit.SECONDS);
+    } //searchForUsers
 
     public void setProfilePicture(File newProfilePicture) {
         this.client.actions().account().setProfilePicture(newProfilePicture);
@@ -84,57 +130,82 @@ public final class InstagramModel implements Serializable {
     }
 
 
-    public void followInstagramProfile(String username) {
-        new UsersUsernameInfoRequest(username).execute(this.client).thenAccept(userResponse -> {
-            long pk = userResponse.getUser().getPk();
-            FriendshipsActionRequest friendshipRequest = new FriendshipsActionRequest(pk, CREATE);
-            IGResponse response = friendshipRequest.execute(this.client).join();
-            if (response.getStatus().equals("ok")) {
-                System.out.println("success");
-            }
-            else {
-                System.out.println("error");
-            }
-        });
-    }
-
-    public boolean blockInstagramUser(String username) {
-        new UsersUsernameInfoRequest(username).execute(this.client).thenAccept(userResponse -> {
-            long pk = userResponse.getUser().getPk();
-            FriendshipsActionRequest friendshipRequest = new FriendshipsActionRequest(pk, BLOCK);
-            IGResponse response = friendshipRequest.execute(this.client).join();
-            if (response.getStatus().equals("ok")) {
-                System.out.println("success");
-            }
-            else {
-                System.out.println("error");
-            }
-        });
-        return true;
-    }
+    /**
+     * Returns the executor on which the stages of every Instagram request are composed.
+     *
+     * @return the executor on which the stages of every Instagram request are composed
+     */
+    static Executor getExecutor() {
+        return executor;
+    } //getExecutor
+
+    /**
+     * Returns whether or not the specified response has an {@code ok} status.
+     *
+     * @param response the response to be used in the operation
+     * @return {@code true}, if the specified response has an {@code ok} status, and {@code false} otherwise
+     */
+    static boolean isOk(IGResponse response) {
+        return "ok".equals(response.getStatus());
+    } //isOk
+
+    /**
+     * Asynchronously performs the specified friendship action on the user with the specified username.
+     *
+     * @param username the username to be used in the operation
+     * @param action the friendship action to be used in the operation
+     * @return a future that completes with whether or not the action succeeded
+     */
+    private CompletableFuture<Boolean> performFriendshipAction(String username,
+                                                               FriendshipsActionRequest.FriendshipsAction action) {
+        return new UsersUsernameInfoRequest(username).execute(this.client)
+                                                     .thenComposeAsync((userResponse) -> {
+                                                         long pk;
+
+                                                         pk = userResponse.getUser()
+                                                                          .getPk();
+
+                                                         return new FriendshipsActionRequest(pk, action).execute(
+                                                             this.client);
+                                                     }, executor)
+                                                     .thenApplyAsync(InstagramModel::isOk, executor)
+                                                     .orTimeout(requestTimeout, TimeUnit.SECONDS);
+    } //performFriendshipAction
+
+    public CompletableFuture<Boolean> followInstagramProfile(String username) {
+        return this.performFriendshipAction(username, CREATE);
+    } //followInstagramProfile
+
+    public CompletableFuture<Boolean> blockInstagramUser(String username) {
+        return this.performFriendshipAction(username, BLOCK);
+    } //blockInstagramUser
 
     public List<String> getBlockedUsers() { // not work
         return null;
     }
 
 
-    public List<String> getDirectMessages() {
-        DirectInboxRequest dmRequest = new DirectInboxRequest();
-        DirectInboxResponse dmResponse = dmRequest.execute(this.client).join();
-        dmResponse.getInbox().getThreads().forEach(thread -> {
-            String threadID = thread.getThread_id();
-            String threadTitle = thread.getThread_title();
-            List<Profile> profiles = thread.getUsers();
-            thread.getItems();
+    public CompletableFuture<List<String>> getDirectMessages() {
+        return new DirectInboxRequest().execute(this.client)
+                                       .thenApplyAsync((dmResponse) -> {
+                                           List<String> threadTitles;
 
-        });
-        return null;
-    }
+                                           threadTitles = new ArrayList<>();
 
-    public void savePost(String id) {
-        this.client.actions().timeline();
-        IGResponse ir = new MediaActionRequest(id, MediaAction.SAVE).execute(this.client).join();
-    }
+                                           dmResponse.getInbox()
+                                                     .getThreads()
+                                                     .forEach((thread) -> threadTitles.add(thread.getThread_title()));
+
+                                           return threadTitles;
+                                       }, executor)
+                                       .orTimeout(requestTimeout, TimeUnit.SECONDS);
+    } //getDirectMessages
+
+    public CompletableFuture<Boolean> savePost(String id) {
+        return new MediaActionRequest(id, MediaAction.SAVE).execute(this.client)
+                                                           .thenApplyAsync(InstagramModel::isOk, executor)
+                                                           .orTimeout(requestTimeout, TimeUnit.SECONDS);
+    } //savePost
 
 
     public static InstagramModel createInstagramModel(String username, String password) {
@@ -142,6 +213,11 @@ public final class InstagramModel implements Serializable {
         Callable<String> inputCode;
         IGClient.Builder.LoginHandler twoFactorHandler;
         IGClient.Builder.LoginHandler challengeHandler;
+        String endpoint = "instagram";
+        int limit = 200;
+        int window = 1;
+        RateLimitInterceptor interceptor;
+        OkHttpClient httpClient;
 
         Objects.requireNonNull(username, "the specified username is null");
 
@@ -168,10 +244,19 @@ public final class InstagramModel implements Serializable {
 
         challengeHandler = (client, response) -> IGChallengeUtils.resolveChallenge(client, response, inputCode);
 
+        RequestGovernor.getGovernor()
+                       .configure(endpoint, limit, window, TimeUnit.HOURS);
+
+        interceptor = RateLimitInterceptor.createRateLimitInterceptor(endpoint, null, null, null);
+
+        httpClient = new OkHttpClient.Builder().addInterceptor(interceptor)
+                                               .build();
+
         try {
             instagramModel.client = IGClient.builder()
                                             .username(username)
                                             .password(password)
+                                            .client(httpClient)
                                             .onTwoFactor(twoFactorHandler)
                                             .onChallenge(challengeHandler)
                                             .login();
@@ -186,8 +271,33 @@ public final class InstagramModel implements Serializable {
         return instagramModel;
     } //createInstagramModel
 
-    public List<TimelineMedia> getSavedPosts() {
-        FeedSavedResponse response = new FeedSavedRequest().execute(this.client).join();
-        return response.getItems();
-    }
+    /**
+     * Asynchronously returns the saved media of the current account.
+     *
+     * @return a future of the saved media of the current account
+     */
+    public CompletableFuture<List<TimelineMedia>> getSavedPosts() {
+        return new FeedSavedRequest().execute(this.client)
+                                     .thenApplyAsync(FeedSavedResponse::getItems, executor)
+                                     .orTimeout(requestTimeout, TimeUnit.SECONDS);
+    } //getSavedPosts
+
+    /**
+     * Asynchronously returns the media with the specified ID.
+     *
+     * @param id the ID to be used in the operation
+     * @return a future of the media with the specified ID, which completes with {@code null} if the media no longer
+     * exists
+     */
+    public CompletableFuture<TimelineMedia> getMedia(String id) {
+        return new MediaInfoRequest(id).execute(this.client)
+                                       .thenApplyAsync((response) -> {
+                                           List<TimelineMedia> items;
+
+                                           items = response.getItems();
+
+                                           return ((items == null) || items.isEmpty()) ? null : items.get(0);
+                                       }, executor)
+                                       .orTimeout(requestTimeout, TimeUnit.SECONDS);
+    } //getMedia
 }
\ No newline at end of file
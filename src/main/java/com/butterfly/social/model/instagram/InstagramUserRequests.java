@@ -1,6 +1,7 @@
 package com.butterfly.social.model.instagram;
 
 import com.github.instagram4j.instagram4j.IGClient;
+import com.github.instagram4j.instagram4j.models.media.Media;
 import com.github.instagram4j.instagram4j.models.media.timeline.TimelineMedia;
 import com.github.instagram4j.instagram4j.requests.direct.DirectInboxRequest;
 import com.github.instagram4j.instagram4j.requests.direct.DirectPendingInboxRequest;
@@ -13,6 +14,8 @@ import com.github.instagram4j.instagram4j.responses.direct.DirectInboxResponse;
 import okhttp3.Request;
 
 import java.io.File;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 public class InstagramUserRequests {
     private IGClient igClient;
@@ -25,53 +28,51 @@ public class InstagramUserRequests {
         this.igClient = igClient;
     }
 
-    private class IdObject {
-        private String id;
-
-        public void setId(String id) {
-            this.id = id;
-        }
+    public CompletableFuture<Media> upload(File media, String caption) {
+        /** Creates a post on the user's account with the
+         *  specified media file and the caption paramater.
+         *
+         * @return a future of the media of the new post
+         */
 
-        public String getId() {
-            return id;
-        }
+        return igClient.actions().timeline()
+                .uploadPhoto(media, caption)
+                .thenApplyAsync(res -> res.getMedia(), InstagramModel.getExecutor())
+                .orTimeout(InstagramModel.uploadTimeout, TimeUnit.SECONDS);
     }
 
-    public String post(File media, String caption) {
+    public CompletableFuture<String> post(File media, String caption) {
         /** Creates a post on the user's account with the
          *  specified media file and the caption paramater.
          *
-         * @return id of the new post
+         * @return a future of the id of the new post
          */
 
-        IdObject idObj = new IdObject();
-
-        igClient.actions().timeline()
-                .uploadPhoto(media, caption)
-                .thenAccept(res -> idObj.setId(res.getMedia().getId())).join();
-
-        return idObj.getId();
+        return this.upload(media, caption)
+                .thenApply(Media::getId);
     }
 
-    public boolean comment(String postId, String message) {
+    public CompletableFuture<Boolean> comment(String postId, String message) {
         /** Adds a comment with the specified message
          *  to the post corrosponding to postId.
          *
-         * @return if the comment was added successfully
+         * @return a future of if the comment was added successfully
          */
-        IGResponse response = new MediaCommentRequest(postId, message).execute(igClient).join();
-        return response.getStatus().equals("ok");
+        return new MediaCommentRequest(postId, message).execute(igClient)
+                .thenApplyAsync(InstagramModel::isOk, InstagramModel.getExecutor())
+                .orTimeout(InstagramModel.requestTimeout, TimeUnit.SECONDS);
     }
 
-    public boolean like(String postId) {
+    public CompletableFuture<Boolean> like(String postId) {
         /** Adds a like to the post corrosponding
          * to postId.
          *
-         * @return if the like was added successfully
+         * @return a future of if the like was added successfully
          */
 
-        IGResponse response = new MediaActionRequest(postId, MediaActionRequest.MediaAction.LIKE).execute(igClient).join();
-        return response.getStatus().equals("ok");
+        return new MediaActionRequest(postId, MediaActionRequest.MediaAction.LIKE).execute(igClient)
+                .thenApplyAsync(InstagramModel::isOk, InstagramModel.getExecutor())
+                .orTimeout(InstagramModel.requestTimeout, TimeUnit.SECONDS);
     }
 
     public String getPostAuthorInformation(TimelineMedia timelineMedia) {
@@ -94,9 +95,9 @@ public class InstagramUserRequests {
         userRequests.setIgClient(instagramModel.getClient());
 
         File file = new File("/Users/anudeepyakkala/Desktop/image.jpg");
-        String id = userRequests.post(file, "My first post!");  // Test posting
-        userRequests.comment(id, "My first comment!");                      // Test replying to a post
-        userRequests.like(id);                                                      // Test liking a post
+        String id = userRequests.post(file, "My first post!").join();  // Test posting
+        userRequests.comment(id, "My first comment!").join();                      // Test replying to a post
+        userRequests.like(id).join();                                                      // Test liking a post
 
         new FeedTimelineRequest().execute(instagramModel.getClient()).thenAccept(res -> {
             res.getFeed_items().forEach(item -> System.out.println(userRequests.getPostAuthorInformation(item)));  // Test getting user information from a post
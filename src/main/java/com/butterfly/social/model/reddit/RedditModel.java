@@ -1,5 +1,7 @@
 package com.butterfly.social.model.reddit;
 
+import com.butterfly.social.model.RateLimitInterceptor;
+import com.butterfly.social.model.RequestGovernor;
 import net.dean.jraw.RedditClient;
 import net.dean.jraw.RedditException;
 import net.dean.jraw.http.NetworkAdapter;
@@ -28,6 +30,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+import okhttp3.OkHttpClient;
 
 public final class RedditModel {
     private RedditClient client;
@@ -110,6 +114,11 @@ public final class RedditModel {
         String platform = "Social Butterfly";
         String appId = "com.butterfly.social";
         String version = "v1.0";
+        String endpoint = "reddit";
+        int limit = 600;
+        int window = 10;
+        RateLimitInterceptor interceptor;
+        OkHttpClient httpClient;
         NetworkAdapter networkAdapter;
         Credentials credentials;
         RedditClient client;
@@ -126,7 +135,16 @@ public final class RedditModel {
 
         userAgent = new UserAgent(platform, appId, version, username);
 
-        networkAdapter = new OkHttpNetworkAdapter(userAgent);
+        RequestGovernor.getGovernor()
+                       .configure(endpoint, limit, window, TimeUnit.MINUTES);
+
+        interceptor = RateLimitInterceptor.createRateLimitInterceptor(endpoint, "X-Ratelimit-Remaining",
+                                                                      "X-Ratelimit-Used", "X-Ratelimit-Reset");
+
+        httpClient = new OkHttpClient.Builder().addInterceptor(interceptor)
+                                               .build();
+
+        networkAdapter = new OkHttpNetworkAdapter(userAgent, httpClient);
 
         credentials = Credentials.script(username, password, clientId, clientSecret);
 
@@ -33,7 +33,11 @@ public final class TwitterModel implements Serializable {
     } //initializeRequests
 
     public Twitter getTwitter() {
-        return this.auth.getTwitter();
+        Twitter twitter;
+
+        twitter = this.auth.getTwitter();
+
+        return TwitterRateLimitHandler.govern(twitter);
     } //getTwitter
 
     public TwitterUserAuthentication getAuth() {
@@ -0,0 +1,208 @@
+package com.butterfly.social.model.twitter;
+
+import com.butterfly.social.model.RequestGovernor;
+import twitter4j.RateLimitStatus;
+import twitter4j.Twitter;
+import twitter4j.TwitterException;
+import twitter4j.TwitterResponse;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An invocation handler that sends every call of a Twitter instance through the request governor. Each method of the
+ * Twitter instance is its own endpoint, and the rate limit status of each response is reported back to the governor.
+ * A governed Twitter instance is never serialized; a saved login keeps the raw instance and governs it again once it
+ * is loaded.
+ *
+ * @author Logan Kulinski, lbk@purdue.edu
+ * @version April 25, 2021
+ */
+public final class TwitterRateLimitHandler implements InvocationHandler {
+    /**
+     * The endpoint prefix of the {@code TwitterRateLimitHandler} class.
+     */
+    private static final String endpointPrefix = "twitter/";
+
+    static {
+        RequestGovernor governor;
+        int window = 15;
+
+        governor = RequestGovernor.getGovernor();
+
+        governor.configure(endpointPrefix + "getHomeTimeline", 15, window, TimeUnit.MINUTES);
+
+        governor.configure(endpointPrefix + "lookup", 900, window, TimeUnit.MINUTES);
+
+        governor.configure(endpointPrefix + "showStatus", 900, window, TimeUnit.MINUTES);
+
+        governor.configure(endpointPrefix + "getFavorites", 75, window, TimeUnit.MINUTES);
+
+        governor.configure(endpointPrefix + "getDirectMessages", 15, window, TimeUnit.MINUTES);
+
+        governor.configure(endpointPrefix + "showUser", 900, window, TimeUnit.MINUTES);
+
+        governor.configure(endpointPrefix + "getBlocksList", 15, window, TimeUnit.MINUTES);
+
+        governor.configure(endpointPrefix + "getPlaceTrends", 75, window, TimeUnit.MINUTES);
+
+        governor.configure(endpointPrefix + "updateStatus", 300, 3, TimeUnit.HOURS);
+
+        governor.configure(endpointPrefix + "sendDirectMessage", 1000, 1, TimeUnit.DAYS);
+    } //static
+
+    /**
+     * The Twitter instance of this Twitter rate limit handler.
+     */
+    private final Twitter twitter;
+
+    /**
+     * Constructs a newly allocated {@code TwitterRateLimitHandler} object with the specified Twitter instance.
+     *
+     * @param twitter the Twitter instance to be used in construction
+     */
+    private TwitterRateLimitHandler(Twitter twitter) {
+        this.twitter = twitter;
+    } //TwitterRateLimitHandler
+
+    /**
+     * Reports the specified rate limit status of the specified endpoint to the request governor.
+     *
+     * @param endpoint the endpoint to be used in the operation
+     * @param status the rate limit status to be used in the operation
+     */
+    private static void report(String endpoint, RateLimitStatus status) {
+        RequestGovernor governor;
+        long resetTime;
+
+        if (status == null) {
+            return;
+        } //end if
+
+        governor = RequestGovernor.getGovernor();
+
+        resetTime = TimeUnit.SECONDS.toMillis(status.getResetTimeInSeconds());
+
+        governor.update(endpoint, status.getRemaining(), status.getLimit(), resetTime);
+    } //report
+
+    /**
+     * Invokes the specified method of the Twitter instance of this handler with the specified arguments, waiting for
+     * the request governor before the call is made. A call that is rejected for exceeding its rate limit is retried
+     * once after its endpoint has been unblocked. If the rejection carries no rate limit status, the endpoint is
+     * blocked for the delay the service asked for, or for a minute. A call on the JavaFX application thread that would
+     * have to wait fails with a {@code TwitterException} instead.
+     *
+     * @param proxy the proxy to be used in the operation
+     * @param method the method to be used in the operation
+     * @param args the arguments to be used in the operation
+     * @return the result of the specified method
+     * @throws Throwable if the specified method throws an exception
+     */
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        RequestGovernor governor;
+        String endpoint;
+        int attempts = 0;
+        int maxAttempts = 2;
+        long defaultBackoff = 60L;
+        Object result;
+        Throwable cause;
+        TwitterException twitterException;
+        long retryAfter;
+        long resetTime;
+
+        if (method.getDeclaringClass() == Object.class) {
+            try {
+                return method.invoke(this.twitter, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            } //end try catch
+        } //end if
+
+        governor = RequestGovernor.getGovernor();
+
+        endpoint = endpointPrefix + method.getName();
+
+        while (true) {
+            attempts++;
+
+            try {
+                governor.acquire(endpoint);
+            } catch (RejectedExecutionException e) {
+                throw new TwitterException(e.getMessage(), e);
+            } //end try catch
+
+            try {
+                result = method.invoke(this.twitter, args);
+            } catch (InvocationTargetException e) {
+                cause = e.getCause();
+
+                if (!(cause instanceof TwitterException)) {
+                    throw cause;
+                } //end if
+
+                twitterException = (TwitterException) cause;
+
+                TwitterRateLimitHandler.report(endpoint, twitterException.getRateLimitStatus());
+
+                if (twitterException.exceededRateLimitation() && (twitterException.getRateLimitStatus() == null)) {
+                    retryAfter = twitterException.getRetryAfter();
+
+                    if (retryAfter <= 0) {
+                        retryAfter = defaultBackoff;
+                    } //end if
+
+                    resetTime = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(retryAfter);
+
+                    governor.block(endpoint, resetTime);
+                } //end if
+
+                if (twitterException.exceededRateLimitation() && (attempts < maxAttempts)) {
+                    continue;
+                } //end if
+
+                throw twitterException;
+            } //end try catch
+
+            if (result instanceof TwitterResponse) {
+                TwitterRateLimitHandler.report(endpoint, ((TwitterResponse) result).getRateLimitStatus());
+            } //end if
+
+            return (result == this.twitter) ? proxy : result;
+        } //end while
+    } //invoke
+
+    /**
+     * Returns a Twitter instance that sends every call of the specified Twitter instance through the request governor.
+     * If the specified Twitter instance is already governed, it is returned as is.
+     *
+     * @param twitter the Twitter instance to be used in the operation
+     * @return a Twitter instance that sends every call of the specified Twitter instance through the request governor
+     * @throws NullPointerException if the specified Twitter instance is {@code null}
+     */
+    public static Twitter govern(Twitter twitter) {
+        ClassLoader classLoader;
+        Class<?>[] interfaces;
+        TwitterRateLimitHandler handler;
+
+        Objects.requireNonNull(twitter, "the specified Twitter instance is null");
+
+        if (Proxy.isProxyClass(twitter.getClass()) && (Proxy.getInvocationHandler(
+            twitter) instanceof TwitterRateLimitHandler)) {
+            return twitter;
+        } //end if
+
+        classLoader = Twitter.class.getClassLoader();
+
+        interfaces = new Class<?>[] {Twitter.class};
+
+        handler = new TwitterRateLimitHandler(twitter);
+
+        return (Twitter) Proxy.newProxyInstance(classLoader, interfaces, handler);
+    } //govern
+}
@@ -6,7 +6,7 @@ import twitter4j.TwitterException;
 import twitter4j.User;
 import java.net.URI;
 import java.net.URISyntaxException;
-import javafx.scene.image.Image;
+import com.butterfly.social.model.ImageCache;
 import javafx.scene.image.ImageView;
 import java.util.Date;
 
@@ -84,8 +84,7 @@ public final class TwitterUserProfile implements Serializable {
     private ImageView getImage(String urlString) {
         URI uri;
         String uriString;
-        Image image;
-        ImageView imageView;
+        ImageCache imageCache;
 
         try {
             uri = new URI(urlString);
@@ -97,10 +96,8 @@ public final class TwitterUserProfile implements Serializable {
             return null;
         } //end try catch
 
-        image = new Image(uriString);
+        imageCache = ImageCache.getCache();
 
-        imageView = new ImageView(image);
-
-        return imageView;
+        return imageCache.createImageView(uriString, 0);
     }
 }
\ No newline at end of file
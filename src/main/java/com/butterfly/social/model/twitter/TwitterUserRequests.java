@@ -31,6 +31,11 @@ import javafx.scene.image.ImageView;
 public final class TwitterUserRequests implements Serializable {
     Thread backgroundDMThread;
     private Twitter twitter;
+    /**
+     * The governed proxy of the Twitter instance of these requests, which is not serialized, so that a saved login
+     * never depends on the rate limit handler. It is created again on the first call after the requests are loaded.
+     */
+    private transient Twitter governedTwitter;
     private AsyncTwitter asyncTwitter;
     private AsyncTwitterFactory factory;
     private TwitterUserProfile profile;
@@ -43,11 +48,16 @@ public final class TwitterUserRequests implements Serializable {
 
     public void setTwitter(Twitter twitter) throws TwitterException {
         this.twitter = twitter;
-        this.profile = new TwitterUserProfile(twitter);
+        this.governedTwitter = null;
+        this.profile = new TwitterUserProfile(this.getTwitter());
     } //setTwitter
 
     public Twitter getTwitter() {
-        return this.twitter;
+        if ((this.governedTwitter == null) && (this.twitter != null)) {
+            this.governedTwitter = TwitterRateLimitHandler.govern(this.twitter);
+        } //end if
+
+        return this.governedTwitter;
     } //getTwitter
 
     public TwitterUserProfile getProfile() {
@@ -55,7 +65,7 @@ public final class TwitterUserRequests implements Serializable {
     }
 
     public List<Status> getTimeline() throws TwitterException {
-        return twitter.getHomeTimeline();
+        return this.getTwitter().getHomeTimeline();
     } //getTimeline
 
     public String timelineToString(List<Status> timeline) {
@@ -93,7 +103,7 @@ public final class TwitterUserRequests implements Serializable {
         });
         backgroundDMThread.start();
         */
-        DirectMessageList responses = twitter.getDirectMessages(20);
+        DirectMessageList responses = this.getTwitter().getDirectMessages(20);
         ArrayList<DirectMessage> messages = new ArrayList<DirectMessage>();
         for (int i = 0; i < responses.size(); i++) {
             messages.add(responses.get(i));
@@ -110,7 +120,7 @@ public final class TwitterUserRequests implements Serializable {
          * @return status object that is created with the text
          * paramater
          */
-        Status status = twitter.updateStatus(statusUpdate);
+        Status status = this.getTwitter().updateStatus(statusUpdate);
         return status;
     }
 
@@ -120,7 +130,7 @@ public final class TwitterUserRequests implements Serializable {
          *
          * @return the favorited status
          */
-        Status status = twitter.createFavorite(id);
+        Status status = this.getTwitter().createFavorite(id);
         return status;
     }
 
@@ -130,7 +140,7 @@ public final class TwitterUserRequests implements Serializable {
          *
          * @return information about the status
          */
-        Status status = twitter.showStatus(id);
+        Status status = this.getTwitter().showStatus(id);
 
         String s = "Name: " +
                 status.getUser().getName() +
@@ -145,7 +155,7 @@ public final class TwitterUserRequests implements Serializable {
          *
          * @return DirectMessage object
          */
-        DirectMessage directMessage = twitter.sendDirectMessage(id, message);
+        DirectMessage directMessage = this.getTwitter().sendDirectMessage(id, message);
         return directMessage;
     }
 
@@ -155,14 +165,14 @@ public final class TwitterUserRequests implements Serializable {
          *
          * @return DirectMessage object
          */
-        DirectMessage directMessage = twitter.sendDirectMessage(screenName, message);
+        DirectMessage directMessage = this.getTwitter().sendDirectMessage(screenName, message);
         return directMessage;
     }
 
     public boolean followTwitterUser(String username) {
         boolean val = true;
         try {
-            twitter.createFriendship(username);
+            this.getTwitter().createFriendship(username);
         } catch (TwitterException e) {
             e.printStackTrace();
             val = false;
@@ -173,7 +183,7 @@ public final class TwitterUserRequests implements Serializable {
     public boolean blockTwitterUser(String username) {
         boolean val = true;
         try {
-            twitter.createBlock(username);
+            this.getTwitter().createBlock(username);
         } catch (TwitterException e) {
             e.printStackTrace();
             val = false;
@@ -184,7 +194,7 @@ public final class TwitterUserRequests implements Serializable {
     public List<String> getBlockedUsers() {
         List<String> usernames = new ArrayList<String>();
         try {
-            PagableResponseList<User> blocked = twitter.getBlocksList();
+            PagableResponseList<User> blocked = this.getTwitter().getBlocksList();
             for(User blockedUser : blocked) {
                 usernames.add(blockedUser.getScreenName());
             }
@@ -196,7 +206,7 @@ public final class TwitterUserRequests implements Serializable {
     
     public List<String> getTrending() throws TwitterException {
         List<String> trends = new ArrayList<>();
-        Trends trending = twitter.getPlaceTrends(23424977);
+        Trends trending = this.getTwitter().getPlaceTrends(23424977);
         for (Trend trend : trending.getTrends()) {
             trends.add(trend.getName());
         }
@@ -0,0 +1,445 @@
+package com.butterfly.social.view;
+
+import com.butterfly.social.controller.Post;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.control.IndexedCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.skin.VirtualFlow;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A dispatcher of the updates of the feeds of the Social Butterfly application. Updates may be submitted from any
+ * thread, and are applied on the JavaFX application thread in the order they were submitted. Consecutive inserts into
+ * the same list are coalesced, and inserts are applied in chunks, within a time budget per pulse, so that a large
+ * batch of posts is spread over several frames. While posts are inserted above the viewport of a list, the first
+ * visible post keeps its position on screen.
+ *
+ * @author Logan Kulinski, lbk@purdue.edu
+ * @version April 25, 2021
+ */
+public final class FeedDispatcher {
+    /**
+     * A kind of an update.
+     */
+    private enum Kind {
+        /**
+         * An insert of posts at the top of a list.
+         */
+        PREPEND,
+
+        /**
+         * An insert of posts at the bottom of a list.
+         */
+        APPEND,
+
+        /**
+         * A merge of posts into the all timeline.
+         */
+        MERGE,
+
+        /**
+         * A task, such as clearing a list.
+         */
+        TASK
+    }
+
+    /**
+     * An update of a feed.
+     */
+    private static final class Update {
+        /**
+         * The kind of this update.
+         */
+        private final Kind kind;
+
+        /**
+         * The list of this update, or {@code null} if it is a task.
+         */
+        private final ListView<Post> listView;
+
+        /**
+         * The posts of this update, which are not applied yet.
+         */
+        private final Deque<Post> posts;
+
+        /**
+         * The task of this update, or {@code null} if it is an insert.
+         */
+        private final Runnable task;
+
+        /**
+         * The number of posts of this update that have been prepended.
+         */
+        private int offset;
+
+        /**
+         * Constructs a newly allocated {@code Update} object with the specified kind, list, posts, and task.
+         *
+         * @param kind the kind to be used in construction
+         * @param listView the list to be used in construction
+         * @param posts the posts to be used in construction
+         * @param task the task to be used in construction
+         */
+        private Update(Kind kind, ListView<Post> listView, List<Post> posts, Runnable task) {
+            this.kind = kind;
+
+            this.listView = listView;
+
+            this.posts = new ArrayDeque<>(posts);
+
+            this.task = task;
+
+            this.offset = 0;
+        } //Update
+
+        /**
+         * Coalesces the specified later update into this update, if both insert into the same list in the same way.
+         * The posts of a later prepend are placed above those of this update, and the posts of a later append or
+         * merge are placed after them.
+         *
+         * @param update the update to be used in the operation
+         * @return {@code true}, if the specified update was coalesced into this update, and {@code false} otherwise
+         */
+        private boolean coalesce(Update update) {
+            if ((this.kind == Kind.TASK) || (this.kind != update.kind) || (this.listView != update.listView)) {
+                return false;
+            } //end if
+
+            if ((this.kind == Kind.PREPEND) && (this.offset > 0)) {
+                return false;
+            } //end if
+
+            if (this.kind == Kind.PREPEND) {
+                update.posts.descendingIterator()
+                            .forEachRemaining(this.posts::addFirst);
+            } else {
+                this.posts.addAll(update.posts);
+            } //end if
+
+            return true;
+        } //coalesce
+    }
+
+    /**
+     * The all timeline of this feed dispatcher.
+     */
+    private final Timeline allTimeline;
+
+    /**
+     * The all list of this feed dispatcher.
+     */
+    private final ListView<Post> allList;
+
+    /**
+     * The submitted updates of this feed dispatcher, which have not been taken by the JavaFX application thread.
+     */
+    private final Queue<Update> submittedUpdates;
+
+    /**
+     * The pending updates of this feed dispatcher, which are only accessed by the JavaFX application thread.
+     */
+    private final Deque<Update> pendingUpdates;
+
+    /**
+     * Whether or not the timer of this feed dispatcher is started, or about to be started.
+     */
+    private final AtomicBoolean started;
+
+    /**
+     * The timer of this feed dispatcher, which applies pending updates once per pulse.
+     */
+    private final AnimationTimer timer;
+
+    /**
+     * The time budget per pulse of this feed dispatcher, in nanoseconds.
+     */
+    private final long budget;
+
+    /**
+     * The maximum number of posts of this feed dispatcher that are inserted at once.
+     */
+    private final int chunkSize;
+
+    /**
+     * Constructs a newly allocated {@code FeedDispatcher} object with the specified all timeline and all list.
+     *
+     * @param allTimeline the all timeline to be used in construction
+     * @param allList the all list to be used in construction
+     */
+    private FeedDispatcher(Timeline allTimeline, ListView<Post> allList) {
+        this.allTimeline = allTimeline;
+
+        this.allList = allList;
+
+        this.submittedUpdates = new ConcurrentLinkedQueue<>();
+
+        this.pendingUpdates = new ArrayDeque<>();
+
+        this.started = new AtomicBoolean();
+
+        this.timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                FeedDispatcher.this.drain();
+            } //handle
+        };
+
+        this.budget = TimeUnit.MILLISECONDS.toNanos(Long.getLong("social.butterfly.feed.frameBudgetMillis", 4L));
+
+        this.chunkSize = Math.max(1, Integer.getInteger("social.butterfly.feed.chunkSize", 10));
+    } //FeedDispatcher
+
+    /**
+     * Submits the specified update to this feed dispatcher, and starts its timer if it is not started.
+     *
+     * @param update the update to be used in the operation
+     */
+    private void submit(Update update) {
+        this.submittedUpdates.add(update);
+
+        if (this.started.compareAndSet(false, true)) {
+            Platform.runLater(this.timer::start);
+        } //end if
+    } //submit
+
+    /**
+     * Submits an insert of the specified posts at the top of the specified list. The specified posts keep their
+     * order, above the posts that are already in the list.
+     *
+     * @param listView the list to be used in the operation
+     * @param posts the posts to be used in the operation
+     * @throws NullPointerException if the specified list or list of posts is {@code null}
+     */
+    public void prepend(ListView<Post> listView, List<? extends Post> posts) {
+        Objects.requireNonNull(listView, "the specified list is null");
+
+        Objects.requireNonNull(posts, "the specified list of posts is null");
+
+        this.submit(new Update(Kind.PREPEND, listView, List.copyOf(posts), null));
+    } //prepend
+
+    /**
+     * Submits an insert of the specified posts at the bottom of the specified list.
+     *
+     * @param listView the list to be used in the operation
+     * @param posts the posts to be used in the operation
+     * @throws NullPointerException if the specified list or list of posts is {@code null}
+     */
+    public void append(ListView<Post> listView, List<? extends Post> posts) {
+        Objects.requireNonNull(listView, "the specified list is null");
+
+        Objects.requireNonNull(posts, "the specified list of posts is null");
+
+        this.submit(new Update(Kind.APPEND, listView, List.copyOf(posts), null));
+    } //append
+
+    /**
+     * Submits a merge of the specified posts into the all timeline.
+     *
+     * @param posts the posts to be used in the operation
+     * @throws NullPointerException if the specified list of posts is {@code null}
+     */
+    public void merge(List<? extends Post> posts) {
+        Objects.requireNonNull(posts, "the specified list of posts is null");
+
+        this.submit(new Update(Kind.MERGE, this.allList, List.copyOf(posts), null));
+    } //merge
+
+    /**
+     * Submits the specified task, which is run on the JavaFX application thread after every update that was
+     * submitted before it has been applied.
+     *
+     * @param task the task to be used in the operation
+     * @throws NullPointerException if the specified task is {@code null}
+     */
+    public void execute(Runnable task) {
+        Objects.requireNonNull(task, "the specified task is null");
+
+        this.submit(new Update(Kind.TASK, null, List.of(), task));
+    } //execute
+
+    /**
+     * Takes the submitted updates of this feed dispatcher, coalescing each with the last pending update if possible,
+     * and applies pending updates until the time budget of this pulse is spent. The timer is stopped once no updates
+     * remain.
+     */
+    private void drain() {
+        long startTime;
+        Update update;
+        Update lastUpdate;
+
+        startTime = System.nanoTime();
+
+        update = this.submittedUpdates.poll();
+
+        while (update != null) {
+            lastUpdate = this.pendingUpdates.peekLast();
+
+            if ((lastUpdate == null) || !lastUpdate.coalesce(update)) {
+                this.pendingUpdates.addLast(update);
+            } //end if
+
+            update = this.submittedUpdates.poll();
+        } //end while
+
+        while (!this.pendingUpdates.isEmpty() && ((System.nanoTime() - startTime) < this.budget)) {
+            update = this.pendingUpdates.peekFirst();
+
+            if (update.kind == Kind.TASK) {
+                this.pendingUpdates.removeFirst();
+
+                update.task.run();
+            } else {
+                this.applyChunk(update);
+
+                if (update.posts.isEmpty()) {
+                    this.pendingUpdates.removeFirst();
+                } //end if
+            } //end if
+        } //end while
+
+        if (this.pendingUpdates.isEmpty()) {
+            this.timer.stop();
+
+            this.started.set(false);
+
+            if (!this.submittedUpdates.isEmpty() && this.started.compareAndSet(false, true)) {
+                this.timer.start();
+            } //end if
+        } //end if
+    } //drain
+
+    /**
+     * Applies the next chunk of posts of the specified update, keeping the first visible post of its list anchored.
+     *
+     * @param update the update to be used in the operation
+     */
+    private void applyChunk(Update update) {
+        List<Post> chunk;
+        List<Post> items;
+        IndexedCell<?> anchorCell;
+        Post anchorPost = null;
+        double anchorY = 0;
+
+        chunk = new ArrayList<>();
+
+        while ((chunk.size() < this.chunkSize) && !update.posts.isEmpty()) {
+            chunk.add(update.posts.pollFirst());
+        } //end while
+
+        anchorCell = FeedDispatcher.getFirstVisibleCell(update.listView);
+
+        if ((update.kind != Kind.APPEND) && (anchorCell != null) && !anchorCell.isEmpty()) {
+            if ((anchorCell.getIndex() > 0) || (anchorCell.getLayoutY() < 0)) {
+                anchorPost = update.listView.getItems()
+                                            .get(anchorCell.getIndex());
+
+                anchorY = anchorCell.getLayoutY();
+            } //end if
+        } //end if
+
+        items = update.listView.getItems();
+
+        switch (update.kind) {
+            case PREPEND -> {
+                items.addAll(update.offset, chunk);
+
+                update.offset += chunk.size();
+            }
+            case APPEND -> items.addAll(chunk);
+            case MERGE -> this.allTimeline.merge(chunk);
+        } //end switch
+
+        if (anchorPost != null) {
+            FeedDispatcher.restoreAnchor(update.listView, items.indexOf(anchorPost), anchorY);
+        } //end if
+    } //applyChunk
+
+    /**
+     * Returns the virtual flow of the specified list, or {@code null} if its skin has not been created.
+     *
+     * @param listView the list to be used in the operation
+     * @return the virtual flow of the specified list, or {@code null} if its skin has not been created
+     */
+    private static VirtualFlow<?> getFlow(ListView<Post> listView) {
+        Node node;
+
+        node = listView.lookup(".virtual-flow");
+
+        if (node instanceof VirtualFlow) {
+            return (VirtualFlow<?>) node;
+        } //end if
+
+        return null;
+    } //getFlow
+
+    /**
+     * Returns the first visible cell of the specified list, or {@code null} if there is none.
+     *
+     * @param listView the list to be used in the operation
+     * @return the first visible cell of the specified list, or {@code null} if there is none
+     */
+    private static IndexedCell<?> getFirstVisibleCell(ListView<Post> listView) {
+        VirtualFlow<?> flow;
+
+        flow = FeedDispatcher.getFlow(listView);
+
+        if ((flow == null) || (flow.getCellCount() == 0)) {
+            return null;
+        } //end if
+
+        return flow.getFirstVisibleCell();
+    } //getFirstVisibleCell
+
+    /**
+     * Scrolls the specified list so that the post at the specified index is at the specified offset from the top of
+     * the viewport.
+     *
+     * @param listView the list to be used in the operation
+     * @param index the index to be used in the operation
+     * @param offset the offset to be used in the operation
+     */
+    private static void restoreAnchor(ListView<Post> listView, int index, double offset) {
+        VirtualFlow<?> flow;
+
+        flow = FeedDispatcher.getFlow(listView);
+
+        if ((flow == null) || (index < 0)) {
+            return;
+        } //end if
+
+        flow.setCellCount(listView.getItems()
+                                  .size());
+
+        flow.scrollToTop(index);
+
+        flow.scrollPixels(-offset);
+    } //restoreAnchor
+
+    /**
+     * Creates, and returns, a {@code FeedDispatcher} object using the specified all timeline and all list.
+     *
+     * @param allTimeline the all timeline to be used in the operation
+     * @param allList the all list to be used in the operation
+     * @return a {@code FeedDispatcher} object using the specified all timeline and all list
+     * @throws NullPointerException if the specified all timeline or all list is {@code null}
+     */
+    public static FeedDispatcher createFeedDispatcher(Timeline allTimeline, ListView<Post> allList) {
+        Objects.requireNonNull(allTimeline, "the specified all timeline is null");
+
+        Objects.requireNonNull(allList, "the specified all list is null");
+
+        return new FeedDispatcher(allTimeline, allList);
+    } //createFeedDispatcher
+}
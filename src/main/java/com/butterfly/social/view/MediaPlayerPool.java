@@ -0,0 +1,136 @@
+package com.butterfly.social.view;
+
+import javafx.scene.media.Media;
+import javafx.scene.media.MediaException;
+import javafx.scene.media.MediaPlayer;
+import javafx.util.Duration;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A bounded pool of the media players of the Social Butterfly application. At most a fixed number of players are
+ * active at once. When another player is acquired, the player that was acquired least recently is revoked and
+ * disposed, so the number of active decoders never exceeds the bound. The methods of this pool must be called on the
+ * JavaFX application thread.
+ *
+ * @author Logan Kulinski, lbk@purdue.edu
+ * @version April 25, 2021
+ */
+public final class MediaPlayerPool {
+    /**
+     * The pool of the {@code MediaPlayerPool} class.
+     */
+    private static final MediaPlayerPool pool;
+
+    static {
+        pool = new MediaPlayerPool(Integer.getInteger("social.butterfly.media.maxPlayers", 4));
+    } //static
+
+    /**
+     * The map from active players to revokers of this media player pool, in the order they were acquired.
+     */
+    private final Map<MediaPlayer, Runnable> playersToRevokers;
+
+    /**
+     * The maximum number of active players of this media player pool.
+     */
+    private final int maxPlayers;
+
+    /**
+     * Constructs a newly allocated {@code MediaPlayerPool} object with the specified maximum number of players.
+     *
+     * @param maxPlayers the maximum number of players to be used in construction
+     */
+    private MediaPlayerPool(int maxPlayers) {
+        this.playersToRevokers = new LinkedHashMap<>();
+
+        this.maxPlayers = Math.max(1, maxPlayers);
+    } //MediaPlayerPool
+
+    /**
+     * Acquires, and returns, a player of the media with the specified URI string. If the maximum number of players
+     * are active, the player that was acquired least recently is disposed, and its revoker is run. A looping player
+     * plays automatically and restarts at the end of its media, and other players stop at the end of their media.
+     *
+     * @param uriString the URI string to be used in the operation
+     * @param loop whether or not the player loops
+     * @param revoker the revoker to be run if the player is revoked by this media player pool
+     * @return a player of the media with the specified URI string, or {@code null} if the media could not be loaded
+     * @throws NullPointerException if the specified URI string or revoker is {@code null}
+     */
+    public MediaPlayer acquire(String uriString, boolean loop, Runnable revoker) {
+        Iterator<Map.Entry<MediaPlayer, Runnable>> iterator;
+        Map.Entry<MediaPlayer, Runnable> eldest;
+        MediaPlayer player;
+
+        Objects.requireNonNull(uriString, "the specified URI string is null");
+
+        Objects.requireNonNull(revoker, "the specified revoker is null");
+
+        iterator = this.playersToRevokers.entrySet()
+                                         .iterator();
+
+        while ((this.playersToRevokers.size() >= this.maxPlayers) && iterator.hasNext()) {
+            eldest = iterator.next();
+
+            iterator.remove();
+
+            eldest.getKey()
+                  .dispose();
+
+            eldest.getValue()
+                  .run();
+        } //end while
+
+        try {
+            player = new MediaPlayer(new Media(uriString));
+        } catch (MediaException e) {
+            e.printStackTrace();
+
+            return null;
+        } //end try catch
+
+        if (loop) {
+            player.setOnEndOfMedia(() -> {
+                player.seek(Duration.ZERO);
+
+                player.play();
+            });
+
+            player.setAutoPlay(true);
+        } else {
+            player.setOnEndOfMedia(player::stop);
+        } //end if
+
+        this.playersToRevokers.put(player, revoker);
+
+        return player;
+    } //acquire
+
+    /**
+     * Releases the specified player to this media player pool, which disposes it. Players that have already been
+     * revoked are ignored.
+     *
+     * @param player the player to be used in the operation
+     * @throws NullPointerException if the specified player is {@code null}
+     */
+    public void release(MediaPlayer player) {
+        Objects.requireNonNull(player, "the specified player is null");
+
+        if (this.playersToRevokers.remove(player) != null) {
+            player.dispose();
+        } //end if
+    } //release
+
+    /**
+     * Returns the pool of the {@code MediaPlayerPool} class.
+     *
+     * @return the pool of the {@code MediaPlayerPool} class
+     */
+    public static MediaPlayerPool getPool() {
+        return MediaPlayerPool.pool;
+    } //getPool
+}
@@ -0,0 +1,93 @@
+package com.butterfly.social.view;
+
+import java.util.Objects;
+
+/**
+ * A variant of the media of a post attachment of the Social Butterfly application, such as one encoding of a video.
+ *
+ * @author Logan Kulinski, lbk@purdue.edu
+ * @version April 25, 2021
+ */
+public final class MediaVariant {
+    /**
+     * The URL of this media variant.
+     */
+    private final String url;
+
+    /**
+     * The bitrate of this media variant, in bits per second, or {@code 0} if it is unknown.
+     */
+    private final int bitrate;
+
+    /**
+     * The width of this media variant, in pixels, or {@code 0} if it is unknown.
+     */
+    private final int width;
+
+    /**
+     * Constructs a newly allocated {@code MediaVariant} object with the specified URL, bitrate, and width.
+     *
+     * @param url the URL to be used in construction
+     * @param bitrate the bitrate to be used in construction
+     * @param width the width to be used in construction
+     */
+    private MediaVariant(String url, int bitrate, int width) {
+        this.url = url;
+
+        this.bitrate = bitrate;
+
+        this.width = width;
+    } //MediaVariant
+
+    /**
+     * Returns the URL of this media variant.
+     *
+     * @return the URL of this media variant
+     */
+    public String getUrl() {
+        return this.url;
+    } //getUrl
+
+    /**
+     * Returns the bitrate of this media variant.
+     *
+     * @return the bitrate of this media variant
+     */
+    public int getBitrate() {
+        return this.bitrate;
+    } //getBitrate
+
+    /**
+     * Returns the width of this media variant.
+     *
+     * @return the width of this media variant
+     */
+    public int getWidth() {
+        return this.width;
+    } //getWidth
+
+    /**
+     * Returns the {@code String} representation of this media variant.
+     *
+     * @return the {@code String} representation of this media variant
+     */
+    @Override
+    public String toString() {
+        return String.format("MediaVariant[url=%s, bitrate=%d, width=%d]", this.url, this.bitrate, this.width);
+    } //toString
+
+    /**
+     * Creates, and returns, a {@code MediaVariant} object using the specified URL, bitrate, and width.
+     *
+     * @param url the URL to be used in the operation
+     * @param bitrate the bitrate to be used in the operation, or {@code 0} if it is unknown
+     * @param width the width to be used in the operation, or {@code 0} if it is unknown
+     * @return a {@code MediaVariant} object using the specified URL, bitrate, and width
+     * @throws NullPointerException if the specified URL is {@code null}
+     */
+    public static MediaVariant createMediaVariant(String url, int bitrate, int width) {
+        Objects.requireNonNull(url, "the specified URL is null");
+
+        return new MediaVariant(url, Math.max(0, bitrate), Math.max(0, width));
+    } //createMediaVariant
+}
@@ -0,0 +1,604 @@
+package com.butterfly.social.view;
+
+import com.butterfly.social.model.BandwidthMeter;
+import com.butterfly.social.model.ImageCache;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.value.ObservableValue;
+import javafx.scene.CacheHint;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.control.Label;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.StackPane;
+import javafx.scene.media.MediaPlayer;
+import javafx.scene.media.MediaView;
+import javafx.util.Duration;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A media attachment of a post of the Social Butterfly application. The image of a photo is loaded through the image
+ * cache. A video or GIF is displayed as a static poster until it is shown, and only then plays through a player of
+ * the media player pool, which is released as soon as it is no longer shown. A video with several variants plays the
+ * lowest variant that fills its width and fits the measured bandwidth, and steps down a variant when it stalls.
+ *
+ * @author Logan Kulinski, lbk@purdue.edu
+ * @version April 25, 2021
+ */
+public final class PostAttachment {
+    /**
+     * A kind of a post attachment.
+     */
+    public enum Kind {
+        /**
+         * A photo.
+         */
+        PHOTO,
+
+        /**
+         * A video, which is played when it is clicked.
+         */
+        VIDEO,
+
+        /**
+         * A GIF, which is played on a loop.
+         */
+        GIF
+    }
+
+    /**
+     * The kind of this post attachment.
+     */
+    private final Kind kind;
+
+    /**
+     * The variants of this post attachment, in ascending order of bitrate.
+     */
+    private final List<MediaVariant> variants;
+
+    /**
+     * The poster URL of this post attachment, or {@code null} if there is none.
+     */
+    private final String posterUrl;
+
+    /**
+     * A pane of a video or GIF attachment. The pane displays the poster of its attachment, and swaps in a media view
+     * while it is shown, which is while it is in a scene, it and its ancestors are visible, and its shown flag is set.
+     */
+    private final class MediaPane extends StackPane implements InvalidationListener {
+        /**
+         * The width at which this media pane is displayed, or {@code 0} if it is unknown.
+         */
+        private final double width;
+
+        /**
+         * The shown flag of this media pane.
+         */
+        private final ObservableValue<Boolean> shown;
+
+        /**
+         * The poster of this media pane.
+         */
+        private final Node poster;
+
+        /**
+         * The media view of this media pane.
+         */
+        private final MediaView mediaView;
+
+        /**
+         * The ancestors of this media pane, whose visibility is observed.
+         */
+        private List<Node> ancestors;
+
+        /**
+         * The index of the variant that is played by this media pane, or {@code -1} if none is played.
+         */
+        private int variantIndex;
+
+        /**
+         * Constructs a newly allocated {@code MediaPane} object with the specified shown flag and width.
+         *
+         * @param shown the shown flag to be used in construction
+         * @param width the width to be used in construction
+         */
+        private MediaPane(ObservableValue<Boolean> shown, double width) {
+            ImageCache imageCache;
+            String text;
+
+            this.width = width;
+
+            this.shown = shown;
+
+            if (PostAttachment.this.posterUrl == null) {
+                text = (PostAttachment.this.kind == Kind.GIF) ? "GIF" : "Video";
+
+                this.poster = new Label(text);
+            } else {
+                imageCache = ImageCache.getCache();
+
+                this.poster = imageCache.createImageView(PostAttachment.this.posterUrl, width);
+            } //end if
+
+            this.mediaView = new MediaView();
+
+            this.ancestors = List.of();
+
+            this.variantIndex = -1;
+
+            this.getChildren()
+                .add(this.poster);
+
+            this.poster.setOnMouseClicked((mouseEvent) -> this.invalidated(null));
+
+            if (PostAttachment.this.kind == Kind.VIDEO) {
+                this.mediaView.setOnMouseClicked((mouseEvent) -> {
+                    MediaPlayer player;
+
+                    player = this.mediaView.getMediaPlayer();
+
+                    if (player == null) {
+                        return;
+                    } //end if
+
+                    switch (player.getStatus()) {
+                        case PLAYING -> player.pause();
+                        case READY, PAUSED, STOPPED -> player.play();
+                    } //end switch
+                });
+            } //end if
+
+            this.mediaView.setPreserveRatio(true);
+
+            this.mediaView.setCache(true);
+
+            this.mediaView.setCacheHint(CacheHint.SPEED);
+
+            this.sceneProperty()
+                .addListener(this);
+
+            this.shown.addListener(this);
+        } //MediaPane
+
+        /**
+         * Returns the ancestors of this media pane, from its parent to the root of its scene.
+         *
+         * @return the ancestors of this media pane
+         */
+        private List<Node> findAncestors() {
+            List<Node> nodes;
+            Parent parent;
+
+            nodes = new ArrayList<>();
+
+            parent = this.getParent();
+
+            while (parent != null) {
+                nodes.add(parent);
+
+                parent = parent.getParent();
+            } //end while
+
+            return nodes;
+        } //findAncestors
+
+        /**
+         * Returns whether or not this media pane is shown. Every observed value is read, so that each of them
+         * notifies this media pane of its next change.
+         *
+         * @return {@code true}, if this media pane is shown, and {@code false} otherwise
+         */
+        private boolean isShown() {
+            boolean shownFlag;
+            boolean visible;
+
+            shownFlag = Boolean.TRUE.equals(this.shown.getValue());
+
+            visible = this.isVisible();
+
+            for (Node ancestor : this.ancestors) {
+                visible &= ancestor.isVisible();
+            } //end for
+
+            return (this.getScene() != null) && shownFlag && visible;
+        } //isShown
+
+        /**
+         * Displays the media view of this media pane with a player acquired from the media player pool, unless it is
+         * already displayed. The variant is selected from those up to the specified maximum index, and playback
+         * starts at the specified time.
+         *
+         * @param maxIndex the maximum index of the variant to be used in the operation
+         * @param startTime the time at which playback starts, or {@code null} to start at the beginning
+         * @param play whether or not to play the media once it is ready
+         */
+        private void activate(int maxIndex, Duration startTime, boolean play) {
+            BandwidthMeter meter;
+            int index;
+            MediaVariant variant;
+            String uriString;
+            MediaPlayerPool pool;
+            boolean loop;
+            MediaPlayer player;
+
+            if (this.mediaView.getMediaPlayer() != null) {
+                return;
+            } //end if
+
+            meter = BandwidthMeter.getMeter();
+
+            index = PostAttachment.this.selectVariant(this.width, meter.getEstimate(), maxIndex);
+
+            variant = PostAttachment.this.variants.get(index);
+
+            uriString = PostAttachment.getUriString(variant.getUrl());
+
+            if (uriString == null) {
+                return;
+            } //end if
+
+            pool = MediaPlayerPool.getPool();
+
+            loop = PostAttachment.this.kind == Kind.GIF;
+
+            player = pool.acquire(uriString, loop, this::displayPoster);
+
+            if (player == null) {
+                return;
+            } //end if
+
+            this.variantIndex = index;
+
+            if (startTime != null) {
+                player.setOnReady(() -> {
+                    player.seek(startTime);
+
+                    if (play) {
+                        player.play();
+                    } //end if
+                });
+            } //end if
+
+            player.setOnStalled(this::stepDown);
+
+            if ((this.width > 0) && (variant.getWidth() > this.width)) {
+                this.mediaView.setFitWidth(this.width);
+            } else {
+                this.mediaView.setFitWidth(0);
+            } //end if
+
+            this.mediaView.setMediaPlayer(player);
+
+            this.getChildren()
+                .setAll(this.mediaView);
+        } //activate
+
+        /**
+         * Displays the poster of this media pane, and releases its player to the media player pool.
+         */
+        private void deactivate() {
+            MediaPlayer player;
+            MediaPlayerPool pool;
+
+            player = this.mediaView.getMediaPlayer();
+
+            this.displayPoster();
+
+            if (player != null) {
+                pool = MediaPlayerPool.getPool();
+
+                pool.release(player);
+            } //end if
+        } //deactivate
+
+        /**
+         * Records a stall of the player of this media pane, and switches to the next lower variant at the same time,
+         * if there is one.
+         */
+        private void stepDown() {
+            MediaPlayer player;
+            BandwidthMeter meter;
+            int index;
+            Duration time;
+            boolean playing;
+
+            player = this.mediaView.getMediaPlayer();
+
+            if (player == null) {
+                return;
+            } //end if
+
+            meter = BandwidthMeter.getMeter();
+
+            meter.recordStall();
+
+            index = this.variantIndex;
+
+            if (index <= 0) {
+                return;
+            } //end if
+
+            time = player.getCurrentTime();
+
+            playing = player.getStatus() == MediaPlayer.Status.PLAYING;
+
+            this.deactivate();
+
+            this.activate(index - 1, time, playing);
+        } //stepDown
+
+        /**
+         * Displays the poster of this media pane in place of its media view.
+         */
+        private void displayPoster() {
+            this.variantIndex = -1;
+
+            this.mediaView.setMediaPlayer(null);
+
+            this.getChildren()
+                .setAll(this.poster);
+        } //displayPoster
+
+        /**
+         * Activates or deactivates this media pane, depending on whether or not it is shown. The visibility of the
+         * ancestors of this media pane is observed, so that a cell that is scrolled out of view, or a tab that is not
+         * selected, releases its player.
+         *
+         * @param observable the observable to be used in the operation
+         */
+        @Override
+        public void invalidated(Observable observable) {
+            List<Node> newAncestors;
+
+            newAncestors = (this.getScene() == null) ? List.of() : this.findAncestors();
+
+            if (!newAncestors.equals(this.ancestors)) {
+                for (Node ancestor : this.ancestors) {
+                    ancestor.visibleProperty()
+                            .removeListener(this);
+                } //end for
+
+                for (Node ancestor : newAncestors) {
+                    ancestor.visibleProperty()
+                            .addListener(this);
+                } //end for
+
+                this.ancestors = newAncestors;
+            } //end if
+
+            if (this.isShown()) {
+                this.activate(PostAttachment.this.variants.size() - 1, null, false);
+            } else {
+                this.deactivate();
+            } //end if
+        } //invalidated
+    }
+
+    /**
+     * Constructs a newly allocated {@code PostAttachment} object with the specified kind, variants, and poster URL.
+     *
+     * @param kind the kind to be used in construction
+     * @param variants the variants to be used in construction
+     * @param posterUrl the poster URL to be used in construction
+     */
+    private PostAttachment(Kind kind, List<MediaVariant> variants, String posterUrl) {
+        this.kind = kind;
+
+        this.variants = variants;
+
+        this.posterUrl = posterUrl;
+    } //PostAttachment
+
+    /**
+     * Returns the kind of this post attachment.
+     *
+     * @return the kind of this post attachment
+     */
+    public Kind getKind() {
+        return this.kind;
+    } //getKind
+
+    /**
+     * Returns the URL of the lowest variant of this post attachment.
+     *
+     * @return the URL of the lowest variant of this post attachment
+     */
+    public String getUrl() {
+        return this.variants.get(0)
+                            .getUrl();
+    } //getUrl
+
+    /**
+     * Returns the variants of this post attachment.
+     *
+     * @return the variants of this post attachment
+     */
+    public List<MediaVariant> getVariants() {
+        return this.variants;
+    } //getVariants
+
+    /**
+     * Returns the poster URL of this post attachment.
+     *
+     * @return the poster URL of this post attachment
+     */
+    public String getPosterUrl() {
+        return this.posterUrl;
+    } //getPosterUrl
+
+    /**
+     * Returns the URI string of the specified URL, or {@code null} if it is malformed.
+     *
+     * @param url the URL to be used in the operation
+     * @return the URI string of the specified URL, or {@code null} if it is malformed
+     */
+    private static String getUriString(String url) {
+        URI uri;
+
+        try {
+            uri = new URI(url);
+        } catch (URISyntaxException e) {
+            e.printStackTrace();
+
+            return null;
+        } //end try catch
+
+        return uri.toString();
+    } //getUriString
+
+    /**
+     * Returns the index of the variant of this post attachment to be played at the specified width with the specified
+     * bandwidth, among the variants up to the specified maximum index. The lowest variant that fills the specified
+     * width is preferred, and the highest variant whose bitrate fits the specified bandwidth is not exceeded. Variants
+     * of unknown width or bitrate are treated as too narrow or as fitting, respectively.
+     *
+     * @param width the width to be used in the operation, or {@code 0} if it is unknown
+     * @param bandwidth the bandwidth to be used in the operation, in bits per second
+     * @param maxIndex the maximum index to be used in the operation
+     * @return the index of the variant of this post attachment to be played
+     */
+    int selectVariant(double width, long bandwidth, int maxIndex) {
+        double headroom = 0.75;
+        int lastIndex;
+        int fillIndex;
+        int affordableIndex = 0;
+
+        lastIndex = Math.min(maxIndex, this.variants.size() - 1);
+
+        fillIndex = lastIndex;
+
+        if (width > 0) {
+            for (int i = 0; i <= lastIndex; i++) {
+                if (this.variants.get(i)
+                                 .getWidth() >= width) {
+                    fillIndex = i;
+
+                    break;
+                } //end if
+            } //end for
+        } //end if
+
+        for (int i = 0; i <= lastIndex; i++) {
+            if (this.variants.get(i)
+                             .getBitrate() <= (bandwidth * headroom)) {
+                affordableIndex = i;
+            } //end if
+        } //end for
+
+        return Math.min(fillIndex, affordableIndex);
+    } //selectVariant
+
+    /**
+     * Creates, and returns, a node for this post attachment that is displayed at the specified width. Photos are
+     * downsampled to the specified width. Videos and GIFs display a poster, and only play while the node is shown,
+     * which requires the specified shown flag to be set. This must be called on the JavaFX application thread.
+     *
+     * @param width the width at which the node is displayed, or {@code 0} to display a photo at its full width
+     * @param shown the shown flag to be used in the operation
+     * @return a node for this post attachment, or {@code null} if its URL is malformed
+     * @throws NullPointerException if the specified shown flag is {@code null}
+     */
+    public Node createNode(double width, ObservableValue<Boolean> shown) {
+        String uriString;
+        ImageCache imageCache;
+        ImageView imageView;
+
+        Objects.requireNonNull(shown, "the specified shown flag is null");
+
+        uriString = PostAttachment.getUriString(this.getUrl());
+
+        if (uriString == null) {
+            return null;
+        } //end if
+
+        if (this.kind == Kind.PHOTO) {
+            imageCache = ImageCache.getCache();
+
+            imageView = imageCache.createImageView(uriString, width);
+
+            imageView.setCache(true);
+
+            imageView.setCacheHint(CacheHint.SPEED);
+
+            return imageView;
+        } //end if
+
+        return new MediaPane(shown, width);
+    } //createNode
+
+    /**
+     * Returns the {@code String} representation of this post attachment.
+     *
+     * @return the {@code String} representation of this post attachment
+     */
+    @Override
+    public String toString() {
+        String format = "PostAttachment[kind=%s, variants=%s, posterUrl=%s]";
+
+        return String.format(format, this.kind, this.variants, this.posterUrl);
+    } //toString
+
+    /**
+     * Creates, and returns, a {@code PostAttachment} object using the specified kind, URL, and poster URL.
+     *
+     * @param kind the kind to be used in the operation
+     * @param url the URL to be used in the operation
+     * @param posterUrl the poster URL to be used in the operation, or {@code null} if there is none
+     * @return a {@code PostAttachment} object using the specified kind, URL, and poster URL
+     * @throws NullPointerException if the specified kind or URL is {@code null}
+     */
+    public static PostAttachment createPostAttachment(Kind kind, String url, String posterUrl) {
+        Objects.requireNonNull(url, "the specified URL is null");
+
+        return PostAttachment.createPostAttachment(kind, List.of(MediaVariant.createMediaVariant(url, 0, 0)),
+                                                   posterUrl);
+    } //createPostAttachment
+
+    /**
+     * Creates, and returns, a {@code PostAttachment} object using the specified kind, variants, and poster URL. The
+     * variants are ordered by bitrate, and then by width.
+     *
+     * @param kind the kind to be used in the operation
+     * @param variants the variants to be used in the operation
+     * @param posterUrl the poster URL to be used in the operation, or {@code null} if there is none
+     * @return a {@code PostAttachment} object using the specified kind, variants, and poster URL
+     * @throws NullPointerException if the specified kind or list of variants is {@code null}
+     * @throws IllegalArgumentException if the specified list of variants is empty
+     */
+    public static PostAttachment createPostAttachment(Kind kind, List<MediaVariant> variants, String posterUrl) {
+        List<MediaVariant> sortedVariants;
+
+        Objects.requireNonNull(kind, "the specified kind is null");
+
+        Objects.requireNonNull(variants, "the specified list of variants is null");
+
+        if (variants.isEmpty()) {
+            throw new IllegalArgumentException("the specified list of variants is empty");
+        } //end if
+
+        sortedVariants = new ArrayList<>(variants);
+
+        sortedVariants.sort(Comparator.comparingInt(MediaVariant::getBitrate)
+                                      .thenComparingInt(MediaVariant::getWidth));
+
+        return new PostAttachment(kind, List.copyOf(sortedVariants), posterUrl);
+    } //createPostAttachment
+
+    /**
+     * Creates, and returns, a {@code PostAttachment} object without a poster using the specified kind and URL.
+     *
+     * @param kind the kind to be used in the operation
+     * @param url the URL to be used in the operation
+     * @return a {@code PostAttachment} object without a poster using the specified kind and URL
+     * @throws NullPointerException if the specified kind or URL is {@code null}
+     */
+    public static PostAttachment createPostAttachment(Kind kind, String url) {
+        return PostAttachment.createPostAttachment(kind, url, null);
+    } //createPostAttachment
+}
@@ -1,14 +1,28 @@
 package com.butterfly.social.view;
 
+import com.butterfly.social.controller.FeedWindow;
+import com.butterfly.social.controller.Post;
+import javafx.beans.InvalidationListener;
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.StringExpression;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.scene.Node;
+import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
-import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
 
 /**
- * A view for posts of the Social Butterfly application.
+ * A view for posts of the Social Butterfly application. Each feed is a virtualized list of posts, so only the posts
+ * that are visible have nodes, which are created by the renderer of this post view.
  *
  * @author Logan Kulinski, lbk@purdue.edu
  * @version March 22, 2021
@@ -25,42 +39,286 @@ public final class PostView {
     private final SplitPane splitPane;
 
     /**
-     * The Reddit box of this post view.
+     * The Reddit list of this post view.
      */
-    private final VBox redditBox;
+    private final ListView<Post> redditList;
 
     /**
-     * The Twitter box of this post view.
+     * The Twitter list of this post view.
      */
-    private final VBox twitterBox;
+    private final ListView<Post> twitterList;
 
     /**
-     * The Instagram box of this post view.
+     * The Instagram list of this post view.
      */
-    private final VBox instagramBox;
+    private final ListView<Post> instagramList;
 
     /**
-     * The all box of this post view.
+     * The all list of this post view.
      */
-    private final VBox allBox;
+    private final ListView<Post> allList;
+
+    /**
+     * The all timeline of this post view, which orders the posts of the all list.
+     */
+    private final Timeline allTimeline;
+
+    /**
+     * The feed dispatcher of this post view, which applies the updates of every list.
+     */
+    private final FeedDispatcher feedDispatcher;
+
+    /**
+     * The map from lists to bottom handlers of this post view.
+     */
+    private final Map<ListView<Post>, Runnable> listsToBottomHandlers;
+
+    /**
+     * The map from lists to the sizes at which their bottom handlers were last run of this post view.
+     */
+    private final Map<ListView<Post>, Integer> listsToHandledSizes;
+
+    /**
+     * The map from lists to node caches of this post view.
+     */
+    private final Map<ListView<Post>, Map<Post, Node>> listsToNodeCaches;
+
+    /**
+     * The renderer of this post view.
+     */
+    private volatile BiFunction<Post, Boolean, Node> renderer;
+
+    /**
+     * The maximum number of nodes that are cached per list by this post view.
+     */
+    private final int nodeCacheCapacity;
+
+    /**
+     * The font size of this post view.
+     */
+    private final IntegerProperty fontSize;
+
+    /**
+     * The font style of this post view, which sets the font size that every post inherits.
+     */
+    private final StringExpression fontStyle;
+
+    /**
+     * The external form of the stylesheet of this post view, or {@code null} if it could not be found.
+     */
+    private final String stylesheet;
+
+    /**
+     * The visibility handler of this post view, which is run when the lists that are shown may have changed.
+     */
+    private volatile Runnable visibilityHandler;
+
+    /**
+     * A cell of a list of posts.
+     */
+    private final class PostCell extends ListCell<Post> {
+        /**
+         * Whether or not this post cell displays the network of its post.
+         */
+        private final boolean displayNetwork;
+
+        /**
+         * Constructs a newly allocated {@code PostCell} object with the specified display network flag.
+         *
+         * @param displayNetwork whether or not to display the network of the post
+         */
+        private PostCell(boolean displayNetwork) {
+            this.displayNetwork = displayNetwork;
+        } //PostCell
+
+        /**
+         * Updates the item of this post cell, rendering the specified post if it is not empty.
+         *
+         * @param post the post to be used in the operation
+         * @param empty whether or not this post cell is empty
+         */
+        @Override
+        protected void updateItem(Post post, boolean empty) {
+            ListView<Post> listView;
+            int size;
+            Runnable handler;
+            Integer handledSize;
+
+            super.updateItem(post, empty);
+
+            this.setText(null);
+
+            if (empty || (post == null)) {
+                this.setGraphic(null);
+
+                return;
+            } //end if
+
+            listView = this.getListView();
+
+            this.setGraphic(PostView.this.getNode(listView, post, this.displayNetwork));
+
+            size = listView.getItems()
+                           .size();
+
+            handler = PostView.this.listsToBottomHandlers.get(listView);
+
+            if ((handler == null) || (this.getIndex() != (size - 1))) {
+                return;
+            } //end if
+
+            handledSize = PostView.this.listsToHandledSizes.put(listView, size);
+
+            if ((handledSize == null) || (handledSize != size)) {
+                handler.run();
+            } //end if
+        } //updateItem
+    }
 
     /**
      * Constructs a newly allocated {@code PostView} object.
      */
     private PostView() {
+        InvalidationListener visibilityListener;
+
         this.tabPane = new TabPane();
 
         this.splitPane = new SplitPane();
 
-        this.redditBox = new VBox();
+        this.listsToBottomHandlers = new ConcurrentHashMap<>();
+
+        this.listsToHandledSizes = new ConcurrentHashMap<>();
+
+        this.listsToNodeCaches = new ConcurrentHashMap<>();
+
+        this.renderer = null;
+
+        this.nodeCacheCapacity = Integer.getInteger("social.butterfly.feed.nodeCache", 50);
+
+        this.fontSize = new SimpleIntegerProperty(12);
+
+        this.fontStyle = Bindings.format("-fx-font-size: %dpx;", this.fontSize);
+
+        this.stylesheet = PostView.getStylesheet();
+
+        this.redditList = this.createList(false);
+
+        this.twitterList = this.createList(false);
+
+        this.instagramList = this.createList(false);
 
-        this.twitterBox = new VBox();
+        this.allList = this.createList(true);
 
-        this.instagramBox = new VBox();
+        this.allTimeline = Timeline.createTimeline(this.allList.getItems());
 
-        this.allBox = new VBox();
+        this.feedDispatcher = FeedDispatcher.createFeedDispatcher(this.allTimeline, this.allList);
+
+        this.visibilityHandler = null;
+
+        visibilityListener = (observable) -> {
+            Runnable handler;
+
+            handler = this.visibilityHandler;
+
+            if (handler != null) {
+                handler.run();
+            } //end if
+        };
+
+        this.tabPane.getSelectionModel()
+                    .selectedItemProperty()
+                    .addListener(visibilityListener);
+
+        this.splitPane.getItems()
+                      .addListener(visibilityListener);
+
+        for (ListView<Post> listView : List.of(this.redditList, this.twitterList, this.instagramList, this.allList)) {
+            listView.sceneProperty()
+                    .addListener(visibilityListener);
+        } //end for
     } //PostView
 
+    /**
+     * Returns the external form of the stylesheet of post views, or {@code null} if it could not be found.
+     *
+     * @return the external form of the stylesheet of post views, or {@code null} if it could not be found
+     */
+    private static String getStylesheet() {
+        String fileName = "post-view.css";
+        URL url;
+
+        url = PostView.class.getResource(fileName);
+
+        if (url == null) {
+            return null;
+        } //end if
+
+        return url.toExternalForm();
+    } //getStylesheet
+
+    /**
+     * Creates, and returns, a list of posts. Its cells display the network of their post if the specified flag is
+     * set.
+     *
+     * @param displayNetwork whether or not to display the network of the posts
+     * @return a list of posts
+     */
+    private ListView<Post> createList(boolean displayNetwork) {
+        ListView<Post> listView;
+        Map<Post, Node> nodeCache;
+
+        listView = new ListView<>();
+
+        listView.setCellFactory((view) -> new PostCell(displayNetwork));
+
+        listView.setFocusTraversable(false);
+
+        this.applyStyle(listView);
+
+        nodeCache = new FeedWindow.LruMap<>(this.nodeCacheCapacity);
+
+        this.listsToNodeCaches.put(listView, nodeCache);
+
+        return listView;
+    } //createList
+
+    /**
+     * Returns the node of the specified post in the specified list. Recently displayed nodes are reused, and other
+     * nodes are created by the renderer of this post view.
+     *
+     * @param listView the list to be used in the operation
+     * @param post the post to be used in the operation
+     * @param displayNetwork whether or not to display the network of the specified post
+     * @return the node of the specified post in the specified list, or {@code null} if it could not be rendered
+     */
+    private Node getNode(ListView<Post> listView, Post post, boolean displayNetwork) {
+        Map<Post, Node> nodeCache;
+        Node node;
+        BiFunction<Post, Boolean, Node> currentRenderer;
+
+        nodeCache = this.listsToNodeCaches.get(listView);
+
+        node = nodeCache.get(post);
+
+        if (node != null) {
+            return node;
+        } //end if
+
+        currentRenderer = this.renderer;
+
+        if (currentRenderer == null) {
+            return null;
+        } //end if
+
+        node = currentRenderer.apply(post, displayNetwork);
+
+        if (node != null) {
+            nodeCache.put(post, node);
+        } //end if
+
+        return node;
+    } //getNode
+
     /**
      * Returns the tab pane of this post view.
      *
@@ -80,40 +338,201 @@ public final class PostView {
     } //getSplitPane
 
     /**
-     * Returns the Reddit box of this post view.
+     * Returns the Reddit list of this post view.
+     *
+     * @return the Reddit list of this post view
+     */
+    public ListView<Post> getRedditList() {
+        return this.redditList;
+    } //getRedditList
+
+    /**
+     * Returns the Twitter list of this post view.
+     *
+     * @return the Twitter list of this post view
+     */
+    public ListView<Post> getTwitterList() {
+        return this.twitterList;
+    } //getTwitterList
+
+    /**
+     * Returns the Instagram list of this post view.
+     *
+     * @return the Instagram list of this post view
+     */
+    public ListView<Post> getInstagramList() {
+        return this.instagramList;
+    } //getInstagramList
+
+    /**
+     * Returns the all list of this post view.
+     *
+     * @return the all list of this post view
+     */
+    public ListView<Post> getAllList() {
+        return this.allList;
+    } //getAllList
+
+    /**
+     * Returns the all timeline of this post view.
      *
-     * @return the Reddit box of this post view
+     * @return the all timeline of this post view
      */
-    public VBox getRedditBox() {
-        return this.redditBox;
-    } //getRedditBox
+    public Timeline getAllTimeline() {
+        return this.allTimeline;
+    } //getAllTimeline
 
     /**
-     * Returns the Twitter box of this post view.
+     * Returns the feed dispatcher of this post view.
      *
-     * @return the Twitter box of this post view
+     * @return the feed dispatcher of this post view
      */
-    public VBox getTwitterBox() {
-        return this.twitterBox;
-    } //getTwitterBox
+    public FeedDispatcher getFeedDispatcher() {
+        return this.feedDispatcher;
+    } //getFeedDispatcher
 
     /**
-     * Returns the Instagram box of this post view.
+     * Returns the font size property of this post view. Every post that is displayed by this post view inherits its
+     * font size from this property, so changing it does not render any post again.
      *
-     * @return the Instagram box of this post view
+     * @return the font size property of this post view
      */
-    public VBox getInstagramBox() {
-        return this.instagramBox;
-    } //getInstagramBox
+    public IntegerProperty fontSizeProperty() {
+        return this.fontSize;
+    } //fontSizeProperty
 
     /**
-     * Returns the all box of this post view.
+     * Applies the stylesheet and font size of this post view to the specified parent, so that the posts it contains
+     * are styled like those of this post view.
      *
-     * @return the all box of this post view
+     * @param parent the parent to be used in the operation
+     * @throws NullPointerException if the specified parent is {@code null}
      */
-    public VBox getAllBox() {
-        return this.allBox;
-    } //getAllBox
+    public void applyStyle(Parent parent) {
+        String styleClass = "post-view";
+
+        Objects.requireNonNull(parent, "the specified parent is null");
+
+        if (this.stylesheet != null) {
+            parent.getStylesheets()
+                  .add(this.stylesheet);
+        } //end if
+
+        parent.getStyleClass()
+              .add(styleClass);
+
+        parent.styleProperty()
+              .bind(this.fontStyle);
+    } //applyStyle
+
+    /**
+     * Sets the renderer of this post view. The renderer creates the node of a post, and is given whether or not the
+     * node should display the network of the post.
+     *
+     * @param renderer the renderer to be used in the operation
+     * @throws NullPointerException if the specified renderer is {@code null}
+     */
+    public void setRenderer(BiFunction<Post, Boolean, Node> renderer) {
+        Objects.requireNonNull(renderer, "the specified renderer is null");
+
+        this.renderer = renderer;
+
+        this.refresh();
+    } //setRenderer
+
+    /**
+     * Sets the handler that is run when the specified list is scrolled to the bottom.
+     *
+     * @param listView the list to be used in the operation
+     * @param handler the handler to be used in the operation
+     * @throws NullPointerException if the specified list or handler is {@code null}
+     */
+    public void setOnScrolledToBottom(ListView<Post> listView, Runnable handler) {
+        Objects.requireNonNull(listView, "the specified list is null");
+
+        Objects.requireNonNull(handler, "the specified handler is null");
+
+        this.listsToBottomHandlers.put(listView, handler);
+    } //setOnScrolledToBottom
+
+    /**
+     * Determines whether or not the specified list is shown by this post view, which is the case if it is in a scene
+     * and it is either the content of the selected tab or an item of the split pane.
+     *
+     * @param listView the list to be used in the operation
+     * @return {@code true}, if the specified list is shown by this post view, and {@code false} otherwise
+     * @throws NullPointerException if the specified list is {@code null}
+     */
+    public boolean isShown(ListView<Post> listView) {
+        Tab tab;
+
+        Objects.requireNonNull(listView, "the specified list is null");
+
+        if (listView.getScene() == null) {
+            return false;
+        } else if (this.splitPane.getItems()
+                                 .contains(listView)) {
+            return true;
+        } //end if
+
+        tab = this.tabPane.getSelectionModel()
+                          .getSelectedItem();
+
+        return (tab != null) && (tab.getContent() == listView);
+    } //isShown
+
+    /**
+     * Sets the visibility handler of this post view, which is run on the JavaFX application thread when the selected
+     * tab, the items of the split pane, or the scene of a list changes.
+     *
+     * @param handler the handler to be used in the operation
+     * @throws NullPointerException if the specified handler is {@code null}
+     */
+    public void setOnVisibilityChanged(Runnable handler) {
+        Objects.requireNonNull(handler, "the specified handler is null");
+
+        this.visibilityHandler = handler;
+    } //setOnVisibilityChanged
+
+    /**
+     * Discards the cached nodes of this post view, and renders the visible posts again. This must be called on the
+     * JavaFX application thread.
+     */
+    public void refresh() {
+        List<ListView<Post>> listViews;
+
+        listViews = List.of(this.redditList, this.twitterList, this.instagramList, this.allList);
+
+        for (ListView<Post> listView : listViews) {
+            this.listsToNodeCaches.get(listView)
+                                  .clear();
+
+            listView.refresh();
+        } //end for
+    } //refresh
+
+    /**
+     * Discards the cached nodes of the specified post in this post view, and renders the visible posts again, so that
+     * a post that was updated in place is displayed with its new view-model. The nodes of other posts are kept. This
+     * must be called on the JavaFX application thread.
+     *
+     * @param post the post to be used in the operation
+     * @throws NullPointerException if the specified post is {@code null}
+     */
+    public void refresh(Post post) {
+        List<ListView<Post>> listViews;
+
+        Objects.requireNonNull(post, "the specified post is null");
+
+        listViews = List.of(this.redditList, this.twitterList, this.instagramList, this.allList);
+
+        for (ListView<Post> listView : listViews) {
+            if (this.listsToNodeCaches.get(listView)
+                                      .remove(post) != null) {
+                listView.refresh();
+            } //end if
+        } //end for
+    } //refresh
 
     /**
      * Creates, and returns, a {@code PostView} object using the specified primary stage and scene.
@@ -125,10 +544,6 @@ public final class PostView {
      */
     public static PostView createPostView(Stage primaryStage, Scene scene) {
         PostView postView;
-        ScrollPane redditScrollPane;
-        ScrollPane twitterScrollPane;
-        ScrollPane instagramScrollPane;
-        ScrollPane allScrollPane;
         Tab redditTab;
         String redditText = "Reddit";
         Tab twitterTab;
@@ -144,37 +559,29 @@ public final class PostView {
 
         postView = new PostView();
 
-        redditScrollPane = new ScrollPane(postView.redditBox);
-
-        twitterScrollPane = new ScrollPane(postView.twitterBox);
-
-        instagramScrollPane = new ScrollPane(postView.instagramBox);
-
-        allScrollPane = new ScrollPane(postView.allBox);
-
         redditTab = new Tab(redditText);
 
         redditTab.setClosable(false);
 
-        redditTab.setContent(redditScrollPane);
+        redditTab.setContent(postView.redditList);
 
         twitterTab = new Tab(twitterText);
 
         twitterTab.setClosable(false);
 
-        twitterTab.setContent(twitterScrollPane);
+        twitterTab.setContent(postView.twitterList);
 
         instagramTab = new Tab(instagramText);
 
         instagramTab.setClosable(false);
 
-        instagramTab.setContent(instagramScrollPane);
+        instagramTab.setContent(postView.instagramList);
 
         allTab = new Tab(allText);
 
         allTab.setClosable(false);
 
-        allTab.setContent(allScrollPane);
+        allTab.setContent(postView.allList);
 
         postView.tabPane.getTabs()
                         .addAll(redditTab, twitterTab, instagramTab, allTab);
@@ -187,4 +594,4 @@ public final class PostView {
 
         return postView;
     } //createPostView
-}
\ No newline at end of file
+}
@@ -0,0 +1,389 @@
+package com.butterfly.social.view;
+
+import com.butterfly.social.model.Network;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.Accordion;
+import javafx.scene.control.Label;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.control.TitledPane;
+import javafx.scene.layout.VBox;
+import javafx.scene.text.Text;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoField;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An immutable view-model of a post of the Social Butterfly application. A post is converted to a view-model once,
+ * and every box of the post, in its network's feed and in the all feed, is rendered from it. The network of the post
+ * is only displayed as a suffix of its date and time.
+ *
+ * @author Logan Kulinski, lbk@purdue.edu
+ * @version April 25, 2021
+ */
+public final class PostViewModel {
+    /**
+     * The network of this post view-model.
+     */
+    private final Network network;
+
+    /**
+     * The title of this post view-model, or {@code null} if there is none.
+     */
+    private final String title;
+
+    /**
+     * The name of this post view-model.
+     */
+    private final String name;
+
+    /**
+     * The subtitle of this post view-model, or {@code null} if there is none.
+     */
+    private final String subtitle;
+
+    /**
+     * The body of this post view-model.
+     */
+    private final String body;
+
+    /**
+     * The attachments of this post view-model.
+     */
+    private final List<PostAttachment> attachments;
+
+    /**
+     * The date and time of this post view-model.
+     */
+    private final String dateTime;
+
+    /**
+     * The statistics of this post view-model.
+     */
+    private final List<String> statistics;
+
+    /**
+     * Constructs a newly allocated {@code PostViewModel} object with the specified network, title, name, subtitle,
+     * body, attachments, date and time, and statistics.
+     *
+     * @param network the network to be used in construction
+     * @param title the title to be used in construction
+     * @param name the name to be used in construction
+     * @param subtitle the subtitle to be used in construction
+     * @param body the body to be used in construction
+     * @param attachments the attachments to be used in construction
+     * @param dateTime the date and time to be used in construction
+     * @param statistics the statistics to be used in construction
+     */
+    private PostViewModel(Network network, String title, String name, String subtitle, String body,
+                          List<PostAttachment> attachments, String dateTime, List<String> statistics) {
+        this.network = network;
+
+        this.title = title;
+
+        this.name = name;
+
+        this.subtitle = subtitle;
+
+        this.body = body;
+
+        this.attachments = attachments;
+
+        this.dateTime = dateTime;
+
+        this.statistics = statistics;
+    } //PostViewModel
+
+    /**
+     * Returns the network of this post view-model.
+     *
+     * @return the network of this post view-model
+     */
+    public Network getNetwork() {
+        return this.network;
+    } //getNetwork
+
+    /**
+     * Returns the title of this post view-model.
+     *
+     * @return the title of this post view-model
+     */
+    public String getTitle() {
+        return this.title;
+    } //getTitle
+
+    /**
+     * Returns the name of this post view-model.
+     *
+     * @return the name of this post view-model
+     */
+    public String getName() {
+        return this.name;
+    } //getName
+
+    /**
+     * Returns the subtitle of this post view-model.
+     *
+     * @return the subtitle of this post view-model
+     */
+    public String getSubtitle() {
+        return this.subtitle;
+    } //getSubtitle
+
+    /**
+     * Returns the body of this post view-model.
+     *
+     * @return the body of this post view-model
+     */
+    public String getBody() {
+        return this.body;
+    } //getBody
+
+    /**
+     * Returns the attachments of this post view-model.
+     *
+     * @return the attachments of this post view-model
+     */
+    public List<PostAttachment> getAttachments() {
+        return this.attachments;
+    } //getAttachments
+
+    /**
+     * Returns the date and time of this post view-model, followed by its network if the specified flag is set.
+     *
+     * @param displayNetwork whether or not to display the network of this post view-model
+     * @return the date and time of this post view-model, followed by its network if the specified flag is set
+     */
+    public String getDateTime(boolean displayNetwork) {
+        if (displayNetwork) {
+            return String.format("%s on %s", this.dateTime, this.network.getDisplayName());
+        } //end if
+
+        return this.dateTime;
+    } //getDateTime
+
+    /**
+     * Returns the statistics of this post view-model.
+     *
+     * @return the statistics of this post view-model
+     */
+    public List<String> getStatistics() {
+        return this.statistics;
+    } //getStatistics
+
+    /**
+     * Returns an accordion of the attachments of this post view-model, which are displayed at the specified width.
+     * Videos and GIFs only play while their pane is expanded.
+     *
+     * @param width the width to be used in the operation
+     * @return an accordion of the attachments of this post view-model, or {@code null} if there are none
+     */
+    private Accordion createAccordion(double width) {
+        List<TitledPane> titledPanes;
+        Node node;
+        String mediaName;
+        int mediaCount = 1;
+        TitledPane titledPane;
+
+        if (this.attachments.isEmpty()) {
+            return null;
+        } //end if
+
+        titledPanes = new ArrayList<>();
+
+        for (PostAttachment attachment : this.attachments) {
+            titledPane = new TitledPane();
+
+            node = attachment.createNode(width, titledPane.expandedProperty());
+
+            if (node != null) {
+                mediaName = String.format("Attachment %d", mediaCount);
+
+                mediaCount++;
+
+                titledPane.setText(mediaName);
+
+                titledPane.setContent(new ScrollPane(node));
+
+                titledPanes.add(titledPane);
+            } //end if
+        } //end for
+
+        if (titledPanes.isEmpty()) {
+            return null;
+        } //end if
+
+        return new Accordion(titledPanes.toArray(new TitledPane[0]));
+    } //createAccordion
+
+    /**
+     * Creates, and returns, a box of this post view-model using the specified scene. The box does not set a font, and
+     * inherits its font from the stylesheet and font size of its parent. This must be called on the JavaFX
+     * application thread.
+     *
+     * @param scene the scene to be used in the operation
+     * @param displayNetwork whether or not to display the network of this post view-model
+     * @return a box of this post view-model
+     * @throws NullPointerException if the specified scene is {@code null}
+     */
+    public VBox createBox(Scene scene, boolean displayNetwork) {
+        VBox vBox;
+        String boldClass = "post-bold";
+        Text titleText;
+        Label nameLabel;
+        Text text;
+        Accordion accordion;
+        Label dateTimeLabel;
+        Label statisticLabel;
+
+        Objects.requireNonNull(scene, "the specified scene is null");
+
+        vBox = new VBox();
+
+        if (this.title != null) {
+            titleText = new Text(this.title);
+
+            titleText.getStyleClass()
+                     .add(boldClass);
+
+            titleText.wrappingWidthProperty()
+                     .bind(scene.widthProperty());
+
+            vBox.getChildren()
+                .add(titleText);
+        } //end if
+
+        nameLabel = new Label(this.name);
+
+        nameLabel.getStyleClass()
+                 .add(boldClass);
+
+        vBox.getChildren()
+            .add(nameLabel);
+
+        if (this.subtitle != null) {
+            vBox.getChildren()
+                .add(new Label(this.subtitle));
+        } //end if
+
+        text = new Text(this.body);
+
+        text.wrappingWidthProperty()
+            .bind(scene.widthProperty());
+
+        vBox.getChildren()
+            .add(text);
+
+        accordion = this.createAccordion(scene.getWidth());
+
+        if (accordion != null) {
+            accordion.prefWidthProperty()
+                     .bind(scene.widthProperty());
+
+            vBox.getChildren()
+                .add(accordion);
+        } //end if
+
+        dateTimeLabel = new Label(this.getDateTime(displayNetwork));
+
+        dateTimeLabel.getStyleClass()
+                     .add(boldClass);
+
+        vBox.getChildren()
+            .add(dateTimeLabel);
+
+        for (String statistic : this.statistics) {
+            statisticLabel = new Label(statistic);
+
+            statisticLabel.getStyleClass()
+                          .add(boldClass);
+
+            vBox.getChildren()
+                .add(statisticLabel);
+        } //end for
+
+        return vBox;
+    } //createBox
+
+    /**
+     * Returns the specified instant formatted as a date and time in the system's time zone, such as
+     * "April 25, 2021 at 03:07 PM".
+     *
+     * @param instant the instant to be used in the operation
+     * @return the specified instant formatted as a date and time in the system's time zone
+     * @throws NullPointerException if the specified instant is {@code null}
+     */
+    public static String formatDateTime(Instant instant) {
+        LocalDateTime dateTime;
+        String month;
+        int day;
+        int year;
+        int hour;
+        int minute;
+        String amPm;
+        String format = "%s %d, %d at %02d:%02d %s";
+
+        Objects.requireNonNull(instant, "the specified instant is null");
+
+        dateTime = LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+
+        month = dateTime.getMonth()
+                        .name();
+
+        month = month.charAt(0) + month.substring(1)
+                                       .toLowerCase();
+
+        day = dateTime.getDayOfMonth();
+
+        year = dateTime.getYear();
+
+        hour = dateTime.get(ChronoField.CLOCK_HOUR_OF_AMPM);
+
+        minute = dateTime.getMinute();
+
+        amPm = (dateTime.get(ChronoField.AMPM_OF_DAY) == 0) ? "AM" : "PM";
+
+        return String.format(format, month, day, year, hour, minute, amPm);
+    } //formatDateTime
+
+    /**
+     * Creates, and returns, a {@code PostViewModel} object using the specified network, title, name, subtitle, body,
+     * attachments, date and time, and statistics.
+     *
+     * @param network the network to be used in the operation
+     * @param title the title to be used in the operation, or {@code null} if there is none
+     * @param name the name to be used in the operation
+     * @param subtitle the subtitle to be used in the operation, or {@code null} if there is none
+     * @param body the body to be used in the operation
+     * @param attachments the attachments to be used in the operation
+     * @param dateTime the date and time to be used in the operation
+     * @param statistics the statistics to be used in the operation
+     * @return a {@code PostViewModel} object using the specified network, title, name, subtitle, body, attachments,
+     * date and time, and statistics
+     * @throws NullPointerException if the specified network, name, body, list of attachments, date and time, or list
+     * of statistics is {@code null}
+     */
+    public static PostViewModel createPostViewModel(Network network, String title, String name, String subtitle,
+                                                    String body, List<PostAttachment> attachments, String dateTime,
+                                                    List<String> statistics) {
+        Objects.requireNonNull(network, "the specified network is null");
+
+        Objects.requireNonNull(name, "the specified name is null");
+
+        Objects.requireNonNull(body, "the specified body is null");
+
+        Objects.requireNonNull(attachments, "the specified list of attachments is null");
+
+        Objects.requireNonNull(dateTime, "the specified date and time is null");
+
+        Objects.requireNonNull(statistics, "the specified list of statistics is null");
+
+        return new PostViewModel(network, title, name, subtitle, body, List.copyOf(attachments), dateTime,
+                                 List.copyOf(statistics));
+    } //createPostViewModel
+}
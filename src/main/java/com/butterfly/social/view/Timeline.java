@@ -0,0 +1,223 @@
+package com.butterfly.social.view;
+
+import com.butterfly.social.controller.Post;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * A unified timeline of the Social Butterfly application, which keeps the posts of every network in one list that is
+ * ordered by creation time or by popularity. Each batch of new posts is a sorted run that is merged into the list, so
+ * the list is never re-sorted or rebuilt when posts arrive, and the timeline is an incremental k-way merge of the
+ * feeds of the networks.
+ *
+ * @author Logan Kulinski, lbk@purdue.edu
+ * @version April 25, 2021
+ */
+public final class Timeline {
+    /**
+     * The order of posts from newest to oldest.
+     */
+    private static final Comparator<Post> timeOrder;
+
+    /**
+     * The order of posts from most to least popular, and from newest to oldest among equally popular posts.
+     */
+    private static final Comparator<Post> popularityOrder;
+
+    static {
+        timeOrder = Comparator.comparing(Post::getCreated)
+                              .reversed();
+
+        popularityOrder = Comparator.comparingLong(Post::getScore)
+                                    .reversed()
+                                    .thenComparing(timeOrder);
+    }
+
+    /**
+     * The posts of this timeline.
+     */
+    private final ObservableList<Post> posts;
+
+    /**
+     * The order of this timeline.
+     */
+    private Comparator<Post> order;
+
+    /**
+     * Constructs a newly allocated {@code Timeline} object with the specified posts.
+     *
+     * @param posts the posts to be used in construction
+     */
+    private Timeline(ObservableList<Post> posts) {
+        this.posts = posts;
+
+        this.order = timeOrder;
+    } //Timeline
+
+    /**
+     * Returns the posts of this timeline.
+     *
+     * @return the posts of this timeline
+     */
+    public ObservableList<Post> getPosts() {
+        return this.posts;
+    } //getPosts
+
+    /**
+     * Returns whether or not this timeline is ordered by creation time.
+     *
+     * @return {@code true}, if this timeline is ordered by creation time, and {@code false} if it is ordered by
+     * popularity
+     */
+    public boolean isSortedByTime() {
+        return this.order == timeOrder;
+    } //isSortedByTime
+
+    /**
+     * Sets whether or not this timeline is ordered by creation time, or otherwise by popularity. If the order changes,
+     * the posts that are already in this timeline are sorted once in the new order. This must be called on the JavaFX
+     * application thread.
+     *
+     * @param sortByTime whether or not to order this timeline by creation time
+     */
+    public void setSortByTime(boolean sortByTime) {
+        Comparator<Post> newOrder;
+
+        newOrder = sortByTime ? timeOrder : popularityOrder;
+
+        if (this.order == newOrder) {
+            return;
+        } //end if
+
+        this.order = newOrder;
+
+        FXCollections.sort(this.posts, newOrder);
+    } //setSortByTime
+
+    /**
+     * Returns the index after the last post in the specified range of this timeline that is not ordered after the
+     * specified post.
+     *
+     * @param post the post to be used in the operation
+     * @param fromIndex the first index of the range to be used in the operation
+     * @return the index at which the specified post is to be inserted into this timeline
+     */
+    private int findIndex(Post post, int fromIndex) {
+        int low = fromIndex;
+        int high = this.posts.size();
+        int middle;
+
+        while (low < high) {
+            middle = (low + high) >>> 1;
+
+            if (this.order.compare(this.posts.get(middle), post) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            } //end if
+        } //end while
+
+        return low;
+    } //findIndex
+
+    /**
+     * Merges the specified posts into this timeline, inserting each at its position in the order of this timeline.
+     * The specified posts are sorted as one run, the index of each is searched for after the index of the one before
+     * it, and consecutive posts with the same index are inserted together. This must be called on the JavaFX
+     * application thread.
+     *
+     * @param newPosts the posts to be used in the operation
+     * @throws NullPointerException if the specified collection of posts is {@code null}
+     */
+    public void merge(Collection<? extends Post> newPosts) {
+        List<Post> run;
+        List<Integer> indices;
+        List<List<Post>> runs;
+        int index;
+        int previousIndex = -1;
+
+        Objects.requireNonNull(newPosts, "the specified collection of posts is null");
+
+        if (newPosts.isEmpty()) {
+            return;
+        } //end if
+
+        run = new ArrayList<>(newPosts);
+
+        run.sort(this.order);
+
+        indices = new ArrayList<>();
+
+        runs = new ArrayList<>();
+
+        for (Post post : run) {
+            index = this.findIndex(post, Math.max(previousIndex, 0));
+
+            if (index != previousIndex) {
+                indices.add(index);
+
+                runs.add(new ArrayList<>());
+
+                previousIndex = index;
+            } //end if
+
+            runs.get(runs.size() - 1)
+                .add(post);
+        } //end for
+
+        for (int i = runs.size() - 1; i >= 0; i--) {
+            this.posts.addAll(indices.get(i), runs.get(i));
+        } //end for
+    } //merge
+
+    /**
+     * Removes the posts of this timeline that satisfy the specified filter. The posts that are kept are collected in
+     * one pass, and replace the posts of this timeline in one change, so removing every post of a network does not
+     * shift the list once per removed post. This must be called on the JavaFX application thread.
+     *
+     * @param filter the filter to be used in the operation
+     * @return {@code true}, if any posts were removed, and {@code false} otherwise
+     * @throws NullPointerException if the specified filter is {@code null}
+     */
+    public boolean removeIf(Predicate<? super Post> filter) {
+        List<Post> keptPosts;
+
+        Objects.requireNonNull(filter, "the specified filter is null");
+
+        keptPosts = new ArrayList<>(this.posts.size());
+
+        for (Post post : this.posts) {
+            if (!filter.test(post)) {
+                keptPosts.add(post);
+            } //end if
+        } //end for
+
+        if (keptPosts.size() == this.posts.size()) {
+            return false;
+        } //end if
+
+        this.posts.setAll(keptPosts);
+
+        return true;
+    } //removeIf
+
+    /**
+     * Creates, and returns, a {@code Timeline} object using the specified posts, which are ordered by creation time.
+     *
+     * @param posts the posts to be used in the operation
+     * @return a {@code Timeline} object using the specified posts
+     * @throws NullPointerException if the specified list of posts is {@code null}
+     */
+    public static Timeline createTimeline(ObservableList<Post> posts) {
+        Objects.requireNonNull(posts, "the specified list of posts is null");
+
+        return new Timeline(posts);
+    } //createTimeline
+}
@@ -0,0 +1,337 @@
+package com.butterfly.social.controller;
+
+import com.butterfly.social.model.Network;
+import com.butterfly.social.view.Timeline;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.File;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link FeedWindow}.
+ *
+ * @author Logan Kulinski, lbk@purdue.edu
+ * @version April 25, 2021
+ */
+final class FeedWindowTest {
+    /**
+     * The maximum number of IDs of the sets and caches that are created by the {@code FeedWindow} class, which is not
+     * configured by this test.
+     */
+    private static final int maxIds = 5_000;
+
+    /**
+     * The temporary directory of this test.
+     */
+    @TempDir
+    Path directory;
+
+    /**
+     * The spill file of this test.
+     */
+    private File spillFile;
+
+    /**
+     * The current time of this test.
+     */
+    private Instant now;
+
+    /**
+     * The posts of the feed of this test, newest first.
+     */
+    private ObservableList<Post> posts;
+
+    /**
+     * The all timeline of this test.
+     */
+    private Timeline allTimeline;
+
+    @BeforeEach
+    void setUp() {
+        this.spillFile = this.directory.resolve("twitter.dat")
+                                       .toFile();
+
+        this.now = Instant.now();
+
+        this.posts = FXCollections.observableArrayList();
+
+        this.allTimeline = Timeline.createTimeline(FXCollections.observableArrayList());
+    } //setUp
+
+    /**
+     * Returns a feed window over the spill file of this test with the specified bounds and a maximum age of a day,
+     * which spills on the calling thread, so that its spill file is written once {@code trim} returns.
+     *
+     * @param maxPosts the maximum number of posts to be used in the operation
+     * @param minPosts the number of posts that are kept regardless of their age
+     * @param pageSize the page size to be used in the operation
+     * @return a feed window over the spill file of this test
+     */
+    private FeedWindow createWindow(int maxPosts, int minPosts, int pageSize) {
+        return new FeedWindow(this.spillFile, maxPosts, minPosts, Duration.ofDays(1), pageSize, Runnable::run);
+    } //createWindow
+
+    /**
+     * Adds posts with the specified IDs to the bottom of the feed, and merges them into the all timeline, each a
+     * minute older than the one before it, starting the specified number of minutes ago.
+     *
+     * @param minutesAgo the age, in minutes, of the first post
+     * @param ids the IDs to be used in the operation
+     */
+    private void addPosts(long minutesAgo, String... ids) {
+        List<Post> newPosts;
+        Instant created;
+
+        newPosts = new ArrayList<>();
+
+        for (int i = 0; i < ids.length; i++) {
+            created = this.now.minus(Duration.ofMinutes(minutesAgo + i));
+
+            newPosts.add(new StubPost(Network.TWITTER, ids[i], created, 0L));
+        } //end for
+
+        this.posts.addAll(newPosts);
+
+        this.allTimeline.merge(newPosts);
+    } //addPosts
+
+    /**
+     * Returns the IDs of the specified posts, in order.
+     *
+     * @param posts the posts to be used in the operation
+     * @return the IDs of the specified posts, in order
+     */
+    private static List<String> ids(List<Post> posts) {
+        List<String> ids;
+
+        ids = new ArrayList<>();
+
+        for (Post post : posts) {
+            ids.add(post.getId());
+        } //end for
+
+        return ids;
+    } //ids
+
+    @Test
+    void evictsPostsBeyondTheMaximumFromTheBottom() {
+        FeedWindow window;
+        List<Post> evictedPosts;
+
+        window = this.createWindow(3, 1, 10);
+
+        this.addPosts(0L, "1", "2", "3", "4", "5");
+
+        this.allTimeline.merge(List.of(new StubPost(Network.REDDIT, "r", this.now.plusSeconds(60L), 0L)));
+
+        evictedPosts = window.trim(this.posts, this.allTimeline);
+
+        assertEquals(List.of("4", "5"), ids(evictedPosts));
+
+        assertEquals(List.of("1", "2", "3"), ids(this.posts));
+
+        assertEquals(List.of("r", "1", "2", "3"), ids(this.allTimeline.getPosts()));
+
+        assertTrue(window.hasSpilled());
+    } //evictsPostsBeyondTheMaximumFromTheBottom
+
+    @Test
+    void evictsExpiredPostsBeyondTheMinimum() {
+        FeedWindow window;
+        long twoDays = Duration.ofDays(2)
+                               .toMinutes();
+
+        window = this.createWindow(10, 3, 10);
+
+        this.addPosts(0L, "1", "2");
+
+        this.addPosts(twoDays, "3", "4", "5");
+
+        assertEquals(List.of("4", "5"), ids(window.trim(this.posts, this.allTimeline)));
+
+        assertEquals(List.of("1", "2", "3"), ids(this.posts));
+    } //evictsExpiredPostsBeyondTheMinimum
+
+    @Test
+    void keepsAFeedWithinTheWindow() {
+        FeedWindow window;
+
+        window = this.createWindow(5, 1, 10);
+
+        this.addPosts(0L, "1", "2", "3");
+
+        assertEquals(List.of(), window.trim(this.posts, this.allTimeline));
+
+        assertEquals(3, this.posts.size());
+
+        assertFalse(window.hasSpilled());
+    } //keepsAFeedWithinTheWindow
+
+    @Test
+    void restoresTheMostRecentlyEvictedPostsFirstInPages() {
+        FeedWindow window;
+
+        window = this.createWindow(2, 0, 2);
+
+        this.addPosts(0L, "1", "2", "3", "4");
+
+        window.trim(this.posts, this.allTimeline);
+
+        this.addPosts(10L, "5", "6");
+
+        window.trim(this.posts, this.allTimeline);
+
+        assertEquals(List.of("5", "6"), window.restore());
+
+        assertEquals(List.of("3", "4"), window.restore());
+
+        assertFalse(window.hasSpilled());
+
+        assertEquals(List.of(), window.restore());
+    } //restoresTheMostRecentlyEvictedPostsFirstInPages
+
+    @Test
+    void putsBackIdsThatCouldNotBeRestored() {
+        FeedWindow window;
+        List<String> restoredIds;
+
+        window = this.createWindow(1, 0, 2);
+
+        this.addPosts(0L, "1", "2", "3", "4");
+
+        window.trim(this.posts, this.allTimeline);
+
+        restoredIds = window.restore();
+
+        assertEquals(List.of("2", "3"), restoredIds);
+
+        window.putBack(restoredIds);
+
+        assertEquals(List.of("2", "3"), window.restore());
+
+        assertEquals(List.of("4"), window.restore());
+    } //putsBackIdsThatCouldNotBeRestored
+
+    @Test
+    void dropsIdsThatDoNotFitInARecord() {
+        FeedWindow window;
+        String longId;
+
+        window = this.createWindow(1, 0, 10);
+
+        longId = "x".repeat(65);
+
+        this.addPosts(0L, "1", "2", longId, "4");
+
+        assertEquals(3, window.trim(this.posts, this.allTimeline)
+                              .size());
+
+        assertEquals(List.of("2", "4"), window.restore());
+    } //dropsIdsThatDoNotFitInARecord
+
+    @Test
+    void clearDiscardsSpilledIds() {
+        FeedWindow window;
+
+        window = this.createWindow(1, 0, 10);
+
+        this.addPosts(0L, "1", "2", "3");
+
+        window.trim(this.posts, this.allTimeline);
+
+        window.clear();
+
+        assertFalse(window.hasSpilled());
+
+        assertFalse(this.spillFile.exists());
+
+        assertEquals(List.of(), window.restore());
+    } //clearDiscardsSpilledIds
+
+    @Test
+    void spillsOnTheExecutorAndDropsSpillsPendingWhenCleared() {
+        List<Runnable> tasks;
+        FeedWindow window;
+
+        tasks = new ArrayList<>();
+
+        window = new FeedWindow(this.spillFile, 1, 0, Duration.ofDays(1), 10, tasks::add);
+
+        this.addPosts(0L, "1", "2", "3");
+
+        assertEquals(List.of("2", "3"), ids(window.trim(this.posts, this.allTimeline)));
+
+        assertFalse(window.hasSpilled());
+
+        assertEquals(1, tasks.size());
+
+        tasks.remove(0)
+             .run();
+
+        assertEquals(List.of("2", "3"), window.restore());
+
+        this.addPosts(0L, "4");
+
+        window.trim(this.posts, this.allTimeline);
+
+        window.clear();
+
+        tasks.remove(0)
+             .run();
+
+        assertFalse(window.hasSpilled());
+    } //spillsOnTheExecutorAndDropsSpillsPendingWhenCleared
+
+    @Test
+    void idSetForgetsTheLeastRecentlyUsedId() {
+        Set<Integer> ids;
+
+        ids = FeedWindow.createIdSet();
+
+        for (int i = 0; i < maxIds; i++) {
+            assertTrue(ids.add(i));
+        } //end for
+
+        assertFalse(ids.add(0));
+
+        assertTrue(ids.add(maxIds));
+
+        assertEquals(maxIds, ids.size());
+
+        assertTrue(ids.contains(0));
+
+        assertFalse(ids.contains(1));
+    } //idSetForgetsTheLeastRecentlyUsedId
+
+    @Test
+    void idCacheEvictsTheLeastRecentlyUsedId() {
+        Map<Integer, String> cache;
+
+        cache = FeedWindow.createIdCache();
+
+        for (int i = 0; i < maxIds; i++) {
+            cache.put(i, "status " + i);
+        } //end for
+
+        assertEquals("status 0", cache.get(0));
+
+        cache.put(maxIds, "status " + maxIds);
+
+        assertEquals(maxIds, cache.size());
+
+        assertEquals("status 0", cache.get(0));
+
+        assertNull(cache.get(1));
+    } //idCacheEvictsTheLeastRecentlyUsedId
+}
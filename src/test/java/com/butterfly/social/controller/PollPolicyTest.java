@@ -0,0 +1,112 @@
+package com.butterfly.social.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link PollPolicy}.
+ *
+ * @author Logan Kulinski, lbk@purdue.edu
+ * @version April 25, 2021
+ */
+final class PollPolicyTest {
+    /**
+     * The poll policy of this test, which polls every 10 to 100 seconds, starting at 20, and is busy at 5 new posts.
+     */
+    private PollPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        this.policy = PollPolicy.createPollPolicy(10L, 100L, 20L, 5, TimeUnit.SECONDS);
+    } //setUp
+
+    @Test
+    void convertsPeriodsToMilliseconds() {
+        assertEquals(20_000L, this.policy.getInitialPeriod());
+    } //convertsPeriodsToMilliseconds
+
+    @Test
+    void backsOffAfterIdleAndFailedPolls() {
+        assertEquals(30_000L, this.policy.nextPeriod(20_000L, 0));
+
+        assertEquals(30_000L, this.policy.nextPeriod(20_000L, -1));
+
+        assertEquals(45_000L, this.policy.nextPeriod(30_000L, 0));
+    } //backsOffAfterIdleAndFailedPolls
+
+    @Test
+    void speedsUpAfterBusyPolls() {
+        assertEquals(20_000L, this.policy.nextPeriod(40_000L, 5));
+
+        assertEquals(20_000L, this.policy.nextPeriod(40_000L, 50));
+    } //speedsUpAfterBusyPolls
+
+    @Test
+    void keepsPeriodAfterQuietPolls() {
+        assertEquals(40_000L, this.policy.nextPeriod(40_000L, 1));
+
+        assertEquals(40_000L, this.policy.nextPeriod(40_000L, 4));
+    } //keepsPeriodAfterQuietPolls
+
+    @Test
+    void clampsPeriodToBounds() {
+        long period;
+
+        assertEquals(100_000L, this.policy.nextPeriod(90_000L, 0));
+
+        assertEquals(10_000L, this.policy.nextPeriod(12_000L, 5));
+
+        period = this.policy.getInitialPeriod();
+
+        for (int i = 0; i < 20; i++) {
+            period = this.policy.nextPeriod(period, 0);
+        } //end for
+
+        assertEquals(100_000L, period);
+    } //clampsPeriodToBounds
+
+    @Test
+    void jitterStaysWithinTenPercent() {
+        long period = 60_000L;
+        long jittered;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+
+        for (int i = 0; i < 1_000; i++) {
+            jittered = this.policy.applyJitter(period);
+
+            assertTrue((jittered >= 54_000L) && (jittered <= 66_000L), "the jitter was too large: " + jittered);
+
+            min = Math.min(min, jittered);
+
+            max = Math.max(max, jittered);
+        } //end for
+
+        assertTrue(min < max, "the jitter did not vary the period");
+    } //jitterStaysWithinTenPercent
+
+    @Test
+    void jitterNeverGoesNegative() {
+        assertEquals(0L, this.policy.applyJitter(0L));
+    } //jitterNeverGoesNegative
+
+    @Test
+    void rejectsInvalidBounds() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> PollPolicy.createPollPolicy(0L, 100L, 20L, 5, TimeUnit.SECONDS));
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> PollPolicy.createPollPolicy(10L, 100L, 5L, 5, TimeUnit.SECONDS));
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> PollPolicy.createPollPolicy(10L, 15L, 20L, 5, TimeUnit.SECONDS));
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> PollPolicy.createPollPolicy(10L, 100L, 20L, 0, TimeUnit.SECONDS));
+
+        assertThrows(NullPointerException.class, () -> PollPolicy.createPollPolicy(10L, 100L, 20L, 5, null));
+    } //rejectsInvalidBounds
+}
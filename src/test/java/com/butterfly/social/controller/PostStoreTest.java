@@ -0,0 +1,109 @@
+package com.butterfly.social.controller;
+
+import com.butterfly.social.model.Network;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the canonical posts of {@link PostStore}, and for the posts it retains for views outside of a feed.
+ *
+ * @author Logan Kulinski, lbk@purdue.edu
+ * @version April 25, 2021
+ */
+final class PostStoreTest {
+    /**
+     * The post store of this test.
+     */
+    private PostStore postStore;
+
+    @BeforeEach
+    void setUp() {
+        this.postStore = PostStore.createPostStore();
+    } //setUp
+
+    /**
+     * Returns a new Twitter post with the specified ID.
+     *
+     * @param id the ID to be used in the operation
+     * @return a new Twitter post with the specified ID
+     */
+    private static Post post(String id) {
+        return new StubPost(Network.TWITTER, id, Instant.EPOCH, 0L);
+    } //post
+
+    @Test
+    void internKeepsTheFirstPostOfAnId() {
+        Post first;
+
+        first = post("1");
+
+        assertSame(first, this.postStore.intern(first));
+
+        assertSame(first, this.postStore.intern(post("1")));
+
+        assertSame(first, this.postStore.retain(post("1")));
+
+        assertSame(first, this.postStore.getPost(Network.TWITTER, "1"));
+
+        assertNull(this.postStore.getPost(Network.REDDIT, "1"));
+    } //internKeepsTheFirstPostOfAnId
+
+    @Test
+    void removeSkipsRetainedPosts() {
+        Post evicted;
+        Post saved;
+
+        evicted = this.postStore.intern(post("1"));
+
+        saved = this.postStore.intern(post("2"));
+
+        this.postStore.retain(post("2"));
+
+        this.postStore.remove(evicted);
+
+        this.postStore.remove(saved);
+
+        assertNull(this.postStore.getPost(Network.TWITTER, "1"));
+
+        assertSame(saved, this.postStore.getPost(Network.TWITTER, "2"));
+    } //removeSkipsRetainedPosts
+
+    @Test
+    void removeFeedKeepsRetainedPosts() {
+        Post saved;
+
+        this.postStore.intern(post("1"));
+
+        saved = this.postStore.retain(post("2"));
+
+        this.postStore.intern(new StubPost(Network.REDDIT, "1", Instant.EPOCH, 0L));
+
+        this.postStore.removeFeed(Network.TWITTER);
+
+        assertNull(this.postStore.getPost(Network.TWITTER, "1"));
+
+        assertSame(saved, this.postStore.getPost(Network.TWITTER, "2"));
+
+        assertNotNull(this.postStore.getPost(Network.REDDIT, "1"));
+    } //removeFeedKeepsRetainedPosts
+
+    @Test
+    void removeNetworkReleasesRetainedPosts() {
+        Post saved;
+
+        saved = this.postStore.retain(post("1"));
+
+        this.postStore.removeNetwork(Network.TWITTER);
+
+        assertNull(this.postStore.getPost(Network.TWITTER, "1"));
+
+        this.postStore.intern(saved);
+
+        this.postStore.remove(saved);
+
+        assertNull(this.postStore.getPost(Network.TWITTER, "1"));
+    } //removeNetworkReleasesRetainedPosts
+}
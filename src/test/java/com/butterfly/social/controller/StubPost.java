@@ -0,0 +1,87 @@
+package com.butterfly.social.controller;
+
+import com.butterfly.social.model.Network;
+import com.butterfly.social.view.PostViewModel;
+import java.time.Instant;
+
+/**
+ * A post of a fixed network, ID, creation time, and score, for tests that order, store, or evict posts without
+ * rendering them.
+ *
+ * @author Logan Kulinski, lbk@purdue.edu
+ * @version April 25, 2021
+ */
+public final class StubPost implements Post {
+    /**
+     * The network of this stub post.
+     */
+    private final Network network;
+
+    /**
+     * The ID of this stub post.
+     */
+    private final String id;
+
+    /**
+     * The creation time of this stub post.
+     */
+    private final Instant created;
+
+    /**
+     * The score of this stub post.
+     */
+    private final long score;
+
+    /**
+     * Constructs a newly allocated {@code StubPost} object with the specified network, ID, creation time, and score.
+     *
+     * @param network the network to be used in construction
+     * @param id the ID to be used in construction
+     * @param created the creation time to be used in construction
+     * @param score the score to be used in construction
+     */
+    public StubPost(Network network, String id, Instant created, long score) {
+        this.network = network;
+
+        this.id = id;
+
+        this.created = created;
+
+        this.score = score;
+    } //StubPost
+
+    @Override
+    public Network getNetwork() {
+        return this.network;
+    } //getNetwork
+
+    @Override
+    public String getId() {
+        return this.id;
+    } //getId
+
+    /**
+     * Returns {@code null}, since a stub post is never rendered.
+     *
+     * @return {@code null}
+     */
+    @Override
+    public PostViewModel getViewModel() {
+        return null;
+    } //getViewModel
+
+    @Override
+    public Instant getCreated() {
+        return this.created;
+    } //getCreated
+
+    @Override
+    public long getScore() {
+        return this.score;
+    } //getScore
+
+    @Override
+    public String toString() {
+        return this.network + ":" + this.id;
+    } //toString
+}
@@ -0,0 +1,381 @@
+package com.butterfly.social.controller.twitter;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import twitter4j.conf.Configuration;
+import twitter4j.conf.ConfigurationBuilder;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A local stand-in for the Twitter REST and streaming endpoints. It answers the credential and friend ID requests that
+ * a Twitter stream controller makes before it connects, and serves the filter stream. A number of stream connections
+ * can be dropped before they are answered, to drive the reconnect backoff of the stream, and an answered connection
+ * stays open until it is disconnected, with messages pushed to it one line at a time.
+ *
+ * @author Logan Kulinski, lbk@purdue.edu
+ * @version April 25, 2021
+ */
+final class StandInStreamServer implements AutoCloseable {
+    /**
+     * The user ID of the {@code StandInStreamServer} class.
+     */
+    static final long userId = 42L;
+
+    /**
+     * The HTTP server of this stand-in stream server.
+     */
+    private final HttpServer server;
+
+    /**
+     * The executor of this stand-in stream server.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The friend IDs of this stand-in stream server.
+     */
+    private volatile long[] friendIds;
+
+    /**
+     * The number of stream connections that this stand-in stream server still drops.
+     */
+    private final AtomicInteger drops;
+
+    /**
+     * The connection times, in nanoseconds, of this stand-in stream server.
+     */
+    private final List<Long> connectionTimes;
+
+    /**
+     * The follow parameters of this stand-in stream server, one for each stream connection.
+     */
+    private final List<String> follows;
+
+    /**
+     * The messages of this stand-in stream server, which are written to the open stream connection.
+     */
+    private final BlockingQueue<String> messages;
+
+    /**
+     * The disconnect message of the {@code StandInStreamServer} class, which closes the open stream connection.
+     */
+    private static final String disconnectMessage = "";
+
+    /**
+     * Constructs a newly allocated {@code StandInStreamServer} object bound to an ephemeral port of the loopback
+     * address.
+     *
+     * @throws IOException if the server could not be bound
+     */
+    StandInStreamServer() throws IOException {
+        InetSocketAddress address;
+        int backlog = 0;
+
+        address = new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+
+        this.server = HttpServer.create(address, backlog);
+
+        this.executor = Executors.newCachedThreadPool((runnable) -> {
+            Thread thread;
+
+            thread = new Thread(runnable, "stand-in-stream-server");
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        this.friendIds = new long[0];
+
+        this.drops = new AtomicInteger();
+
+        this.connectionTimes = Collections.synchronizedList(new ArrayList<>());
+
+        this.follows = Collections.synchronizedList(new ArrayList<>());
+
+        this.messages = new LinkedBlockingQueue<>();
+
+        this.server.createContext("/1.1/account/verify_credentials.json", this::handleCredentials);
+
+        this.server.createContext("/1.1/friends/ids.json", this::handleFriendIds);
+
+        this.server.createContext("/1.1/statuses/filter.json", this::handleFilter);
+
+        this.server.setExecutor(this.executor);
+
+        this.server.start();
+    } //StandInStreamServer
+
+    /**
+     * Returns a Twitter configuration whose REST and stream endpoints point at this stand-in stream server.
+     *
+     * @return a Twitter configuration whose REST and stream endpoints point at this stand-in stream server
+     */
+    Configuration createConfiguration() {
+        InetSocketAddress address;
+        String baseUrl;
+
+        address = this.server.getAddress();
+
+        baseUrl = String.format("http://%s:%d/1.1/", address.getHostString(), address.getPort());
+
+        return new ConfigurationBuilder().setOAuthConsumerKey("key")
+                                         .setOAuthConsumerSecret("secret")
+                                         .setOAuthAccessToken(userId + "-token")
+                                         .setOAuthAccessTokenSecret("secret")
+                                         .setRestBaseURL(baseUrl)
+                                         .setStreamBaseURL(baseUrl)
+                                         .build();
+    } //createConfiguration
+
+    /**
+     * Sets the friend IDs of this stand-in stream server to the specified IDs.
+     *
+     * @param friendIds the friend IDs to be set
+     */
+    void setFriendIds(long... friendIds) {
+        this.friendIds = friendIds.clone();
+    } //setFriendIds
+
+    /**
+     * Makes this stand-in stream server drop the specified number of stream connections before it answers one.
+     *
+     * @param count the count to be used in the operation
+     */
+    void dropConnections(int count) {
+        this.drops.set(count);
+    } //dropConnections
+
+    /**
+     * Returns the connection times, in nanoseconds, of this stand-in stream server.
+     *
+     * @return the connection times, in nanoseconds, of this stand-in stream server
+     */
+    List<Long> getConnectionTimes() {
+        synchronized (this.connectionTimes) {
+            return new ArrayList<>(this.connectionTimes);
+        } //end synchronized
+    } //getConnectionTimes
+
+    /**
+     * Returns the follow parameters of this stand-in stream server, one for each stream connection.
+     *
+     * @return the follow parameters of this stand-in stream server
+     */
+    List<String> getFollows() {
+        synchronized (this.follows) {
+            return new ArrayList<>(this.follows);
+        } //end synchronized
+    } //getFollows
+
+    /**
+     * Waits until this stand-in stream server has received the specified number of stream connections.
+     *
+     * @param count the count to be used in the operation
+     * @param timeout the timeout, in milliseconds, to be used in the operation
+     * @return {@code true}, if the connections were received in time, and {@code false} otherwise
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    boolean awaitConnections(int count, long timeout) throws InterruptedException {
+        long deadline;
+        long pause = 10L;
+
+        deadline = System.currentTimeMillis() + timeout;
+
+        while (this.connectionTimes.size() < count) {
+            if (System.currentTimeMillis() > deadline) {
+                return false;
+            } //end if
+
+            Thread.sleep(pause);
+        } //end while
+
+        return true;
+    } //awaitConnections
+
+    /**
+     * Sends a status with the specified ID from the user with the specified ID to the open stream connection.
+     *
+     * @param statusId the status ID to be used in the operation
+     * @param statusUserId the user ID to be used in the operation
+     */
+    void sendStatus(long statusId, long statusUserId) {
+        String format = "{\"created_at\":\"Sun Apr 25 12:00:00 +0000 2021\",\"id\":%d,\"id_str\":\"%d\","
+                        + "\"text\":\"status %d\",\"user\":{\"id\":%d,\"id_str\":\"%d\",\"screen_name\":\"user%d\"}}";
+        String message;
+
+        message = String.format(format, statusId, statusId, statusId, statusUserId, statusUserId, statusUserId);
+
+        this.messages.add(message);
+    } //sendStatus
+
+    /**
+     * Closes the open stream connection of this stand-in stream server.
+     */
+    void disconnect() {
+        this.messages.add(disconnectMessage);
+    } //disconnect
+
+    /**
+     * Answers a credential request with the user of this stand-in stream server.
+     *
+     * @param exchange the exchange to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private void handleCredentials(HttpExchange exchange) throws IOException {
+        String format = "{\"id\":%d,\"id_str\":\"%d\",\"screen_name\":\"user%d\"}";
+
+        this.respond(exchange, String.format(format, userId, userId, userId));
+    } //handleCredentials
+
+    /**
+     * Answers a friend ID request with the friend IDs of this stand-in stream server, in a single page.
+     *
+     * @param exchange the exchange to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private void handleFriendIds(HttpExchange exchange) throws IOException {
+        StringBuilder builder;
+        long[] ids;
+
+        ids = this.friendIds;
+
+        builder = new StringBuilder("{\"ids\":[");
+
+        for (int i = 0; i < ids.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            } //end if
+
+            builder.append(ids[i]);
+        } //end for
+
+        builder.append("],\"next_cursor\":0,\"previous_cursor\":0}");
+
+        this.respond(exchange, builder.toString());
+    } //handleFriendIds
+
+    /**
+     * Answers a filter stream request. The connection is dropped without a response while drops remain, and is
+     * otherwise held open, and written to, until it is disconnected.
+     *
+     * @param exchange the exchange to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private void handleFilter(HttpExchange exchange) throws IOException {
+        String body;
+        String message;
+        byte[] bytes;
+
+        body = new String(exchange.getRequestBody()
+                                  .readAllBytes(), StandardCharsets.UTF_8);
+
+        this.follows.add(this.getParameter(body, "follow"));
+
+        this.connectionTimes.add(System.nanoTime());
+
+        if (this.drops.getAndUpdate((drops) -> Math.max(0, drops - 1)) > 0) {
+            exchange.close();
+
+            return;
+        } //end if
+
+        this.messages.clear();
+
+        exchange.getResponseHeaders()
+                .set("Content-Type", "application/json");
+
+        exchange.sendResponseHeaders(200, 0);
+
+        try (OutputStream out = exchange.getResponseBody()) {
+            while (true) {
+                message = this.messages.poll(30, TimeUnit.SECONDS);
+
+                if ((message == null) || message.equals(disconnectMessage)) {
+                    break;
+                } //end if
+
+                bytes = (message + "\r\n").getBytes(StandardCharsets.UTF_8);
+
+                out.write(bytes);
+
+                out.flush();
+            } //end while
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        } //end try catch
+    } //handleFilter
+
+    /**
+     * Returns the value of the parameter with the specified name in the specified form body, or {@code null} if it is
+     * absent.
+     *
+     * @param body the body to be used in the operation
+     * @param name the name to be used in the operation
+     * @return the value of the parameter with the specified name in the specified form body, or {@code null}
+     */
+    private String getParameter(String body, String name) {
+        String[] pair;
+
+        for (String parameter : body.split("&")) {
+            pair = parameter.split("=", 2);
+
+            if ((pair.length == 2) && pair[0].equals(name)) {
+                return URLDecoder.decode(pair[1], StandardCharsets.UTF_8);
+            } //end if
+        } //end for
+
+        return null;
+    } //getParameter
+
+    /**
+     * Responds to the specified exchange with the specified JSON.
+     *
+     * @param exchange the exchange to be used in the operation
+     * @param json the JSON to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private void respond(HttpExchange exchange, String json) throws IOException {
+        byte[] bytes;
+
+        bytes = json.getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders()
+                .set("Content-Type", "application/json");
+
+        exchange.sendResponseHeaders(200, bytes.length);
+
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        } //end try
+    } //respond
+
+    /**
+     * Closes this stand-in stream server, along with any open stream connection.
+     */
+    @Override
+    public void close() {
+        int delay = 0;
+
+        this.messages.add(disconnectMessage);
+
+        this.server.stop(delay);
+
+        this.executor.shutdownNow();
+    } //close
+}
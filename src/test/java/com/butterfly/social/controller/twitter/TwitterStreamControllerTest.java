@@ -0,0 +1,207 @@
+package com.butterfly.social.controller.twitter;
+
+import com.butterfly.social.controller.FeedScheduler;
+import com.butterfly.social.controller.PollPolicy;
+import com.butterfly.social.model.Network;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import twitter4j.Status;
+import twitter4j.Twitter;
+import twitter4j.TwitterFactory;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link TwitterStreamController}, run against a {@link StandInStreamServer}.
+ *
+ * @author Logan Kulinski, lbk@purdue.edu
+ * @version April 25, 2021
+ */
+final class TwitterStreamControllerTest {
+    /**
+     * The timeout, in milliseconds, of the {@code TwitterStreamControllerTest} class.
+     */
+    private static final long timeout = 20_000L;
+
+    /**
+     * The stand-in stream server of this test.
+     */
+    private StandInStreamServer server;
+
+    /**
+     * The feed scheduler of this test.
+     */
+    private FeedScheduler feedScheduler;
+
+    /**
+     * The statuses that were streamed in this test.
+     */
+    private BlockingQueue<Status> statuses;
+
+    /**
+     * The number of polls that were run in this test.
+     */
+    private AtomicInteger polls;
+
+    /**
+     * The Twitter stream controller of this test.
+     */
+    private TwitterStreamController controller;
+
+    static {
+        //A dropped POST would otherwise be retried at once by HttpURLConnection, which hides the backoff.
+        System.setProperty("sun.net.http.retryPost", "false");
+    } //static
+
+    @BeforeEach
+    void setUp() throws Exception {
+        PollPolicy policy;
+        Twitter twitter;
+
+        this.server = new StandInStreamServer();
+
+        policy = PollPolicy.createPollPolicy(1L, 1L, 1L, 1, TimeUnit.HOURS);
+
+        this.feedScheduler = FeedScheduler.createFeedScheduler(policy);
+
+        this.statuses = new LinkedBlockingQueue<>();
+
+        this.polls = new AtomicInteger();
+
+        twitter = new TwitterFactory(this.server.createConfiguration()).getInstance();
+
+        this.controller = TwitterStreamController.createTwitterStreamController(() -> twitter, this.statuses::add,
+                                                                                this.polls::incrementAndGet,
+                                                                                this.feedScheduler);
+    } //setUp
+
+    @AfterEach
+    void tearDown() {
+        this.server.close();
+
+        this.controller.stop();
+
+        this.feedScheduler.shutdown(1L, TimeUnit.SECONDS);
+    } //tearDown
+
+    /**
+     * Waits until the specified condition holds, and fails if it does not hold in time.
+     *
+     * @param condition the condition to be used in the operation
+     * @param message the message to be used if the condition does not hold in time
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    private static void await(BooleanSupplier condition, String message) throws InterruptedException {
+        long deadline;
+        long pause = 10L;
+
+        deadline = System.currentTimeMillis() + timeout;
+
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail(message);
+            } //end if
+
+            Thread.sleep(pause);
+        } //end while
+    } //await
+
+    @Test
+    void reconnectsWithBackoffAndPollsWhileDisconnected() throws InterruptedException {
+        long friendId = 7L;
+        long strangerId = 8L;
+        List<Long> times;
+        long firstWait;
+        long secondWait;
+
+        this.server.setFriendIds(friendId);
+
+        this.server.dropConnections(2);
+
+        this.feedScheduler.schedule(Network.TWITTER, this.polls::incrementAndGet);
+
+        this.controller.start();
+
+        assertTrue(this.server.awaitConnections(3, timeout), "the stream did not reconnect after being dropped");
+
+        times = this.server.getConnectionTimes();
+
+        firstWait = TimeUnit.NANOSECONDS.toMillis(times.get(1) - times.get(0));
+
+        secondWait = TimeUnit.NANOSECONDS.toMillis(times.get(2) - times.get(1));
+
+        assertTrue(firstWait >= 200L, "the first reconnect did not back off: " + firstWait + " ms");
+
+        assertTrue(secondWait > firstWait, "the backoff did not grow: " + firstWait + " ms, then " + secondWait
+                                           + " ms");
+
+        await(() -> !this.feedScheduler.isScheduled(Network.TWITTER), "polling was not suspended on connect");
+
+        await(() -> this.polls.get() >= 2, "no catch-up poll was run on connect");
+
+        this.server.sendStatus(1L, friendId);
+
+        this.server.sendStatus(2L, strangerId);
+
+        this.server.sendStatus(3L, StandInStreamServer.userId);
+
+        assertEquals(1L, this.statuses.poll(timeout, TimeUnit.MILLISECONDS)
+                                      .getId());
+
+        assertEquals(3L, this.statuses.poll(timeout, TimeUnit.MILLISECONDS)
+                                      .getId());
+
+        this.server.disconnect();
+
+        await(() -> this.feedScheduler.isScheduled(Network.TWITTER), "polling did not resume on disconnect");
+
+        assertTrue(this.server.awaitConnections(4, timeout), "the stream did not reconnect after a disconnect");
+
+        await(() -> !this.feedScheduler.isScheduled(Network.TWITTER), "polling was not suspended on reconnect");
+
+        assertTrue(this.statuses.isEmpty(), "a status from an account that is not followed was streamed");
+    } //reconnectsWithBackoffAndPollsWhileDisconnected
+
+    @Test
+    void capsFollowedAccountsAndKeepsPolling() throws InterruptedException {
+        int friendCount = 6000;
+        int maxFollowIds = 5000;
+        long[] friendIds;
+        String follow;
+
+        friendIds = new long[friendCount];
+
+        for (int i = 0; i < friendCount; i++) {
+            friendIds[i] = i + 100L;
+        } //end for
+
+        this.server.setFriendIds(friendIds);
+
+        this.feedScheduler.schedule(Network.TWITTER, this.polls::incrementAndGet);
+
+        this.controller.start();
+
+        assertTrue(this.server.awaitConnections(1, timeout), "the stream did not connect");
+
+        follow = this.server.getFollows()
+                            .get(0);
+
+        assertEquals(maxFollowIds, follow.split(",").length);
+
+        assertTrue(this.controller.isTruncated());
+
+        assertTrue(this.controller.getFollowedIds()
+                                  .contains(StandInStreamServer.userId));
+
+        await(() -> this.polls.get() >= 2, "no catch-up poll was run on connect");
+
+        assertTrue(this.feedScheduler.isScheduled(Network.TWITTER), "polling was suspended for a truncated stream");
+    } //capsFollowedAccountsAndKeepsPolling
+}
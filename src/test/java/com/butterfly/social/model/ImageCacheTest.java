@@ -0,0 +1,138 @@
+package com.butterfly.social.model;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the in-memory tier of {@link ImageCache}, which keeps decoded images in least recently used order up to a
+ * number of decoded bytes.
+ *
+ * @author Logan Kulinski, lbk@purdue.edu
+ * @version April 25, 2021
+ */
+final class ImageCacheTest {
+    /**
+     * The maximum number of decoded bytes of the image cache of this test, which holds two 100 by 100 images.
+     */
+    private static final long maxMemoryBytes = 100_000L;
+
+    /**
+     * The number of decoded bytes of a 100 by 100 image.
+     */
+    private static final long imageBytes = 40_000L;
+
+    /**
+     * The temporary directory of this test.
+     */
+    @TempDir
+    Path directory;
+
+    /**
+     * The image cache of this test.
+     */
+    private ImageCache imageCache;
+
+    static {
+        //Images are only created in memory, so the software pipeline avoids needing a GPU on a headless machine.
+        System.setProperty("prism.order", "sw");
+    } //static
+
+    @BeforeEach
+    void setUp() {
+        this.imageCache = new ImageCache(this.directory.toFile(), maxMemoryBytes, Long.MAX_VALUE);
+    } //setUp
+
+    /**
+     * Returns a blank image of the specified size.
+     *
+     * @param width the width to be used in the operation
+     * @param height the height to be used in the operation
+     * @return a blank image of the specified size
+     */
+    private static Image image(int width, int height) {
+        return new WritableImage(width, height);
+    } //image
+
+    @Test
+    void countsFourBytesPerPixel() {
+        this.imageCache.putImage("a", image(100, 100));
+
+        this.imageCache.putImage("b", image(10, 20));
+
+        assertEquals(imageBytes + 800L, this.imageCache.getMemoryBytes());
+    } //countsFourBytesPerPixel
+
+    @Test
+    void evictsTheLeastRecentlyUsedImageWhenFull() {
+        Image first;
+
+        first = image(100, 100);
+
+        this.imageCache.putImage("a", first);
+
+        this.imageCache.putImage("b", image(100, 100));
+
+        assertSame(first, this.imageCache.getImage("a"));
+
+        this.imageCache.putImage("c", image(100, 100));
+
+        assertSame(first, this.imageCache.getImage("a"));
+
+        assertNull(this.imageCache.getImage("b"));
+
+        assertNotNull(this.imageCache.getImage("c"));
+
+        assertEquals(2 * imageBytes, this.imageCache.getMemoryBytes());
+    } //evictsTheLeastRecentlyUsedImageWhenFull
+
+    @Test
+    void evictsAsManyImagesAsALargeImageNeeds() {
+        this.imageCache.putImage("a", image(100, 100));
+
+        this.imageCache.putImage("b", image(100, 100));
+
+        this.imageCache.putImage("c", image(150, 150));
+
+        assertNull(this.imageCache.getImage("a"));
+
+        assertNull(this.imageCache.getImage("b"));
+
+        assertNotNull(this.imageCache.getImage("c"));
+
+        assertEquals(90_000L, this.imageCache.getMemoryBytes());
+    } //evictsAsManyImagesAsALargeImageNeeds
+
+    @Test
+    void replacingAnImageReleasesItsBytes() {
+        Image replacement;
+
+        this.imageCache.putImage("a", image(100, 100));
+
+        replacement = image(10, 10);
+
+        this.imageCache.putImage("a", replacement);
+
+        assertSame(replacement, this.imageCache.getImage("a"));
+
+        assertEquals(400L, this.imageCache.getMemoryBytes());
+    } //replacingAnImageReleasesItsBytes
+
+    @Test
+    void doesNotKeepAnImageLargerThanTheMaximum() {
+        this.imageCache.putImage("a", image(100, 100));
+
+        this.imageCache.putImage("huge", image(200, 200));
+
+        assertNull(this.imageCache.getImage("huge"));
+
+        assertNotNull(this.imageCache.getImage("a"));
+
+        assertEquals(imageBytes, this.imageCache.getMemoryBytes());
+    } //doesNotKeepAnImageLargerThanTheMaximum
+}
@@ -0,0 +1,232 @@
+package com.butterfly.social.model;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the journal of {@link Outbox}. No network is logged in, so every action is parked rather than sent, and
+ * the journal is only changed by the outbox itself and by this test.
+ *
+ * @author Logan Kulinski, lbk@purdue.edu
+ * @version April 25, 2021
+ */
+final class OutboxTest {
+    /**
+     * The temporary directory of this test.
+     */
+    @TempDir
+    Path directory;
+
+    /**
+     * The journal of this test.
+     */
+    private File journal;
+
+    /**
+     * The outboxes of this test, which are shut down after each test.
+     */
+    private List<Outbox> outboxes;
+
+    /**
+     * The actions that were settled in this test.
+     */
+    private List<OutboxAction> settledActions;
+
+    @BeforeEach
+    void setUp() {
+        this.journal = this.directory.resolve("outbox-journal.txt")
+                                     .toFile();
+
+        this.outboxes = new ArrayList<>();
+
+        this.settledActions = new CopyOnWriteArrayList<>();
+    } //setUp
+
+    @AfterEach
+    void tearDown() {
+        for (Outbox outbox : this.outboxes) {
+            outbox.shutdown(1L, TimeUnit.SECONDS);
+        } //end for
+    } //tearDown
+
+    /**
+     * Creates, starts, and returns an outbox over the journal of this test, with no network logged in.
+     *
+     * @return an outbox over the journal of this test
+     */
+    private Outbox startOutbox() {
+        Outbox outbox;
+
+        outbox = Outbox.createOutbox(new Model(), this.journal);
+
+        outbox.addListener((action, throwable) -> this.settledActions.add(action));
+
+        this.outboxes.add(outbox);
+
+        outbox.start();
+
+        return outbox;
+    } //startOutbox
+
+    /**
+     * Returns a new direct message action to the specified user.
+     *
+     * @param user the user to be used in the operation
+     * @return a new direct message action to the specified user
+     */
+    private static OutboxAction message(String user) {
+        return OutboxAction.createOutboxAction(Network.TWITTER, OutboxAction.Kind.DIRECT_MESSAGE, user, null,
+                                               "hello " + user, null);
+    } //message
+
+    /**
+     * Returns the lines of the journal of this test.
+     *
+     * @return the lines of the journal of this test
+     * @throws IOException if an I/O error occurs
+     */
+    private List<String> readJournal() throws IOException {
+        return Files.readAllLines(this.journal.toPath(), StandardCharsets.UTF_8);
+    } //readJournal
+
+    /**
+     * Appends the specified lines to the journal of this test.
+     *
+     * @param lines the lines to be used in the operation
+     * @throws IOException if an I/O error occurs
+     */
+    private void appendJournal(String... lines) throws IOException {
+        Files.write(this.journal.toPath(), List.of(lines), StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+    } //appendJournal
+
+    @Test
+    void journalsEachActionOnceBeforeSendingIt() throws IOException {
+        Outbox outbox;
+        OutboxAction action;
+        List<String> lines;
+
+        outbox = this.startOutbox();
+
+        action = message("alice");
+
+        outbox.enqueue(action);
+
+        outbox.enqueue(action);
+
+        lines = this.readJournal();
+
+        assertEquals(1, lines.size());
+
+        assertTrue(lines.get(0)
+                        .startsWith("E "));
+
+        assertTrue(this.settledActions.isEmpty(), "an action was settled while its network was not logged in");
+    } //journalsEachActionOnceBeforeSendingIt
+
+    @Test
+    void replayKeepsUnsettledAndUndecodableActionsAndCompacts() throws IOException {
+        Outbox outbox;
+        OutboxAction first;
+        OutboxAction second;
+        OutboxAction third;
+        OutboxAction fourth;
+        List<String> enqueuedLines;
+        List<String> lines;
+
+        outbox = this.startOutbox();
+
+        first = message("alice");
+
+        second = message("bob");
+
+        third = message("carol");
+
+        fourth = message("dave");
+
+        outbox.enqueue(first);
+
+        outbox.enqueue(second);
+
+        outbox.enqueue(third);
+
+        outbox.enqueue(fourth);
+
+        enqueuedLines = this.readJournal();
+
+        outbox.shutdown(1L, TimeUnit.SECONDS);
+
+        this.appendJournal("S " + second.getKey(), "F " + fourth.getKey(), "E not-base64!", "garbage");
+
+        this.startOutbox();
+
+        lines = this.readJournal();
+
+        assertEquals(List.of("E not-base64!", enqueuedLines.get(0), enqueuedLines.get(2)), lines);
+    } //replayKeepsUnsettledAndUndecodableActionsAndCompacts
+
+    @Test
+    void replayIgnoresAnActionEnqueuedAgainAfterItSettled() throws IOException {
+        Outbox outbox;
+        OutboxAction action;
+        String enqueuedLine;
+
+        outbox = this.startOutbox();
+
+        action = message("alice");
+
+        outbox.enqueue(action);
+
+        enqueuedLine = this.readJournal()
+                           .get(0);
+
+        outbox.shutdown(1L, TimeUnit.SECONDS);
+
+        this.appendJournal("S " + action.getKey(), enqueuedLine);
+
+        this.startOutbox();
+
+        assertEquals(List.of(), this.readJournal());
+    } //replayIgnoresAnActionEnqueuedAgainAfterItSettled
+
+    @Test
+    void replayedActionsAreNotJournaledTwice() throws IOException {
+        Outbox outbox;
+        OutboxAction action;
+
+        outbox = this.startOutbox();
+
+        action = message("alice");
+
+        outbox.enqueue(action);
+
+        outbox.shutdown(1L, TimeUnit.SECONDS);
+
+        outbox = this.startOutbox();
+
+        outbox.enqueue(action);
+
+        assertEquals(1, this.readJournal()
+                            .size());
+    } //replayedActionsAreNotJournaledTwice
+
+    @Test
+    void startsWithoutAJournal() {
+        this.startOutbox();
+
+        assertFalse(this.journal.exists());
+    } //startsWithoutAJournal
+}
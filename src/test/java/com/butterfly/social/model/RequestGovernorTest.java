@@ -0,0 +1,157 @@
+package com.butterfly.social.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the token accounting of {@link RequestGovernor}. The governor is shared, so each test uses its own
+ * endpoint, and passes explicit times to {@link RequestGovernor#tryAcquire(String, long)} rather than sleeping.
+ *
+ * @author Logan Kulinski, lbk@purdue.edu
+ * @version April 25, 2021
+ */
+final class RequestGovernorTest {
+    /**
+     * The governor of this test.
+     */
+    private RequestGovernor governor;
+
+    /**
+     * The endpoint of this test.
+     */
+    private String endpoint;
+
+    @BeforeEach
+    void setUp(TestInfo testInfo) {
+        this.governor = RequestGovernor.getGovernor();
+
+        this.endpoint = "test/" + testInfo.getDisplayName() + "/" + System.nanoTime();
+    } //setUp
+
+    @Test
+    void doesNotLimitUnknownEndpoints() {
+        long now;
+
+        now = System.currentTimeMillis();
+
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(0L, this.governor.tryAcquire(this.endpoint, now));
+        } //end for
+    } //doesNotLimitUnknownEndpoints
+
+    @Test
+    void spendsTheLimitAndThenWaitsForARefill() {
+        long now;
+
+        this.governor.configure(this.endpoint, 3, 3L, TimeUnit.SECONDS);
+
+        now = System.currentTimeMillis();
+
+        assertEquals(0L, this.governor.tryAcquire(this.endpoint, now));
+
+        assertEquals(0L, this.governor.tryAcquire(this.endpoint, now));
+
+        assertEquals(0L, this.governor.tryAcquire(this.endpoint, now));
+
+        assertEquals(1_000L, this.governor.tryAcquire(this.endpoint, now));
+
+        assertEquals(500L, this.governor.tryAcquire(this.endpoint, now + 500L));
+
+        assertEquals(0L, this.governor.tryAcquire(this.endpoint, now + 1_000L));
+
+        assertEquals(1_000L, this.governor.tryAcquire(this.endpoint, now + 1_000L));
+    } //spendsTheLimitAndThenWaitsForARefill
+
+    @Test
+    void refillsNoMoreThanTheLimit() {
+        long now;
+
+        this.governor.configure(this.endpoint, 2, 1L, TimeUnit.SECONDS);
+
+        now = System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1);
+
+        assertEquals(0L, this.governor.tryAcquire(this.endpoint, now));
+
+        assertEquals(0L, this.governor.tryAcquire(this.endpoint, now));
+
+        assertTrue(this.governor.tryAcquire(this.endpoint, now) > 0L);
+    } //refillsNoMoreThanTheLimit
+
+    @Test
+    void keepsASpentBucketWhenConfiguredAgain() {
+        long now;
+
+        this.governor.configure(this.endpoint, 1, 1L, TimeUnit.MINUTES);
+
+        now = System.currentTimeMillis();
+
+        assertEquals(0L, this.governor.tryAcquire(this.endpoint, now));
+
+        this.governor.configure(this.endpoint, 100, 1L, TimeUnit.MINUTES);
+
+        assertEquals(60_000L, this.governor.tryAcquire(this.endpoint, now));
+    } //keepsASpentBucketWhenConfiguredAgain
+
+    @Test
+    void lowersTokensAndRaisesLimitFromAReportedQuota() {
+        long now;
+
+        this.governor.configure(this.endpoint, 5, 10L, TimeUnit.SECONDS);
+
+        now = System.currentTimeMillis();
+
+        this.governor.update(this.endpoint, 1, 10, now + 10_000L);
+
+        assertEquals(0L, this.governor.tryAcquire(this.endpoint, now));
+
+        assertEquals(1_000L, this.governor.tryAcquire(this.endpoint, now));
+    } //lowersTokensAndRaisesLimitFromAReportedQuota
+
+    @Test
+    void blocksUntilTheResetTime() {
+        long now;
+        long resetTime;
+
+        this.governor.configure(this.endpoint, 3, 3L, TimeUnit.SECONDS);
+
+        now = System.currentTimeMillis();
+
+        resetTime = now + 5_000L;
+
+        this.governor.block(this.endpoint, resetTime);
+
+        assertEquals(5_000L, this.governor.tryAcquire(this.endpoint, now));
+
+        assertEquals(1_000L, this.governor.tryAcquire(this.endpoint, resetTime - 1_000L));
+
+        assertEquals(0L, this.governor.tryAcquire(this.endpoint, resetTime));
+    } //blocksUntilTheResetTime
+
+    @Test
+    void createsABucketForAnEndpointReportedByAService() {
+        long now;
+
+        now = System.currentTimeMillis();
+
+        this.governor.update(this.endpoint, 0, 15, now + 2_000L);
+
+        assertEquals(2_000L, this.governor.tryAcquire(this.endpoint, now));
+    } //createsABucketForAnEndpointReportedByAService
+
+    @Test
+    void rejectsInvalidConfigurations() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> this.governor.configure(this.endpoint, 0, 1L, TimeUnit.SECONDS));
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> this.governor.configure(this.endpoint, 1, 0L, TimeUnit.SECONDS));
+
+        assertThrows(NullPointerException.class, () -> this.governor.configure(null, 1, 1L, TimeUnit.SECONDS));
+
+        assertThrows(NullPointerException.class, () -> this.governor.tryAcquire(null, 0L));
+    } //rejectsInvalidConfigurations
+}
@@ -0,0 +1,109 @@
+package com.butterfly.social.view;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the variant selection of {@link PostAttachment}.
+ *
+ * @author Logan Kulinski, lbk@purdue.edu
+ * @version April 25, 2021
+ */
+final class PostAttachmentTest {
+    /**
+     * The bandwidth, in bits per second, at which every variant of this test fits.
+     */
+    private static final long fastBandwidth = 100_000_000L;
+
+    /**
+     * The video of this test, whose variants are 480, 640, and 1280 pixels wide.
+     */
+    private PostAttachment video;
+
+    @BeforeEach
+    void setUp() {
+        List<MediaVariant> variants;
+
+        variants = List.of(MediaVariant.createMediaVariant("high.mp4", 2_176_000, 1280),
+                           MediaVariant.createMediaVariant("low.mp4", 320_000, 480),
+                           MediaVariant.createMediaVariant("medium.mp4", 832_000, 640));
+
+        this.video = PostAttachment.createPostAttachment(PostAttachment.Kind.VIDEO, variants, null);
+    } //setUp
+
+    @Test
+    void ordersVariantsByBitrate() {
+        List<MediaVariant> variants;
+
+        variants = this.video.getVariants();
+
+        assertEquals("low.mp4", variants.get(0)
+                                        .getUrl());
+
+        assertEquals("medium.mp4", variants.get(1)
+                                           .getUrl());
+
+        assertEquals("high.mp4", variants.get(2)
+                                         .getUrl());
+    } //ordersVariantsByBitrate
+
+    @Test
+    void selectsTheLowestVariantThatFillsTheWidth() {
+        assertEquals(0, this.video.selectVariant(480.0, fastBandwidth, 2));
+
+        assertEquals(1, this.video.selectVariant(600.0, fastBandwidth, 2));
+
+        assertEquals(2, this.video.selectVariant(641.0, fastBandwidth, 2));
+    } //selectsTheLowestVariantThatFillsTheWidth
+
+    @Test
+    void selectsTheWidestVariantWhenNoneFillsTheWidth() {
+        assertEquals(2, this.video.selectVariant(4_000.0, fastBandwidth, 2));
+
+        assertEquals(2, this.video.selectVariant(0.0, fastBandwidth, 2));
+    } //selectsTheWidestVariantWhenNoneFillsTheWidth
+
+    @Test
+    void keepsHeadroomBelowTheBandwidth() {
+        assertEquals(1, this.video.selectVariant(4_000.0, 2_176_000L, 2));
+
+        assertEquals(2, this.video.selectVariant(4_000.0, 2_901_334L, 2));
+
+        assertEquals(0, this.video.selectVariant(4_000.0, 1_000_000L, 2));
+    } //keepsHeadroomBelowTheBandwidth
+
+    @Test
+    void fallsBackToTheLowestVariantWithoutBandwidth() {
+        assertEquals(0, this.video.selectVariant(1280.0, 0L, 2));
+    } //fallsBackToTheLowestVariantWithoutBandwidth
+
+    @Test
+    void doesNotExceedTheMaximumIndex() {
+        assertEquals(1, this.video.selectVariant(1280.0, fastBandwidth, 1));
+
+        assertEquals(0, this.video.selectVariant(1280.0, fastBandwidth, 0));
+
+        assertEquals(2, this.video.selectVariant(1280.0, fastBandwidth, 10));
+    } //doesNotExceedTheMaximumIndex
+
+    @Test
+    void treatsUnknownBitratesAsFittingAndUnknownWidthsAsNarrow() {
+        PostAttachment gif;
+        PostAttachment unsized;
+        List<MediaVariant> variants;
+
+        gif = PostAttachment.createPostAttachment(PostAttachment.Kind.GIF, "loop.mp4");
+
+        assertEquals(0, gif.selectVariant(640.0, 0L, 0));
+
+        variants = List.of(MediaVariant.createMediaVariant("a.mp4", 100_000, 0),
+                           MediaVariant.createMediaVariant("b.mp4", 200_000, 0));
+
+        unsized = PostAttachment.createPostAttachment(PostAttachment.Kind.VIDEO, variants, null);
+
+        assertEquals(1, unsized.selectVariant(320.0, fastBandwidth, 1));
+    } //treatsUnknownBitratesAsFittingAndUnknownWidthsAsNarrow
+}
@@ -0,0 +1,197 @@
+package com.butterfly.social.view;
+
+import com.butterfly.social.controller.Post;
+import com.butterfly.social.controller.StubPost;
+import com.butterfly.social.model.Network;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link Timeline}.
+ *
+ * @author Logan Kulinski, lbk@purdue.edu
+ * @version April 25, 2021
+ */
+final class TimelineTest {
+    /**
+     * The epoch of the posts of this test.
+     */
+    private static final Instant epoch = Instant.parse("2021-04-25T12:00:00Z");
+
+    /**
+     * The posts of this test.
+     */
+    private ObservableList<Post> posts;
+
+    /**
+     * The timeline of this test.
+     */
+    private Timeline timeline;
+
+    /**
+     * The number of changes that were made to the posts of this test.
+     */
+    private AtomicInteger changes;
+
+    @BeforeEach
+    void setUp() {
+        this.posts = FXCollections.observableArrayList();
+
+        this.timeline = Timeline.createTimeline(this.posts);
+
+        this.changes = new AtomicInteger();
+
+        this.posts.addListener((ListChangeListener<Post>) (change) -> {
+            while (change.next()) {
+                this.changes.incrementAndGet();
+            } //end while
+        });
+    } //setUp
+
+    /**
+     * Returns a post of the specified network that was created the specified number of minutes after the epoch.
+     *
+     * @param network the network to be used in the operation
+     * @param minute the minute to be used in the operation
+     * @param score the score to be used in the operation
+     * @return a post of the specified network that was created the specified number of minutes after the epoch
+     */
+    private static Post post(Network network, int minute, long score) {
+        String id;
+
+        id = network.name()
+                    .charAt(0) + String.valueOf(minute);
+
+        return new StubPost(network, id, epoch.plusSeconds(minute * 60L), score);
+    } //post
+
+    /**
+     * Returns the IDs of the posts of this test, in order.
+     *
+     * @return the IDs of the posts of this test, in order
+     */
+    private List<String> ids() {
+        List<String> ids;
+
+        ids = new ArrayList<>();
+
+        for (Post post : this.posts) {
+            ids.add(post.getId());
+        } //end for
+
+        return ids;
+    } //ids
+
+    @Test
+    void sortsAnUnorderedBatchNewestFirst() {
+        this.timeline.merge(List.of(post(Network.REDDIT, 1, 0L), post(Network.REDDIT, 3, 0L),
+                                    post(Network.REDDIT, 2, 0L)));
+
+        assertEquals(List.of("R3", "R2", "R1"), this.ids());
+
+        assertEquals(1, this.changes.get());
+    } //sortsAnUnorderedBatchNewestFirst
+
+    @Test
+    void interleavesBatchesFromDifferentNetworks() {
+        this.timeline.merge(List.of(post(Network.REDDIT, 10, 0L), post(Network.REDDIT, 6, 0L),
+                                    post(Network.REDDIT, 2, 0L)));
+
+        this.timeline.merge(List.of(post(Network.TWITTER, 9, 0L), post(Network.TWITTER, 5, 0L),
+                                    post(Network.TWITTER, 1, 0L)));
+
+        this.timeline.merge(List.of(post(Network.INSTAGRAM, 11, 0L), post(Network.INSTAGRAM, 4, 0L)));
+
+        assertEquals(List.of("I11", "R10", "T9", "R6", "T5", "I4", "R2", "T1"), this.ids());
+    } //interleavesBatchesFromDifferentNetworks
+
+    @Test
+    void insertsEachRunOfAdjacentPostsInOneChange() {
+        this.timeline.merge(List.of(post(Network.REDDIT, 10, 0L), post(Network.REDDIT, 5, 0L)));
+
+        this.changes.set(0);
+
+        this.timeline.merge(List.of(post(Network.TWITTER, 20, 0L), post(Network.TWITTER, 19, 0L),
+                                    post(Network.TWITTER, 18, 0L)));
+
+        assertEquals(1, this.changes.get());
+
+        this.changes.set(0);
+
+        this.timeline.merge(List.of(post(Network.TWITTER, 8, 0L), post(Network.TWITTER, 7, 0L),
+                                    post(Network.TWITTER, 1, 0L)));
+
+        assertEquals(2, this.changes.get());
+
+        assertEquals(List.of("T20", "T19", "T18", "R10", "T8", "T7", "R5", "T1"), this.ids());
+    } //insertsEachRunOfAdjacentPostsInOneChange
+
+    @Test
+    void keepsExistingPostsAheadOfEqualNewOnes() {
+        Post first;
+        Post second;
+
+        first = new StubPost(Network.REDDIT, "first", epoch, 0L);
+
+        second = new StubPost(Network.TWITTER, "second", epoch, 0L);
+
+        this.timeline.merge(List.of(first));
+
+        this.timeline.merge(List.of(second));
+
+        assertEquals(List.of("first", "second"), this.ids());
+    } //keepsExistingPostsAheadOfEqualNewOnes
+
+    @Test
+    void mergesInPopularityOrder() {
+        this.timeline.merge(List.of(post(Network.REDDIT, 1, 50L), post(Network.REDDIT, 2, 10L)));
+
+        this.timeline.setSortByTime(false);
+
+        assertFalse(this.timeline.isSortedByTime());
+
+        assertEquals(List.of("R1", "R2"), this.ids());
+
+        this.timeline.merge(List.of(post(Network.TWITTER, 3, 30L), post(Network.TWITTER, 4, 10L)));
+
+        assertEquals(List.of("R1", "T3", "T4", "R2"), this.ids());
+
+        this.timeline.setSortByTime(true);
+
+        assertEquals(List.of("T4", "T3", "R2", "R1"), this.ids());
+    } //mergesInPopularityOrder
+
+    @Test
+    void ignoresAnEmptyBatch() {
+        this.timeline.merge(List.of());
+
+        assertTrue(this.posts.isEmpty());
+
+        assertEquals(0, this.changes.get());
+    } //ignoresAnEmptyBatch
+
+    @Test
+    void removesMatchingPostsInOneChange() {
+        this.timeline.merge(List.of(post(Network.REDDIT, 4, 0L), post(Network.TWITTER, 3, 0L),
+                                    post(Network.REDDIT, 2, 0L), post(Network.TWITTER, 1, 0L)));
+
+        this.changes.set(0);
+
+        assertTrue(this.timeline.removeIf((post) -> post.getNetwork() == Network.TWITTER));
+
+        assertEquals(List.of("R4", "R2"), this.ids());
+
+        assertEquals(1, this.changes.get());
+
+        assertFalse(this.timeline.removeIf((post) -> post.getNetwork() == Network.INSTAGRAM));
+    } //removesMatchingPostsInOneChange
+}